@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum RefreshPolicyConfiguration {
+
+	/**
+	 * Do not refresh indexes after executing a work plan.
+	 * <p>
+	 * Changes will become visible to queries after the next periodic refresh of the index.
+	 */
+	NONE("none"),
+
+	/**
+	 * Force a refresh of the affected indexes after executing a work plan,
+	 * so that changes are visible to queries as soon as the work plan execution completes.
+	 */
+	FORCE("force"),
+
+	/**
+	 * Wait for the next periodic refresh of the affected indexes after executing a work plan,
+	 * so that changes are visible to queries as soon as the work plan execution completes,
+	 * without forcing an additional refresh.
+	 */
+	WAIT_FOR("wait_for");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private RefreshPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static RefreshPolicyConfiguration fromExternalRepresentation(String refreshPolicy) {
+		for ( RefreshPolicyConfiguration candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( refreshPolicy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownRefreshPolicyConfiguration( refreshPolicy );
+	}
+}
@@ -47,6 +47,16 @@ private SearchBackendElasticsearchSettings() {
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	public static final String INDEXING_REFRESH_POLICY = "indexing.refresh_policy";
+
+	public static final String INDEXING_MAX_CONCURRENT_CHANGESETS = "indexing.max_concurrent_changesets";
+
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -66,5 +76,10 @@ private Defaults() {
 		public static final String DISCOVERY_SCHEME = "http";
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+		public static final RefreshPolicyConfiguration INDEXING_REFRESH_POLICY = RefreshPolicyConfiguration.FORCE;
+		public static final int INDEXING_MAX_CONCURRENT_CHANGESETS = 10;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final long INDEXING_MAX_BULK_BYTES = 5L * 1024L * 1024L;
+		public static final int SCROLL_TIMEOUT = 60;
 	}
 }
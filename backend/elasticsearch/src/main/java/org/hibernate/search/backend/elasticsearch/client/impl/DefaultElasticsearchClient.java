@@ -31,6 +31,7 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Response;
@@ -85,6 +86,14 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 		return result;
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyReader<T> successfulResponseBodyReader) {
+		long startTime = System.nanoTime();
+		return Futures.create( () -> send( request ) )
+				.thenApply( response -> readResponse( request, response, successfulResponseBodyReader, startTime ) );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> clientClass) {
@@ -160,6 +169,52 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
+	private <T> T readResponse(ElasticsearchRequest request, Response response,
+			ElasticsearchResponseBodyReader<T> successfulResponseBodyReader, long startTime) {
+		int statusCode = response.getStatusLine().getStatusCode();
+		if ( !ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+			// Failures are rare and their body is small: materialize it so that it can be reported
+			ElasticsearchResponse convertedResponse = convertResponse( request, response );
+			if ( requestLog.isDebugEnabled() ) {
+				log( request, startTime, convertedResponse );
+			}
+			throw log.elasticsearchRequestFailed( request, convertedResponse, log.elasticsearchResponseIndicatesFailure() );
+		}
+
+		T result;
+		try {
+			result = readBody( response, successfulResponseBodyReader );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse(
+					statusCode,
+					response.getStatusLine().getReasonPhrase(),
+					e );
+		}
+		if ( requestLog.isDebugEnabled() ) {
+			long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+			// The response body was streamed, thus it cannot be logged
+			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(), executionTimeMs,
+					statusCode, response.getStatusLine().getReasonPhrase() );
+		}
+		return result;
+	}
+
+	private <T> T readBody(Response response, ElasticsearchResponseBodyReader<T> bodyReader) throws IOException {
+		HttpEntity entity = response.getEntity();
+		if ( entity == null ) {
+			throw log.elasticsearchResponseMissingData();
+		}
+
+		Gson gson = gsonProvider.getGson();
+		Charset charset = getCharset( entity );
+		try ( InputStream inputStream = entity.getContent();
+				Reader reader = new InputStreamReader( inputStream, charset );
+				JsonReader jsonReader = gson.newJsonReader( reader ) ) {
+			return bodyReader.read( jsonReader );
+		}
+	}
+
 	private JsonObject parseBody(Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
@@ -23,6 +23,21 @@ public interface ElasticsearchClient extends Closeable {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * Execute a request asynchronously, streaming the body of the response if it indicates success.
+	 * <p>
+	 * Contrary to {@link #submit(ElasticsearchRequest)}, the response body is never fully materialized in memory
+	 * as a JSON tree when the request succeeds: it is handed to the given reader as a stream of JSON tokens.
+	 *
+	 * @param request A request to execute asynchronously
+	 * @param successfulResponseBodyReader A reader for the body of the response, if the response status indicates success
+	 * @return The future that will ultimately hold the result of reading the response body
+	 * (or throw an exception if an error occurred, if the request timed out,
+	 * or if the response status indicates a failure).
+	 */
+	<T> CompletableFuture<T> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyReader<T> successfulResponseBodyReader);
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads the body of an Elasticsearch response as a stream of JSON tokens,
+ * without materializing the whole response as a JSON tree.
+ *
+ * @param <T> The type of the result of reading the response body.
+ */
+@FunctionalInterface
+public interface ElasticsearchResponseBodyReader<T> {
+
+	/**
+	 * @param reader A reader positioned at the start of the response body.
+	 * @return The result of reading the response body.
+	 * @throws IOException If reading the response body failed.
+	 */
+	T read(JsonReader reader) throws IOException;
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * The version of Elasticsearch running on the cluster,
+ * and the features that depend on it.
+ */
+public final class ElasticsearchVersion {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<String> VERSION_ACCESSOR =
+			JsonAccessor.root().property( "version" ).property( "number" ).asString();
+
+	/**
+	 * @param client A client to the cluster.
+	 * @return The version of Elasticsearch running on the cluster.
+	 */
+	public static ElasticsearchVersion detect(ElasticsearchClient client) {
+		try {
+			return of( getVersionString( client ) );
+		}
+		catch (RuntimeException e) {
+			throw log.failedToDetectElasticsearchVersion( e );
+		}
+	}
+
+	/**
+	 * @param versionString A version string, as returned by the cluster, e.g. {@code 5.6.8}.
+	 * @return The corresponding version.
+	 */
+	public static ElasticsearchVersion of(String versionString) {
+		String[] components = versionString.split( "\\." );
+		int major = Integer.parseInt( components[0] );
+		int minor = components.length > 1 ? Integer.parseInt( components[1] ) : 0;
+		return new ElasticsearchVersion( versionString, major, minor );
+	}
+
+	private static String getVersionString(ElasticsearchClient client) {
+		ElasticsearchRequest request = ElasticsearchRequest.get().build();
+		ElasticsearchResponse response = null;
+		try {
+			response = client.submit( request ).join();
+
+			if ( !ElasticsearchClientUtils.isSuccessCode( response.getStatusCode() ) ) {
+				throw log.elasticsearchResponseIndicatesFailure();
+			}
+
+			return VERSION_ACCESSOR.get( response.getBody() ).get();
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchRequestFailed( request, response, e );
+		}
+	}
+
+	private final String versionString;
+	private final int major;
+	private final int minor;
+
+	private ElasticsearchVersion(String versionString, int major, int minor) {
+		this.versionString = versionString;
+		this.major = major;
+		this.minor = minor;
+	}
+
+	@Override
+	public String toString() {
+		return versionString;
+	}
+
+	public int getMajor() {
+		return major;
+	}
+
+	public int getMinor() {
+		return minor;
+	}
+
+	/**
+	 * @return {@code true} if search requests accept the {@code track_total_hits} parameter,
+	 * which appeared in Elasticsearch 6.0.
+	 */
+	public boolean supportsTrackTotalHits() {
+		return major >= 6;
+	}
+
+	/**
+	 * @return {@code true} if indexes accept the {@code index.sort.*} settings,
+	 * which appeared in Elasticsearch 6.0.
+	 */
+	public boolean supportsIndexSort() {
+		return major >= 6;
+	}
+
+}
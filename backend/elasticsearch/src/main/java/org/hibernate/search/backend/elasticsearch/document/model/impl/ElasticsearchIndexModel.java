@@ -6,21 +6,30 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.model.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Yoann Rodiere
  */
 public class ElasticsearchIndexModel {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final String hibernateSearchIndexName;
 	private final URLEncodedString elasticsearchIndexName;
 	private final RootTypeMapping mapping;
@@ -29,10 +38,13 @@ public class ElasticsearchIndexModel {
 	private final IndexSettings settings;
 
 	public ElasticsearchIndexModel(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
+			ElasticsearchVersion version,
 			ElasticsearchRootIndexSchemaContributor contributor,
 			ElasticsearchIndexSettingsBuilder settingsBuilder) {
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
+		List<String> indexSortFields = new ArrayList<>();
+		List<String> indexSortOrders = new ArrayList<>();
 		this.mapping = contributor.contribute( new ElasticsearchIndexSchemaNodeCollector() {
 			@Override
 			public void collect(String absolutePath, ElasticsearchIndexSchemaObjectNode node) {
@@ -43,8 +55,21 @@ public void collect(String absolutePath, ElasticsearchIndexSchemaObjectNode node
 			public void collect(String absoluteFieldPath, ElasticsearchIndexSchemaFieldNode<?> node) {
 				fieldNodes.put( absoluteFieldPath, node );
 			}
+
+			@Override
+			public void collectIndexSortField(String absoluteFieldPath, SortOrder order) {
+				indexSortFields.add( absoluteFieldPath );
+				indexSortOrders.add( order == SortOrder.DESC ? "desc" : "asc" );
+			}
 		} );
 		this.settings = settingsBuilder.build();
+		if ( !indexSortFields.isEmpty() ) {
+			if ( !version.supportsIndexSort() ) {
+				throw log.indexSortNotSupportedByElasticsearchVersion( version, getEventContext() );
+			}
+			settings.setSortFields( indexSortFields );
+			settings.setSortOrders( indexSortOrders );
+		}
 	}
 
 	public String getHibernateSearchIndexName() {
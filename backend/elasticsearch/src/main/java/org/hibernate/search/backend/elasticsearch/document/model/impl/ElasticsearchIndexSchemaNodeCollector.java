@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.model.impl;
 
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+
 /**
  * @author Yoann Rodiere
  */
@@ -15,4 +17,6 @@ public interface ElasticsearchIndexSchemaNodeCollector {
 
 	void collect(String absoluteFieldPath, ElasticsearchIndexSchemaFieldNode<?> node);
 
+	void collectIndexSortField(String absoluteFieldPath, SortOrder order);
+
 }
@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of JSON elements once serialized, without actually serializing them.
+ * <p>
+ * The estimate ignores escaping and assumes one byte per character,
+ * which is good enough to size requests.
+ */
+public final class JsonSizeEstimator {
+
+	private JsonSizeEstimator() {
+		// Private constructor, do not use.
+	}
+
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			return estimate( element.getAsJsonObject() );
+		}
+		else if ( element.isJsonArray() ) {
+			return estimate( element.getAsJsonArray() );
+		}
+		else {
+			return estimate( element.getAsJsonPrimitive() );
+		}
+	}
+
+	private static long estimate(JsonObject object) {
+		// Braces
+		long size = 2;
+		for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+			// Quoted key, colon and comma
+			size += entry.getKey().length() + 4;
+			size += estimate( entry.getValue() );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonArray array) {
+		// Brackets
+		long size = 2;
+		for ( JsonElement element : array ) {
+			// Comma
+			size += 1 + estimate( element );
+		}
+		return size;
+	}
+
+	private static long estimate(JsonPrimitive primitive) {
+		if ( primitive.isString() ) {
+			// Quotes
+			return primitive.getAsString().length() + 2;
+		}
+		else if ( primitive.isBoolean() ) {
+			return primitive.getAsBoolean() ? 4 : 5;
+		}
+		else {
+			return primitive.getAsString().length();
+		}
+	}
+}
@@ -14,10 +14,12 @@
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisDefinitionContainerContextImpl;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.elasticsearch.cfg.MultiTenancyStrategyConfiguration;
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
 import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.DefaultElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.FieldDataType;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.IndexType;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.NormsType;
@@ -30,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategyImpl;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -66,6 +69,36 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final ConfigurationProperty<RefreshPolicyConfiguration> INDEXING_REFRESH_POLICY =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_REFRESH_POLICY )
+					.as( RefreshPolicyConfiguration.class, RefreshPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_REFRESH_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_CONCURRENT_CHANGESETS =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_CONCURRENT_CHANGESETS )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_CONCURRENT_CHANGESETS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		EventContext backendContext = EventContexts.fromBackendName( name );
@@ -77,7 +110,9 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 
 		ElasticsearchClientImplementor client = clientFactory.create( propertySource, initialGsonProvider );
 		try {
-			// TODO implement and detect dialects
+			ElasticsearchVersion version = ElasticsearchVersion.detect( client );
+
+			// TODO implement dialects
 			// Assume ES5 for now
 			GsonProvider dialectSpecificGsonProvider =
 					DefaultGsonProvider.create( this::createES5GsonBuilderBase, logPrettyPrinting );
@@ -88,10 +123,20 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry =
 					getAnalysisDefinitionRegistry( backendContext, buildContext, propertySource );
 
+			ElasticsearchWorkOrchestratorFactory orchestratorFactory = new ElasticsearchWorkOrchestratorFactory(
+					client, workFactory,
+					INDEXING_REFRESH_POLICY.get( propertySource ),
+					INDEXING_MAX_CONCURRENT_CHANGESETS.get( propertySource ),
+					INDEXING_MAX_BULK_SIZE.get( propertySource ),
+					INDEXING_MAX_BULK_BYTES.get( propertySource )
+			);
+
 			return new ElasticsearchBackendImpl(
-					client, name, workFactory,
+					client, name, version, workFactory,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					SCROLL_TIMEOUT.get( propertySource ),
+					orchestratorFactory
 			);
 		}
 		catch (RuntimeException e) {
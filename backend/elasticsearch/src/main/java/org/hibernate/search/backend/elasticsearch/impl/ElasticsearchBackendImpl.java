@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
@@ -25,7 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -50,6 +51,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	private final String name;
 
+	private final ElasticsearchVersion version;
+
 	private final ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final MultiTenancyStrategy multiTenancyStrategy;
@@ -63,22 +66,26 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 	private final IndexingBackendContext indexingContext;
 	private final SearchBackendContext searchContext;
 
-	ElasticsearchBackendImpl(ElasticsearchClient client, String name, ElasticsearchWorkFactory workFactory,
+	ElasticsearchBackendImpl(ElasticsearchClient client, String name, ElasticsearchVersion version,
+			ElasticsearchWorkFactory workFactory,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
+			ElasticsearchWorkOrchestratorFactory orchestratorFactory) {
 		this.client = client;
 		this.name = name;
+		this.version = version;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.streamOrchestrator = new StubElasticsearchWorkOrchestrator( client );
-		this.queryOrchestrator = new StubElasticsearchWorkOrchestrator( client );
+		this.streamOrchestrator = orchestratorFactory.createStreamOrchestrator();
+		this.queryOrchestrator = orchestratorFactory.createQueryOrchestrator();
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
-				eventContext, client, workFactory, multiTenancyStrategy, streamOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, orchestratorFactory, streamOrchestrator
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory,
+				eventContext, version, workFactory,
 				new Function<String, String>() {
 					@Override
 					public String apply(String elasticsearchIndexName) {
@@ -89,7 +96,7 @@ public String apply(String elasticsearchIndexName) {
 						return result;
 					}
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, scrollTimeout, queryOrchestrator
 		);
 	}
 
@@ -139,7 +146,7 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 				new ElasticsearchIndexSettingsBuilder( analysisDefinitionRegistry );
 
 		return new ElasticsearchIndexManagerBuilder(
-				indexingContext, searchContext,
+				indexingContext, searchContext, version,
 				hibernateSearchIndexName, elasticsearchIndexName,
 				indexSchemaRootNodeBuilder, settingsBuilder
 		);
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.ElasticsearchIndexSettingsBuilder;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
@@ -23,6 +24,8 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<Ela
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
+	private final ElasticsearchVersion version;
+
 	private final String hibernateSearchIndexName;
 	private final String elasticsearchIndexName;
 	private final ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
@@ -30,11 +33,13 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<Ela
 
 	public ElasticsearchIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
+			ElasticsearchVersion version,
 			String hibernateSearchIndexName, String elasticsearchIndexName,
 			ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
 			ElasticsearchIndexSettingsBuilder settingsBuilder) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
+		this.version = version;
 
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
@@ -60,14 +65,12 @@ public ElasticsearchIndexManagerImpl build() {
 
 		ElasticsearchIndexModel model = new ElasticsearchIndexModel(
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
+				version,
 				schemaRootNodeBuilder,
 				settingsBuilder
 		);
 
-		// TODO make sure index initialization is performed in parallel for all indexes?
-		indexingBackendContext.initializeIndex( encodedElasticsearchIndexName, encodedTypeName, model )
-				.join();
-
+		// The index is only initialized when the index manager is started
 		return new ElasticsearchIndexManagerImpl(
 				indexingBackendContext, searchBackendContext,
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -16,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -24,6 +26,8 @@
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 
 /**
  * @author Yoann Rodiere
@@ -43,6 +47,10 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 
 	private final ElasticsearchWorkOrchestrator workPlanOrchestrator;
 
+	// Protected by synchronization on "this"
+	private int bulkIndexingCount = 0;
+	private CompletableFuture<JsonObject> settingsToRestoreAfterBulkIndexingFuture;
+
 	ElasticsearchIndexManagerImpl(IndexingBackendContext indexingBackendContext, SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
 			ElasticsearchIndexModel model) {
@@ -55,6 +63,11 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator();
 	}
 
+	@Override
+	public CompletableFuture<?> start() {
+		return indexingBackendContext.initializeIndex( elasticsearchIndexName, typeName, model );
+	}
+
 	@Override
 	public void close() {
 		// Index managers own the work plan context, but not the stream context (which is shared)
@@ -70,6 +83,43 @@ public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionC
 		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext );
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			SessionContext sessionContext) {
+		return indexingBackendContext.createDocumentWorkExecutor( elasticsearchIndexName, typeName, sessionContext );
+	}
+
+	@Override
+	public synchronized CompletableFuture<?> startBulkIndexing() {
+		if ( bulkIndexingCount == 0 ) {
+			settingsToRestoreAfterBulkIndexingFuture = indexingBackendContext.startBulkIndexing( elasticsearchIndexName );
+		}
+		++bulkIndexingCount;
+		return settingsToRestoreAfterBulkIndexingFuture;
+	}
+
+	@Override
+	public synchronized CompletableFuture<?> finishBulkIndexing() {
+		if ( bulkIndexingCount > 0 ) {
+			--bulkIndexingCount;
+			if ( bulkIndexingCount == 0 ) {
+				CompletableFuture<JsonObject> settingsFuture = settingsToRestoreAfterBulkIndexingFuture;
+				settingsToRestoreAfterBulkIndexingFuture = null;
+				// If the settings could not be changed, there is nothing to restore
+				return settingsFuture.handle( (settings, throwable) -> settings )
+						.thenCompose( settings -> indexingBackendContext.finishBulkIndexing(
+								elasticsearchIndexName, settings
+						) );
+			}
+		}
+		return indexingBackendContext.finishBulkIndexing( elasticsearchIndexName, null );
+	}
+
+	@Override
+	public CompletableFuture<?> purge(SessionContext sessionContext) {
+		return indexingBackendContext.purge( elasticsearchIndexName, sessionContext );
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new ElasticsearchIndexSearchTargetBuilder( searchBackendContext, this );
@@ -86,6 +86,12 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey ) );
 	}
 
+	@Override
+	public void drainTo(IndexWorkPlan<ElasticsearchDocumentObjectBuilder> target) {
+		( (ElasticsearchIndexWorkPlan) target ).works.addAll( works );
+		works.clear();
+	}
+
 	@Override
 	public void prepare() {
 		/*
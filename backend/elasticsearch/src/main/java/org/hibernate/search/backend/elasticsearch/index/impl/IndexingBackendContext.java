@@ -9,37 +9,44 @@
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
 public class IndexingBackendContext {
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "index.number_of_replicas";
+
 	private final EventContext eventContext;
 
-	private final ElasticsearchClient client;
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
+	private final ElasticsearchWorkOrchestratorFactory orchestratorFactory;
 	private final ElasticsearchWorkOrchestrator streamOrchestrator;
 
 	public IndexingBackendContext(EventContext eventContext,
-			ElasticsearchClient client,
 			ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchWorkOrchestratorFactory orchestratorFactory,
 			ElasticsearchWorkOrchestrator streamOrchestrator) {
 		this.eventContext = eventContext;
-		this.client = client;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.orchestratorFactory = orchestratorFactory;
 		this.streamOrchestrator = streamOrchestrator;
 	}
 
@@ -59,11 +66,88 @@ CompletableFuture<?> initializeIndex(URLEncodedString indexName, URLEncodedStrin
 				indexName, typeName,
 				model.getMapping(), model.getSettings()
 		);
-		return streamOrchestrator.submit( Arrays.asList( dropWork, createWork ) );
+		/*
+		 * Use a dedicated orchestrator so that multiple indexes can be initialized concurrently,
+		 * while still executing the works for a given index in order.
+		 * Serial orchestrators do not hold any resource, so there is no need to close it.
+		 */
+		ElasticsearchWorkOrchestrator orchestrator = orchestratorFactory.createSerialOrchestrator();
+		return orchestrator.submit( Arrays.asList( dropWork, createWork ) );
+	}
+
+	/**
+	 * Disable periodic refreshes and replication on the given index,
+	 * so that the cluster spends its resources on indexing.
+	 *
+	 * @param indexName The name of the index.
+	 * @return A future holding the settings to restore when bulk indexing finishes.
+	 */
+	CompletableFuture<JsonObject> startBulkIndexing(URLEncodedString indexName) {
+		ElasticsearchWorkOrchestrator orchestrator = orchestratorFactory.createSerialOrchestrator();
+		JsonObject bulkIndexingSettings = new JsonObject();
+		bulkIndexingSettings.addProperty( REFRESH_INTERVAL_SETTING, "-1" );
+		bulkIndexingSettings.addProperty( NUMBER_OF_REPLICAS_SETTING, 0 );
+		return orchestrator.submit( workFactory.getIndexSettings( indexName ) )
+				.thenCompose( currentSettings -> {
+					JsonObject settingsToRestore = new JsonObject();
+					copySetting( currentSettings, settingsToRestore, REFRESH_INTERVAL_SETTING );
+					copySetting( currentSettings, settingsToRestore, NUMBER_OF_REPLICAS_SETTING );
+					return orchestrator.submit( workFactory.updateIndexSettings( indexName, bulkIndexingSettings ) )
+							.thenApply( ignored -> settingsToRestore );
+				} );
+	}
+
+	/**
+	 * Flush and refresh the given index, then restore its settings.
+	 *
+	 * @param indexName The name of the index.
+	 * @param settingsToRestore The settings returned by {@link #startBulkIndexing(URLEncodedString)},
+	 * or {@code null} if there is nothing to restore.
+	 * @return A future that will be completed when the indexed documents are durable and visible to queries.
+	 */
+	CompletableFuture<?> finishBulkIndexing(URLEncodedString indexName, JsonObject settingsToRestore) {
+		ElasticsearchWorkOrchestrator orchestrator = orchestratorFactory.createSerialOrchestrator();
+		CompletableFuture<?> future = orchestrator.submit( workFactory.flush( indexName ) );
+		if ( settingsToRestore != null ) {
+			// Restore the settings even if the flush failed
+			CompletableFuture<?> restoreFuture =
+					orchestrator.submit( workFactory.updateIndexSettings( indexName, settingsToRestore ) );
+			future = CompletableFuture.allOf( future, restoreFuture );
+		}
+		return future;
+	}
+
+	/**
+	 * Delete all documents from the given index, or only those of the given tenant if multi-tenancy is enabled.
+	 *
+	 * @param indexName The name of the index.
+	 * @param sessionContext The session context.
+	 * @return A future that will be completed when the deletion is visible to queries.
+	 */
+	CompletableFuture<?> purge(URLEncodedString indexName, SessionContext sessionContext) {
+		String tenantId = sessionContext.getTenantIdentifier();
+		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
+
+		JsonObject matchAllQuery = new JsonObject();
+		matchAllQuery.add( "match_all", new JsonObject() );
+		JsonObject payload = new JsonObject();
+		payload.add( "query", multiTenancyStrategy.decorateJsonQuery( matchAllQuery, tenantId ) );
+
+		ElasticsearchWorkOrchestrator orchestrator = orchestratorFactory.createSerialOrchestrator();
+		return orchestrator.submit( workFactory.deleteByQuery( indexName, payload ) );
 	}
 
 	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator() {
-		return new StubElasticsearchWorkOrchestrator( client );
+		return orchestratorFactory.createWorkPlanOrchestrator();
+	}
+
+	IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new ElasticsearchIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, streamOrchestrator,
+				indexName, typeName, sessionContext );
 	}
 
 	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
@@ -75,4 +159,10 @@ IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
 		return new ElasticsearchIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
 				indexName, typeName, sessionContext );
 	}
+
+	private static void copySetting(JsonObject source, JsonObject target, String name) {
+		JsonElement value = source.get( name );
+		// Settings that were not set explicitly are reset to their default value by setting them to null
+		target.add( name, value == null ? JsonNull.INSTANCE : value );
+	}
 }
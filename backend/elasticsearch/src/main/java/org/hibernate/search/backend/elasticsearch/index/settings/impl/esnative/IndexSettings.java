@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative;
 
+import java.util.List;
+
 import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
 
 /**
  * Settings for an Elasticsearch index.
@@ -17,6 +20,12 @@ public class IndexSettings {
 
 	private Analysis analysis;
 
+	@SerializedName("index.sort.field")
+	private List<String> sortFields;
+
+	@SerializedName("index.sort.order")
+	private List<String> sortOrders;
+
 	public Analysis getAnalysis() {
 		return analysis;
 	}
@@ -25,8 +34,24 @@ public void setAnalysis(Analysis analysis) {
 		this.analysis = analysis;
 	}
 
+	public List<String> getSortFields() {
+		return sortFields;
+	}
+
+	public void setSortFields(List<String> sortFields) {
+		this.sortFields = sortFields;
+	}
+
+	public List<String> getSortOrders() {
+		return sortOrders;
+	}
+
+	public void setSortOrders(List<String> sortOrders) {
+		this.sortOrders = sortOrders;
+	}
+
 	public boolean isEmpty() {
-		return analysis == null || analysis.isEmpty();
+		return ( analysis == null || analysis.isEmpty() ) && sortFields == null;
 	}
 
 	@Override
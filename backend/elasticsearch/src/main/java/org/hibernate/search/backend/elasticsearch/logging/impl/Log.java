@@ -10,6 +10,9 @@
 import java.util.Collection;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -33,6 +36,7 @@
 import org.jboss.logging.annotations.ValidIdRanges;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 @MessageLogger(projectCode = MessageConstants.PROJECT_CODE)
 @ValidIdRanges({
@@ -56,6 +60,27 @@ public interface Log extends BasicLogger {
 	// -----------------------------------
 	int ID_OFFSET_2 = MessageConstants.BACKEND_ES_ID_RANGE_MIN;
 
+	@Message(id = ID_OFFSET_2 + 7,
+			value = "Elasticsearch request failed.\nRequest: %1$s\nResponse: %2$s"
+	)
+	SearchException elasticsearchRequestFailed(
+			@FormatWith( ElasticsearchRequestFormatter.class ) ElasticsearchRequest request,
+			@FormatWith( ElasticsearchResponseFormatter.class ) ElasticsearchResponse response,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 8,
+			// Note: no need to add a '\n' before "Response", since the formatter will always add one
+			value = "Elasticsearch bulked request failed.\nRequest metadata: %1$sResponse: %2$s"
+	)
+	SearchException elasticsearchBulkedRequestFailed(
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestMetadata,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject response,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 10,
+			value = "Elasticsearch connection time-out; check the cluster status, it should be 'green'" )
+	SearchException elasticsearchRequestTimeout();
+
 	@Message(id = ID_OFFSET_2 + 55,
 			value = "Multiple tokenizer definitions with the same name: '%1$s'. The tokenizer names must be unique.")
 	SearchException tokenizerNamingConflict(String remoteName);
@@ -99,6 +124,10 @@ public interface Log extends BasicLogger {
 			value = "Invalid token filter definition for name '%1$s'. Token filter definitions must at least define the token filter type.")
 	SearchException invalidElasticsearchTokenFilterDefinition(String name);
 
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "Failed to detect the Elasticsearch version running on the cluster." )
+	SearchException failedToDetectElasticsearchVersion(@Cause Exception e);
+
 	@LogMessage(level = Level.DEBUG)
 	@Message(id = ID_OFFSET_2 + 82,
 			value = "Executed Elasticsearch HTTP %s request to path '%s' with query parameters %s in %dms."
@@ -124,6 +153,10 @@ void executedRequest(String method, String path, Map<String, String> getParamete
 			int responseStatusCode, String responseStatusMessage,
 			String requestBodyParts, String responseBody);
 
+	@Message(id = ID_OFFSET_2 + 90,
+			value = "Elasticsearch response indicates a failure." )
+	SearchException elasticsearchResponseIndicatesFailure();
+
 	// TODO HSEARCH-3308 migrate relevant messages from Search 5 (ES module) here
 
 	// -----------------------------------
@@ -285,4 +318,38 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 	@Message(id = ID_OFFSET_3 + 37,
 			value = "Multiple parameters with the same name: '%1$s'. Can't assign both value '%2$s' and '%3$s'" )
 	SearchException analysisComponentParameterConflict(String name, JsonElement value1, JsonElement value2);
+
+	@Message(id = ID_OFFSET_3 + 38,
+			value = "Unknown refresh policy: '%1$s'. Supported values are 'none', 'force' and 'wait_for'.")
+	SearchException unknownRefreshPolicyConfiguration(String refreshPolicy);
+
+	@Message(id = ID_OFFSET_3 + 39,
+			value = "Invalid chunk size for scrolling: '%1$s'. The chunk size must be strictly positive.")
+	SearchException invalidScrollChunkSize(int chunkSize);
+
+	@Message(id = ID_OFFSET_3 + 40,
+			value = "Elasticsearch search failed as part of a multi-search request. Error: %1$s")
+	SearchException elasticsearchMultiSearchItemFailed(String error);
+
+	@Message(id = ID_OFFSET_3 + 41,
+			value = "Unexpected number of responses to a multi-search request: expected %1$s, got %2$s.")
+	SearchException unexpectedMultiSearchResponseCount(int expected, int actual);
+
+	@Message(id = ID_OFFSET_3 + 42,
+			value = "The search query exceeded the timeout of %1$sms.")
+	SearchException queryTimedOut(long timeoutMs);
+
+	@Message(id = ID_OFFSET_3 + 43,
+			value = "This field cannot be part of the index sort: only sortable fields can be part of the index sort.")
+	SearchException cannotUseIndexSortOnNonSortableField(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 44,
+			value = "Index sort is not supported by the GeoPoint field type.")
+	SearchException indexSortNotSupportedByGeoPoint(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 45,
+			value = "Index sort is not supported by the Elasticsearch version running on the cluster: '%1$s'."
+					+ " Index sort requires Elasticsearch 6.0 or later.")
+	SearchException indexSortNotSupportedByElasticsearchVersion(ElasticsearchVersion version,
+			@Param EventContext context);
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * An orchestrator for streams of independent works, such as the document works submitted during mass indexing.
+ * <p>
+ * Works submitted concurrently are queued, then sent to the cluster using the bulk API,
+ * without requesting any refresh.
+ * Only one sequence of bulks is executed at any given time,
+ * so works are executed in submission order, in particular works affecting the same document.
+ */
+class BatchingStreamElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private final ElasticsearchWorkExecutionContextImpl context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	// Protected by synchronization on "this"
+	private List<PendingWork<?>> pendingWorks = new ArrayList<>();
+	private boolean processing = false;
+
+	BatchingStreamElasticsearchWorkOrchestrator(ElasticsearchClient client, ElasticsearchWorkFactory workFactory,
+			int maxBulkSize, long maxBulkBytes) {
+		this.context = new ElasticsearchWorkExecutionContextImpl( client );
+		this.workFactory = workFactory;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "maxBulkSize=" ).append( maxBulkSize )
+				.append( ", maxBulkBytes=" ).append( maxBulkBytes )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			while ( processing ) {
+				wait();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		PendingWork<T> pendingWork = new PendingWork<>( work );
+		boolean startProcessing;
+		synchronized ( this ) {
+			pendingWorks.add( pendingWork );
+			startProcessing = !processing;
+			processing = true;
+		}
+		if ( startProcessing ) {
+			processNextBatch();
+		}
+		return pendingWork.future;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[works.size()];
+		for ( int i = 0; i < works.size(); i++ ) {
+			futures[i] = submit( works.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private void processNextBatch() {
+		List<PendingWork<?>> batch;
+		synchronized ( this ) {
+			if ( pendingWorks.isEmpty() ) {
+				processing = false;
+				notifyAll();
+				return;
+			}
+			batch = pendingWorks;
+			pendingWorks = new ArrayList<>();
+		}
+
+		// The builder splits the batch into as many bulks as necessary
+		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchWorkSequenceBuilder(
+				context, workFactory, RefreshPolicyConfiguration.NONE, maxBulkSize, maxBulkBytes,
+				CompletableFuture.completedFuture( null )
+		);
+		for ( PendingWork<?> pendingWork : batch ) {
+			pendingWork.addTo( sequenceBuilder );
+		}
+		// Ignore errors: error handling is the client's responsibility.
+		sequenceBuilder.build()
+				.handle( (ignored, throwable) -> null )
+				.thenRun( this::processNextBatch );
+	}
+
+	private static final class PendingWork<T> {
+		private final ElasticsearchWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		PendingWork(ElasticsearchWork<T> work) {
+			this.work = work;
+		}
+
+		void addTo(ElasticsearchWorkSequenceBuilder sequenceBuilder) {
+			sequenceBuilder.add( work ).whenComplete( Futures.copyHandler( future ) );
+		}
+	}
+}
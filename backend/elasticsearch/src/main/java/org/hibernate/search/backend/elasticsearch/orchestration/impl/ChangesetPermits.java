@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Permits limiting how many changesets are executed at the same time,
+ * possibly shared between the orchestrators of multiple indexes.
+ * <p>
+ * Acquiring a permit never blocks a thread: when no permit is available,
+ * the returned future only completes once another changeset releases its permit.
+ */
+final class ChangesetPermits {
+
+	private final int maxPermits;
+
+	// Protected by synchronization on "permitQueue"
+	private final Queue<CompletableFuture<Void>> permitQueue = new ArrayDeque<>();
+	private int availablePermits;
+
+	ChangesetPermits(int maxPermits) {
+		this.maxPermits = maxPermits;
+		this.availablePermits = maxPermits;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxPermits=" + maxPermits + "]";
+	}
+
+	CompletableFuture<Void> acquire() {
+		synchronized ( permitQueue ) {
+			if ( availablePermits > 0 ) {
+				--availablePermits;
+				return CompletableFuture.completedFuture( null );
+			}
+			CompletableFuture<Void> permitFuture = new CompletableFuture<>();
+			permitQueue.add( permitFuture );
+			return permitFuture;
+		}
+	}
+
+	void release() {
+		CompletableFuture<Void> nextPermitFuture;
+		synchronized ( permitQueue ) {
+			nextPermitFuture = permitQueue.poll();
+			if ( nextPermitFuture == null ) {
+				++availablePermits;
+			}
+		}
+		if ( nextPermitFuture != null ) {
+			// Hand over the permit directly to the next changeset
+			nextPermitFuture.complete( null );
+		}
+	}
+}
@@ -12,11 +12,11 @@
 /**
  * @author Yoann Rodiere
  */
-public class StubElasticsearchWorkExecutionContext implements ElasticsearchWorkExecutionContext {
+class ElasticsearchWorkExecutionContextImpl implements ElasticsearchWorkExecutionContext {
 
 	private final ElasticsearchClient client;
 
-	public StubElasticsearchWorkExecutionContext(ElasticsearchClient client) {
+	ElasticsearchWorkExecutionContextImpl(ElasticsearchClient client) {
 		this.client = client;
 	}
 
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+
+public class ElasticsearchWorkOrchestratorFactory {
+
+	private final ElasticsearchClient client;
+	private final ElasticsearchWorkFactory workFactory;
+	private final RefreshPolicyConfiguration refreshPolicy;
+	private final ChangesetPermits workPlanPermits;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	public ElasticsearchWorkOrchestratorFactory(ElasticsearchClient client, ElasticsearchWorkFactory workFactory,
+			RefreshPolicyConfiguration refreshPolicy, int maxConcurrentChangesets,
+			int maxBulkSize, long maxBulkBytes) {
+		this.client = client;
+		this.workFactory = workFactory;
+		this.refreshPolicy = refreshPolicy;
+		// Shared by the work plan orchestrators of all indexes, so that the limit applies to the whole backend
+		this.workPlanPermits = new ChangesetPermits( maxConcurrentChangesets );
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	/**
+	 * @return An orchestrator for work plans, executing changesets concurrently
+	 * while preserving ordering for works affecting the same document.
+	 * The maximum number of concurrent changesets applies to all the orchestrators created by this factory combined.
+	 * Document works are sent to the cluster using the bulk API, applying the configured refresh policy.
+	 */
+	public ElasticsearchWorkOrchestrator createWorkPlanOrchestrator() {
+		return new ParallelChangesetsElasticsearchWorkOrchestrator(
+				client, workFactory, refreshPolicy, workPlanPermits, maxBulkSize, maxBulkBytes
+		);
+	}
+
+	/**
+	 * @return An orchestrator for streams of document works, such as those submitted during mass indexing,
+	 * aggregating works submitted concurrently into bulk requests without requesting any refresh.
+	 */
+	public ElasticsearchWorkOrchestrator createStreamOrchestrator() {
+		return new BatchingStreamElasticsearchWorkOrchestrator( client, workFactory, maxBulkSize, maxBulkBytes );
+	}
+
+	/**
+	 * @return An orchestrator for queries, executing works concurrently without any ordering
+	 * and independently from indexing, so that queries are never queued behind indexing works.
+	 */
+	public ElasticsearchWorkOrchestrator createQueryOrchestrator() {
+		return new ParallelChangesetsElasticsearchWorkOrchestrator(
+				client, workFactory, RefreshPolicyConfiguration.NONE, new ChangesetPermits( Integer.MAX_VALUE ),
+				maxBulkSize, maxBulkBytes
+		);
+	}
+
+	/**
+	 * @return An orchestrator executing works serially, in submission order.
+	 */
+	public ElasticsearchWorkOrchestrator createSerialOrchestrator() {
+		return new StubElasticsearchWorkOrchestrator( client );
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkResultItemExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * Builds a sequence of executions for a changeset,
+ * aggregating consecutive bulkable works into bulk requests.
+ * <p>
+ * Bulks are limited both in number of works and in estimated size;
+ * when a limit would be exceeded, the current bulk is executed and a new one is started.
+ * The refresh policy is applied to every bulk of the sequence:
+ * a refresh only affects the shards targeted by the bulk it was requested for,
+ * and the changeset may be split into multiple bulks targeting different shards,
+ * possibly followed by non-bulkable works.
+ */
+class ElasticsearchWorkSequenceBuilder {
+
+	private final ElasticsearchWorkExecutionContext context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final RefreshPolicyConfiguration refreshPolicy;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	private CompletableFuture<?> sequenceFuture;
+	private final List<CompletableFuture<?>> workFutures = new ArrayList<>();
+
+	private List<BulkedWork<?>> currentBulk = new ArrayList<>();
+	private long currentBulkBytes = 0L;
+
+	ElasticsearchWorkSequenceBuilder(ElasticsearchWorkExecutionContext context, ElasticsearchWorkFactory workFactory,
+			RefreshPolicyConfiguration refreshPolicy, int maxBulkSize, long maxBulkBytes,
+			CompletableFuture<?> previousFuture) {
+		this.context = context;
+		this.workFactory = workFactory;
+		this.refreshPolicy = refreshPolicy;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.sequenceFuture = previousFuture;
+	}
+
+	/**
+	 * @param work A work to add to the sequence.
+	 * @param <T> The type of the work result.
+	 * @return A future that will complete when the given work has been executed.
+	 */
+	<T> CompletableFuture<T> add(ElasticsearchWork<T> work) {
+		CompletableFuture<T> workFuture;
+		if ( work instanceof BulkableElasticsearchWork ) {
+			workFuture = addBulkable( (BulkableElasticsearchWork<T>) work );
+		}
+		else {
+			flushBulk();
+			workFuture = sequenceFuture.thenCompose( Futures.safeComposer(
+					ignored -> work.execute( context )
+			) );
+			sequenceFuture = workFuture;
+		}
+		workFutures.add( workFuture );
+		return workFuture;
+	}
+
+	/**
+	 * @return A future that will complete when all the works added to this builder have been executed,
+	 * or will fail if any of these works failed.
+	 */
+	CompletableFuture<?> build() {
+		flushBulk();
+		return CompletableFuture.allOf( workFutures.toArray( new CompletableFuture<?>[0] ) );
+	}
+
+	private <T> CompletableFuture<T> addBulkable(BulkableElasticsearchWork<T> work) {
+		long workBytes = work.getBulkableActionSizeEstimate();
+		if ( !currentBulk.isEmpty()
+				&& ( currentBulk.size() >= maxBulkSize || currentBulkBytes + workBytes > maxBulkBytes ) ) {
+			flushBulk();
+		}
+		BulkedWork<T> bulkedWork = new BulkedWork<>( work );
+		currentBulk.add( bulkedWork );
+		currentBulkBytes += workBytes;
+		return bulkedWork.future;
+	}
+
+	private void flushBulk() {
+		if ( currentBulk.isEmpty() ) {
+			return;
+		}
+		List<BulkedWork<?>> bulkedWorks = currentBulk;
+		currentBulk = new ArrayList<>();
+		currentBulkBytes = 0L;
+
+		List<BulkableElasticsearchWork<?>> works = new ArrayList<>( bulkedWorks.size() );
+		for ( BulkedWork<?> bulkedWork : bulkedWorks ) {
+			works.add( bulkedWork.work );
+		}
+		ElasticsearchWork<BulkResult> bulkWork = workFactory.bulk( works, refreshPolicy );
+		CompletableFuture<BulkResult> bulkFuture = sequenceFuture.thenCompose( Futures.safeComposer(
+				ignored -> bulkWork.execute( context )
+		) );
+		CompletableFuture<BulkResultItemExtractor> extractorFuture =
+				bulkFuture.thenApply( bulkResult -> bulkResult.withContext( context ) );
+		for ( int i = 0; i < bulkedWorks.size(); i++ ) {
+			bulkedWorks.get( i ).extractResult( extractorFuture, i );
+		}
+		// Item failures must not prevent the next bulks from executing: only wait for the bulk request itself
+		sequenceFuture = bulkFuture;
+	}
+
+	private static final class BulkedWork<T> {
+		private final BulkableElasticsearchWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		BulkedWork(BulkableElasticsearchWork<T> work) {
+			this.work = work;
+		}
+
+		void extractResult(CompletableFuture<BulkResultItemExtractor> extractorFuture, int index) {
+			extractorFuture.thenCompose( Futures.safeComposer(
+					extractor -> extractor.extract( work, index )
+			) )
+					.whenComplete( Futures.copyHandler( future ) );
+		}
+	}
+}
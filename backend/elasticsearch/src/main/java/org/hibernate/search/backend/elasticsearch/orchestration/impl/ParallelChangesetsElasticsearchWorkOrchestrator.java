@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+
+/**
+ * An orchestrator executing independent changesets concurrently.
+ * <p>
+ * The number of changesets executed at the same time is limited by the given {@link ChangesetPermits},
+ * which may be shared with other orchestrators: for work plans, the limit applies to the whole backend,
+ * not to each index.
+ * Additional changesets wait (without blocking any thread) for a running changeset to complete.
+ * <p>
+ * Ordering is preserved for works affecting the same document:
+ * a changeset only starts executing after all the previously submitted changesets
+ * affecting at least one of the same documents are complete.
+ * Changesets that share no document with any pending changeset are not ordered.
+ * <p>
+ * The bulkable works of each changeset are sent to the cluster using the bulk API,
+ * and the refresh policy is applied once per changeset.
+ */
+class ParallelChangesetsElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private final ElasticsearchWorkExecutionContextImpl context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final RefreshPolicyConfiguration refreshPolicy;
+	private final ChangesetPermits permits;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	// Updated with synchronization on "this", so that dependencies between changesets are computed atomically
+	private final Map<String, CompletableFuture<?>> latestFutureByDocumentKey = new ConcurrentHashMap<>();
+	private final Set<CompletableFuture<?>> pendingFutures = ConcurrentHashMap.newKeySet();
+
+	ParallelChangesetsElasticsearchWorkOrchestrator(ElasticsearchClient client, ElasticsearchWorkFactory workFactory,
+			RefreshPolicyConfiguration refreshPolicy, ChangesetPermits permits,
+			int maxBulkSize, long maxBulkBytes) {
+		this.context = new ElasticsearchWorkExecutionContextImpl( client );
+		this.workFactory = workFactory;
+		this.refreshPolicy = refreshPolicy;
+		this.permits = permits;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "refreshPolicy=" ).append( refreshPolicy )
+				.append( ", permits=" ).append( permits )
+				.append( ", maxBulkSize=" ).append( maxBulkSize )
+				.append( ", maxBulkBytes=" ).append( maxBulkBytes )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public void close() {
+		CompletableFuture<?>[] futures = pendingFutures.toArray( new CompletableFuture<?>[0] );
+		// Ignore errors: error handling is the client's responsibility.
+		CompletableFuture.allOf( futures ).handle( (ignored, throwable) -> null ).join();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The future of a single-work changeset holds the result of that work
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		return (CompletableFuture<T>) doSubmit( Collections.singletonList( work ), true );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		return doSubmit( works, false );
+	}
+
+	private CompletableFuture<?> doSubmit(List<? extends ElasticsearchWork<?>> works, boolean singleWork) {
+		if ( works.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		Set<String> documentKeys = new LinkedHashSet<>();
+		for ( ElasticsearchWork<?> work : works ) {
+			if ( work instanceof BulkableElasticsearchWork ) {
+				documentKeys.add( ( (BulkableElasticsearchWork<?>) work ).getDocumentKey() );
+			}
+		}
+
+		CompletableFuture<?> future;
+		synchronized ( this ) {
+			CompletableFuture<Void> permitFuture = waitForPreviousChangesets( documentKeys )
+					.thenCompose( ignored -> permits.acquire() );
+
+			if ( singleWork ) {
+				ElasticsearchWork<?> work = works.get( 0 );
+				future = permitFuture.thenCompose( ignored -> work.execute( context ) );
+			}
+			else {
+				ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchWorkSequenceBuilder(
+						context, workFactory, refreshPolicy, maxBulkSize, maxBulkBytes, permitFuture
+				);
+				for ( ElasticsearchWork<?> work : works ) {
+					sequenceBuilder.add( work );
+				}
+				future = sequenceBuilder.build();
+			}
+
+			for ( String documentKey : documentKeys ) {
+				latestFutureByDocumentKey.put( documentKey, future );
+			}
+		}
+
+		pendingFutures.add( future );
+		future.whenComplete( (result, throwable) -> {
+			permits.release();
+			pendingFutures.remove( future );
+			for ( String documentKey : documentKeys ) {
+				// Only remove the entry if no other changeset affecting the same document was submitted since
+				latestFutureByDocumentKey.remove( documentKey, future );
+			}
+		} );
+		return future;
+	}
+
+	private CompletableFuture<?> waitForPreviousChangesets(Set<String> documentKeys) {
+		List<CompletableFuture<?>> previousFutures = new ArrayList<>();
+		for ( String documentKey : documentKeys ) {
+			CompletableFuture<?> previousFuture = latestFutureByDocumentKey.get( documentKey );
+			if ( previousFuture != null ) {
+				previousFutures.add( previousFuture );
+			}
+		}
+		if ( previousFutures.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		// Ignore errors from previous changesets: error handling is the client's responsibility.
+		return CompletableFuture.allOf( previousFutures.toArray( new CompletableFuture<?>[0] ) )
+				.handle( (ignored, throwable) -> null );
+	}
+}
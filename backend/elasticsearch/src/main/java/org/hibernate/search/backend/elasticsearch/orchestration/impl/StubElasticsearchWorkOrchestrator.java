@@ -21,13 +21,13 @@
  */
 public class StubElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
 
-	private final StubElasticsearchWorkExecutionContext context;
+	private final ElasticsearchWorkExecutionContextImpl context;
 
 	// Protected by synchronization on updates
 	private CompletableFuture<?> latestFuture = CompletableFuture.completedFuture( null );
 
 	public StubElasticsearchWorkOrchestrator(ElasticsearchClient client) {
-		this.context = new StubElasticsearchWorkExecutionContext( client );
+		this.context = new ElasticsearchWorkExecutionContextImpl( client );
 	}
 
 	@Override
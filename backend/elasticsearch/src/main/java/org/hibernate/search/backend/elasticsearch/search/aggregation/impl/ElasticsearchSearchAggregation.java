@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * An aggregation computed by Elasticsearch, represented as JSON.
+ */
+public abstract class ElasticsearchSearchAggregation {
+
+	private final String name;
+
+	protected ElasticsearchSearchAggregation(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The definition of this aggregation, to be added to the {@code aggs} property of the search request.
+	 */
+	public abstract JsonObject toJson();
+
+	/**
+	 * @param aggregationResult The result of this aggregation, as returned in the {@code aggregations} property
+	 * of the search response.
+	 * @return The document count for each bucket of this aggregation, in the order returned by Elasticsearch.
+	 */
+	public Map<Object, Long> extract(JsonObject aggregationResult) {
+		Map<Object, Long> result = new LinkedHashMap<>();
+		for ( JsonElement bucket : aggregationResult.getAsJsonArray( "buckets" ) ) {
+			JsonObject bucketObject = bucket.getAsJsonObject();
+			result.put( extractKey( bucketObject ), bucketObject.get( "doc_count" ).getAsLong() );
+		}
+		return result;
+	}
+
+	protected abstract Object extractKey(JsonObject bucket);
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + ", " + toJson() + "]";
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+class RangeAggregation extends ElasticsearchSearchAggregation {
+
+	private final String absoluteFieldPath;
+	private final List<JsonObject> ranges;
+
+	/**
+	 * @param name The name of the aggregation.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param ranges The ranges, each with a key and optionally a {@code from} and a {@code to} property.
+	 */
+	RangeAggregation(String name, String absoluteFieldPath, List<JsonObject> ranges) {
+		super( name );
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public JsonObject toJson() {
+		JsonArray jsonRanges = new JsonArray();
+		ranges.forEach( jsonRanges::add );
+		JsonObject inner = new JsonObject();
+		inner.addProperty( "field", absoluteFieldPath );
+		inner.add( "ranges", jsonRanges );
+		JsonObject outer = new JsonObject();
+		outer.add( "range", inner );
+		return outer;
+	}
+
+	@Override
+	public Map<Object, Long> extract(JsonObject aggregationResult) {
+		// Elasticsearch returns buckets sorted by lower bound: restore the order in which ranges were declared
+		Map<Object, Long> countsByKey = super.extract( aggregationResult );
+		Map<Object, Long> result = new LinkedHashMap<>( ranges.size() );
+		for ( JsonObject range : ranges ) {
+			Object key = range.get( "key" ).getAsString();
+			result.put( key, countsByKey.getOrDefault( key, 0L ) );
+		}
+		return result;
+	}
+
+	@Override
+	protected Object extractKey(JsonObject bucket) {
+		return bucket.get( "key" ).getAsString();
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchTargetModel;
+import org.hibernate.search.backend.elasticsearch.types.converter.impl.ElasticsearchFieldConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+public class SearchAggregationFactoryImpl
+		implements SearchAggregationFactory<ElasticsearchSearchAggregationCollector, ElasticsearchSearchAggregation> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchSearchTargetModel searchTargetModel;
+
+	public SearchAggregationFactoryImpl(ElasticsearchSearchTargetModel searchTargetModel) {
+		this.searchTargetModel = searchTargetModel;
+	}
+
+	@Override
+	public void contribute(ElasticsearchSearchAggregationCollector collector,
+			List<ElasticsearchSearchAggregation> aggregations) {
+		for ( ElasticsearchSearchAggregation aggregation : aggregations ) {
+			collector.collectAggregation( aggregation );
+		}
+	}
+
+	@Override
+	public ElasticsearchSearchAggregation terms(String name, String absoluteFieldPath, int maxTermCount) {
+		ElasticsearchIndexSchemaFieldNode<?> node = searchTargetModel.getSchemaNode( absoluteFieldPath );
+		return new TermsAggregation( name, absoluteFieldPath, node.getConverter(), maxTermCount );
+	}
+
+	@Override
+	public ElasticsearchSearchAggregation range(String name, String absoluteFieldPath, List<AggregationRange> ranges) {
+		ElasticsearchFieldConverter converter = searchTargetModel.getSchemaNode( absoluteFieldPath ).getConverter();
+		List<JsonObject> jsonRanges = new ArrayList<>( ranges.size() );
+		for ( AggregationRange range : ranges ) {
+			JsonObject jsonRange = new JsonObject();
+			jsonRange.addProperty( "key", range.getKey() );
+			try {
+				if ( range.getFrom() != null ) {
+					jsonRange.add( "from", converter.convertFromDsl( range.getFrom() ) );
+				}
+				if ( range.getTo() != null ) {
+					jsonRange.add( "to", converter.convertFromDsl( range.getTo() ) );
+				}
+			}
+			catch (RuntimeException e) {
+				throw log.cannotConvertDslParameter(
+						e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+				);
+			}
+			jsonRanges.add( jsonRange );
+		}
+		return new RangeAggregation( name, absoluteFieldPath, jsonRanges );
+	}
+}
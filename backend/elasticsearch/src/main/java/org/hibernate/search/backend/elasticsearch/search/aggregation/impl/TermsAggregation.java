@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.converter.impl.ElasticsearchFieldConverter;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+class TermsAggregation extends ElasticsearchSearchAggregation {
+
+	private final String absoluteFieldPath;
+	private final ElasticsearchFieldConverter converter;
+	private final int maxTermCount;
+
+	TermsAggregation(String name, String absoluteFieldPath, ElasticsearchFieldConverter converter, int maxTermCount) {
+		super( name );
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.converter = converter;
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public JsonObject toJson() {
+		JsonObject inner = new JsonObject();
+		inner.addProperty( "field", absoluteFieldPath );
+		inner.addProperty( "size", maxTermCount );
+		JsonObject outer = new JsonObject();
+		outer.add( "terms", inner );
+		return outer;
+	}
+
+	@Override
+	protected Object extractKey(JsonObject bucket) {
+		// Date terms are returned as timestamps, with the formatted value in key_as_string
+		JsonElement key = bucket.has( "key_as_string" ) ? bucket.get( "key_as_string" ) : bucket.get( "key" );
+		return converter.convertFromProjection( key );
+	}
+}
@@ -6,6 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationCollector;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicateCollector;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortCollector;
 
@@ -14,10 +20,12 @@
 import com.google.gson.JsonObject;
 
 public class ElasticsearchSearchQueryElementCollector
-		implements ElasticsearchSearchPredicateCollector, ElasticsearchSearchSortCollector {
+		implements ElasticsearchSearchPredicateCollector, ElasticsearchSearchSortCollector,
+		ElasticsearchSearchAggregationCollector {
 
 	private JsonObject jsonPredicate;
 	private JsonArray jsonSort;
+	private List<ElasticsearchSearchAggregation> aggregations;
 
 	@Override
 	public void collectPredicate(JsonObject jsonQuery) {
@@ -40,6 +48,14 @@ public void collectSort(JsonArray sorts) {
 		this.jsonSort.addAll( sorts );
 	}
 
+	@Override
+	public void collectAggregation(ElasticsearchSearchAggregation aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new ArrayList<>( 3 );
+		}
+		aggregations.add( aggregation );
+	}
+
 	public JsonObject toJsonPredicate() {
 		return jsonPredicate;
 	}
@@ -48,4 +64,19 @@ public JsonArray toJsonSort() {
 		return jsonSort;
 	}
 
+	public List<ElasticsearchSearchAggregation> getAggregations() {
+		return aggregations == null ? Collections.emptyList() : aggregations;
+	}
+
+	public JsonObject toJsonAggregations() {
+		if ( aggregations == null ) {
+			return null;
+		}
+		JsonObject jsonAggregations = new JsonObject();
+		for ( ElasticsearchSearchAggregation aggregation : aggregations ) {
+			jsonAggregations.add( aggregation.getName(), aggregation.toJson() );
+		}
+		return jsonAggregations;
+	}
+
 }
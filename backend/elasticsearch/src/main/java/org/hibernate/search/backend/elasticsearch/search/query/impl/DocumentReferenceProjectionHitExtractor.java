@@ -35,7 +35,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(ProjectionHitCollector collector, JsonObject hit) {
 		collector.collectProjection( helper.extractDocumentReference( hit ) );
 	}
 
@@ -6,15 +6,24 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
-import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.GroupableSearchQuery;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
@@ -22,28 +31,44 @@
 /**
  * @author Yoann Rodiere
  */
-public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
+public class ElasticsearchSearchQuery<T> implements GroupableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// The number of hits Elasticsearch returns when the size is not set
+	private static final long DEFAULT_ELASTICSEARCH_SIZE = 10L;
 
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchQueryGroupExecutor groupExecutor;
 	private final Set<URLEncodedString> indexNames;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final SearchResultExtractor<T> searchResultExtractor;
+	private final Long terminateAfterThreshold;
+	private final boolean indexOrder;
+	private final String scrollTimeout;
 
 	private Long firstResultIndex;
 	private Long maxResultsCount;
 
 	public ElasticsearchSearchQuery(ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchQueryGroupExecutor groupExecutor,
 			Set<URLEncodedString> indexNames, Set<String> routingKeys,
-			JsonObject payload, SearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			Long terminateAfterThreshold, boolean indexOrder,
+			String scrollTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.groupExecutor = groupExecutor;
 		this.indexNames = indexNames;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.terminateAfterThreshold = terminateAfterThreshold;
+		this.indexOrder = indexOrder;
+		this.scrollTimeout = scrollTimeout;
 	}
 
 	@Override
@@ -68,11 +93,77 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		ElasticsearchWork<SearchResult<T>> work = workFactory.search(
+		return submitSearchWork().join().loadBlocking();
+	}
+
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		return submitSearchWork().thenApply( ElasticsearchLoadableSearchResult::loadBlocking );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		return submitSearchWork().thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
+	private CompletableFuture<ElasticsearchLoadableSearchResult<T>> submitSearchWork() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search(
+				indexNames, routingKeys,
+				payload, searchResultExtractor,
+				firstResultIndex, maxResultsCount, getTerminateAfter() );
+		return queryOrchestrator.submit( work );
+	}
+
+	@Override
+	public ElasticsearchSearchQueryGroupExecutor getGroupExecutor() {
+		return groupExecutor;
+	}
+
+	void contributeToMultiSearch(MultiSearchWork.Builder builder) {
+		builder.search(
+				indexNames, routingKeys,
+				payload, searchResultExtractor,
+				firstResultIndex, maxResultsCount, getTerminateAfter() );
+	}
+
+	/**
+	 * @return The value of terminate_after, or {@code null} to rely on track_total_hits alone.
+	 * Elasticsearch stops collecting on each shard after that many documents in index order,
+	 * so terminating early must not change the requested page of hits.
+	 */
+	private Long getTerminateAfter() {
+		if ( terminateAfterThreshold == null ) {
+			return null;
+		}
+		long minimum;
+		if ( maxResultsCount != null && maxResultsCount == 0L ) {
+			// No hits are requested: only the hit count is affected
+			minimum = 1L;
+		}
+		else if ( indexOrder ) {
+			// Hits are collected in index order on each shard: the others are not competitive
+			long offset = firstResultIndex == null ? 0L : firstResultIndex;
+			long limit = maxResultsCount == null ? DEFAULT_ELASTICSEARCH_SIZE : maxResultsCount;
+			minimum = offset + limit;
+		}
+		else {
+			// The top hits can only be known after collecting every matching document
+			return null;
+		}
+		// Elasticsearch interprets 0 as "never terminate early", hence the minimum of 1
+		return Math.max( minimum, terminateAfterThreshold );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		if ( chunkSize <= 0 ) {
+			throw log.invalidScrollChunkSize( chunkSize );
+		}
+		return new ElasticsearchSearchScroll<>(
+				workFactory, queryOrchestrator,
 				indexNames, routingKeys,
 				payload, searchResultExtractor,
-				firstResultIndex, maxResultsCount );
-		return queryOrchestrator.submit( work ).join();
+				chunkSize, scrollTimeout );
 	}
 
 }
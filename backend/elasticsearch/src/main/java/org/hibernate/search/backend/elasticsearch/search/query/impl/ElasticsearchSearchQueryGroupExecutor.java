@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.GroupableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryGroupExecutor;
+
+/**
+ * Executes groups of queries targeting the same backend in a single multi-search request.
+ */
+class ElasticsearchSearchQueryGroupExecutor implements SearchQueryGroupExecutor {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchQueryGroupExecutor(ElasticsearchWorkFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> execute(List<? extends GroupableSearchQuery<?>> queries) {
+		MultiSearchWork.Builder builder = workFactory.multiSearch();
+		for ( GroupableSearchQuery<?> query : queries ) {
+			// Only Elasticsearch queries from this backend return this executor
+			( (ElasticsearchSearchQuery<?>) query ).contributeToMultiSearch( builder );
+		}
+
+		List<ElasticsearchLoadableSearchResult<?>> loadableResults = queryOrchestrator.submit( builder.build() ).join();
+
+		List<SearchResult<?>> results = new ArrayList<>( loadableResults.size() );
+		for ( ElasticsearchLoadableSearchResult<?> loadableResult : loadableResults ) {
+			results.add( loadableResult.loadBlocking() );
+		}
+		return results;
+	}
+
+}
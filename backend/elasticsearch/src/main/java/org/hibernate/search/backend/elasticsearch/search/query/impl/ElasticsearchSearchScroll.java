@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
+import org.hibernate.search.engine.search.SearchScroll;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll over the hits of an Elasticsearch search query, relying on the scroll API.
+ * <p>
+ * The search context is kept alive on the cluster between two chunks for the duration of the scroll timeout,
+ * and is cleared when the scroll is closed.
+ */
+class ElasticsearchSearchScroll<T> implements SearchScroll<T> {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final SearchResultExtractor<T> searchResultExtractor;
+	private final int chunkSize;
+	private final String scrollTimeout;
+
+	private String scrollId;
+	private boolean exhausted = false;
+	private List<T> nextChunk;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, String scrollTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+		this.scrollTimeout = scrollTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + payload + ", chunkSize=" + chunkSize + "]";
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( nextChunk == null && !exhausted ) {
+			ScrollResult<T> result = queryOrchestrator.submit( createNextChunkWork() ).join();
+			scrollId = result.getScrollId();
+			List<T> hits = result.getHits();
+			if ( hits.size() < chunkSize ) {
+				// Avoid an additional, useless request when we already know there are no more hits
+				exhausted = true;
+			}
+			if ( !hits.isEmpty() ) {
+				nextChunk = hits;
+			}
+		}
+		return nextChunk != null;
+	}
+
+	@Override
+	public List<T> next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		List<T> chunk = nextChunk;
+		nextChunk = null;
+		return chunk;
+	}
+
+	@Override
+	public void close() {
+		exhausted = true;
+		nextChunk = null;
+		if ( scrollId != null ) {
+			String scrollIdToClear = scrollId;
+			scrollId = null;
+			queryOrchestrator.submit( workFactory.clearScroll( scrollIdToClear ) ).join();
+		}
+	}
+
+	private ElasticsearchWork<ScrollResult<T>> createNextChunkWork() {
+		if ( scrollId == null ) {
+			return workFactory.startScroll( indexNames, routingKeys, payload, searchResultExtractor,
+					chunkSize, scrollTimeout );
+		}
+		else {
+			return workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor, chunkSize );
+		}
+	}
+}
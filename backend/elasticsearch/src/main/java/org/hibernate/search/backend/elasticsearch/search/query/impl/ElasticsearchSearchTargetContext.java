@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.SearchAggregationFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchTargetModel;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.SearchPredicateFactoryImpl;
@@ -17,12 +18,14 @@
 
 	private final SearchPredicateFactoryImpl searchPredicateFactory;
 	private final SearchSortFactoryImpl searchSortFactory;
+	private final SearchAggregationFactoryImpl searchAggregationFactory;
 	private final SearchQueryFactoryImpl searchQueryFactory;
 
 	public ElasticsearchSearchTargetContext(SearchBackendContext searchBackendContext,
 			ElasticsearchSearchTargetModel searchTargetModel) {
 		this.searchPredicateFactory = new SearchPredicateFactoryImpl( searchTargetModel );
 		this.searchSortFactory = new SearchSortFactoryImpl( searchTargetModel );
+		this.searchAggregationFactory = new SearchAggregationFactoryImpl( searchTargetModel );
 		this.searchQueryFactory = new SearchQueryFactoryImpl( searchBackendContext, searchTargetModel );
 	}
 
@@ -36,6 +39,11 @@ public SearchSortFactoryImpl getSearchSortFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public SearchAggregationFactoryImpl getSearchAggregationFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public SearchQueryFactoryImpl getSearchQueryFactory() {
 		return searchQueryFactory;
@@ -43,9 +43,9 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(C collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(C collector, JsonObject hit) {
 		String elasticsearchIndexName = HIT_INDEX_NAME_ACCESSOR.get( hit ).orElseThrow( log::elasticsearchResponseMissingData );
 		HitExtractor<? super C> delegate = extractorByElasticsearchIndexName.get( elasticsearchIndexName );
-		delegate.extract( collector, responseBody, hit );
+		delegate.extract( collector, hit );
 	}
 }
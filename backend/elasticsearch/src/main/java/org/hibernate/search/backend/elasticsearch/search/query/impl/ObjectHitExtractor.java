@@ -32,7 +32,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(LoadingHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(LoadingHitCollector collector, JsonObject hit) {
 		collector.collectForLoading( helper.extractDocumentReference( hit ) );
 	}
 
@@ -10,6 +10,7 @@
 import java.util.Set;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
@@ -20,25 +21,33 @@
 
 public class SearchBackendContext {
 	private final EventContext eventContext;
+	private final ElasticsearchVersion version;
 
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final String scrollTimeout;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final ElasticsearchSearchQueryGroupExecutor groupExecutor;
 
 	private final DocumentReferenceHitExtractor documentReferenceHitExtractor;
 	private final ObjectHitExtractor objectHitExtractor;
 	private final DocumentReferenceProjectionHitExtractor documentReferenceProjectionHitExtractor;
 
 	public SearchBackendContext(EventContext eventContext,
+			ElasticsearchVersion version,
 			ElasticsearchWorkFactory workFactory,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
 			ElasticsearchWorkOrchestrator orchestrator) {
 		this.eventContext = eventContext;
+		this.version = version;
 		this.workFactory = workFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout + "s";
 		this.orchestrator = orchestrator;
+		this.groupExecutor = new ElasticsearchSearchQueryGroupExecutor( workFactory, orchestrator );
 
 		DocumentReferenceExtractorHelper documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -76,7 +85,7 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 			HitAggregator<C, List<T>> hitAggregator) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new SearchQueryBuilderImpl<>(
-				workFactory, orchestrator, multiTenancyStrategy,
+				version, workFactory, orchestrator, groupExecutor, multiTenancyStrategy, scrollTimeout,
 				indexNames, sessionContext, hitExtractor, hitAggregator
 		);
 	}
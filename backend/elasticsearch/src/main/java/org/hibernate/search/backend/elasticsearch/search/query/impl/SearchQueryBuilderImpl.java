@@ -6,11 +6,16 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
+import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
@@ -23,14 +28,22 @@
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 class SearchQueryBuilderImpl<C, T>
 		implements SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> {
 
+	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
+
+	private static final String INDEX_ORDER_SORT_KEYWORD = "_doc";
+
+	private final ElasticsearchVersion version;
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchQueryGroupExecutor groupExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final String scrollTimeout;
 
 	private final Set<URLEncodedString> indexNames;
 	private final String tenantId;
@@ -40,17 +53,27 @@
 	private final HitExtractor<? super C> hitExtractor;
 	private final HitAggregator<C, List<T>> hitAggregator;
 
+	private Long hitCountThreshold;
+	private Long timeoutMs;
+	private boolean exceptionOnTimeout;
+
 	SearchQueryBuilderImpl(
+			ElasticsearchVersion version,
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchQueryGroupExecutor groupExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
+			String scrollTimeout,
 			Set<URLEncodedString> indexNames,
 			SessionContext sessionContext,
 			HitExtractor<? super C> hitExtractor,
 			HitAggregator<C, List<T>> hitAggregator) {
+		this.version = version;
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.groupExecutor = groupExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
 
 		this.indexNames = indexNames;
 		this.tenantId = sessionContext.getTenantIdentifier();
@@ -71,6 +94,18 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		// Never round down to zero: Elasticsearch would time out before collecting anything
+		this.timeoutMs = Math.max( 1L, timeUnit.toMillis( timeout ) );
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public void setHitCountThreshold(long threshold) {
+		this.hitCountThreshold = threshold;
+	}
+
 	private SearchQuery<T> build() {
 		JsonObject payload = new JsonObject();
 
@@ -84,19 +119,89 @@ private SearchQuery<T> build() {
 			payload.add( "sort", jsonSort );
 		}
 
+		JsonObject jsonAggregations = elementCollector.toJsonAggregations();
+		if ( jsonAggregations != null ) {
+			payload.add( "aggs", jsonAggregations );
+		}
+
+		if ( timeoutMs != null ) {
+			// Elasticsearch stops collecting hits on each shard once the timeout is exceeded
+			payload.addProperty( "timeout", timeoutMs + "ms" );
+		}
+
+		if ( hitCountThreshold != null && hitCountThreshold == 0L && version.supportsTrackTotalHits() ) {
+			payload.addProperty( "track_total_hits", false );
+		}
+		// else: on older versions, rely on terminate_after to limit the cost of counting hits
+
 		hitExtractor.contributeRequest( payload );
 
 		SearchResultExtractor<T> searchResultExtractor =
-				new SearchResultExtractorImpl<>( hitExtractor, hitAggregator );
+				new SearchResultExtractorImpl<>( hitExtractor, hitAggregator, getRequiredSourceProperties( payload ),
+						elementCollector.getAggregations(), timeoutMs, exceptionOnTimeout );
 
 		return new ElasticsearchSearchQuery<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, groupExecutor,
 				indexNames, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				getTerminateAfterThreshold( jsonAggregations ),
+				isIndexOrder( jsonSort ),
+				scrollTimeout
 		);
 	}
 
+	private Long getTerminateAfterThreshold(JsonObject jsonAggregations) {
+		if ( jsonAggregations != null ) {
+			// Aggregations must see every matching document
+			return null;
+		}
+		return hitCountThreshold;
+	}
+
+	/**
+	 * @return {@code true} if hits are sorted by index order ({@code _doc}),
+	 * i.e. in the order terminate_after collects them on each shard.
+	 * Note {@code sort().byIndexOrder()} sorts by {@code _uid}, which is not index order.
+	 */
+	private static boolean isIndexOrder(JsonArray jsonSort) {
+		if ( jsonSort == null || jsonSort.size() == 0 ) {
+			return false;
+		}
+		JsonElement firstSort = jsonSort.get( 0 );
+		if ( firstSort.isJsonPrimitive() ) {
+			return INDEX_ORDER_SORT_KEYWORD.equals( firstSort.getAsString() );
+		}
+		if ( !firstSort.isJsonObject() ) {
+			return false;
+		}
+		JsonElement indexOrderSort = firstSort.getAsJsonObject().get( INDEX_ORDER_SORT_KEYWORD );
+		if ( indexOrderSort == null ) {
+			return false;
+		}
+		if ( indexOrderSort.isJsonPrimitive() ) {
+			return "asc".equals( indexOrderSort.getAsString() );
+		}
+		JsonElement order = indexOrderSort.isJsonObject() ? indexOrderSort.getAsJsonObject().get( "order" ) : null;
+		return order == null || "asc".equals( order.getAsString() );
+	}
+
+	private static Set<String> getRequiredSourceProperties(JsonObject payload) {
+		JsonArray sourceFilter = REQUEST_SOURCE_ACCESSOR.get( payload ).orElse( null );
+		if ( sourceFilter == null ) {
+			// No hit extractor needs the source: don't even ask Elasticsearch to send it
+			payload.addProperty( "_source", false );
+			return Collections.emptySet();
+		}
+		Set<String> requiredSourceProperties = new HashSet<>();
+		for ( JsonElement fieldPath : sourceFilter ) {
+			String path = fieldPath.getAsString();
+			int firstDotIndex = path.indexOf( '.' );
+			requiredSourceProperties.add( firstDotIndex < 0 ? path : path.substring( 0, firstDotIndex ) );
+		}
+		return requiredSourceProperties;
+	}
+
 	private JsonObject getJsonQuery() {
 		return multiTenancyStrategy.decorateJsonQuery( elementCollector.toJsonPredicate(), tenantId );
 	}
@@ -6,66 +6,224 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchLoadableSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.ScrollResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Extracts search results from the response body as it is streamed.
+ * <p>
+ * Hits are fed to the {@link HitExtractor} one by one, as soon as they are read,
+ * so that only one hit at a time is materialized as a JSON tree.
+ * Properties of the {@code _source} that are not needed by the hit extractor are skipped without being materialized.
+ */
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
-	private static final JsonObjectAccessor HITS_ACCESSOR =
-			JsonAccessor.root().property( "hits" ).asObject();
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
-
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).asLong();
+	/**
+	 * The number of hits returned by Elasticsearch when the size is not set explicitly.
+	 */
+	private static final int DEFAULT_SIZE = 10;
 
 	private final HitExtractor<? super C> hitExtractor;
 	private final HitAggregator<C, List<T>> hitAggregator;
-
+	private final Set<String> requiredSourceProperties;
+	private final List<ElasticsearchSearchAggregation> aggregations;
+	private final Long timeoutMs;
+	private final boolean exceptionOnTimeout;
+
+	/**
+	 * @param hitExtractor The hit extractor.
+	 * @param hitAggregator The hit aggregator.
+	 * @param requiredSourceProperties The names of the root properties of the {@code _source}
+	 * that must be materialized for the hit extractor; other properties will be skipped.
+	 * @param aggregations The aggregations requested in the query.
+	 * @param timeoutMs The timeout of the query in milliseconds, or {@code null} if there is none.
+	 * @param exceptionOnTimeout Whether to throw an exception when the query timed out,
+	 * instead of returning partial results.
+	 */
 	public SearchResultExtractorImpl(
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			HitAggregator<C, List<T>> hitAggregator,
+			Set<String> requiredSourceProperties,
+			List<ElasticsearchSearchAggregation> aggregations,
+			Long timeoutMs, boolean exceptionOnTimeout) {
 		this.hitExtractor = hitExtractor;
 		this.hitAggregator = hitAggregator;
+		this.requiredSourceProperties = requiredSourceProperties;
+		this.aggregations = aggregations;
+		this.timeoutMs = timeoutMs;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public ElasticsearchLoadableSearchResult<T> extract(JsonReader reader, Long limit) throws IOException {
+		ParsedResponse parsedResponse = parse( reader, limit == null ? DEFAULT_SIZE : limit );
+		if ( parsedResponse.error != null ) {
+			// Only happens for responses to multi-search requests: other failures are detected based on the status code
+			throw log.elasticsearchMultiSearchItemFailed( parsedResponse.error.toString() );
+		}
+		if ( parsedResponse.timedOut && exceptionOnTimeout ) {
+			throw log.queryTimedOut( timeoutMs );
+		}
+		// Hits will be built, possibly loading objects, when the result is loaded
+		if ( parsedResponse.hitCount < 0L ) {
+			// The hit count was not tracked: the hits themselves are the only lower bound we know of
+			return new ElasticsearchLoadableSearchResult<>( parsedResponse.extractedHitCount, false, hitAggregator,
+					parsedResponse.aggregations, parsedResponse.timedOut );
+		}
+		return new ElasticsearchLoadableSearchResult<>( parsedResponse.hitCount, !parsedResponse.terminatedEarly,
+				hitAggregator, parsedResponse.aggregations, parsedResponse.timedOut );
 	}
 
 	@Override
-	public SearchResult<T> extract(JsonObject responseBody) {
-		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	public ScrollResult<T> extractScroll(JsonReader reader, int chunkSize) throws IOException {
+		ParsedResponse parsedResponse = parse( reader, chunkSize );
+		return new ScrollResult<>( parsedResponse.scrollId, Collections.unmodifiableList( hitAggregator.build() ) );
+	}
+
+	private ParsedResponse parse(JsonReader reader, long maxHitCount) throws IOException {
+		ParsedResponse result = new ParsedResponse();
+		boolean hitsExtracted = false;
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( "hits".equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+				reader.beginObject();
+				while ( reader.hasNext() ) {
+					name = reader.nextName();
+					if ( "total".equals( name ) && reader.peek() == JsonToken.NUMBER ) {
+						result.hitCount = reader.nextLong();
+					}
+					else if ( "hits".equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+						long expectedHitCount = result.hitCount < 0L ? maxHitCount
+								: Math.min( result.hitCount, maxHitCount );
+						result.extractedHitCount = extractHits( reader, (int) expectedHitCount );
+						hitsExtracted = true;
+					}
+					else {
+						reader.skipValue();
+					}
+				}
+				reader.endObject();
+			}
+			else if ( "terminated_early".equals( name ) && reader.peek() == JsonToken.BOOLEAN ) {
+				result.terminatedEarly = reader.nextBoolean();
+			}
+			else if ( "timed_out".equals( name ) && reader.peek() == JsonToken.BOOLEAN ) {
+				result.timedOut = reader.nextBoolean();
+			}
+			else if ( "_scroll_id".equals( name ) && reader.peek() == JsonToken.STRING ) {
+				result.scrollId = reader.nextString();
+			}
+			else if ( "aggregations".equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+				result.aggregations = extractAggregations( new JsonParser().parse( reader ).getAsJsonObject() );
+			}
+			else if ( "error".equals( name ) ) {
+				result.error = new JsonParser().parse( reader );
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
 
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+		if ( !hitsExtracted ) {
+			hitAggregator.init( 0 );
+		}
+		return result;
+	}
 
-		hitAggregator.init( jsonHits.size() );
+	private Map<String, Map<Object, Long>> extractAggregations(JsonObject aggregationResults) {
+		Map<String, Map<Object, Long>> result = new LinkedHashMap<>( aggregations.size() );
+		for ( ElasticsearchSearchAggregation aggregation : aggregations ) {
+			JsonObject aggregationResult = aggregationResults.getAsJsonObject( aggregation.getName() );
+			result.put( aggregation.getName(), Collections.unmodifiableMap( aggregation.extract( aggregationResult ) ) );
+		}
+		return Collections.unmodifiableMap( result );
+	}
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
+	private int extractHits(JsonReader reader, int expectedHitCount) throws IOException {
+		hitAggregator.init( expectedHitCount );
+		JsonParser parser = new JsonParser();
+		int hitCount = 0;
+		reader.beginArray();
+		while ( reader.hasNext() ) {
+			JsonObject hitObject = readHit( reader, parser );
 			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, responseBody, hitObject );
+			hitExtractor.extract( hitCollector, hitObject );
+			++hitCount;
 		}
+		reader.endArray();
+		return hitCount;
+	}
 
-		final List<T> finalHits = Collections.unmodifiableList( hitAggregator.build() );
-		return new SearchResult<T>() {
-			@Override
-			public long getHitCount() {
-				return hitCount;
+	private JsonObject readHit(JsonReader reader, JsonParser parser) throws IOException {
+		JsonObject hit = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( "_source".equals( name ) ) {
+				if ( requiredSourceProperties.isEmpty() || reader.peek() != JsonToken.BEGIN_OBJECT ) {
+					reader.skipValue();
+				}
+				else {
+					hit.add( name, readSource( reader, parser ) );
+				}
+			}
+			else {
+				hit.add( name, parser.parse( reader ) );
 			}
+		}
+		reader.endObject();
+		return hit;
+	}
 
-			@Override
-			public List<T> getHits() {
-				return finalHits;
+	private JsonObject readSource(JsonReader reader, JsonParser parser) throws IOException {
+		JsonObject source = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( requiredSourceProperties.contains( name ) ) {
+				JsonElement value = parser.parse( reader );
+				source.add( name, value );
 			}
-		};
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return source;
+	}
+
+	private final class ParsedResponse {
+		private long hitCount = 0L;
+		private int extractedHitCount = 0;
+		private boolean terminatedEarly = false;
+		private boolean timedOut = false;
+		private String scrollId;
+		private JsonElement error;
+		private Map<String, Map<Object, Long>> aggregations = Collections.emptyMap();
 	}
 
 }
@@ -79,4 +79,8 @@ protected PropertyMapping contribute(
 		return mapping;
 	}
 
+	protected void contributeIndexSort(ElasticsearchIndexSchemaNodeCollector collector, String absoluteFieldPath) {
+		contributeIndexSort( collector, absoluteFieldPath, sortable );
+	}
+
 }
@@ -6,16 +6,22 @@
  */
 package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.ElasticsearchStandardIndexSchemaFieldTypedContext;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaNodeCollector;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaNodeContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaObjectNode;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.converter.FromIndexFieldValueConverter;
 import org.hibernate.search.engine.backend.document.converter.ToIndexFieldValueConverter;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaContext;
 import org.hibernate.search.engine.backend.document.spi.IndexSchemaFieldDefinitionHelper;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Yoann Rodiere
@@ -24,8 +30,12 @@
 		implements ElasticsearchStandardIndexSchemaFieldTypedContext<S, F>,
 		ElasticsearchIndexSchemaNodeContributor<PropertyMapping> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexSchemaFieldDefinitionHelper<F> helper;
 
+	private SortOrder indexSortOrder;
+
 	AbstractElasticsearchStandardIndexSchemaFieldTypedContext(IndexSchemaContext schemaContext, Class<F> fieldType) {
 		this.helper = new IndexSchemaFieldDefinitionHelper<>( schemaContext, fieldType );
 	}
@@ -44,6 +54,12 @@ public S projectionConverter(
 		return thisAsS();
 	}
 
+	@Override
+	public S indexSort(SortOrder order) {
+		this.indexSortOrder = order;
+		return thisAsS();
+	}
+
 	@Override
 	public IndexFieldAccessor<F> createAccessor() {
 		return helper.createAccessor();
@@ -65,4 +81,20 @@ protected final IndexSchemaContext getSchemaContext() {
 		return helper.getSchemaContext();
 	}
 
+	protected final SortOrder getIndexSortOrder() {
+		return indexSortOrder;
+	}
+
+	protected void contributeIndexSort(ElasticsearchIndexSchemaNodeCollector collector,
+			String absoluteFieldPath, Sortable sortable) {
+		if ( indexSortOrder == null ) {
+			return;
+		}
+		// Doc values are enabled by default in Elasticsearch, but we require the same explicit mapping as other backends
+		if ( !Sortable.YES.equals( sortable ) ) {
+			throw log.cannotUseIndexSortOnNonSortableField( getSchemaContext().getEventContext() );
+		}
+		collector.collectIndexSortField( absoluteFieldPath, indexSortOrder );
+	}
+
 }
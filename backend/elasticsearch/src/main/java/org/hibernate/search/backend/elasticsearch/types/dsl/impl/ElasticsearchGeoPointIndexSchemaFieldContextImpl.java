@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaContext;
 import org.hibernate.search.engine.backend.document.spi.IndexSchemaFieldDefinitionHelper;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchIndexFieldAccessor;
@@ -15,10 +17,12 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.DataType;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.GeoPointFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.converter.impl.StandardFieldConverter;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.GeoPointFieldPredicateBuilderFactory;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
@@ -29,6 +33,8 @@
 public class ElasticsearchGeoPointIndexSchemaFieldContextImpl
 		extends AbstractElasticsearchScalarFieldTypedContext<ElasticsearchGeoPointIndexSchemaFieldContextImpl, GeoPoint> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final String relativeFieldName;
 
 	public ElasticsearchGeoPointIndexSchemaFieldContextImpl(IndexSchemaContext schemaContext, String relativeFieldName) {
@@ -40,6 +46,10 @@ public ElasticsearchGeoPointIndexSchemaFieldContextImpl(IndexSchemaContext schem
 	protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<GeoPoint> helper,
 			ElasticsearchIndexSchemaNodeCollector collector,
 			ElasticsearchIndexSchemaObjectNode parentNode) {
+		if ( getIndexSortOrder() != null ) {
+			throw log.indexSortNotSupportedByGeoPoint( getSchemaContext().getEventContext() );
+		}
+
 		PropertyMapping mapping = super.contribute( helper, collector, parentNode );
 
 		StandardFieldConverter<GeoPoint> converter = new StandardFieldConverter<>(
@@ -56,6 +56,7 @@ protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<Integer> h
 
 		String absoluteFieldPath = parentNode.getAbsolutePath( relativeFieldName );
 		collector.collect( absoluteFieldPath, node );
+		contributeIndexSort( collector, absoluteFieldPath );
 
 		return mapping;
 	}
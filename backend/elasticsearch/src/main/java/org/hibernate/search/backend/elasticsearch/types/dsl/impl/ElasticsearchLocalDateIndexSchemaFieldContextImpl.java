@@ -79,6 +79,7 @@ parentNode, converter, codec, new StandardFieldPredicateBuilderFactory( converte
 		String absoluteFieldPath = parentNode.getAbsolutePath( relativeFieldName );
 
 		collector.collect( absoluteFieldPath, node );
+		contributeIndexSort( collector, absoluteFieldPath );
 
 		return mapping;
 	}
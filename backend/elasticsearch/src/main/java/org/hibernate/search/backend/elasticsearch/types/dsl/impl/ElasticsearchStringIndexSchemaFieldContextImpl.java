@@ -138,6 +138,7 @@ protected PropertyMapping contribute(IndexSchemaFieldDefinitionHelper<String> he
 
 		String absoluteFieldPath = parentNode.getAbsolutePath( relativeFieldName );
 		collector.collect( absoluteFieldPath, node );
+		contributeIndexSort( collector, absoluteFieldPath, sortable );
 
 		return mapping;
 	}
@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface BulkResultItemExtractor {
+
+	/**
+	 * @param work A work that was part of the bulk
+	 * @param index The index of the work in the bulk
+	 * @return a future eventually returning the result of the given work
+	 */
+	<T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index);
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.Throwables;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work sending multiple {@link BulkableElasticsearchWork bulkable works} to the cluster
+ * in a single request to the bulk API.
+ * <p>
+ * The result of each bulked work is not extracted by this work:
+ * use the returned {@link BulkResult} to extract them.
+ */
+public class BulkWork implements ElasticsearchWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+
+	private final ElasticsearchRequest request;
+
+	private final List<BulkableElasticsearchWork<?>> works;
+
+	private final RefreshPolicyConfiguration refreshPolicy;
+
+	private BulkWork(Builder builder) {
+		this.request = builder.buildRequest();
+		this.works = new ArrayList<>( builder.bulkableWorks );
+		this.refreshPolicy = builder.refreshPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works = " ).append( works )
+				.append( ", refreshPolicy = " ).append( refreshPolicy )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit( request ) )
+				.exceptionally( Futures.handler(
+						throwable -> { throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
+				) )
+				.thenApply( this::generateResult );
+	}
+
+	private BulkResult generateResult(ElasticsearchResponse response) {
+		try {
+			DefaultElasticsearchRequestSuccessAssessor.INSTANCE.checkSuccess( response );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchRequestFailed( request, response, e );
+		}
+		JsonArray resultItems = BULK_ITEMS.get( response.getBody() ).orElseGet( JsonArray::new );
+		return new BulkResultImpl( resultItems );
+	}
+
+	public static class Builder {
+		private final List<BulkableElasticsearchWork<?>> bulkableWorks;
+		private RefreshPolicyConfiguration refreshPolicy = RefreshPolicyConfiguration.NONE;
+
+		public Builder(List<BulkableElasticsearchWork<?>> bulkableWorks) {
+			this.bulkableWorks = bulkableWorks;
+		}
+
+		public Builder refresh(RefreshPolicyConfiguration refreshPolicy) {
+			this.refreshPolicy = refreshPolicy;
+			return this;
+		}
+
+		private ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._BULK );
+
+			switch ( refreshPolicy ) {
+				case NONE:
+					break;
+				case FORCE:
+					builder.param( "refresh", true );
+					break;
+				case WAIT_FOR:
+					builder.param( "refresh", "wait_for" );
+					break;
+				default:
+					throw new AssertionFailure( "Unexpected refresh policy: " + refreshPolicy );
+			}
+
+			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
+				builder.body( work.getBulkableActionMetadata() );
+				JsonObject actionBody = work.getBulkableActionBody();
+				if ( actionBody != null ) {
+					builder.body( actionBody );
+				}
+			}
+
+			return builder.build();
+		}
+
+		public BulkWork build() {
+			return new BulkWork( this );
+		}
+	}
+
+	private static class BulkResultImpl implements BulkResult {
+		private final JsonArray results;
+
+		BulkResultImpl(JsonArray results) {
+			this.results = results;
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			return new BulkResultItemExtractorImpl( results, context );
+		}
+	}
+
+	private static class BulkResultItemExtractorImpl implements BulkResultItemExtractor {
+		private final JsonArray results;
+		private final ElasticsearchWorkExecutionContext context;
+
+		BulkResultItemExtractorImpl(JsonArray results, ElasticsearchWorkExecutionContext context) {
+			this.results = results;
+			this.context = context;
+		}
+
+		@Override
+		public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+			JsonObject bulkItemResponse = index < results.size() ? results.get( index ).getAsJsonObject() : null;
+			return work.handleBulkResult( context, bulkItemResponse );
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work that can be executed on its own, or as part of a bulk request.
+ *
+ * @param <T> The result type.
+ */
+public interface BulkableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return A key identifying the document affected by this work.
+	 * Two works affecting the same document return equal keys, and must be executed in order.
+	 */
+	String getDocumentKey();
+
+	JsonObject getBulkableActionMetadata();
+
+	/**
+	 * @return The body of the bulk action, or {@code null} if this action has no body.
+	 */
+	JsonObject getBulkableActionBody();
+
+	/**
+	 * @return An estimate of the size, in bytes, of this action once serialized in a bulk request.
+	 */
+	long getBulkableActionSizeEstimate();
+
+	/**
+	 * @param context The execution context
+	 * @param resultItem The part of the bulk JSON result relevant to this work
+	 * @return a future eventually returning the result of this work
+	 */
+	CompletableFuture<T> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject resultItem);
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
+
+/**
+ * A search result whose hits have been extracted from the response, but not built yet.
+ * <p>
+ * Building the hits may require loading objects, which may block,
+ * so it is performed separately from the extraction, in {@link #loadBlocking()},
+ * in order not to block the threads of the Elasticsearch client.
+ *
+ * @param <T> The type of hits.
+ */
+public final class ElasticsearchLoadableSearchResult<T> {
+
+	private final long hitCount;
+	private final boolean hitCountExact;
+	private final HitAggregator<?, List<T>> hitAggregator;
+	private final Map<String, Map<Object, Long>> aggregations;
+	private final boolean timedOut;
+
+	public ElasticsearchLoadableSearchResult(long hitCount, boolean hitCountExact,
+			HitAggregator<?, List<T>> hitAggregator,
+			Map<String, Map<Object, Long>> aggregations, boolean timedOut) {
+		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
+		this.hitAggregator = hitAggregator;
+		this.aggregations = aggregations;
+		this.timedOut = timedOut;
+	}
+
+	public SearchResult<T> loadBlocking() {
+		return new SimpleSearchResult<>( hitCount, hitCountExact, Collections.unmodifiableList( hitAggregator.build() ),
+				aggregations, timedOut );
+	}
+
+}
@@ -6,12 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.List;
 import java.util.Set;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
-import org.hibernate.search.engine.search.SearchResult;
 
 import com.google.gson.JsonObject;
 
@@ -26,18 +27,54 @@ public interface ElasticsearchWorkFactory {
 	ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedString typeName, RootTypeMapping mapping,
 			IndexSettings settings);
 
-	ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
 
-	ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
 
-	ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+	BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param payload The body of the request, holding the query matching the documents to delete.
+	 * @return A work deleting the matching documents, including those not yet visible to searches,
+	 * and refreshing the index so that the deletion is visible to queries.
+	 */
+	ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject payload);
+
+	ElasticsearchWork<BulkResult> bulk(List<BulkableElasticsearchWork<?>> works, RefreshPolicyConfiguration refreshPolicy);
+
+	/**
+	 * @param indexName The name of the index.
+	 * @return A work returning the settings of the given index, in flat format
+	 * (e.g. {@code {"index.refresh_interval": "1s"}}).
+	 */
+	ElasticsearchWork<JsonObject> getIndexSettings(URLEncodedString indexName);
+
+	ElasticsearchWork<?> updateIndexSettings(URLEncodedString indexName, JsonObject settings);
 
 	ElasticsearchWork<?> flush(URLEncodedString indexName);
 
 	ElasticsearchWork<?> optimize(URLEncodedString indexName);
 
-	<T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+	/**
+	 * @param terminateAfter The maximum number of documents to collect on each shard, or {@code null}.
+	 * Documents are collected in index order, so callers must only set this
+	 * when no hits are requested or when hits are sorted by index order,
+	 * and never below {@code offset + limit}.
+	 */
+	<T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit);
+			Long offset, Long limit, Long terminateAfter);
+
+	MultiSearchWork.Builder multiSearch();
+
+	<T> ElasticsearchWork<ScrollResult<T>> startScroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, String scrollTimeout);
+
+	<T> ElasticsearchWork<ScrollResult<T>> scroll(String scrollId, String scrollTimeout,
+			SearchResultExtractor<T> searchResultExtractor, int chunkSize);
+
+	ElasticsearchWork<?> clearScroll(String scrollId);
 
 }
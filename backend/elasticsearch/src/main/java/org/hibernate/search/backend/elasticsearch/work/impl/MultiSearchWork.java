@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A work executing multiple searches in a single request to the multi-search API.
+ * <p>
+ * Like {@link SearchWork}, the response body is streamed:
+ * the response to each search is fed to the corresponding {@link SearchResultExtractor} in turn.
+ */
+public class MultiSearchWork implements ElasticsearchWork<List<ElasticsearchLoadableSearchResult<?>>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchRequest request;
+	private final List<Item<?>> items;
+
+	private MultiSearchWork(Builder builder) {
+		this.request = builder.buildRequest();
+		this.items = new ArrayList<>( builder.items );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request = " ).append( request )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<List<ElasticsearchLoadableSearchResult<?>>> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit( request, this::extract ) );
+	}
+
+	private List<ElasticsearchLoadableSearchResult<?>> extract(JsonReader reader) throws IOException {
+		List<ElasticsearchLoadableSearchResult<?>> results = new ArrayList<>( items.size() );
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( "responses".equals( name ) ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					if ( results.size() >= items.size() ) {
+						reader.skipValue();
+						continue;
+					}
+					Item<?> item = items.get( results.size() );
+					results.add( item.searchResultExtractor.extract( reader, item.limit ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		if ( results.size() != items.size() ) {
+			throw log.unexpectedMultiSearchResponseCount( items.size(), results.size() );
+		}
+		return results;
+	}
+
+	public static class Builder {
+		private final List<Item<?>> items = new ArrayList<>();
+
+		/**
+		 * Add a search to the request.
+		 * <p>
+		 * Parameters are the same as those of {@link ElasticsearchWorkFactory#search}.
+		 *
+		 * @param <T> The type of hits.
+		 * @return {@code this}, for method chaining.
+		 */
+		public <T> Builder search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+				JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+				Long offset, Long limit, Long terminateAfter) {
+			JsonObject header = new JsonObject();
+			header.addProperty( "index", indexNames.stream().map( name -> name.original )
+					.collect( Collectors.joining( "," ) ) );
+			if ( !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
+			}
+
+			// The multi-search API only accepts pagination parameters in the body
+			JsonObject body = payload;
+			if ( offset != null || limit != null || terminateAfter != null ) {
+				body = payload.deepCopy();
+				if ( offset != null ) {
+					body.addProperty( "from", offset );
+				}
+				if ( limit != null ) {
+					body.addProperty( "size", limit );
+				}
+				if ( terminateAfter != null ) {
+					body.addProperty( "terminate_after", terminateAfter );
+				}
+			}
+
+			items.add( new Item<>( header, body, searchResultExtractor, limit ) );
+			return this;
+		}
+
+		private ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+			for ( Item<?> item : items ) {
+				builder.body( item.header );
+				builder.body( item.body );
+			}
+			return builder.build();
+		}
+
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static final class Item<T> {
+		private final JsonObject header;
+		private final JsonObject body;
+		private final SearchResultExtractor<T> searchResultExtractor;
+		private final Long limit;
+
+		private Item(JsonObject header, JsonObject body, SearchResultExtractor<T> searchResultExtractor, Long limit) {
+			this.header = header;
+			this.body = body;
+			this.searchResultExtractor = searchResultExtractor;
+			this.limit = limit;
+		}
+	}
+
+}
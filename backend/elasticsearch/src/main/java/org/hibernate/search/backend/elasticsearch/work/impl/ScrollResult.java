@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.List;
+
+/**
+ * A chunk of hits returned by a scroll request.
+ *
+ * @param <T> The type of hits.
+ */
+public final class ScrollResult<T> {
+
+	private final String scrollId;
+	private final List<T> hits;
+
+	public ScrollResult(String scrollId, List<T> hits) {
+		this.scrollId = scrollId;
+		this.hits = hits;
+	}
+
+	/**
+	 * @return The identifier to use when requesting the next chunk of hits or clearing the scroll.
+	 */
+	public String getScrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return The hits in this chunk. Empty if there are no more hits.
+	 */
+	public List<T> getHits() {
+		return hits;
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A work starting or continuing a scroll, streaming the response body into a {@link SearchResultExtractor}.
+ *
+ * @param <T> The type of hits.
+ */
+public class ScrollWork<T> implements ElasticsearchWork<ScrollResult<T>> {
+
+	private final ElasticsearchRequest request;
+	private final SearchResultExtractor<T> searchResultExtractor;
+	private final int chunkSize;
+
+	ScrollWork(ElasticsearchRequest request, SearchResultExtractor<T> searchResultExtractor, int chunkSize) {
+		this.request = request;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request = " ).append( request )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<ScrollResult<T>> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit(
+				request, reader -> searchResultExtractor.extractScroll( reader, chunkSize )
+		) );
+	}
+
+}
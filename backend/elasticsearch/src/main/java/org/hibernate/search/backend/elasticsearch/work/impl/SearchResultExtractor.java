@@ -6,12 +6,30 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
-import org.hibernate.search.engine.search.SearchResult;
+import java.io.IOException;
 
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface SearchResultExtractor<T> {
 
-	SearchResult<T> extract(JsonObject responseBody);
+	/**
+	 * Extract the search result from the response body, as it is streamed.
+	 *
+	 * @param responseBodyReader A reader positioned at the start of the response body.
+	 * @param limit The maximum number of hits requested, or {@code null} if not set.
+	 * @return The search result, whose hits remain to be loaded.
+	 * @throws IOException If reading the response body failed.
+	 */
+	ElasticsearchLoadableSearchResult<T> extract(JsonReader responseBodyReader, Long limit) throws IOException;
+
+	/**
+	 * Extract a chunk of hits from the response body of a scroll request, as it is streamed.
+	 *
+	 * @param responseBodyReader A reader positioned at the start of the response body.
+	 * @param chunkSize The maximum number of hits in the chunk.
+	 * @return The chunk of hits, along with the identifier of the scroll.
+	 * @throws IOException If reading the response body failed.
+	 */
+	ScrollResult<T> extractScroll(JsonReader responseBodyReader, int chunkSize) throws IOException;
 
 }
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A search work, streaming the response body into a {@link SearchResultExtractor}
+ * instead of materializing it as a JSON tree.
+ *
+ * @param <T> The type of hits.
+ */
+public class SearchWork<T> implements ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
+
+	private final ElasticsearchRequest request;
+	private final SearchResultExtractor<T> searchResultExtractor;
+	private final Long limit;
+
+	SearchWork(ElasticsearchRequest request, SearchResultExtractor<T> searchResultExtractor, Long limit) {
+		this.request = request;
+		this.searchResultExtractor = searchResultExtractor;
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request = " ).append( request )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchLoadableSearchResult<T>> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit(
+				request, reader -> searchResultExtractor.extract( reader, limit )
+		) );
+	}
+
+}
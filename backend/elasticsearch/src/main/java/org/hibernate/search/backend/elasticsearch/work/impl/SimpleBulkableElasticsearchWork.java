@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonSizeEstimator;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.Throwables;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A document-level work (index, delete, ...) that can be executed on its own or as part of a bulk.
+ */
+public class SimpleBulkableElasticsearchWork implements BulkableElasticsearchWork<Void> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * Each action metadata line and body line is followed by a line feed in bulk requests.
+	 */
+	private static final int BULK_LINE_OVERHEAD = 1;
+
+	private final ElasticsearchRequest request;
+	private final String documentKey;
+	private final JsonObject bulkableActionMetadata;
+	private final JsonObject bulkableActionBody;
+	private final ElasticsearchRequestSuccessAssessor resultAssessor;
+
+	// Lazily initialized, benign races are acceptable
+	private long bulkableActionSizeEstimate = -1L;
+
+	SimpleBulkableElasticsearchWork(ElasticsearchRequest request, String documentKey, JsonObject bulkableActionMetadata,
+			JsonObject bulkableActionBody, ElasticsearchRequestSuccessAssessor resultAssessor) {
+		this.request = request;
+		this.documentKey = documentKey;
+		this.bulkableActionMetadata = bulkableActionMetadata;
+		this.bulkableActionBody = bulkableActionBody;
+		this.resultAssessor = resultAssessor;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "request = " ).append( request )
+				.append( ", resultAssessor = " ).append( resultAssessor )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit( request ) )
+				.exceptionally( Futures.handler(
+						throwable -> { throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
+				) )
+				.thenApply( this::handleResult );
+	}
+
+	@Override
+	public String getDocumentKey() {
+		return documentKey;
+	}
+
+	@Override
+	public JsonObject getBulkableActionMetadata() {
+		return bulkableActionMetadata;
+	}
+
+	@Override
+	public JsonObject getBulkableActionBody() {
+		return bulkableActionBody;
+	}
+
+	@Override
+	public long getBulkableActionSizeEstimate() {
+		if ( bulkableActionSizeEstimate < 0L ) {
+			long estimate = JsonSizeEstimator.estimate( bulkableActionMetadata ) + BULK_LINE_OVERHEAD;
+			if ( bulkableActionBody != null ) {
+				estimate += JsonSizeEstimator.estimate( bulkableActionBody ) + BULK_LINE_OVERHEAD;
+			}
+			bulkableActionSizeEstimate = estimate;
+		}
+		return bulkableActionSizeEstimate;
+	}
+
+	@Override
+	public CompletableFuture<Void> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject resultItem) {
+		return Futures.create( () -> {
+			try {
+				resultAssessor.checkSuccess( resultItem );
+			}
+			catch (RuntimeException e) {
+				throw log.elasticsearchBulkedRequestFailed( bulkableActionMetadata, resultItem, e );
+			}
+			return CompletableFuture.completedFuture( null );
+		} );
+	}
+
+	private Void handleResult(ElasticsearchResponse response) {
+		try {
+			resultAssessor.checkSuccess( response );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchRequestFailed( request, response, e );
+		}
+		return null;
+	}
+}
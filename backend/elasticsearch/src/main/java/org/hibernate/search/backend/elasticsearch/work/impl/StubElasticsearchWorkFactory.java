@@ -6,18 +6,20 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.index.settings.impl.esnative.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.GsonProvider;
-import org.hibernate.search.engine.search.SearchResult;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
@@ -26,6 +28,13 @@
  */
 public class StubElasticsearchWorkFactory implements ElasticsearchWorkFactory {
 
+	/*
+	 * Deleting a document that doesn't exist in the index is not an error:
+	 * the document may never have been indexed, or may have been deleted concurrently.
+	 */
+	private static final ElasticsearchRequestSuccessAssessor DELETE_SUCCESS_ASSESSOR =
+			DefaultElasticsearchRequestSuccessAssessor.builder().ignoreErrorStatuses( 404 ).build();
+
 	private final GsonProvider gsonProvider;
 
 	public StubElasticsearchWorkFactory(GsonProvider gsonProvider) {
@@ -59,46 +68,74 @@ public ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedSt
 	}
 
 	@Override
-	public ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
-		return new StubElasticsearchWork<>( builder.build() );
+		return index( indexName, typeName, id, routingKey, document );
 	}
 
 	@Override
-	public ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
-		return new StubElasticsearchWork<>( builder.build() );
+		return index( indexName, typeName, id, routingKey, document );
 	}
 
 	@Override
-	public ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey) {
+		URLEncodedString encodedId = URLEncodedString.fromString( id );
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
 				.pathComponent( indexName )
 				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) );
-		builder.param( "refresh", true );
+				.pathComponent( encodedId );
 		if ( routingKey != null ) {
 			builder.param( "_routing", routingKey );
 		}
+		JsonObject actionMetadata = bulkableActionMetadata( "delete", indexName, typeName, encodedId, routingKey );
+		return new SimpleBulkableElasticsearchWork( builder.build(),
+				documentKey( indexName, encodedId ), actionMetadata, null, DELETE_SUCCESS_ASSESSOR );
+	}
+
+	@Override
+	public ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject payload) {
+		// Refresh first, so that documents that are not visible to searches yet are deleted too
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( indexName )
+				.pathComponent( Paths._REFRESH );
+		ElasticsearchWork<?> refreshWork = new StubElasticsearchWork<>( builder.build() );
+		builder = ElasticsearchRequest.post()
+				.pathComponent( indexName )
+				.pathComponent( Paths._DELETE_BY_QUERY )
+				// Do not fail if a document is updated concurrently
+				.param( "conflicts", "proceed" )
+				.param( "refresh", true )
+				.body( payload );
+		ElasticsearchWork<Object> deleteByQueryWork = new StubElasticsearchWork<>( builder.build() );
+		return context -> refreshWork.execute( context )
+					.thenCompose( ignored -> deleteByQueryWork.execute( context ) );
+	}
+
+	@Override
+	public ElasticsearchWork<BulkResult> bulk(List<BulkableElasticsearchWork<?>> works,
+			RefreshPolicyConfiguration refreshPolicy) {
+		return new BulkWork.Builder( works ).refresh( refreshPolicy ).build();
+	}
+
+	@Override
+	public ElasticsearchWork<JsonObject> getIndexSettings(URLEncodedString indexName) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.get()
+				.pathComponent( indexName )
+				.pathComponent( Paths._SETTINGS )
+				.param( "flat_settings", true );
+		return new StubElasticsearchWork<>( builder.build(),
+				body -> body.getAsJsonObject( indexName.original ).getAsJsonObject( "settings" ) );
+	}
+
+	@Override
+	public ElasticsearchWork<?> updateIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+				.pathComponent( indexName )
+				.pathComponent( Paths._SETTINGS )
+				.body( settings );
 		return new StubElasticsearchWork<>( builder.build() );
 	}
 
@@ -125,9 +162,9 @@ public ElasticsearchWork<?> optimize(URLEncodedString indexName) {
 	}
 
 	@Override
-	public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+	public <T> ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit) {
+			Long offset, Long limit, Long terminateAfter) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
 				.multiValuedPathComponent( indexNames )
 				.pathComponent( Paths._SEARCH )
@@ -139,19 +176,100 @@ public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> index
 		if ( limit != null ) {
 			builder.param( "size", limit );
 		}
+		if ( terminateAfter != null ) {
+			builder.param( "terminate_after", terminateAfter );
+		}
 
 		if ( !routingKeys.isEmpty() ) {
 			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
 
-		/* TODO scroll
-		if ( scrollSize != null && scrollTimeout != null ) {
-			builder.param( "size", scrollSize );
-			builder.param( "scroll", scrollTimeout );
+		return new SearchWork<>( builder.build(), searchResultExtractor, limit );
+	}
+
+	@Override
+	public MultiSearchWork.Builder multiSearch() {
+		return new MultiSearchWork.Builder();
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ScrollResult<T>> startScroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int chunkSize, String scrollTimeout) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._SEARCH )
+				.body( payload )
+				.param( "size", chunkSize )
+				.param( "scroll", scrollTimeout );
+
+		if ( !routingKeys.isEmpty() ) {
+			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
-		*/
 
-		return new StubElasticsearchWork<>( builder.build(), searchResultExtractor::extract );
+		return new ScrollWork<>( builder.build(), searchResultExtractor, chunkSize );
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ScrollResult<T>> scroll(String scrollId, String scrollTimeout,
+			SearchResultExtractor<T> searchResultExtractor, int chunkSize) {
+		JsonObject body = new JsonObject();
+		body.addProperty( "scroll_id", scrollId );
+		body.addProperty( "scroll", scrollTimeout );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( body );
+		return new ScrollWork<>( builder.build(), searchResultExtractor, chunkSize );
+	}
+
+	@Override
+	public ElasticsearchWork<?> clearScroll(String scrollId) {
+		JsonArray scrollIds = new JsonArray();
+		scrollIds.add( scrollId );
+		JsonObject body = new JsonObject();
+		body.add( "scroll_id", scrollIds );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( body );
+		return new StubElasticsearchWork<>( builder.build() );
+	}
+
+	private BulkableElasticsearchWork<?> index(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document) {
+		URLEncodedString encodedId = URLEncodedString.fromString( id );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+				.pathComponent( indexName )
+				.pathComponent( typeName )
+				.pathComponent( encodedId )
+				.body( document );
+		if ( routingKey != null ) {
+			builder.param( "_routing", routingKey );
+		}
+		JsonObject actionMetadata = bulkableActionMetadata( "index", indexName, typeName, encodedId, routingKey );
+		return new SimpleBulkableElasticsearchWork( builder.build(),
+				documentKey( indexName, encodedId ), actionMetadata, document,
+				DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+	}
+
+	private static String documentKey(URLEncodedString indexName, URLEncodedString id) {
+		// Encoded strings cannot contain '/', so this key is not ambiguous
+		return indexName.encoded + "/" + id.encoded;
+	}
+
+	private static JsonObject bulkableActionMetadata(String actionName,
+			URLEncodedString indexName, URLEncodedString typeName, URLEncodedString id, String routingKey) {
+		JsonObject parameters = new JsonObject();
+		parameters.addProperty( "_index", indexName.original );
+		parameters.addProperty( "_type", typeName.original );
+		parameters.addProperty( "_id", id.original );
+		if ( routingKey != null ) {
+			parameters.addProperty( "_routing", routingKey );
+		}
+		JsonObject metadata = new JsonObject();
+		metadata.add( actionName, parameters );
+		return metadata;
 	}
 
 }
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.dialect.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ElasticsearchVersionTest {
+
+	@Test
+	public void parse() {
+		ElasticsearchVersion version = ElasticsearchVersion.of( "5.6.8" );
+		assertThat( version.getMajor() ).isEqualTo( 5 );
+		assertThat( version.getMinor() ).isEqualTo( 6 );
+		assertThat( version.toString() ).isEqualTo( "5.6.8" );
+
+		version = ElasticsearchVersion.of( "6.4.0-SNAPSHOT" );
+		assertThat( version.getMajor() ).isEqualTo( 6 );
+		assertThat( version.getMinor() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void trackTotalHits() {
+		assertThat( ElasticsearchVersion.of( "5.6.8" ).supportsTrackTotalHits() ).isFalse();
+		assertThat( ElasticsearchVersion.of( "6.0.0" ).supportsTrackTotalHits() ).isTrue();
+		assertThat( ElasticsearchVersion.of( "6.4.2" ).supportsTrackTotalHits() ).isTrue();
+	}
+}
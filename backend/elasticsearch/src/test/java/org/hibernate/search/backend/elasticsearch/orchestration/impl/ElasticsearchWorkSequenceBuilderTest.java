@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchWorkSequenceBuilderTest {
+
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "indexname" );
+	private static final URLEncodedString TYPE_NAME = URLEncodedString.fromString( "typename" );
+
+	private final RecordingElasticsearchClient client = new RecordingElasticsearchClient();
+	private final ElasticsearchWorkExecutionContext context = () -> client;
+	private final ElasticsearchWorkFactory workFactory =
+			new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) );
+
+	@Test
+	public void splitByWorkCount() {
+		ElasticsearchWorkSequenceBuilder builder = builder( RefreshPolicyConfiguration.FORCE, 2, Long.MAX_VALUE );
+		for ( int i = 0; i < 5; i++ ) {
+			builder.add( indexWork( String.valueOf( i ) ) );
+		}
+		builder.build().join();
+
+		List<ElasticsearchRequest> requests = client.getRequests();
+		assertThat( requests ).hasSize( 3 );
+		assertBulk( requests.get( 0 ), "0", "1" );
+		assertBulk( requests.get( 1 ), "2", "3" );
+		assertBulk( requests.get( 2 ), "4" );
+		// Every bulk must be refreshed, not just the last one
+		for ( ElasticsearchRequest request : requests ) {
+			assertThat( request.getParameters() ).containsEntry( "refresh", "true" );
+		}
+	}
+
+	@Test
+	public void splitBySize() {
+		long workSize = indexWork( "0" ).getBulkableActionSizeEstimate();
+		ElasticsearchWorkSequenceBuilder builder =
+				builder( RefreshPolicyConfiguration.WAIT_FOR, Integer.MAX_VALUE, 2 * workSize );
+		for ( int i = 0; i < 5; i++ ) {
+			builder.add( indexWork( String.valueOf( i ) ) );
+		}
+		builder.build().join();
+
+		List<ElasticsearchRequest> requests = client.getRequests();
+		assertThat( requests ).hasSize( 3 );
+		assertBulk( requests.get( 0 ), "0", "1" );
+		assertBulk( requests.get( 1 ), "2", "3" );
+		assertBulk( requests.get( 2 ), "4" );
+		for ( ElasticsearchRequest request : requests ) {
+			assertThat( request.getParameters() ).containsEntry( "refresh", "wait_for" );
+		}
+	}
+
+	@Test
+	public void nonBulkableWorkLast() {
+		ElasticsearchWorkSequenceBuilder builder = builder( RefreshPolicyConfiguration.FORCE, 100, Long.MAX_VALUE );
+		builder.add( indexWork( "0" ) );
+		builder.add( indexWork( "1" ) );
+		builder.add( workFactory.flush( INDEX_NAME ) );
+		builder.build().join();
+
+		// The flush work sends a flush request, then a refresh request
+		List<ElasticsearchRequest> requests = client.getRequests();
+		assertThat( requests ).hasSize( 3 );
+		assertBulk( requests.get( 0 ), "0", "1" );
+		// The bulk must be refreshed even though it is not the last work of the sequence
+		assertThat( requests.get( 0 ).getParameters() ).containsEntry( "refresh", "true" );
+		assertThat( requests.get( 1 ).getPath() ).endsWith( "_flush" );
+	}
+
+	@Test
+	public void bulkItemFailure() {
+		client.failOnDocument( "1" );
+
+		ElasticsearchWorkSequenceBuilder builder = builder( RefreshPolicyConfiguration.NONE, 2, Long.MAX_VALUE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 4; i++ ) {
+			futures.add( builder.add( indexWork( String.valueOf( i ) ) ) );
+		}
+		CompletableFuture<?> sequenceFuture = builder.build();
+
+		// The failure of an item must not prevent the next bulks from executing
+		assertThat( client.getRequests() ).hasSize( 2 );
+
+		// Each item result must be mapped to the work at the same position in the bulk
+		futures.get( 0 ).join();
+		SubTest.expectException( () -> futures.get( 1 ).join() )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch bulked request failed" )
+				.hasMessageContaining( "\"_id\":\"1\"" );
+		futures.get( 2 ).join();
+		futures.get( 3 ).join();
+
+		SubTest.expectException( sequenceFuture::join )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class );
+	}
+
+	private ElasticsearchWorkSequenceBuilder builder(RefreshPolicyConfiguration refreshPolicy,
+			int maxBulkSize, long maxBulkBytes) {
+		return new ElasticsearchWorkSequenceBuilder( context, workFactory, refreshPolicy, maxBulkSize, maxBulkBytes,
+				CompletableFuture.completedFuture( null ) );
+	}
+
+	private BulkableElasticsearchWork<?> indexWork(String id) {
+		JsonObject document = new JsonObject();
+		document.addProperty( "field", "value" + id );
+		return workFactory.add( INDEX_NAME, TYPE_NAME, id, null, document );
+	}
+
+	private static void assertBulk(ElasticsearchRequest request, String... documentIds) {
+		assertThat( request.getPath() ).endsWith( "_bulk" );
+		List<String> bulkedIds = new ArrayList<>();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			if ( bodyPart.has( "index" ) ) {
+				bulkedIds.add( bodyPart.getAsJsonObject( "index" ).get( "_id" ).getAsString() );
+			}
+		}
+		assertThat( bulkedIds ).containsExactly( documentIds );
+	}
+}
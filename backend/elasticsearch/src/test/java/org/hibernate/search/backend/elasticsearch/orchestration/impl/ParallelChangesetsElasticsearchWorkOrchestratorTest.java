@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.RefreshPolicyConfiguration;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+public class ParallelChangesetsElasticsearchWorkOrchestratorTest {
+
+	private static final URLEncodedString INDEX_NAME = URLEncodedString.fromString( "indexname" );
+	private static final URLEncodedString TYPE_NAME = URLEncodedString.fromString( "typename" );
+
+	private final RecordingElasticsearchClient client = new RecordingElasticsearchClient();
+	private final ElasticsearchWorkFactory workFactory =
+			new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) );
+
+	@Test
+	public void sameDocument_ordered() {
+		ElasticsearchWorkOrchestrator orchestrator = orchestrator( new ChangesetPermits( 10 ) );
+		client.holdResponses();
+
+		CompletableFuture<?> future1 = orchestrator.submit( changeset( workFactory.add( INDEX_NAME, TYPE_NAME, "1", null, document() ) ) );
+		CompletableFuture<?> future2 = orchestrator.submit( changeset( workFactory.add( INDEX_NAME, TYPE_NAME, "2", null, document() ) ) );
+		CompletableFuture<?> future3 = orchestrator.submit( changeset( workFactory.delete( INDEX_NAME, TYPE_NAME, "1", null ) ) );
+
+		// The changeset on another document is executed in parallel, but the second changeset on document 1 waits
+		List<ElasticsearchRequest> requests = client.getRequests();
+		assertThat( requests ).hasSize( 2 );
+		assertBulk( requests.get( 0 ), "index 1" );
+		assertBulk( requests.get( 1 ), "index 2" );
+		assertThat( future3 ).isNotDone();
+
+		client.releaseResponses();
+		future1.join();
+		future2.join();
+		future3.join();
+
+		requests = client.getRequests();
+		assertThat( requests ).hasSize( 3 );
+		assertBulk( requests.get( 2 ), "delete 1" );
+
+		orchestrator.close();
+	}
+
+	@Test
+	public void permitsSharedBetweenOrchestrators() {
+		ChangesetPermits permits = new ChangesetPermits( 1 );
+		ElasticsearchWorkOrchestrator orchestrator1 = orchestrator( permits );
+		ElasticsearchWorkOrchestrator orchestrator2 = orchestrator( permits );
+		client.holdResponses();
+
+		CompletableFuture<?> future1 = orchestrator1.submit( changeset( workFactory.add( INDEX_NAME, TYPE_NAME, "1", null, document() ) ) );
+		CompletableFuture<?> future2 = orchestrator2.submit( changeset( workFactory.add( INDEX_NAME, TYPE_NAME, "2", null, document() ) ) );
+
+		// The limit applies to both orchestrators combined, even though the changesets are independent
+		assertThat( client.getRequests() ).hasSize( 1 );
+		assertThat( future2 ).isNotDone();
+
+		client.releaseResponses();
+		future1.join();
+		future2.join();
+
+		List<ElasticsearchRequest> requests = client.getRequests();
+		assertThat( requests ).hasSize( 2 );
+		assertBulk( requests.get( 0 ), "index 1" );
+		assertBulk( requests.get( 1 ), "index 2" );
+
+		orchestrator1.close();
+		orchestrator2.close();
+	}
+
+	private ElasticsearchWorkOrchestrator orchestrator(ChangesetPermits permits) {
+		return new ParallelChangesetsElasticsearchWorkOrchestrator( client, workFactory,
+				RefreshPolicyConfiguration.NONE, permits, 100, Long.MAX_VALUE );
+	}
+
+	private static List<ElasticsearchWork<?>> changeset(ElasticsearchWork<?> work) {
+		return Collections.singletonList( work );
+	}
+
+	private static JsonObject document() {
+		JsonObject document = new JsonObject();
+		document.addProperty( "field", "value" );
+		return document;
+	}
+
+	/**
+	 * @param actions The expected bulked actions, in order, such as "index 1" or "delete 2".
+	 */
+	private static void assertBulk(ElasticsearchRequest request, String... actions) {
+		assertThat( request.getPath() ).endsWith( "_bulk" );
+		List<String> bulkedActions = new ArrayList<>();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			for ( Map.Entry<String, ?> entry : bodyPart.entrySet() ) {
+				String actionName = entry.getKey();
+				if ( "index".equals( actionName ) || "delete".equals( actionName ) ) {
+					bulkedActions.add( actionName + " " + bodyPart.getAsJsonObject( actionName ).get( "_id" ).getAsString() );
+				}
+			}
+		}
+		assertThat( bulkedActions ).containsExactly( actions );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyReader;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A client recording requests and answering them,
+ * with a successful response unless the request is a bulk containing a failing document.
+ * <p>
+ * Requests are answered immediately, unless responses are held (see {@link #holdResponses()}).
+ */
+class RecordingElasticsearchClient implements ElasticsearchClient {
+
+	private final List<ElasticsearchRequest> requests = Collections.synchronizedList( new ArrayList<>() );
+	private final Set<String> failingDocumentIds = Collections.synchronizedSet( new HashSet<>() );
+	private volatile CompletableFuture<?> responseGate = CompletableFuture.completedFuture( null );
+
+	void failOnDocument(String documentId) {
+		failingDocumentIds.add( documentId );
+	}
+
+	/**
+	 * Hold the responses to all requests submitted from now on, until {@link #releaseResponses()} is called.
+	 */
+	void holdResponses() {
+		responseGate = new CompletableFuture<>();
+	}
+
+	void releaseResponses() {
+		CompletableFuture<?> heldResponsesGate = responseGate;
+		// Requests submitted while held responses are being released must be answered immediately
+		responseGate = CompletableFuture.completedFuture( null );
+		heldResponsesGate.complete( null );
+	}
+
+	List<ElasticsearchRequest> getRequests() {
+		synchronized ( requests ) {
+			return new ArrayList<>( requests );
+		}
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		requests.add( request );
+		JsonObject body = new JsonObject();
+		if ( request.getPath().endsWith( "_bulk" ) ) {
+			body.add( "items", toBulkItems( request ) );
+		}
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", body );
+		return responseGate.thenApply( ignored -> response );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyReader<T> successfulResponseBodyReader) {
+		throw new UnsupportedOperationException( "Streaming is not supported by " + getClass().getSimpleName() );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		throw new UnsupportedOperationException( "Unwrapping is not supported by " + getClass().getSimpleName() );
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+	private JsonArray toBulkItems(ElasticsearchRequest request) {
+		JsonArray items = new JsonArray();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			for ( Map.Entry<String, ?> entry : bodyPart.entrySet() ) {
+				String actionName = entry.getKey();
+				if ( !"index".equals( actionName ) && !"delete".equals( actionName ) ) {
+					// Document source, not an action
+					continue;
+				}
+				String documentId = bodyPart.getAsJsonObject( actionName ).get( "_id" ).getAsString();
+				JsonObject itemResult = new JsonObject();
+				if ( failingDocumentIds.contains( documentId ) ) {
+					itemResult.addProperty( "status", 500 );
+					JsonObject error = new JsonObject();
+					error.addProperty( "type", "some_exception" );
+					itemResult.add( "error", error );
+				}
+				else {
+					itemResult.addProperty( "status", 201 );
+				}
+				JsonObject item = new JsonObject();
+				item.add( actionName, itemResult );
+				items.add( item );
+			}
+		}
+		return items;
+	}
+}
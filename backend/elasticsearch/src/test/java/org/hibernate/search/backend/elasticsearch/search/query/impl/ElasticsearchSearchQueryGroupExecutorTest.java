@@ -0,0 +1,244 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyReader;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+public class ElasticsearchSearchQueryGroupExecutorTest {
+
+	private static final String MULTI_SEARCH_RESPONSE = "{"
+			+ "'responses': ["
+					+ "{"
+							+ "'took': 1,"
+							+ "'timed_out': false,"
+							+ "'hits': {"
+									+ "'total': 1,"
+									+ "'max_score': 1.0,"
+									+ "'hits': ["
+											+ "{ '_index': 'indexname1', '_type': 'typename', '_id': '1', '_score': 1.0 }"
+									+ "]"
+							+ "}"
+					+ "},"
+					+ "{"
+							+ "'took': 1,"
+							+ "'timed_out': false,"
+							+ "'hits': {"
+									+ "'total': 3,"
+									+ "'max_score': 1.0,"
+									+ "'hits': ["
+											+ "{ '_index': 'indexname2', '_type': 'typename', '_id': '2', '_score': 1.0 },"
+											+ "{ '_index': 'indexname2', '_type': 'typename', '_id': '3', '_score': 1.0 }"
+									+ "]"
+							+ "}"
+					+ "}"
+			+ "]"
+			+ "}";
+
+	private final MultiSearchClient client = new MultiSearchClient( MULTI_SEARCH_RESPONSE );
+
+	private final ElasticsearchWorkOrchestrator orchestrator = new ElasticsearchWorkOrchestrator() {
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+			return work.execute( () -> client );
+		}
+
+		@Override
+		public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	private final ElasticsearchSearchQueryGroupExecutor groupExecutor = new ElasticsearchSearchQueryGroupExecutor(
+			new StubElasticsearchWorkFactory( DefaultGsonProvider.create( GsonBuilder::new, false ) ),
+			orchestrator
+	);
+
+	@Test
+	public void singleMultiSearchRequest() {
+		ElasticsearchSearchQuery<String> query1 = query( "indexname1" );
+		ElasticsearchSearchQuery<String> query2 = query( "indexname2" );
+		query2.setMaxResults( 2L );
+
+		List<SearchResult<?>> results = groupExecutor.execute( Arrays.asList( query1, query2 ) );
+
+		// All queries of the group were sent in a single request
+		List<ElasticsearchRequest> requests = client.requests;
+		assertThat( requests ).hasSize( 1 );
+		ElasticsearchRequest request = requests.get( 0 );
+		assertThat( request.getMethod() ).isEqualTo( "POST" );
+		assertThat( request.getPath() ).endsWith( "_msearch" );
+		List<JsonObject> bodyParts = request.getBodyParts();
+		assertThat( bodyParts ).hasSize( 4 );
+		assertThat( bodyParts.get( 0 ).get( "index" ).getAsString() ).isEqualTo( "indexname1" );
+		assertThat( bodyParts.get( 1 ).has( "size" ) ).isFalse();
+		assertThat( bodyParts.get( 2 ).get( "index" ).getAsString() ).isEqualTo( "indexname2" );
+		assertThat( bodyParts.get( 3 ).get( "size" ).getAsLong() ).isEqualTo( 2L );
+
+		// Each response was extracted by the corresponding query
+		assertThat( results ).hasSize( 2 );
+		assertThat( results.get( 0 ).getHitCount() ).isEqualTo( 1L );
+		assertThat( results.get( 0 ).getHits() ).containsExactly( "1" );
+		assertThat( results.get( 1 ).getHitCount() ).isEqualTo( 3L );
+		assertThat( results.get( 1 ).getHits() ).containsExactly( "2", "3" );
+	}
+
+	@Test
+	public void terminateAfter() {
+		// No hits requested: only the hit count is affected
+		ElasticsearchSearchQuery<String> countQuery = query( "indexname1", 0L, false );
+		countQuery.setMaxResults( 0L );
+		// Sorted by score or by field: every match must be collected to find the top hits
+		ElasticsearchSearchQuery<String> sortedQuery = query( "indexname2", 1L, false );
+		sortedQuery.setFirstResult( 2L );
+		sortedQuery.setMaxResults( 3L );
+
+		groupExecutor.execute( Arrays.asList( countQuery, sortedQuery ) );
+
+		List<JsonObject> bodyParts = client.requests.get( 0 ).getBodyParts();
+		assertThat( bodyParts.get( 1 ).get( "terminate_after" ).getAsLong() ).isEqualTo( 1L );
+		assertThat( bodyParts.get( 3 ).has( "terminate_after" ) ).isFalse();
+	}
+
+	@Test
+	public void terminateAfter_indexOrder() {
+		// Sorted by index order, threshold below the page: the whole page must still be collected
+		ElasticsearchSearchQuery<String> lowThresholdQuery = query( "indexname1", 1L, true );
+		lowThresholdQuery.setFirstResult( 2L );
+		lowThresholdQuery.setMaxResults( 3L );
+		// Sorted by index order, threshold above the page
+		ElasticsearchSearchQuery<String> highThresholdQuery = query( "indexname2", 100L, true );
+
+		groupExecutor.execute( Arrays.asList( lowThresholdQuery, highThresholdQuery ) );
+
+		List<JsonObject> bodyParts = client.requests.get( 0 ).getBodyParts();
+		assertThat( bodyParts.get( 1 ).get( "terminate_after" ).getAsLong() ).isEqualTo( 5L );
+		assertThat( bodyParts.get( 3 ).get( "terminate_after" ).getAsLong() ).isEqualTo( 100L );
+	}
+
+	private ElasticsearchSearchQuery<String> query(String indexName) {
+		return query( indexName, null, false );
+	}
+
+	private ElasticsearchSearchQuery<String> query(String indexName, Long terminateAfterThreshold, boolean indexOrder) {
+		SearchResultExtractorImpl<IdCollector, String> extractor = new SearchResultExtractorImpl<>(
+				new IdHitExtractor(), new IdHitAggregator(),
+				Collections.emptySet(), Collections.emptyList(), null, false );
+		return new ElasticsearchSearchQuery<>(
+				null, orchestrator, groupExecutor,
+				Collections.singleton( URLEncodedString.fromString( indexName ) ), Collections.emptySet(),
+				new JsonObject(), extractor,
+				terminateAfterThreshold, indexOrder, null );
+	}
+
+	/**
+	 * A client recording requests and answering them immediately with the same response body.
+	 */
+	private static final class MultiSearchClient implements ElasticsearchClient {
+		private final List<ElasticsearchRequest> requests = Collections.synchronizedList( new ArrayList<>() );
+		private final String responseBody;
+
+		private MultiSearchClient(String responseBody) {
+			this.responseBody = responseBody;
+		}
+
+		@Override
+		public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+			throw new UnsupportedOperationException( "Only streaming is supported by " + getClass().getSimpleName() );
+		}
+
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchRequest request,
+				ElasticsearchResponseBodyReader<T> successfulResponseBodyReader) {
+			requests.add( request );
+			try {
+				JsonReader reader = new JsonReader( new StringReader( responseBody.replace( '\'', '"' ) ) );
+				return CompletableFuture.completedFuture( successfulResponseBodyReader.read( reader ) );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clientClass) {
+			throw new UnsupportedOperationException( "Unwrapping is not supported by " + getClass().getSimpleName() );
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	}
+
+	private static final class IdCollector {
+		private String id;
+	}
+
+	private static final class IdHitExtractor implements HitExtractor<IdCollector> {
+		@Override
+		public void contributeRequest(JsonObject requestBody) {
+			// Nothing to do
+		}
+
+		@Override
+		public void extract(IdCollector collector, JsonObject hit) {
+			collector.id = hit.get( "_id" ).getAsString();
+		}
+	}
+
+	private static final class IdHitAggregator implements HitAggregator<IdCollector, List<String>> {
+		private final List<IdCollector> collectors = new ArrayList<>();
+
+		@Override
+		public void init(int expectedHitCount) {
+			collectors.clear();
+		}
+
+		@Override
+		public IdCollector nextCollector() {
+			IdCollector collector = new IdCollector();
+			collectors.add( collector );
+			return collector;
+		}
+
+		@Override
+		public List<String> build() {
+			List<String> ids = new ArrayList<>( collectors.size() );
+			for ( IdCollector collector : collectors ) {
+				ids.add( collector.id );
+			}
+			return ids;
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+public class SearchResultExtractorImplTest {
+
+	private static final String TIMED_OUT_RESPONSE = "{"
+			+ "'took': 120,"
+			+ "'timed_out': true,"
+			+ "'_shards': { 'total': 5, 'successful': 5, 'skipped': 0, 'failed': 0 },"
+			+ "'hits': {"
+					+ "'total': 2,"
+					+ "'max_score': 1.0,"
+					+ "'hits': ["
+							+ "{ '_index': 'indexname', '_type': 'typename', '_id': '1', '_score': 1.0 },"
+							+ "{ '_index': 'indexname', '_type': 'typename', '_id': '2', '_score': 1.0 }"
+					+ "]"
+			+ "}"
+			+ "}";
+
+	private static final String RESPONSE_WITH_AGGREGATIONS = "{"
+			+ "'took': 12,"
+			+ "'timed_out': false,"
+			+ "'_shards': { 'total': 5, 'successful': 5, 'skipped': 0, 'failed': 0 },"
+			+ "'hits': {"
+					+ "'total': 3,"
+					+ "'max_score': 1.0,"
+					+ "'hits': ["
+							+ "{ '_index': 'indexname', '_type': 'typename', '_id': '1', '_score': 1.0, '_source': { 'field': 'a' } },"
+							+ "{ '_index': 'indexname', '_type': 'typename', '_id': '2', '_score': 1.0, '_source': { 'field': 'b' } }"
+					+ "]"
+			+ "},"
+			+ "'aggregations': {"
+					+ "'fieldTerms': {"
+							+ "'doc_count_error_upper_bound': 0,"
+							+ "'sum_other_doc_count': 0,"
+							+ "'buckets': ["
+									+ "{ 'key': 'b', 'doc_count': 2 },"
+									+ "{ 'key': 'a', 'doc_count': 1 }"
+							+ "]"
+					+ "},"
+					+ "'notRequested': { 'value': 42 }"
+			+ "}"
+			+ "}";
+
+	@Test
+	public void hitsAndAggregations() throws IOException {
+		SearchResultExtractorImpl<IdCollector, String> extractor = extractor( false,
+				Collections.singletonList( new KeyAggregation( "fieldTerms" ) ) );
+
+		SearchResult<String> result = extractor.extract( reader( RESPONSE_WITH_AGGREGATIONS ), 2L ).loadBlocking();
+
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.getHitCount() ).isEqualTo( 3L );
+		assertThat( result.isHitCountExact() ).isTrue();
+		assertThat( result.getHits() ).containsExactly( "1", "2" );
+		// Buckets are returned in the order of the response; aggregations that were not requested are ignored
+		Map<Object, Long> aggregation = result.getAggregation( "fieldTerms" );
+		assertThat( new ArrayList<>( aggregation.keySet() ) ).containsExactly( "b", "a" );
+		assertThat( aggregation ).containsEntry( "b", 2L );
+		assertThat( aggregation ).containsEntry( "a", 1L );
+	}
+
+	@Test
+	public void timedOut_truncate() throws IOException {
+		SearchResultExtractorImpl<IdCollector, String> extractor = extractor( false );
+
+		SearchResult<String> result = extractor.extract( reader( TIMED_OUT_RESPONSE ), 10L ).loadBlocking();
+
+		// The hits collected before the timeout are returned, but flagged as partial
+		assertThat( result.isTimedOut() ).isTrue();
+		assertThat( result.getHitCount() ).isEqualTo( 2L );
+		assertThat( result.getHits() ).containsExactly( "1", "2" );
+	}
+
+	@Test
+	public void timedOut_fail() {
+		SearchResultExtractorImpl<IdCollector, String> extractor = extractor( true );
+
+		SubTest.expectException(
+				"Extracting the result of a query that timed out",
+				() -> extractor.extract( reader( TIMED_OUT_RESPONSE ), 10L )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The search query exceeded the timeout of 100ms" );
+	}
+
+	private static SearchResultExtractorImpl<IdCollector, String> extractor(boolean exceptionOnTimeout) {
+		return extractor( exceptionOnTimeout, Collections.emptyList() );
+	}
+
+	private static SearchResultExtractorImpl<IdCollector, String> extractor(boolean exceptionOnTimeout,
+			List<ElasticsearchSearchAggregation> aggregations) {
+		return new SearchResultExtractorImpl<>( new IdHitExtractor(), new IdHitAggregator(),
+				Collections.emptySet(), aggregations, 100L, exceptionOnTimeout );
+	}
+
+	private static JsonReader reader(String json) {
+		return new JsonReader( new StringReader( json.replace( '\'', '"' ) ) );
+	}
+
+	/**
+	 * An aggregation whose bucket keys are returned as strings, without any conversion.
+	 */
+	private static final class KeyAggregation extends ElasticsearchSearchAggregation {
+		private KeyAggregation(String name) {
+			super( name );
+		}
+
+		@Override
+		public JsonObject toJson() {
+			return new JsonObject();
+		}
+
+		@Override
+		protected Object extractKey(JsonObject bucket) {
+			return bucket.get( "key" ).getAsString();
+		}
+	}
+
+	private static final class IdCollector {
+		private String id;
+	}
+
+	private static final class IdHitExtractor implements HitExtractor<IdCollector> {
+		@Override
+		public void contributeRequest(JsonObject requestBody) {
+			// Nothing to do
+		}
+
+		@Override
+		public void extract(IdCollector collector, JsonObject hit) {
+			collector.id = hit.get( "_id" ).getAsString();
+		}
+	}
+
+	private static final class IdHitAggregator implements HitAggregator<IdCollector, List<String>> {
+		private final List<IdCollector> collectors = new ArrayList<>();
+
+		@Override
+		public void init(int expectedHitCount) {
+			collectors.clear();
+		}
+
+		@Override
+		public IdCollector nextCollector() {
+			IdCollector collector = new IdCollector();
+			collectors.add( collector );
+			return collector;
+		}
+
+		@Override
+		public List<String> build() {
+			List<String> ids = new ArrayList<>( collectors.size() );
+			for ( IdCollector collector : collectors ) {
+				ids.add( collector.id );
+			}
+			return ids;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum CommitPolicyConfiguration {
+
+	/**
+	 * Commit after each pass of the index writer over the pending changesets.
+	 * <p>
+	 * Works are considered done when they have been committed.
+	 */
+	CHANGESET("changeset"),
+
+	/**
+	 * Commit periodically, every {@link SearchBackendLuceneSettings#LUCENE_INDEXING_COMMIT_INTERVAL} milliseconds.
+	 * <p>
+	 * Works are considered done when they have been committed.
+	 */
+	SCHEDULED("scheduled"),
+
+	/**
+	 * Only flush changes to near-real-time readers, and commit periodically,
+	 * every {@link SearchBackendLuceneSettings#LUCENE_INDEXING_COMMIT_INTERVAL} milliseconds.
+	 * <p>
+	 * Works are considered done as soon as they are visible to queries,
+	 * i.e. potentially before they have been committed.
+	 */
+	NEAR_REAL_TIME("near_real_time");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private CommitPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+
+	public static CommitPolicyConfiguration fromExternalRepresentation(String commitPolicy) {
+		for ( CommitPolicyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( commitPolicy ) ) {
+				return value;
+			}
+		}
+		throw log.unknownCommitPolicyConfiguration( commitPolicy );
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum FileSystemAccessStrategyConfiguration {
+
+	/**
+	 * Let Lucene select the most appropriate strategy for the platform:
+	 * memory-mapped files on 64-bit platforms supporting unmapping,
+	 * simple access on Windows (where NIO positional reads are slow), NIO otherwise.
+	 */
+	AUTO("auto"),
+
+	/**
+	 * Access files through memory mapping.
+	 * <p>
+	 * Fastest, but requires enough virtual address space
+	 * and enough memory map areas (see {@code vm.max_map_count} on Linux).
+	 */
+	MMAP("mmap"),
+
+	/**
+	 * Access files through NIO positional reads, allowing concurrent reads without memory mapping.
+	 */
+	NIO("nio"),
+
+	/**
+	 * Access files through {@link java.nio.file.Files#newByteChannel(java.nio.file.Path, java.nio.file.OpenOption...)},
+	 * synchronizing concurrent reads on the same file.
+	 */
+	SIMPLE("simple");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private FileSystemAccessStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static FileSystemAccessStrategyConfiguration fromExternalRepresentation(String fileSystemAccessStrategy) {
+		for ( FileSystemAccessStrategyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( fileSystemAccessStrategy ) ) {
+				return value;
+			}
+		}
+		throw log.unknownFileSystemAccessStrategyConfiguration( fileSystemAccessStrategy );
+	}
+}
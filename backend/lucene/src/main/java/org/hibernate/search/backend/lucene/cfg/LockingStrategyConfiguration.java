@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum LockingStrategyConfiguration {
+
+	/**
+	 * Lock the index with native filesystem locks, which are released automatically if the JVM exits.
+	 * <p>
+	 * Only available for directories stored on the filesystem, for which it is the default.
+	 */
+	NATIVE_FILESYSTEM("native_filesystem"),
+
+	/**
+	 * Lock the index by creating a lock file, which must be removed manually if the JVM exits abnormally.
+	 * <p>
+	 * Only available for directories stored on the filesystem.
+	 */
+	SIMPLE_FILESYSTEM("simple_filesystem"),
+
+	/**
+	 * Lock the index in memory, assuming no other process accesses the index.
+	 * <p>
+	 * Default for directories stored in the heap.
+	 */
+	SINGLE_INSTANCE("single_instance"),
+
+	/**
+	 * Do not lock the index.
+	 * <p>
+	 * Only safe if a single index writer is ever opened on the index at any given time.
+	 */
+	NONE("none");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private LockingStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static LockingStrategyConfiguration fromExternalRepresentation(String lockingStrategy) {
+		for ( LockingStrategyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( lockingStrategy ) ) {
+				return value;
+			}
+		}
+		throw log.unknownLockingStrategyConfiguration( lockingStrategy );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.cfg;
 
+import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.util.Version;
 
 /**
@@ -21,10 +22,126 @@ private SearchBackendLuceneSettings() {
 	 */
 	public static final String LUCENE_VERSION = "lucene_version";
 
+	/**
+	 * The directory provider, which determines where and how the files of each index are stored.
+	 * <p>
+	 * Expects one of the following values:
+	 * <ul>
+	 * <li>{@code local_directory}: store each index in a subdirectory of {@link #LUCENE_ROOT_DIRECTORY}.</li>
+	 * <li>{@code local_heap}: store each index in the JVM heap.
+	 * Indexes are lost when the application stops: only use this for tests or ephemeral indexes.</li>
+	 * <li>{@code local_directory_master}: same as {@code local_directory},
+	 * but also copy each commit to a subdirectory of {@link #LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY}
+	 * every {@link #LUCENE_DIRECTORY_REPLICATION_INTERVAL} milliseconds.</li>
+	 * <li>{@code local_directory_replica}: keep a read-only copy of each index in a subdirectory of
+	 * {@link #LUCENE_ROOT_DIRECTORY}, copying the commits published by the master
+	 * to {@link #LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY}
+	 * every {@link #LUCENE_DIRECTORY_REPLICATION_INTERVAL} milliseconds.
+	 * Indexes can be searched, but not written to.</li>
+	 * <li>A reference to a bean implementing {@link org.hibernate.search.backend.lucene.index.spi.DirectoryProvider}.</li>
+	 * </ul>
+	 */
 	public static final String LUCENE_DIRECTORY_PROVIDER = "lucene.directory_provider";
 
 	public static final String LUCENE_ROOT_DIRECTORY = "lucene.root_directory";
 
+	/**
+	 * How directories stored on the filesystem access index files.
+	 * <p>
+	 * Expects one of the external representations of {@link FileSystemAccessStrategyConfiguration}.
+	 */
+	public static final String LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY = "lucene.directory.filesystem_access_strategy";
+
+	/**
+	 * Whether memory-mapped files should be loaded into physical memory when they are opened,
+	 * trading slower reader reopening for faster first queries.
+	 * <p>
+	 * Only applies to directories stored on the filesystem when files are accessed through memory mapping.
+	 */
+	public static final String LUCENE_DIRECTORY_MMAP_PRELOAD = "lucene.directory.mmap.preload";
+
+	/**
+	 * The maximum size of each memory-mapped chunk of index files, in bytes.
+	 * <p>
+	 * Only applies to directories stored on the filesystem when files are accessed through memory mapping.
+	 * Lower values map more chunks, but require less contiguous virtual address space.
+	 */
+	public static final String LUCENE_DIRECTORY_MMAP_MAX_CHUNK_SIZE = "lucene.directory.mmap.max_chunk_size";
+
+	/**
+	 * How directories prevent multiple index writers from writing to the same index.
+	 * <p>
+	 * Expects one of the external representations of {@link LockingStrategyConfiguration}.
+	 * Defaults to {@link LockingStrategyConfiguration#NATIVE_FILESYSTEM} for directories stored on the filesystem,
+	 * and to {@link LockingStrategyConfiguration#SINGLE_INSTANCE} for directories stored in the heap.
+	 */
+	public static final String LUCENE_DIRECTORY_LOCKING_STRATEGY = "lucene.directory.locking_strategy";
+
+	/**
+	 * The root of the filesystem directory shared between the master and the replicas,
+	 * to which the master copies the commits of its indexes.
+	 * <p>
+	 * Only used by the {@code local_directory_master} and {@code local_directory_replica} directory providers,
+	 * for which it is mandatory.
+	 */
+	public static final String LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY = "lucene.directory.shared_root_directory";
+
+	/**
+	 * The interval between two copies of the latest index commit, in milliseconds,
+	 * from the master to the shared directory, or from the shared directory to the replicas.
+	 * <p>
+	 * Only used by the {@code local_directory_master} and {@code local_directory_replica} directory providers.
+	 * Copies are incremental: only files that were not copied yet are transferred.
+	 */
+	public static final String LUCENE_DIRECTORY_REPLICATION_INTERVAL = "lucene.directory.replication_interval";
+
+	/**
+	 * The minimum interval between two refreshes of the index readers shared between queries, in milliseconds.
+	 * <p>
+	 * Readers are only refreshed when the index changed. With the default value, {@code 0},
+	 * changes are visible to queries as soon as they have been flushed or committed;
+	 * higher values trade visibility delay for lower reader churn on frequently updated indexes.
+	 */
+	public static final String LUCENE_READER_REFRESH_INTERVAL = "lucene.reader.refresh_interval";
+
+	/**
+	 * When index works are committed to the index.
+	 * <p>
+	 * Expects one of the external representations of {@link CommitPolicyConfiguration}.
+	 */
+	public static final String LUCENE_INDEXING_COMMIT_POLICY = "lucene.indexing.commit_policy";
+
+	/**
+	 * The interval between two commits, in milliseconds,
+	 * when using the {@link CommitPolicyConfiguration#SCHEDULED scheduled}
+	 * or {@link CommitPolicyConfiguration#NEAR_REAL_TIME near-real-time} commit policy.
+	 */
+	public static final String LUCENE_INDEXING_COMMIT_INTERVAL = "lucene.indexing.commit_interval";
+
+	/**
+	 * The maximum number of changesets waiting to be applied to an index.
+	 * <p>
+	 * When the queue is full, threads submitting new changesets will block until some space is available.
+	 */
+	public static final String LUCENE_INDEXING_QUEUE_SIZE = "lucene.indexing.queue_size";
+
+	/**
+	 * The size of the index writer buffer during bulk indexing, for instance during mass indexing, in megabytes.
+	 * <p>
+	 * Larger buffers lead to fewer, larger segments being written, and thus to fewer merges.
+	 * The normal buffer size is restored when bulk indexing finishes.
+	 */
+	public static final String LUCENE_INDEXING_BULK_RAM_BUFFER_SIZE = "lucene.indexing.bulk_ram_buffer_size";
+
+	/**
+	 * The number of threads used to search the segments of the targeted indexes in parallel.
+	 * <p>
+	 * The thread pool is shared by all the queries executed against the backend.
+	 * With the default value, {@code 1}, each query is executed sequentially in the calling thread.
+	 * Only queries with a bounded number of results (max results set, or scrolling) are executed in parallel.
+	 */
+	public static final String LUCENE_SEARCH_THREAD_POOL_SIZE = "lucene.search.thread_pool_size";
+
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
@@ -46,5 +163,26 @@ private Defaults() {
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+
+		public static final FileSystemAccessStrategyConfiguration LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
+				FileSystemAccessStrategyConfiguration.AUTO;
+
+		public static final boolean LUCENE_DIRECTORY_MMAP_PRELOAD = false;
+
+		public static final int LUCENE_DIRECTORY_MMAP_MAX_CHUNK_SIZE = MMapDirectory.DEFAULT_MAX_CHUNK_SIZE;
+
+		public static final long LUCENE_DIRECTORY_REPLICATION_INTERVAL = 1000L;
+
+		public static final long LUCENE_READER_REFRESH_INTERVAL = 0L;
+
+		public static final CommitPolicyConfiguration LUCENE_INDEXING_COMMIT_POLICY = CommitPolicyConfiguration.CHANGESET;
+
+		public static final long LUCENE_INDEXING_COMMIT_INTERVAL = 1000L;
+
+		public static final int LUCENE_INDEXING_QUEUE_SIZE = 1000;
+
+		public static final int LUCENE_INDEXING_BULK_RAM_BUFFER_SIZE = 256;
+
+		public static final int LUCENE_SEARCH_THREAD_POOL_SIZE = 1;
 	}
 }
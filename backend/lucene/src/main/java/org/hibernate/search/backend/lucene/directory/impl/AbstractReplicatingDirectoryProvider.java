@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Base class for directory providers keeping a copy of each index on the local filesystem
+ * and periodically replicating commits through a directory shared between nodes.
+ */
+abstract class AbstractReplicatingDirectoryProvider implements DirectoryProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Optional<Path>> SHARED_ROOT_DIRECTORY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.build();
+
+	private static final ConfigurationProperty<Long> REPLICATION_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_REPLICATION_INTERVAL )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_DIRECTORY_REPLICATION_INTERVAL )
+					.build();
+
+	private final String name;
+
+	Path rootDirectory;
+	Path sharedRootDirectory;
+	FileSystemDirectoryFactory directoryFactory;
+	long replicationInterval;
+	ScheduledExecutorService replicationExecutor;
+
+	AbstractReplicatingDirectoryProvider(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "rootDirectory=" + rootDirectory
+				+ ", sharedRootDirectory=" + sharedRootDirectory
+				+ ", replicationInterval=" + replicationInterval
+				+ "]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		EventContext eventContext = context.getEventContext();
+		ConfigurationPropertySource propertySource = context.getConfigurationPropertySource();
+
+		this.rootDirectory = LocalDirectoryProvider.initializeRootDirectory( eventContext, propertySource );
+		this.sharedRootDirectory = initializeSharedRootDirectory( eventContext, propertySource );
+		this.directoryFactory = FileSystemDirectoryFactory.create( propertySource );
+		this.replicationInterval = REPLICATION_INTERVAL.get( propertySource );
+		// Create the executor last, so that it is not leaked if the configuration is invalid
+		this.replicationExecutor = Executors.newScheduledThreadPool( "Lucene index replication" );
+	}
+
+	@Override
+	public void close() {
+		if ( replicationExecutor != null ) {
+			replicationExecutor.shutdownNow();
+		}
+	}
+
+	private Path initializeSharedRootDirectory(EventContext eventContext, ConfigurationPropertySource propertySource) {
+		Optional<Path> sharedRootDirectoryOptional = SHARED_ROOT_DIRECTORY.get( propertySource );
+		if ( !sharedRootDirectoryOptional.isPresent() ) {
+			throw log.undefinedSharedRootDirectory(
+					name, SearchBackendLuceneSettings.LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY, eventContext
+			);
+		}
+		Path result = sharedRootDirectoryOptional.get().toAbsolutePath();
+		try {
+			Files.createDirectories( result );
+		}
+		catch (Exception e) {
+			throw log.unableToCreateSharedRootDirectory( result, eventContext, e );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.FileSystemAccessStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.LockingStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NativeFSLockFactory;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.store.SimpleFSDirectory;
+import org.apache.lucene.store.SimpleFSLockFactory;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+import org.apache.lucene.util.Constants;
+
+/**
+ * Creates directories stored on the filesystem,
+ * according to the filesystem access strategy and locking strategy configured for the backend.
+ */
+final class FileSystemDirectoryFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<FileSystemAccessStrategyConfiguration> FILESYSTEM_ACCESS_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
+					.as( FileSystemAccessStrategyConfiguration.class, FileSystemAccessStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> MMAP_PRELOAD =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_MMAP_PRELOAD )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_DIRECTORY_MMAP_PRELOAD )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MMAP_MAX_CHUNK_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_MMAP_MAX_CHUNK_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_DIRECTORY_MMAP_MAX_CHUNK_SIZE )
+					.build();
+
+	static final ConfigurationProperty<Optional<LockingStrategyConfiguration>> LOCKING_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_DIRECTORY_LOCKING_STRATEGY )
+					.as( LockingStrategyConfiguration.class, LockingStrategyConfiguration::fromExternalRepresentation )
+					.build();
+
+	static FileSystemDirectoryFactory create(ConfigurationPropertySource propertySource) {
+		FileSystemAccessStrategyConfiguration accessStrategy = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
+		if ( FileSystemAccessStrategyConfiguration.AUTO.equals( accessStrategy ) ) {
+			// Same choice as FSDirectory.open()
+			if ( Constants.JRE_IS_64BIT && MMapDirectory.UNMAP_SUPPORTED ) {
+				accessStrategy = FileSystemAccessStrategyConfiguration.MMAP;
+			}
+			else if ( Constants.WINDOWS ) {
+				accessStrategy = FileSystemAccessStrategyConfiguration.SIMPLE;
+			}
+			else {
+				accessStrategy = FileSystemAccessStrategyConfiguration.NIO;
+			}
+		}
+		LockingStrategyConfiguration lockingStrategy = LOCKING_STRATEGY.get( propertySource )
+				.orElse( LockingStrategyConfiguration.NATIVE_FILESYSTEM );
+		return new FileSystemDirectoryFactory(
+				accessStrategy,
+				MMAP_PRELOAD.get( propertySource ),
+				MMAP_MAX_CHUNK_SIZE.get( propertySource ),
+				lockingStrategy
+		);
+	}
+
+	static void initializeWritableDirectory(Path directory, EventContext eventContext) {
+		if ( Files.exists( directory ) ) {
+			if ( !Files.isDirectory( directory ) || !Files.isWritable( directory ) ) {
+				throw log.localDirectoryIndexRootDirectoryNotWritableDirectory( directory, eventContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( directory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateIndexRootDirectoryForLocalDirectoryBackend( directory, eventContext, e );
+			}
+		}
+	}
+
+	private final FileSystemAccessStrategyConfiguration accessStrategy;
+	private final boolean mmapPreload;
+	private final int mmapMaxChunkSize;
+	private final LockingStrategyConfiguration lockingStrategy;
+
+	private FileSystemDirectoryFactory(FileSystemAccessStrategyConfiguration accessStrategy,
+			boolean mmapPreload, int mmapMaxChunkSize,
+			LockingStrategyConfiguration lockingStrategy) {
+		this.accessStrategy = accessStrategy;
+		this.mmapPreload = mmapPreload;
+		this.mmapMaxChunkSize = mmapMaxChunkSize;
+		this.lockingStrategy = lockingStrategy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "accessStrategy=" + accessStrategy
+				+ ", lockingStrategy=" + lockingStrategy
+				+ "]";
+	}
+
+	FSDirectory createDirectory(Path path) throws IOException {
+		LockFactory lockFactory = createLockFactory();
+		switch ( accessStrategy ) {
+			case MMAP:
+				MMapDirectory directory = new MMapDirectory( path, lockFactory, mmapMaxChunkSize );
+				directory.setPreload( mmapPreload );
+				return directory;
+			case NIO:
+				return new NIOFSDirectory( path, lockFactory );
+			case SIMPLE:
+				return new SimpleFSDirectory( path, lockFactory );
+			default:
+				throw new AssertionFailure( "Unexpected filesystem access strategy: " + accessStrategy );
+		}
+	}
+
+	private LockFactory createLockFactory() {
+		switch ( lockingStrategy ) {
+			case NATIVE_FILESYSTEM:
+				return NativeFSLockFactory.INSTANCE;
+			case SIMPLE_FILESYSTEM:
+				return SimpleFSLockFactory.INSTANCE;
+			case SINGLE_INSTANCE:
+				// Must not be shared between directories
+				return new SingleInstanceLockFactory();
+			case NONE:
+				return NoLockFactory.INSTANCE;
+			default:
+				throw new AssertionFailure( "Unexpected locking strategy: " + lockingStrategy );
+		}
+	}
+}
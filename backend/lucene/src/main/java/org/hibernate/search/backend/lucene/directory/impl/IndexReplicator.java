@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexNotFoundException;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+
+/**
+ * Periodically copies the latest commit of a source directory to a destination directory.
+ * <p>
+ * Index files are never modified once written, so copies are incremental:
+ * only the files that are not in the destination yet are copied.
+ * The segments file referencing the files of the commit is copied last, through an atomic rename,
+ * so that readers of the destination never see an incomplete commit.
+ * Files of the previous commit are kept in the destination, since readers may still use them;
+ * older files are removed.
+ * <p>
+ * When the source is written to by an index writer in this process,
+ * the commit being copied is pinned through the writer's {@link SnapshotDeletionPolicy},
+ * so that the writer does not delete its files mid-copy, however frequent commits are.
+ */
+final class IndexReplicator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Does not start with "segments", so that pending files are never mistaken for a commit
+	private static final String PENDING_FILE_PREFIX = "pending_";
+
+	private final Path sourcePath;
+	private final Directory source;
+	private final SnapshotDeletionPolicy sourceDeletionPolicy;
+	private final Path destinationPath;
+	private final Directory destination;
+	private final EventContext eventContext;
+
+	private ScheduledFuture<?> scheduledReplication;
+	private boolean stopped = false;
+
+	/**
+	 * @param sourceDeletionPolicy The deletion policy of the index writer writing to the source,
+	 * or {@code null} if the source is not written to by an index writer in this process.
+	 */
+	IndexReplicator(Path sourcePath, Directory source, SnapshotDeletionPolicy sourceDeletionPolicy,
+			Path destinationPath, Directory destination,
+			EventContext eventContext) {
+		this.sourcePath = sourcePath;
+		this.source = source;
+		this.sourceDeletionPolicy = sourceDeletionPolicy;
+		this.destinationPath = destinationPath;
+		this.destination = destination;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "source=" + sourcePath
+				+ ", destination=" + destinationPath
+				+ "]";
+	}
+
+	void start(ScheduledExecutorService executor, long interval) {
+		this.scheduledReplication = executor.scheduleWithFixedDelay(
+				this::replicate, interval, interval, TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Copy the latest commit of the source directory to the destination directory, if necessary.
+	 * <p>
+	 * Failures are logged and do not prevent later attempts.
+	 */
+	synchronized void replicate() {
+		if ( stopped ) {
+			return;
+		}
+		try {
+			if ( copyLatestCommit() ) {
+				log.debugf( "Replicated the latest commit of the index from '%s' to '%s'", sourcePath, destinationPath );
+			}
+		}
+		catch (NoSuchFileException | FileNotFoundException e) {
+			/*
+			 * The source was committed to while we were copying, and the files of the commit we were copying
+			 * were deleted. This can only happen when the commit could not be pinned, i.e. when the source
+			 * is written to by another process; files that were copied will be reused.
+			 */
+			log.debugf( e, "The index in '%s' changed while it was being replicated to '%s'; will try again later",
+					sourcePath, destinationPath );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToReplicateIndex( sourcePath, destinationPath, eventContext, e );
+		}
+	}
+
+	/**
+	 * Stop replicating.
+	 * <p>
+	 * Waits for any ongoing replication to finish, so that the directories can be closed safely afterwards.
+	 */
+	void stop() {
+		if ( scheduledReplication != null ) {
+			scheduledReplication.cancel( false );
+		}
+		synchronized ( this ) {
+			stopped = true;
+		}
+	}
+
+	private boolean copyLatestCommit() throws IOException {
+		if ( sourceDeletionPolicy == null ) {
+			SegmentInfos commit;
+			try {
+				commit = SegmentInfos.readLatestCommit( source );
+			}
+			catch (IndexNotFoundException e) {
+				// Nothing was committed yet
+				return false;
+			}
+			return copyCommit( commit.getSegmentsFileName(), commit.files( false ) );
+		}
+
+		IndexCommit commit;
+		try {
+			commit = sourceDeletionPolicy.snapshot();
+		}
+		catch (IllegalStateException e) {
+			// The index writer was not opened yet, or nothing was committed yet
+			return false;
+		}
+		try {
+			return copyCommit( commit.getSegmentsFileName(), commit.getFileNames() );
+		}
+		finally {
+			sourceDeletionPolicy.release( commit );
+		}
+	}
+
+	private boolean copyCommit(String segmentsFileName, Collection<String> commitFileNames) throws IOException {
+		Set<String> destinationFiles = new HashSet<>( Arrays.asList( destination.listAll() ) );
+		if ( destinationFiles.contains( segmentsFileName ) ) {
+			// Already up-to-date
+			return false;
+		}
+
+		Set<String> filesToKeep = new HashSet<>();
+		String previousSegmentsFileName = SegmentInfos.getLastCommitSegmentsFileName(
+				destinationFiles.toArray( new String[0] )
+		);
+		if ( previousSegmentsFileName != null ) {
+			filesToKeep.addAll( SegmentInfos.readCommit( destination, previousSegmentsFileName ).files( true ) );
+		}
+
+		List<String> missingFiles = new ArrayList<>();
+		for ( String fileName : commitFileNames ) {
+			filesToKeep.add( fileName );
+			// The segments file is copied last, see below
+			if ( !fileName.equals( segmentsFileName ) && !destinationFiles.contains( fileName ) ) {
+				missingFiles.add( fileName );
+			}
+		}
+		copyFiles( missingFiles );
+		copyFiles( Collections.singletonList( segmentsFileName ) );
+		filesToKeep.add( segmentsFileName );
+
+		for ( String fileName : destination.listAll() ) {
+			if ( !filesToKeep.contains( fileName ) ) {
+				deleteIfPossible( fileName );
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Files are first copied under a temporary name,
+	 * then renamed once their content is safely on disk.
+	 */
+	private void copyFiles(Collection<String> fileNames) throws IOException {
+		if ( fileNames.isEmpty() ) {
+			return;
+		}
+		List<String> pendingFileNames = new ArrayList<>( fileNames.size() );
+		for ( String fileName : fileNames ) {
+			String pendingFileName = PENDING_FILE_PREFIX + fileName;
+			// Left over by a previous, failed attempt
+			deleteIfPossible( pendingFileName );
+			destination.copyFrom( source, fileName, pendingFileName, IOContext.READONCE );
+			pendingFileNames.add( pendingFileName );
+		}
+		destination.sync( pendingFileNames );
+		for ( String fileName : fileNames ) {
+			destination.rename( PENDING_FILE_PREFIX + fileName, fileName );
+		}
+		destination.syncMetaData();
+	}
+
+	private void deleteIfPossible(String fileName) {
+		try {
+			destination.deleteFile( fileName );
+		}
+		catch (IOException e) {
+			// Missing, or still open by a reader: we'll try again after the next commit
+			log.tracef( e, "Unable to delete file '%s' in '%s'", fileName, destinationPath );
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.util.EventContext;
+
+import org.apache.lucene.store.Directory;
+
+class LocalDirectoryHolder implements DirectoryHolder {
+
+	private final Path directoryPath;
+	private final FileSystemDirectoryFactory directoryFactory;
+	private final EventContext eventContext;
+
+	private Directory directory;
+
+	LocalDirectoryHolder(Path directoryPath, FileSystemDirectoryFactory directoryFactory, EventContext eventContext) {
+		this.directoryPath = directoryPath;
+		this.directoryFactory = directoryFactory;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + directoryPath + "]";
+	}
+
+	@Override
+	public void start() throws IOException {
+		FileSystemDirectoryFactory.initializeWritableDirectory( directoryPath, eventContext );
+		this.directory = directoryFactory.createDirectory( directoryPath );
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Stores each index in a subdirectory of the root directory on the local filesystem.
+ */
+public class LocalDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "local_directory";
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( "." ) )
+					.build();
+
+	static Path initializeRootDirectory(EventContext eventContext, ConfigurationPropertySource propertySource) {
+		Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
+		if ( Files.exists( rootDirectory ) ) {
+			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
+				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, eventContext );
+			}
+		}
+		else {
+			try {
+				Files.createDirectories( rootDirectory );
+			}
+			catch (Exception e) {
+				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, eventContext, e );
+			}
+		}
+		return rootDirectory;
+	}
+
+	private Path rootDirectory;
+	private FileSystemDirectoryFactory directoryFactory;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "rootDirectory=" + rootDirectory
+				+ ", directoryFactory=" + directoryFactory
+				+ "]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		ConfigurationPropertySource propertySource = context.getConfigurationPropertySource();
+		this.rootDirectory = initializeRootDirectory( context.getEventContext(), propertySource );
+		this.directoryFactory = FileSystemDirectoryFactory.create( propertySource );
+	}
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		return new LocalDirectoryHolder(
+				rootDirectory.resolve( context.getIndexName() ), directoryFactory, context.getEventContext()
+		);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.RAMDirectory;
+
+class LocalHeapDirectoryHolder implements DirectoryHolder {
+
+	private final String indexName;
+	private final LockFactory lockFactory;
+
+	private Directory directory;
+
+	LocalHeapDirectoryHolder(String indexName, LockFactory lockFactory) {
+		this.indexName = indexName;
+		this.lockFactory = lockFactory;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + indexName + "]";
+	}
+
+	@Override
+	public void start() {
+		this.directory = new RAMDirectory( lockFactory );
+	}
+
+	@Override
+	public Directory get() {
+		return directory;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( directory != null ) {
+			directory.close();
+		}
+	}
+}
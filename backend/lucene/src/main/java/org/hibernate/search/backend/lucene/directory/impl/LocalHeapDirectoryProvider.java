@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.cfg.LockingStrategyConfiguration;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.store.SingleInstanceLockFactory;
+
+/**
+ * Stores each index in the JVM heap.
+ * <p>
+ * Indexes do not survive a restart of the application,
+ * but are created and dropped quickly, which makes this provider a good fit for tests.
+ */
+public class LocalHeapDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "local_heap";
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private LockingStrategyConfiguration lockingStrategy;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + "lockingStrategy=" + lockingStrategy + "]";
+	}
+
+	@Override
+	public void initialize(DirectoryProviderInitializationContext context) {
+		this.lockingStrategy = FileSystemDirectoryFactory.LOCKING_STRATEGY.get( context.getConfigurationPropertySource() )
+				.orElse( LockingStrategyConfiguration.SINGLE_INSTANCE );
+		switch ( lockingStrategy ) {
+			case SINGLE_INSTANCE:
+			case NONE:
+				break;
+			default:
+				throw log.unsupportedLockingStrategyForHeapDirectory( lockingStrategy, context.getEventContext() );
+		}
+	}
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		return new LocalHeapDirectoryHolder( context.getIndexName(), createLockFactory() );
+	}
+
+	private LockFactory createLockFactory() {
+		if ( LockingStrategyConfiguration.NONE.equals( lockingStrategy ) ) {
+			return NoLockFactory.INSTANCE;
+		}
+		else {
+			// Must not be shared between directories
+			return new SingleInstanceLockFactory();
+		}
+	}
+}
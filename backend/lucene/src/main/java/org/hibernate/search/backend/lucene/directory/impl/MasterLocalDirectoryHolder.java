@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+
+import org.apache.lucene.index.IndexDeletionPolicy;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+
+class MasterLocalDirectoryHolder implements DirectoryHolder {
+
+	private final Path localPath;
+	private final Path sharedPath;
+	private final FileSystemDirectoryFactory directoryFactory;
+	private final ScheduledExecutorService replicationExecutor;
+	private final long replicationInterval;
+	private final EventContext eventContext;
+
+	private Directory localDirectory;
+	private SnapshotDeletionPolicy localDeletionPolicy;
+	private FSDirectory sharedDirectory;
+	private IndexReplicator replicator;
+
+	MasterLocalDirectoryHolder(Path localPath, Path sharedPath,
+			FileSystemDirectoryFactory directoryFactory,
+			ScheduledExecutorService replicationExecutor, long replicationInterval,
+			EventContext eventContext) {
+		this.localPath = localPath;
+		this.sharedPath = sharedPath;
+		this.directoryFactory = directoryFactory;
+		this.replicationExecutor = replicationExecutor;
+		this.replicationInterval = replicationInterval;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "localPath=" + localPath
+				+ ", sharedPath=" + sharedPath
+				+ "]";
+	}
+
+	@Override
+	public void start() throws IOException {
+		FileSystemDirectoryFactory.initializeWritableDirectory( localPath, eventContext );
+		this.localDirectory = directoryFactory.createDirectory( localPath );
+		// Allows to pin the commit being replicated, so that the index writer does not delete its files mid-copy
+		this.localDeletionPolicy = new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() );
+		// Only this node writes to the shared directory, and files are only read once: no need for locks or mmap
+		this.sharedDirectory = new NIOFSDirectory( sharedPath, NoLockFactory.INSTANCE );
+		this.replicator = new IndexReplicator( localPath, localDirectory, localDeletionPolicy,
+				sharedPath, sharedDirectory, eventContext );
+		replicator.start( replicationExecutor, replicationInterval );
+	}
+
+	@Override
+	public Directory get() {
+		return localDirectory;
+	}
+
+	@Override
+	public IndexDeletionPolicy createIndexDeletionPolicy() {
+		return localDeletionPolicy;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( replicator != null ) {
+				// The index writer is closed at this point: publish its last commit
+				replicator.replicate();
+				replicator.stop();
+			}
+			closer.push( Directory::close, sharedDirectory );
+			closer.push( Directory::close, localDirectory );
+		}
+	}
+}
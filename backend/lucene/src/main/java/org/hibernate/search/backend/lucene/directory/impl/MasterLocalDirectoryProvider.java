@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+
+/**
+ * Stores each index in a subdirectory of the root directory on the local filesystem,
+ * like {@link LocalDirectoryProvider},
+ * and periodically copies the latest commit of each index to a shared directory,
+ * from which replicas ({@link ReplicaLocalDirectoryProvider}) copy it in turn.
+ */
+public class MasterLocalDirectoryProvider extends AbstractReplicatingDirectoryProvider {
+
+	public static final String NAME = "local_directory_master";
+
+	public MasterLocalDirectoryProvider() {
+		super( NAME );
+	}
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		String indexName = context.getIndexName();
+		return new MasterLocalDirectoryHolder(
+				rootDirectory.resolve( indexName ), sharedRootDirectory.resolve( indexName ),
+				directoryFactory, replicationExecutor, replicationInterval,
+				context.getEventContext()
+		);
+	}
+}
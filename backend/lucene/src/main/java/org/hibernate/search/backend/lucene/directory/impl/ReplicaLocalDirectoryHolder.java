@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+
+class ReplicaLocalDirectoryHolder implements DirectoryHolder {
+
+	private final Path localPath;
+	private final Path sharedPath;
+	private final FileSystemDirectoryFactory directoryFactory;
+	private final ScheduledExecutorService replicationExecutor;
+	private final long replicationInterval;
+	private final EventContext eventContext;
+
+	private Directory localDirectory;
+	private FSDirectory sharedDirectory;
+	private IndexReplicator replicator;
+
+	ReplicaLocalDirectoryHolder(Path localPath, Path sharedPath,
+			FileSystemDirectoryFactory directoryFactory,
+			ScheduledExecutorService replicationExecutor, long replicationInterval,
+			EventContext eventContext) {
+		this.localPath = localPath;
+		this.sharedPath = sharedPath;
+		this.directoryFactory = directoryFactory;
+		this.replicationExecutor = replicationExecutor;
+		this.replicationInterval = replicationInterval;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "localPath=" + localPath
+				+ ", sharedPath=" + sharedPath
+				+ "]";
+	}
+
+	@Override
+	public void start() throws IOException {
+		FileSystemDirectoryFactory.initializeWritableDirectory( localPath, eventContext );
+		this.localDirectory = directoryFactory.createDirectory( localPath );
+		// This node never writes to the shared directory, and files are only read once: no need for locks or mmap
+		this.sharedDirectory = new NIOFSDirectory( sharedPath, NoLockFactory.INSTANCE );
+		// Nobody writes to the shared directory through an index writer here: commits cannot be pinned
+		this.replicator = new IndexReplicator( sharedPath, sharedDirectory, null,
+				localPath, localDirectory, eventContext );
+		// Make the index available to queries as soon as possible
+		replicator.replicate();
+		replicator.start( replicationExecutor, replicationInterval );
+	}
+
+	@Override
+	public Directory get() {
+		return localDirectory;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexReplicator::stop, replicator );
+			closer.push( Directory::close, sharedDirectory );
+			closer.push( Directory::close, localDirectory );
+		}
+	}
+}
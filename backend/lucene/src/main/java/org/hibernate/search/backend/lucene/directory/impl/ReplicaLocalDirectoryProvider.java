@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.directory.impl;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+
+/**
+ * Keeps a read-only copy of each index in a subdirectory of the root directory on the local filesystem,
+ * periodically copying the latest commit published by the master ({@link MasterLocalDirectoryProvider})
+ * to a shared directory.
+ * <p>
+ * Queries are executed against the local copy, so they never access the shared directory.
+ */
+public class ReplicaLocalDirectoryProvider extends AbstractReplicatingDirectoryProvider {
+
+	public static final String NAME = "local_directory_replica";
+
+	public ReplicaLocalDirectoryProvider() {
+		super( NAME );
+	}
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		String indexName = context.getIndexName();
+		return new ReplicaLocalDirectoryHolder(
+				rootDirectory.resolve( indexName ), sharedRootDirectory.resolve( indexName ),
+				directoryFactory, replicationExecutor, replicationInterval,
+				context.getEventContext()
+		);
+	}
+}
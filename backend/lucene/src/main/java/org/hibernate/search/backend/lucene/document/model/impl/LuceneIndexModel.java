@@ -6,21 +6,34 @@
  */
 package org.hibernate.search.backend.lucene.document.model.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.CollectionHelper;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneIndexModel implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final String indexName;
 
 	private final Map<String, LuceneIndexSchemaObjectNode> objectNodes;
@@ -29,6 +42,10 @@ public class LuceneIndexModel implements AutoCloseable {
 
 	private final ScopedAnalyzer scopedAnalyzer;
 
+	private final boolean storedFieldsCompressionRequired;
+
+	private final Sort indexSort;
+
 	public LuceneIndexModel(String indexName, LuceneRootIndexSchemaContributor contributor) {
 		this.indexName = indexName;
 
@@ -36,6 +53,8 @@ public LuceneIndexModel(String indexName, LuceneRootIndexSchemaContributor contr
 		Map<String, LuceneIndexSchemaFieldNode<?>> fieldNodesBuilder = new HashMap<>();
 		// TODO the default analyzer should be configurable, for now, we default to no analysis
 		ScopedAnalyzer.Builder scopedAnalyzerBuilder = new ScopedAnalyzer.Builder( new KeywordAnalyzer() );
+		boolean[] storedFieldsCompressionRequiredHolder = { false };
+		Map<String, SortOrder> indexSortOrders = new LinkedHashMap<>();
 		contributor.contribute( new LuceneIndexSchemaNodeCollector() {
 			@Override
 			public void collectAnalyzer(String absoluteFieldPath, Analyzer analyzer) {
@@ -45,17 +64,27 @@ public void collectAnalyzer(String absoluteFieldPath, Analyzer analyzer) {
 			@Override
 			public void collectFieldNode(String absoluteFieldPath, LuceneIndexSchemaFieldNode<?> node) {
 				fieldNodesBuilder.put( absoluteFieldPath, node );
+				if ( node.getCodec().isStoredFieldsCompressionRequired() ) {
+					storedFieldsCompressionRequiredHolder[0] = true;
+				}
 			}
 
 			@Override
 			public void collectObjectNode(String absolutePath, LuceneIndexSchemaObjectNode node) {
 				objectNodesBuilder.put( absolutePath, node );
 			}
+
+			@Override
+			public void collectIndexSortField(String absoluteFieldPath, SortOrder order) {
+				indexSortOrders.put( absoluteFieldPath, order );
+			}
 		} );
 
 		objectNodes = CollectionHelper.toImmutableMap( objectNodesBuilder );
 		fieldNodes = CollectionHelper.toImmutableMap( fieldNodesBuilder );
 		scopedAnalyzer = scopedAnalyzerBuilder.build();
+		storedFieldsCompressionRequired = storedFieldsCompressionRequiredHolder[0];
+		indexSort = createIndexSort( indexSortOrders );
 	}
 
 	@Override
@@ -83,6 +112,22 @@ public ScopedAnalyzer getScopedAnalyzer() {
 		return scopedAnalyzer;
 	}
 
+	/**
+	 * @return {@code true} if at least one field of this index is stored in a compressed form,
+	 * in which case all the stored fields of the index must be compressed.
+	 */
+	public boolean isStoredFieldsCompressionRequired() {
+		return storedFieldsCompressionRequired;
+	}
+
+	/**
+	 * @return The sort to apply to documents when writing segments of this index,
+	 * or {@code null} if documents should be kept in the order they were indexed.
+	 */
+	public Sort getIndexSort() {
+		return indexSort;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -91,4 +136,51 @@ public String toString() {
 				.append( "]" )
 				.toString();
 	}
+
+	private Sort createIndexSort(Map<String, SortOrder> indexSortOrders) {
+		if ( indexSortOrders.isEmpty() ) {
+			return null;
+		}
+
+		/*
+		 * Lucene sorts segments by re-ordering documents one by one,
+		 * which would break the blocks of nested documents.
+		 */
+		List<String> nestedObjectFieldPaths = new ArrayList<>();
+		for ( Map.Entry<String, LuceneIndexSchemaObjectNode> entry : objectNodes.entrySet() ) {
+			if ( ObjectFieldStorage.NESTED.equals( entry.getValue().getStorage() ) ) {
+				nestedObjectFieldPaths.add( entry.getKey() );
+			}
+		}
+		if ( !nestedObjectFieldPaths.isEmpty() ) {
+			throw log.cannotUseIndexSortWithNestedDocuments(
+					new ArrayList<>( indexSortOrders.keySet() ), nestedObjectFieldPaths, getEventContext()
+			);
+		}
+
+		/*
+		 * Use the same sort fields as queries sorting on these fields without a missing value,
+		 * so that the searcher can detect queries that are sorted on a prefix of the index sort.
+		 */
+		List<SortField> sortFields = new ArrayList<>();
+		LuceneSearchSortCollector sortCollector = new LuceneSearchSortCollector() {
+			@Override
+			public void collectSortField(SortField sortField) {
+				sortFields.add( sortField );
+			}
+
+			@Override
+			public void collectSortFields(SortField[] sortFieldArray) {
+				for ( SortField sortField : sortFieldArray ) {
+					sortFields.add( sortField );
+				}
+			}
+		};
+		for ( Map.Entry<String, SortOrder> entry : indexSortOrders.entrySet() ) {
+			String absoluteFieldPath = entry.getKey();
+			fieldNodes.get( absoluteFieldPath ).getSortContributor()
+					.contribute( sortCollector, absoluteFieldPath, entry.getValue(), null );
+		}
+		return new Sort( sortFields.toArray( new SortField[sortFields.size()] ) );
+	}
 }
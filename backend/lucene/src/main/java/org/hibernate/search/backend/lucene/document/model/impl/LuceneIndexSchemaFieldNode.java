@@ -10,6 +10,7 @@
 import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationContributor;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
@@ -39,9 +40,12 @@
 
 	private final LuceneFieldSortContributor sortContributor;
 
+	private final LuceneFieldAggregationContributor<F> aggregationContributor;
+
 	public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String relativeFieldName,
 			LuceneFieldConverter<F, ?> converter, LuceneFieldCodec<F> codec,
-			LuceneFieldPredicateBuilderFactory predicateBuilderFactory, LuceneFieldSortContributor sortContributor) {
+			LuceneFieldPredicateBuilderFactory predicateBuilderFactory, LuceneFieldSortContributor sortContributor,
+			LuceneFieldAggregationContributor<F> aggregationContributor) {
 		this.parent = parent;
 		this.relativeFieldName = relativeFieldName;
 		this.absoluteFieldPath = parent.getAbsolutePath( relativeFieldName );
@@ -49,6 +53,7 @@ public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String rel
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortContributor = sortContributor;
+		this.aggregationContributor = aggregationContributor;
 	}
 
 	public LuceneIndexSchemaObjectNode getParent() {
@@ -85,11 +90,19 @@ public LuceneFieldSortContributor getSortContributor() {
 		return sortContributor;
 	}
 
+	public LuceneFieldAggregationContributor<F> getAggregationContributor() {
+		if ( aggregationContributor == null ) {
+			throw log.unsupportedDSLAggregations( getEventContext() );
+		}
+		return aggregationContributor;
+	}
+
 	public boolean isCompatibleWith(LuceneIndexSchemaFieldNode<?> other) {
 		return converter.isDslCompatibleWith( other.converter )
 				&& Objects.equals( codec, other.codec )
 				&& predicateBuilderFactory.isDslCompatibleWith( other.predicateBuilderFactory )
-				&& Objects.equals( sortContributor, other.sortContributor );
+				&& Objects.equals( sortContributor, other.sortContributor )
+				&& Objects.equals( aggregationContributor, other.aggregationContributor );
 	}
 
 	@Override
@@ -101,6 +114,7 @@ public String toString() {
 				.append( ", codec=" ).append( codec )
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortContributor=" ).append( sortContributor )
+				.append( ", aggregationContributor=" ).append( aggregationContributor )
 				.append( "]" );
 		return sb.toString();
 	}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.document.model.impl;
 
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+
 import org.apache.lucene.analysis.Analyzer;
 
 /**
@@ -18,4 +20,6 @@ public interface LuceneIndexSchemaNodeCollector {
 	void collectFieldNode(String absoluteFieldPath, LuceneIndexSchemaFieldNode<?> schemaFieldNode);
 
 	void collectAnalyzer(String absoluteFieldPath, Analyzer analyzer);
+
+	void collectIndexSortField(String absoluteFieldPath, SortOrder order);
 }
@@ -7,9 +7,6 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.Locale;
 import java.util.Optional;
@@ -18,13 +15,19 @@
 import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisComponentFactory;
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.LuceneAnalysisDefinitionContainerContextImpl;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
 import org.hibernate.search.backend.lucene.cfg.MultiTenancyStrategyConfiguration;
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
-import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
+import org.hibernate.search.backend.lucene.directory.impl.LocalDirectoryProvider;
+import org.hibernate.search.backend.lucene.directory.impl.LocalHeapDirectoryProvider;
+import org.hibernate.search.backend.lucene.directory.impl.MasterLocalDirectoryProvider;
+import org.hibernate.search.backend.lucene.directory.impl.ReplicaLocalDirectoryProvider;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategyImpl;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestratorFactory;
 import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -57,10 +60,40 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asString()
 					.build();
 
-	private static final ConfigurationProperty<Path> ROOT_DIRECTORY =
-			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY )
-					.as( Path.class, Paths::get )
-					.withDefault( () -> Paths.get( "." ) )
+	private static final ConfigurationProperty<Long> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_READER_REFRESH_INTERVAL )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<CommitPolicyConfiguration> INDEXING_COMMIT_POLICY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_POLICY )
+					.as( CommitPolicyConfiguration.class, CommitPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_INDEXING_COMMIT_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_INTERVAL )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_INDEXING_COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_BULK_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_INDEXING_BULK_RAM_BUFFER_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_INDEXING_BULK_RAM_BUFFER_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.LUCENE_SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.LUCENE_SEARCH_THREAD_POOL_SIZE )
 					.build();
 
 	private static final ConfigurationProperty<MultiTenancyStrategyConfiguration> MULTI_TENANCY_STRATEGY =
@@ -76,7 +109,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 
 		Version luceneVersion = getLuceneVersion( backendContext, propertySource );
 
-		DirectoryProvider directoryProvider = getDirectoryProvider( backendContext, propertySource );
+		DirectoryProvider directoryProvider = getDirectoryProvider( backendContext, buildContext, propertySource );
 
 		MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( backendContext, propertySource );
 
@@ -89,7 +122,27 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				directoryProvider,
 				new StubLuceneWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				READER_REFRESH_INTERVAL.get( propertySource ),
+				INDEXING_BULK_RAM_BUFFER_SIZE.get( propertySource ),
+				SEARCH_THREAD_POOL_SIZE.get( propertySource ),
+				getIndexWorkOrchestratorFactory( backendContext, propertySource )
+		);
+	}
+
+	private LuceneIndexWorkOrchestratorFactory getIndexWorkOrchestratorFactory(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		CommitPolicyConfiguration commitPolicy = INDEXING_COMMIT_POLICY.get( propertySource );
+		long commitInterval = INDEXING_COMMIT_INTERVAL.get( propertySource );
+		if ( !CommitPolicyConfiguration.CHANGESET.equals( commitPolicy ) && commitInterval <= 0L ) {
+			// Changes would never be committed until the index is closed
+			throw log.invalidCommitInterval(
+					commitInterval, SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_INTERVAL,
+					commitPolicy.getExternalRepresentation(), backendContext
+			);
+		}
+		return new LuceneIndexWorkOrchestratorFactory(
+				commitPolicy, commitInterval, INDEXING_QUEUE_SIZE.get( propertySource )
 		);
 	}
 
@@ -110,8 +163,8 @@ private Version getLuceneVersion(EventContext backendContext, ConfigurationPrope
 		return luceneVersion;
 	}
 
-	private DirectoryProvider getDirectoryProvider(EventContext backendContext, ConfigurationPropertySource propertySource) {
-		// TODO be more clever about the type, also supports providing a class
+	private DirectoryProvider getDirectoryProvider(EventContext backendContext, BackendBuildContext buildContext,
+			ConfigurationPropertySource propertySource) {
 		Optional<String> directoryProviderProperty = DIRECTORY_PROVIDER.get( propertySource );
 
 		if ( !directoryProviderProperty.isPresent() ) {
@@ -120,15 +173,33 @@ private DirectoryProvider getDirectoryProvider(EventContext backendContext, Conf
 
 		String directoryProviderString = directoryProviderProperty.get();
 
-		if ( "local_directory".equals( directoryProviderString ) ) {
-			// TODO GSM: implement the checks properly
-			Path rootDirectory = ROOT_DIRECTORY.get( propertySource ).toAbsolutePath();
-
-			initializeRootDirectory( rootDirectory, backendContext );
-			return new MMapDirectoryProvider( backendContext, rootDirectory );
+		DirectoryProvider directoryProvider;
+		switch ( directoryProviderString ) {
+			case LocalDirectoryProvider.NAME:
+				directoryProvider = new LocalDirectoryProvider();
+				break;
+			case LocalHeapDirectoryProvider.NAME:
+				directoryProvider = new LocalHeapDirectoryProvider();
+				break;
+			case MasterLocalDirectoryProvider.NAME:
+				directoryProvider = new MasterLocalDirectoryProvider();
+				break;
+			case ReplicaLocalDirectoryProvider.NAME:
+				directoryProvider = new ReplicaLocalDirectoryProvider();
+				break;
+			default:
+				try {
+					directoryProvider = buildContext.getServiceManager().getBeanProvider()
+							.getBean( directoryProviderString, DirectoryProvider.class );
+				}
+				catch (RuntimeException e) {
+					throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext, e );
+				}
+				break;
 		}
 
-		throw log.unrecognizedLuceneDirectoryProvider( directoryProviderString, backendContext );
+		directoryProvider.initialize( new DirectoryProviderInitializationContextImpl( backendContext, propertySource ) );
+		return directoryProvider;
 	}
 
 	private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext, ConfigurationPropertySource propertySource) {
@@ -182,22 +253,6 @@ private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(EventCont
 		}
 	}
 
-	private void initializeRootDirectory(Path rootDirectory, EventContext eventContext) {
-		if ( Files.exists( rootDirectory ) ) {
-			if ( !Files.isDirectory( rootDirectory ) || !Files.isWritable( rootDirectory ) ) {
-				throw log.localDirectoryBackendRootDirectoryNotWritableDirectory( rootDirectory, eventContext );
-			}
-		}
-		else {
-			try {
-				Files.createDirectories( rootDirectory );
-			}
-			catch (Exception e) {
-				throw log.unableToCreateRootDirectoryForLocalDirectoryBackend( rootDirectory, eventContext, e );
-			}
-		}
-	}
-
 	private static Version parseLuceneVersion(String versionString) {
 		try {
 			return Version.parseLeniently( versionString );
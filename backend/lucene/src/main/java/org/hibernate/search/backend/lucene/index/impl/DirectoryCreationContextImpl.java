@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import org.hibernate.search.backend.lucene.index.spi.DirectoryCreationContext;
+import org.hibernate.search.util.EventContext;
+
+class DirectoryCreationContextImpl implements DirectoryCreationContext {
+
+	private final EventContext eventContext;
+	private final String indexName;
+
+	DirectoryCreationContextImpl(EventContext eventContext, String indexName) {
+		this.eventContext = eventContext;
+		this.indexName = indexName;
+	}
+
+	@Override
+	public EventContext getEventContext() {
+		return eventContext;
+	}
+
+	@Override
+	public String getIndexName() {
+		return indexName;
+	}
+}
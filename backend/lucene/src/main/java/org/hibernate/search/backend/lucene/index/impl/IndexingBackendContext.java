@@ -6,16 +6,25 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestratorFactory;
+import org.hibernate.search.backend.lucene.search.reader.impl.DirectoryReaderProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.NRTReaderProvider;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.EventContext;
 
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
@@ -24,15 +33,24 @@ public class IndexingBackendContext {
 	private final DirectoryProvider directoryProvider;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final long readerRefreshInterval;
+	private final int bulkRamBufferSize;
+	private final LuceneIndexWorkOrchestratorFactory indexWorkOrchestratorFactory;
 
 	public IndexingBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			long readerRefreshInterval,
+			int bulkRamBufferSize,
+			LuceneIndexWorkOrchestratorFactory indexWorkOrchestratorFactory) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.readerRefreshInterval = readerRefreshInterval;
+		this.bulkRamBufferSize = bulkRamBufferSize;
+		this.indexWorkOrchestratorFactory = indexWorkOrchestratorFactory;
 	}
 
 	@Override
@@ -44,8 +62,68 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	Directory createDirectory(String indexName) throws IOException {
-		return directoryProvider.createDirectory( indexName );
+	DirectoryHolder createDirectoryHolder(String indexName) {
+		return directoryProvider.createDirectoryHolder( new DirectoryCreationContextImpl(
+				eventContext.append( EventContexts.fromIndexName( indexName ) ), indexName
+		) );
+	}
+
+	NRTReaderProvider createReaderProvider(String indexName, IndexWriter indexWriter) {
+		return new NRTReaderProvider(
+				eventContext.append( EventContexts.fromIndexName( indexName ) ),
+				indexWriter, readerRefreshInterval
+		);
+	}
+
+	DirectoryReaderProvider createReadOnlyReaderProvider(String indexName, Directory directory) {
+		return new DirectoryReaderProvider(
+				eventContext.append( EventContexts.fromIndexName( indexName ) ),
+				directory, readerRefreshInterval
+		);
+	}
+
+	LuceneIndexWorkOrchestrator createOrchestrator(String name, IndexWriter indexWriter,
+			NRTReaderProvider readerProvider) {
+		return indexWorkOrchestratorFactory.create(
+				name, eventContext.append( EventContexts.fromIndexName( name ) ),
+				indexWriter, readerProvider
+		);
+	}
+
+	LuceneIndexWorkOrchestrator createStreamOrchestrator(String name, IndexWriter indexWriter,
+			NRTReaderProvider readerProvider) {
+		return indexWorkOrchestratorFactory.createStream(
+				name, eventContext.append( EventContexts.fromIndexName( name ) ),
+				indexWriter, readerProvider
+		);
+	}
+
+	int getBulkRamBufferSize() {
+		return bulkRamBufferSize;
+	}
+
+	CompletableFuture<?> commit(LuceneIndexWorkOrchestrator orchestrator, String indexName) {
+		return orchestrator.submit( workFactory.commit( indexName ) );
+	}
+
+	CompletableFuture<?> purge(LuceneIndexWorkOrchestrator orchestrator, String indexName,
+			SessionContext sessionContext) {
+		String tenantId = sessionContext.getTenantIdentifier();
+		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
+
+		return orchestrator.submit( Arrays.asList(
+				workFactory.deleteAll( indexName, tenantId ),
+				workFactory.commit( indexName )
+		) );
+	}
+
+	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
+			LuceneIndexWorkOrchestrator orchestrator,
+			String indexName, SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+				indexName, sessionContext );
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
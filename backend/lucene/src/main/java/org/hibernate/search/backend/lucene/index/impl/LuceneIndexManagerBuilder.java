@@ -6,32 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.io.IOException;
-import java.lang.invoke.MethodHandles;
-
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
-import org.hibernate.search.util.EventContext;
-import org.hibernate.search.engine.logging.spi.EventContexts;
-import org.hibernate.search.util.impl.common.LoggerFactory;
-import org.hibernate.search.util.impl.common.SuppressingCloser;
-
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.store.Directory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRootDocumentBuilder> {
 
-	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
-
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
@@ -60,43 +46,10 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 
 	@Override
 	public LuceneIndexManagerImpl build() {
-		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
-		try {
-			model = new LuceneIndexModel( indexName, schemaRootNodeBuilder );
-			indexWriter = createIndexWriter( model );
-			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
-			);
-		}
-		catch (RuntimeException e) {
-			new SuppressingCloser( e )
-					.push( model )
-					.push( indexWriter );
-			throw e;
-		}
-	}
-
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
-		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
-		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
-			try {
-				return new IndexWriter( directory, indexWriterConfig );
-			}
-			catch (RuntimeException e) {
-				new SuppressingCloser( e ).push( directory );
-				throw e;
-			}
-		}
-		catch (IOException | RuntimeException e) {
-			throw log.unableToCreateIndexWriter( getEventContext(), e );
-		}
-	}
-
-	private EventContext getEventContext() {
-		return indexingBackendContext.getEventContext().append(
-				EventContexts.fromIndexName( indexName )
+		LuceneIndexModel model = new LuceneIndexModel( indexName, schemaRootNodeBuilder );
+		// The index writer is only created when the index manager is started
+		return new LuceneIndexManagerImpl(
+				indexingBackendContext, searchBackendContext, indexName, model
 		);
 	}
 }
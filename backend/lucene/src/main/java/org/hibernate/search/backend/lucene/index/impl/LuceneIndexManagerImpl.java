@@ -8,19 +8,23 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.DirectoryReaderProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.NRTReaderProvider;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
@@ -28,17 +32,20 @@
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.codecs.lucene50.Lucene50StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene70.Lucene70Codec;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.MergeScheduler;
 
 
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
 class LuceneIndexManagerImpl
-		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, ReaderProvider {
+		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -48,22 +55,54 @@
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator workPlanOrchestrator;
-	private final LuceneIndexWorkOrchestrator streamOrchestrator;
-	private final IndexWriter indexWriter;
+	// Set in start()
+	private DirectoryHolder directoryHolder;
+	// Only set if the directory is writable
+	private IndexWriter indexWriter;
+	private NRTReaderProvider nrtReaderProvider;
+	private LuceneIndexWorkOrchestrator workPlanOrchestrator;
+	private LuceneIndexWorkOrchestrator streamOrchestrator;
+	// Only set if the directory is read-only
+	private DirectoryReaderProvider readOnlyReaderProvider;
+
+	// Protected by synchronization on "this"
+	private int bulkIndexingCount = 0;
+	private double ramBufferSizeBeforeBulkIndexing;
+	private boolean autoIOThrottleBeforeBulkIndexing;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
-			String indexName, LuceneIndexModel model, IndexWriter indexWriter) {
+			String indexName, LuceneIndexModel model) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
+	}
 
-		this.workPlanOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.streamOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+	@Override
+	public CompletableFuture<?> start() {
+		// Resources created so far will be released by close() in case of failure
+		this.directoryHolder = indexingBackendContext.createDirectoryHolder( indexName );
+		try {
+			directoryHolder.start();
+		}
+		catch (IOException | RuntimeException e) {
+			// The index is already part of the failure report context during bootstrap
+			throw log.unableToStartDirectory( indexingBackendContext.getEventContext(), e );
+		}
+		if ( directoryHolder.isReadOnly() ) {
+			this.readOnlyReaderProvider = indexingBackendContext.createReadOnlyReaderProvider(
+					indexName, directoryHolder.get()
+			);
+		}
+		else {
+			this.indexWriter = createIndexWriter();
+			this.nrtReaderProvider = indexingBackendContext.createReaderProvider( indexName, indexWriter );
+			this.workPlanOrchestrator = indexingBackendContext.createOrchestrator( indexName, indexWriter, nrtReaderProvider );
+			this.streamOrchestrator = indexingBackendContext.createStreamOrchestrator( indexName, indexWriter, nrtReaderProvider );
+		}
+		return CompletableFuture.completedFuture( null );
 	}
 
 	LuceneIndexModel getModel() {
@@ -72,11 +111,78 @@ LuceneIndexModel getModel() {
 
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContext sessionContext) {
+		if ( workPlanOrchestrator == null ) {
+			throw log.cannotWriteToReadOnlyIndex( getBackendAndIndexEventContext() );
+		}
 		return indexingBackendContext.createWorkPlan(
 				workPlanOrchestrator, indexName, sessionContext
 		);
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContext sessionContext) {
+		if ( streamOrchestrator == null ) {
+			throw log.cannotWriteToReadOnlyIndex( getBackendAndIndexEventContext() );
+		}
+		return indexingBackendContext.createDocumentWorkExecutor(
+				streamOrchestrator, indexName, sessionContext
+		);
+	}
+
+	@Override
+	public synchronized CompletableFuture<?> startBulkIndexing() {
+		if ( streamOrchestrator == null ) {
+			throw log.cannotWriteToReadOnlyIndex( getBackendAndIndexEventContext() );
+		}
+		if ( bulkIndexingCount == 0 ) {
+			/*
+			 * A larger buffer means fewer, larger segments, and thus fewer merges.
+			 * Merges are not throttled either: nobody is waiting for queries to be fast during bulk indexing,
+			 * and merges need to keep up with the rate at which segments are written.
+			 */
+			LiveIndexWriterConfig config = indexWriter.getConfig();
+			ramBufferSizeBeforeBulkIndexing = config.getRAMBufferSizeMB();
+			config.setRAMBufferSizeMB( indexingBackendContext.getBulkRamBufferSize() );
+			MergeScheduler mergeScheduler = config.getMergeScheduler();
+			if ( mergeScheduler instanceof ConcurrentMergeScheduler ) {
+				ConcurrentMergeScheduler concurrentMergeScheduler = (ConcurrentMergeScheduler) mergeScheduler;
+				autoIOThrottleBeforeBulkIndexing = concurrentMergeScheduler.getAutoIOThrottle();
+				concurrentMergeScheduler.disableAutoIOThrottle();
+			}
+		}
+		++bulkIndexingCount;
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public synchronized CompletableFuture<?> finishBulkIndexing() {
+		if ( streamOrchestrator == null ) {
+			throw log.cannotWriteToReadOnlyIndex( getBackendAndIndexEventContext() );
+		}
+		if ( bulkIndexingCount > 0 ) {
+			--bulkIndexingCount;
+			if ( bulkIndexingCount == 0 ) {
+				LiveIndexWriterConfig config = indexWriter.getConfig();
+				config.setRAMBufferSizeMB( ramBufferSizeBeforeBulkIndexing );
+				MergeScheduler mergeScheduler = config.getMergeScheduler();
+				if ( mergeScheduler instanceof ConcurrentMergeScheduler && autoIOThrottleBeforeBulkIndexing ) {
+					( (ConcurrentMergeScheduler) mergeScheduler ).enableAutoIOThrottle();
+				}
+			}
+		}
+		// The stream orchestrator never commits on its own
+		return indexingBackendContext.commit( streamOrchestrator, indexName );
+	}
+
+	@Override
+	public CompletableFuture<?> purge(SessionContext sessionContext) {
+		if ( streamOrchestrator == null ) {
+			throw log.cannotWriteToReadOnlyIndex( getBackendAndIndexEventContext() );
+		}
+		// The stream orchestrator never commits on its own
+		return indexingBackendContext.purge( streamOrchestrator, indexName, sessionContext );
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new LuceneIndexSearchTargetBuilder( searchBackendContext, this );
@@ -109,7 +215,11 @@ public void close() {
 			closer.push( LuceneIndexWorkOrchestrator::close, workPlanOrchestrator );
 			closer.push( LuceneIndexWorkOrchestrator::close, streamOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
+			closer.push( NRTReaderProvider::close, nrtReaderProvider );
+			closer.push( DirectoryReaderProvider::close, readOnlyReaderProvider );
 			closer.push( IndexWriter::close, indexWriter );
+			// Close the directory last, when nothing uses it anymore
+			closer.push( DirectoryHolder::close, directoryHolder );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -118,27 +228,11 @@ public void close() {
 	}
 
 	ReaderProvider getReaderProvider() {
-		return this;
-	}
-
-	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
-		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
-		}
+		return nrtReaderProvider != null ? nrtReaderProvider : readOnlyReaderProvider;
 	}
 
-	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
-		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
-		}
+	IndexWriter getIndexWriter() {
+		return indexWriter;
 	}
 
 	@Override
@@ -156,6 +250,34 @@ clazz, LuceneIndexManager.class, getBackendAndIndexEventContext()
 		);
 	}
 
+	private IndexWriter createIndexWriter() {
+		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
+		indexWriterConfig.setIndexDeletionPolicy( directoryHolder.createIndexDeletionPolicy() );
+		if ( model.isStoredFieldsCompressionRequired() ) {
+			/*
+			 * Lucene only allows to select the stored fields compression mode for a whole segment,
+			 * so we have to trade indexing and retrieval speed for size on all stored fields of the index.
+			 * The compression mode is recorded in each segment, so existing segments remain readable.
+			 */
+			indexWriterConfig.setCodec( new Lucene70Codec( Lucene50StoredFieldsFormat.Mode.BEST_COMPRESSION ) );
+		}
+		if ( model.getIndexSort() != null ) {
+			/*
+			 * Segments are sorted as they are flushed and merged,
+			 * which allows sorted queries to stop collecting early in each segment.
+			 * Lucene refuses to open an existing index that was written with a different index sort.
+			 */
+			indexWriterConfig.setIndexSort( model.getIndexSort() );
+		}
+		try {
+			return new IndexWriter( directoryHolder.get(), indexWriterConfig );
+		}
+		catch (IOException | RuntimeException e) {
+			// The index is already part of the failure report context during bootstrap
+			throw log.unableToCreateIndexWriter( indexingBackendContext.getEventContext(), e );
+		}
+	}
+
 	private EventContext getBackendAndIndexEventContext() {
 		return indexingBackendContext.getEventContext().append(
 				EventContexts.fromIndexName( indexName )
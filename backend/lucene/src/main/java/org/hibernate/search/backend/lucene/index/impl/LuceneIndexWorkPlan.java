@@ -56,8 +56,6 @@ public void add(DocumentReferenceProvider referenceProvider,
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
 		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
 	}
 
 	@Override
@@ -71,8 +69,6 @@ public void update(DocumentReferenceProvider referenceProvider,
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
 		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
 	}
 
 	@Override
@@ -81,8 +77,12 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String routingKey = referenceProvider.getRoutingKey();
 
 		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+	}
+
+	@Override
+	public void drainTo(IndexWorkPlan<LuceneRootDocumentBuilder> target) {
+		( (LuceneIndexWorkPlan) target ).works.addAll( works );
+		works.clear();
 	}
 
 	@Override
@@ -90,6 +90,10 @@ public void prepare() {
 		// Nothing to do: we only have to send the works to the orchestrator
 	}
 
+	/**
+	 * @return A future that will be completed when the works are durable or visible to queries,
+	 * depending on the commit policy of the orchestrator.
+	 */
 	@Override
 	public CompletableFuture<?> execute() {
 		try {
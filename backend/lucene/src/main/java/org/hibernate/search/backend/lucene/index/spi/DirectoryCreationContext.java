@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import org.hibernate.search.util.EventContext;
+
+public interface DirectoryCreationContext {
+
+	/**
+	 * @return A list of failure context elements to be passed to the constructor of any
+	 * {@link org.hibernate.search.util.SearchException} occurring in this context.
+	 */
+	EventContext getEventContext();
+
+	/**
+	 * @return The name of the index in Hibernate Search.
+	 */
+	String getIndexName();
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexDeletionPolicy;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Holds the Lucene directory of an index, and manages the resources attached to that directory.
+ */
+public interface DirectoryHolder extends Closeable {
+
+	/**
+	 * Allocate internal resources (filesystem directories, background tasks, ...)
+	 * and create the directory.
+	 *
+	 * @throws IOException If an error occurs while initializing the directory.
+	 */
+	void start() throws IOException;
+
+	/**
+	 * @return The directory. Only available after {@link #start()} was called.
+	 */
+	Directory get();
+
+	/**
+	 * @return {@code true} if the directory is written to by another process,
+	 * in which case this process must not open an index writer on it
+	 * and should expect the content of the directory to change regularly.
+	 * {@code false} otherwise.
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
+
+	/**
+	 * @return The deletion policy the index writer must use for this directory.
+	 * Only called once, after {@link #start()}, when the index writer is created.
+	 * Defaults to keeping only the last commit, as Lucene does.
+	 */
+	default IndexDeletionPolicy createIndexDeletionPolicy() {
+		return new KeepOnlyLastCommitDeletionPolicy();
+	}
+
+	/**
+	 * Close the directory and release the resources allocated in {@link #start()}.
+	 * <p>
+	 * Called after the index writer and readers using the directory were closed.
+	 *
+	 * @throws IOException If an error occurs while closing the directory.
+	 */
+	@Override
+	void close() throws IOException;
+
+}
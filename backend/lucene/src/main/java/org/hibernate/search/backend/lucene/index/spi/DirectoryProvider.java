@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+/**
+ * A provider of Lucene directories for the indexes of a Lucene backend.
+ * <p>
+ * Built-in implementations are selected through the
+ * {@link org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings#LUCENE_DIRECTORY_PROVIDER} property;
+ * any other value of this property is interpreted as a reference to a bean implementing this interface.
+ */
+public interface DirectoryProvider extends AutoCloseable {
+
+	/**
+	 * Initialize this provider before any directory is created.
+	 * <p>
+	 * Implementations are expected to retrieve their configuration from the given context at this point.
+	 *
+	 * @param context The initialization context, giving access to the configuration of the backend.
+	 */
+	default void initialize(DirectoryProviderInitializationContext context) {
+	}
+
+	/**
+	 * Create a {@link DirectoryHolder} for a given index.
+	 * <p>
+	 * The provided index names are raw and do not take into account the limitations of the internal representation
+	 * of indexes. If some characters cannot be used in a given {@link DirectoryProvider},
+	 * this provider is expected to escape characters as necessary using a encoding scheme attributing
+	 * a unique representation to each index name,
+	 * so as to avoid two index names to be encoded into identical internal representations.
+	 * Lower-casing the index name, for example, is not an acceptable encoding scheme,
+	 * as two index names differing only in case could end up using the same directory.
+	 * <p>
+	 * Resources should not be allocated until {@link DirectoryHolder#start()} is called.
+	 *
+	 * @param context The creation context, giving access to the name of the index.
+	 * @return A holder for the directory of that index.
+	 */
+	DirectoryHolder createDirectoryHolder(DirectoryCreationContext context);
+
+	/**
+	 * Release the resources shared by the directories of this provider.
+	 * <p>
+	 * Called after all the directory holders created by this provider were closed.
+	 */
+	@Override
+	default void close() {
+	}
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.spi;
+
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.util.EventContext;
+
+public interface DirectoryProviderInitializationContext {
+
+	/**
+	 * @return A list of failure context elements to be passed to the constructor of any
+	 * {@link org.hibernate.search.util.SearchException} occurring in this context.
+	 */
+	EventContext getEventContext();
+
+	/**
+	 * @return The configuration properties of the backend, with keys relative to the backend,
+	 * e.g. {@code lucene.root_directory}.
+	 */
+	ConfigurationPropertySource getConfigurationPropertySource();
+
+}
@@ -11,7 +11,9 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LockingStrategyConfiguration;
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -171,8 +173,10 @@ SearchException unableToCreateRootDirectoryForLocalDirectoryBackend(Path rootDir
 	SearchException undefinedLuceneDirectoryProvider(@Param EventContext context);
 
 	@Message(id = ID_OFFSET_2 + 4,
-			value = "Unrecognized Lucene directory provider '%1$s'.")
-	SearchException unrecognizedLuceneDirectoryProvider(String directoryProvider, @Param EventContext context);
+			value = "Unrecognized Lucene directory provider '%1$s': it is neither a built-in directory provider"
+					+ " nor a reference to a bean implementing DirectoryProvider.")
+	SearchException unrecognizedLuceneDirectoryProvider(String directoryProvider, @Param EventContext context,
+			@Cause Exception e);
 
 	@Message(id = ID_OFFSET_2 + 5,
 			value = "The Lucene extension can only be applied to objects"
@@ -366,4 +370,100 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 			value = "Unknown normalizer: '%1$s'. Make sure you defined this normalizer.")
 	SearchException unknownNormalizer(String normalizerName, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 55,
+			value = "Unknown commit policy '%1$s'.")
+	SearchException unknownCommitPolicyConfiguration(String commitPolicy);
+
+	@Message(id = ID_OFFSET_2 + 56,
+			value = "Interrupted while submitting works to the index writer.")
+	SearchException interruptedWhileSubmittingIndexWorks(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Cannot submit works: the index writer is closed.")
+	SearchException submittingWorksToClosedOrchestrator(@Param EventContext context);
+
+	@LogMessage(level = Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 58,
+			value = "Scheduled commit of the index failed. %1$s")
+	void scheduledCommitFailed(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 59,
+			value = "Invalid chunk size for scrolling: '%1$s'. The chunk size must be strictly positive.")
+	SearchException invalidScrollChunkSize(int chunkSize);
+
+	@Message(id = ID_OFFSET_2 + 60,
+			value = "This field does not support aggregations."
+					+ " Aggregations are only supported on sortable String, Integer and LocalDate fields.")
+	SearchException unsupportedDSLAggregations(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 61,
+			value = "Range aggregations are not supported on this field: only numeric and date fields support range aggregations.")
+	SearchException unsupportedRangeAggregation(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 62,
+			value = "The query '%1$s' exceeded the timeout of %2$sms.")
+	SearchException queryTimedOut(Query luceneQuery, long timeoutMs, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 63,
+			value = "This field cannot be part of the index sort: only sortable fields can be part of the index sort.")
+	SearchException cannotUseIndexSortOnNonSortableField(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 64,
+			value = "Index sort on fields '%1$s' cannot be used on an index with nested object fields '%2$s':"
+					+ " Lucene does not support sorting indexes that contain nested documents.")
+	SearchException cannotUseIndexSortWithNestedDocuments(List<String> indexSortFieldPaths,
+			List<String> nestedObjectFieldPaths, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 65,
+			value = "Unknown filesystem access strategy '%1$s'.")
+	SearchException unknownFileSystemAccessStrategyConfiguration(String fileSystemAccessStrategy);
+
+	@Message(id = ID_OFFSET_2 + 66,
+			value = "Unknown locking strategy '%1$s'.")
+	SearchException unknownLockingStrategyConfiguration(String lockingStrategy);
+
+	@Message(id = ID_OFFSET_2 + 67,
+			value = "Locking strategy '%1$s' cannot be used with directories stored in the heap.")
+	SearchException unsupportedLockingStrategyForHeapDirectory(LockingStrategyConfiguration lockingStrategy,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 68,
+			value = "Undefined shared root directory: directory provider '%1$s' requires property '%2$s' to be set.")
+	SearchException undefinedSharedRootDirectory(String directoryProvider, String propertyKey,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 69,
+			value = "Unable to create shared root directory '%1$s'.")
+	SearchException unableToCreateSharedRootDirectory(Path sharedRootDirectory,
+			@Param EventContext context, @Cause Exception e);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Unable to copy the latest commit of the index from '%1$s' to '%2$s'; will try again later. %3$s")
+	void unableToReplicateIndex(Path source, Path destination,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Unable to write to this index: its directory is read-only, because it is written to by another node."
+					+ " Changes must be applied through the node writing to the directory.")
+	SearchException cannotWriteToReadOnlyIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Unable to initialize the directory of this index.")
+	SearchException unableToStartDirectory(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Index sort is not supported by the GeoPoint field type.")
+	SearchException indexSortNotSupportedByGeoPoint(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Unable to delete all entries with tenant identifier '%1$s'.")
+	SearchException unableToDeleteAllEntriesFromIndex(String tenantId, @Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Invalid commit interval: '%1$s'. Property '%2$s' must be strictly positive"
+					+ " when using commit policy '%3$s'.")
+	SearchException invalidCommitInterval(long commitInterval, String propertyKey, String commitPolicy,
+			@Param EventContext context);
+
 }
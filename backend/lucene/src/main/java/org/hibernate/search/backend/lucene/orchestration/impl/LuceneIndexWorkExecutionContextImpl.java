@@ -12,11 +12,11 @@
 /**
  * @author Guillaume Smet
  */
-public class StubLuceneIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
+class LuceneIndexWorkExecutionContextImpl implements LuceneIndexWorkExecutionContext {
 
 	private final IndexWriter indexWriter;
 
-	public StubLuceneIndexWorkExecutionContext(IndexWriter indexWriter) {
+	LuceneIndexWorkExecutionContextImpl(IndexWriter indexWriter) {
 		this.indexWriter = indexWriter;
 	}
 
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.search.reader.impl.NRTReaderProvider;
+import org.hibernate.search.util.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Creates index work orchestrators according to the backend configuration.
+ */
+public class LuceneIndexWorkOrchestratorFactory {
+
+	private final CommitPolicyConfiguration commitPolicy;
+	private final long commitInterval;
+	private final int queueSize;
+
+	public LuceneIndexWorkOrchestratorFactory(CommitPolicyConfiguration commitPolicy,
+			long commitInterval, int queueSize) {
+		this.commitPolicy = commitPolicy;
+		this.commitInterval = commitInterval;
+		this.queueSize = queueSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "commitPolicy=" + commitPolicy
+				+ ", commitInterval=" + commitInterval
+				+ ", queueSize=" + queueSize
+				+ "]";
+	}
+
+	public LuceneIndexWorkOrchestrator create(String name, EventContext eventContext,
+			IndexWriter indexWriter, NRTReaderProvider readerProvider) {
+		return new LuceneIndexWorkOrchestratorImpl(
+				name, eventContext, indexWriter, readerProvider,
+				commitPolicy, commitInterval, queueSize
+		);
+	}
+
+	/**
+	 * @return An orchestrator for bulk indexing, which never commits on its own:
+	 * works are considered done as soon as they are visible to queries,
+	 * and are only committed when a commit work is submitted or when the orchestrator is closed.
+	 * Committing less often allows the index writer to fill its buffer and to write larger segments.
+	 */
+	public LuceneIndexWorkOrchestrator createStream(String name, EventContext eventContext,
+			IndexWriter indexWriter, NRTReaderProvider readerProvider) {
+		return new LuceneIndexWorkOrchestratorImpl(
+				name, eventContext, indexWriter, readerProvider,
+				CommitPolicyConfiguration.NEAR_REAL_TIME, 0L, queueSize
+		);
+	}
+}
@@ -0,0 +1,328 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.NRTReaderProvider;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * An orchestrator applying works to an index from a single, dedicated writer thread.
+ * <p>
+ * Changesets submitted concurrently are queued in a bounded queue, then drained by the writer thread,
+ * which applies all pending changesets in a single pass over the {@link IndexWriter}
+ * before applying the commit policy once for the whole batch.
+ */
+public class LuceneIndexWorkOrchestratorImpl implements LuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final IndexWriter indexWriter;
+	private final NRTReaderProvider readerProvider;
+	private final CommitPolicyConfiguration commitPolicy;
+	private final int maxChangesetsPerBatch;
+
+	private final LuceneIndexWorkExecutionContextImpl context;
+
+	private final Queue<Changeset> changesetQueue = new ConcurrentLinkedQueue<>();
+	private final Semaphore changesetQueueSlots;
+	private final AtomicBoolean processingScheduled = new AtomicBoolean( false );
+	/*
+	 * Submitters hold the read lock while queuing changesets, close() holds the write lock while setting closed,
+	 * so that no changeset can be queued once close() started processing the remaining changesets.
+	 */
+	private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+	private volatile boolean closed = false;
+
+	private final ExecutorService writerExecutor;
+	private final ScheduledExecutorService commitScheduler;
+
+	// Only accessed from the writer thread
+	private boolean hasUncommittedChanges = false;
+	private final List<Changeset> changesetsAwaitingCommit = new ArrayList<>();
+
+	public LuceneIndexWorkOrchestratorImpl(String name, EventContext eventContext,
+			IndexWriter indexWriter, NRTReaderProvider readerProvider,
+			CommitPolicyConfiguration commitPolicy, long commitInterval, int queueSize) {
+		this.eventContext = eventContext;
+		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
+		this.commitPolicy = commitPolicy;
+		this.maxChangesetsPerBatch = queueSize;
+		this.context = new LuceneIndexWorkExecutionContextImpl( indexWriter );
+		this.changesetQueueSlots = new Semaphore( queueSize );
+		this.writerExecutor = Executors.newFixedThreadPool( 1, "Lucene index writer - " + name );
+		if ( CommitPolicyConfiguration.CHANGESET.equals( commitPolicy ) || commitInterval <= 0L ) {
+			/*
+			 * No scheduled commit: either we commit after each batch,
+			 * or (near-real-time without an interval, for bulk indexing) commits are triggered explicitly
+			 * and when closing. See processBatch() for the scheduled policy without an interval.
+			 */
+			this.commitScheduler = null;
+		}
+		else {
+			this.commitScheduler = Executors.newScheduledThreadPool( "Lucene commit scheduler - " + name );
+			commitScheduler.scheduleWithFixedDelay(
+					() -> writerExecutor.execute( this::scheduledCommit ),
+					commitInterval, commitInterval, TimeUnit.MILLISECONDS
+			);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + ", commitPolicy=" + commitPolicy + "]";
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The future of a single-work changeset holds the result of that work
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		return (CompletableFuture<T>) doSubmit( Collections.singletonList( work ) );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		return doSubmit( new ArrayList<>( works ) );
+	}
+
+	@Override
+	public void close() {
+		lifecycleLock.writeLock().lock();
+		try {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+		}
+		finally {
+			lifecycleLock.writeLock().unlock();
+		}
+		try {
+			if ( commitScheduler != null ) {
+				commitScheduler.shutdownNow();
+				commitScheduler.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+			}
+			// Apply the remaining changesets and make sure everything is committed
+			writerExecutor.execute( this::processRemainingChangesets );
+			writerExecutor.shutdown();
+			writerExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			// Only happens if we were interrupted: make sure nobody waits forever for these changesets
+			Changeset changeset;
+			while ( ( changeset = changesetQueue.poll() ) != null ) {
+				changeset.future.completeExceptionally( log.submittingWorksToClosedOrchestrator( eventContext ) );
+			}
+		}
+	}
+
+	private CompletableFuture<Object> doSubmit(List<? extends LuceneIndexWork<?>> works) {
+		Changeset changeset = new Changeset( works );
+		/*
+		 * Waiting for a queue slot while holding the read lock is fine:
+		 * slots are released by the writer thread, which never needs the lock.
+		 */
+		lifecycleLock.readLock().lock();
+		try {
+			if ( closed ) {
+				changeset.future.completeExceptionally( log.submittingWorksToClosedOrchestrator( eventContext ) );
+				return changeset.future;
+			}
+			try {
+				changesetQueueSlots.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				changeset.future.completeExceptionally( log.interruptedWhileSubmittingIndexWorks( eventContext, e ) );
+				return changeset.future;
+			}
+			changesetQueue.offer( changeset );
+			ensureProcessingScheduled();
+			return changeset.future;
+		}
+		finally {
+			lifecycleLock.readLock().unlock();
+		}
+	}
+
+	private void ensureProcessingScheduled() {
+		if ( processingScheduled.compareAndSet( false, true ) ) {
+			writerExecutor.execute( this::processQueue );
+		}
+	}
+
+	private void processQueue() {
+		try {
+			List<Changeset> batch = pollBatch();
+			if ( !batch.isEmpty() ) {
+				processBatch( batch );
+			}
+		}
+		finally {
+			processingScheduled.set( false );
+			// Changesets may have been submitted after we stopped polling.
+			// Once closed, the remaining changesets are processed by processRemainingChangesets() instead.
+			if ( !closed && !changesetQueue.isEmpty() ) {
+				ensureProcessingScheduled();
+			}
+		}
+	}
+
+	private void processRemainingChangesets() {
+		List<Changeset> batch;
+		while ( !( batch = pollBatch() ).isEmpty() ) {
+			processBatch( batch );
+		}
+		scheduledCommit();
+	}
+
+	private List<Changeset> pollBatch() {
+		List<Changeset> batch = new ArrayList<>();
+		Changeset changeset;
+		while ( batch.size() < maxChangesetsPerBatch && ( changeset = changesetQueue.poll() ) != null ) {
+			changesetQueueSlots.release();
+			batch.add( changeset );
+		}
+		return batch;
+	}
+
+	private void processBatch(List<Changeset> batch) {
+		List<Changeset> successfulChangesets = new ArrayList<>( batch.size() );
+		for ( Changeset changeset : batch ) {
+			if ( changeset.apply( context ) ) {
+				successfulChangesets.add( changeset );
+			}
+		}
+		if ( successfulChangesets.isEmpty() ) {
+			/*
+			 * No changeset was applied successfully: nobody is waiting for a commit or a refresh.
+			 * Partial changes of failed changesets, if any, will be committed along with the next changes.
+			 */
+			return;
+		}
+		hasUncommittedChanges = true;
+		// Make sure the changes will be visible to the next queries
+		readerProvider.setIndexChanged();
+
+		switch ( commitPolicy ) {
+			case CHANGESET:
+				commit( successfulChangesets );
+				break;
+			case SCHEDULED:
+				if ( commitScheduler == null ) {
+					// No commit will ever be scheduled: don't let submitters wait until the orchestrator is closed
+					commit( successfulChangesets );
+				}
+				else {
+					// Works will be considered done after the next scheduled commit
+					changesetsAwaitingCommit.addAll( successfulChangesets );
+				}
+				break;
+			case NEAR_REAL_TIME:
+				// Works are visible to queries: consider them done
+				for ( Changeset changeset : successfulChangesets ) {
+					changeset.complete();
+				}
+				break;
+		}
+	}
+
+	private void scheduledCommit() {
+		if ( !hasUncommittedChanges ) {
+			return;
+		}
+		List<Changeset> changesets = new ArrayList<>( changesetsAwaitingCommit );
+		changesetsAwaitingCommit.clear();
+		commit( changesets );
+	}
+
+	private void commit(List<Changeset> changesets) {
+		try {
+			indexWriter.commit();
+			hasUncommittedChanges = false;
+			for ( Changeset changeset : changesets ) {
+				changeset.complete();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			RuntimeException exception = log.unableToCommitIndex( eventContext, e );
+			if ( changesets.isEmpty() ) {
+				// Nobody is waiting for this commit: just report the failure
+				log.scheduledCommitFailed( eventContext, exception );
+			}
+			for ( Changeset changeset : changesets ) {
+				changeset.future.completeExceptionally( exception );
+			}
+		}
+	}
+
+	private static final class Changeset {
+		private final List<? extends LuceneIndexWork<?>> works;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+		private Object lastResult;
+
+		Changeset(List<? extends LuceneIndexWork<?>> works) {
+			this.works = works;
+		}
+
+		/**
+		 * @param context The execution context
+		 * @return {@code true} if all works were applied successfully, {@code false} otherwise
+		 * (in which case the future was completed exceptionally).
+		 */
+		boolean apply(LuceneIndexWorkExecutionContextImpl context) {
+			try {
+				for ( LuceneIndexWork<?> work : works ) {
+					// Works execute synchronously on the writer thread, thus this will not block
+					lastResult = Futures.create( () -> work.execute( context ) ).join();
+				}
+				return true;
+			}
+			catch (CompletionException e) {
+				future.completeExceptionally( e.getCause() );
+				return false;
+			}
+			catch (RuntimeException | Error e) {
+				// Do not let the submitter wait forever, whatever the failure
+				future.completeExceptionally( e );
+				return false;
+			}
+		}
+
+		void complete() {
+			future.complete( lastResult );
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A terms aggregation, returning the most frequent terms first.
+ *
+ * @param <K> The type of terms, as read from doc values.
+ */
+abstract class AbstractTermsAggregation<K extends Comparable<K>> extends LuceneSearchAggregation {
+
+	private final int maxTermCount;
+
+	AbstractTermsAggregation(String name, int maxTermCount) {
+		super( name );
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public abstract TermCountCollector<K> createCollector();
+
+	@Override
+	@SuppressWarnings("unchecked") // Collectors were created by this aggregation
+	public Map<Object, Long> reduce(Collection<Collector> collectors) throws IOException {
+		Map<K, Long> counts;
+		if ( collectors.size() == 1 ) {
+			// No need to merge anything
+			counts = ( (TermCountCollector<K>) collectors.iterator().next() ).getCounts();
+		}
+		else {
+			counts = new HashMap<>();
+			for ( Collector collector : collectors ) {
+				for ( Map.Entry<K, Long> entry : ( (TermCountCollector<K>) collector ).getCounts().entrySet() ) {
+					counts.merge( entry.getKey(), entry.getValue(), Long::sum );
+				}
+			}
+		}
+
+		List<Map.Entry<K, Long>> entries = new ArrayList<>( counts.entrySet() );
+		// Most frequent terms first, ties broken by term order so that results are stable
+		entries.sort( Map.Entry.<K, Long>comparingByValue( Comparator.reverseOrder() )
+				.thenComparing( Map.Entry.comparingByKey() ) );
+
+		int termCount = Math.min( maxTermCount, entries.size() );
+		Map<Object, Long> result = new LinkedHashMap<>( termCount );
+		for ( Map.Entry<K, Long> entry : entries.subList( 0, termCount ) ) {
+			result.put( convertTerm( entry.getKey() ), entry.getValue() );
+		}
+		return result;
+	}
+
+	/**
+	 * @param term A term, as read from doc values.
+	 * @return The term, as exposed to users.
+	 */
+	protected abstract Object convertTerm(K term);
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * An aggregation computed while searching, from the doc values of the matching documents.
+ * <p>
+ * One collector is created per index slice, and the results of all collectors are merged once all slices have been searched.
+ */
+public abstract class LuceneSearchAggregation {
+
+	private final String name;
+
+	protected LuceneSearchAggregation(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public abstract Collector createCollector();
+
+	/**
+	 * @param collectors The collectors created by {@link #createCollector()}, once they collected all matching documents.
+	 * @return The document count for each bucket of this aggregation, in the order buckets should be presented to users.
+	 * @throws IOException If the index cannot be read.
+	 */
+	public abstract Map<Object, Long> reduce(Collection<Collector> collectors) throws IOException;
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+}
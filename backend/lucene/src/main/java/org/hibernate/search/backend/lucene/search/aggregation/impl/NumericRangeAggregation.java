@@ -0,0 +1,101 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A range aggregation on a field indexed with {@link NumericDocValues}.
+ * <p>
+ * Ranges may overlap: a document is counted in every range its value belongs to.
+ */
+public class NumericRangeAggregation extends LuceneSearchAggregation {
+
+	private final String absoluteFieldPath;
+
+	private final String[] keys;
+	private final Long[] froms;
+	private final Long[] tos;
+
+	/**
+	 * @param name The name of the aggregation.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param keys The key of each range.
+	 * @param froms The lower bound of each range, included, or {@code null} for no lower bound.
+	 * @param tos The upper bound of each range, excluded, or {@code null} for no upper bound.
+	 */
+	public NumericRangeAggregation(String name, String absoluteFieldPath,
+			List<String> keys, List<Long> froms, List<Long> tos) {
+		super( name );
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.keys = keys.toArray( new String[keys.size()] );
+		this.froms = froms.toArray( new Long[froms.size()] );
+		this.tos = tos.toArray( new Long[tos.size()] );
+	}
+
+	@Override
+	public Collector createCollector() {
+		return new RangeCountCollector();
+	}
+
+	@Override
+	public Map<Object, Long> reduce(Collection<Collector> collectors) {
+		long[] counts = new long[keys.length];
+		for ( Collector collector : collectors ) {
+			long[] sliceCounts = ( (RangeCountCollector) collector ).counts;
+			for ( int i = 0; i < counts.length; ++i ) {
+				counts[i] += sliceCounts[i];
+			}
+		}
+
+		Map<Object, Long> result = new LinkedHashMap<>( keys.length );
+		for ( int i = 0; i < keys.length; ++i ) {
+			result.put( keys[i], counts[i] );
+		}
+		return result;
+	}
+
+	private class RangeCountCollector extends SimpleCollector {
+
+		private final long[] counts = new long[keys.length];
+
+		private NumericDocValues docValues;
+
+		@Override
+		public boolean needsScores() {
+			return false;
+		}
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			docValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( !docValues.advanceExact( doc ) ) {
+				return;
+			}
+			long value = docValues.longValue();
+			for ( int i = 0; i < counts.length; ++i ) {
+				if ( ( froms[i] == null || froms[i] <= value ) && ( tos[i] == null || value < tos[i] ) ) {
+					++counts[i];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+
+/**
+ * A terms aggregation on a field indexed with {@link NumericDocValues}.
+ */
+public class NumericTermsAggregation extends AbstractTermsAggregation<Long> {
+
+	private final String absoluteFieldPath;
+
+	private final LongFunction<?> termConverter;
+
+	public NumericTermsAggregation(String name, String absoluteFieldPath, int maxTermCount,
+			LongFunction<?> termConverter) {
+		super( name, maxTermCount );
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.termConverter = termConverter;
+	}
+
+	@Override
+	public TermCountCollector<Long> createCollector() {
+		return new Collector( absoluteFieldPath );
+	}
+
+	@Override
+	protected Object convertTerm(Long term) {
+		return termConverter.apply( term );
+	}
+
+	private static class Collector extends TermCountCollector<Long> {
+
+		private final String absoluteFieldPath;
+
+		private final Map<Long, Long> counts = new HashMap<>();
+
+		private NumericDocValues docValues;
+
+		Collector(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			docValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( docValues.advanceExact( doc ) ) {
+				counts.merge( docValues.longValue(), 1L, Long::sum );
+			}
+		}
+
+		@Override
+		Map<Long, Long> getCounts() {
+			return counts;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+
+public class SearchAggregationFactoryImpl
+		implements SearchAggregationFactory<LuceneSearchAggregationCollector, LuceneSearchAggregation> {
+
+	private final LuceneSearchTargetModel searchTargetModel;
+
+	public SearchAggregationFactoryImpl(LuceneSearchTargetModel searchTargetModel) {
+		this.searchTargetModel = searchTargetModel;
+	}
+
+	@Override
+	public void contribute(LuceneSearchAggregationCollector collector, List<LuceneSearchAggregation> aggregations) {
+		for ( LuceneSearchAggregation aggregation : aggregations ) {
+			collector.collectAggregation( aggregation );
+		}
+	}
+
+	@Override
+	public LuceneSearchAggregation terms(String name, String absoluteFieldPath, int maxTermCount) {
+		return terms( name, searchTargetModel.getSchemaNode( absoluteFieldPath ), maxTermCount );
+	}
+
+	@Override
+	public LuceneSearchAggregation range(String name, String absoluteFieldPath, List<AggregationRange> ranges) {
+		return range( name, searchTargetModel.getSchemaNode( absoluteFieldPath ), ranges );
+	}
+
+	private <F> LuceneSearchAggregation terms(String name, LuceneIndexSchemaFieldNode<F> schemaNode, int maxTermCount) {
+		return schemaNode.getAggregationContributor()
+				.terms( name, schemaNode.getAbsoluteFieldPath(), schemaNode.getConverter(), maxTermCount );
+	}
+
+	private <F> LuceneSearchAggregation range(String name, LuceneIndexSchemaFieldNode<F> schemaNode,
+			List<AggregationRange> ranges) {
+		return schemaNode.getAggregationContributor()
+				.range( name, schemaNode.getAbsoluteFieldPath(), schemaNode.getConverter(), ranges );
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+
+/**
+ * A terms aggregation on a field indexed with {@link SortedDocValues}.
+ * <p>
+ * Documents are counted per ordinal, and ordinals are only resolved into terms once per segment,
+ * so that collecting does not allocate anything.
+ */
+public class StringTermsAggregation extends AbstractTermsAggregation<String> {
+
+	private final String absoluteFieldPath;
+
+	private final Function<String, ?> termConverter;
+
+	public StringTermsAggregation(String name, String absoluteFieldPath, int maxTermCount,
+			Function<String, ?> termConverter) {
+		super( name, maxTermCount );
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.termConverter = termConverter;
+	}
+
+	@Override
+	public TermCountCollector<String> createCollector() {
+		return new Collector( absoluteFieldPath );
+	}
+
+	@Override
+	protected Object convertTerm(String term) {
+		return termConverter.apply( term );
+	}
+
+	private static class Collector extends TermCountCollector<String> {
+
+		private final String absoluteFieldPath;
+
+		private final Map<String, Long> counts = new HashMap<>();
+
+		private SortedDocValues docValues;
+		private int[] countsByOrd;
+
+		Collector(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		protected void doSetNextReader(LeafReaderContext context) throws IOException {
+			flushSegmentCounts();
+			docValues = DocValues.getSorted( context.reader(), absoluteFieldPath );
+			countsByOrd = new int[docValues.getValueCount()];
+		}
+
+		@Override
+		public void collect(int doc) throws IOException {
+			if ( docValues.advanceExact( doc ) ) {
+				++countsByOrd[docValues.ordValue()];
+			}
+		}
+
+		@Override
+		Map<String, Long> getCounts() throws IOException {
+			flushSegmentCounts();
+			return counts;
+		}
+
+		private void flushSegmentCounts() throws IOException {
+			if ( countsByOrd == null ) {
+				return;
+			}
+			for ( int ord = 0; ord < countsByOrd.length; ++ord ) {
+				int count = countsByOrd[ord];
+				if ( count > 0 ) {
+					counts.merge( docValues.lookupOrd( ord ).utf8ToString(), (long) count, Long::sum );
+				}
+			}
+			countsByOrd = null;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * A collector counting the documents for each distinct term of a field in a given index slice.
+ *
+ * @param <K> The type of terms, as read from doc values.
+ */
+abstract class TermCountCollector<K> extends SimpleCollector {
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	/**
+	 * @return The document count for each term. Must only be called once all documents have been collected.
+	 * @throws IOException If the index cannot be read.
+	 */
+	abstract Map<K, Long> getCounts() throws IOException;
+
+}
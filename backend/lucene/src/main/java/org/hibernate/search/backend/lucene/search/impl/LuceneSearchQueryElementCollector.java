@@ -13,6 +13,8 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationCollector;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicateCollector;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 
@@ -20,10 +22,11 @@
  * @author Guillaume Smet
  */
 public class LuceneSearchQueryElementCollector
-		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector {
+		implements LuceneSearchPredicateCollector, LuceneSearchSortCollector, LuceneSearchAggregationCollector {
 
 	private Query luceneQueryPredicate;
 	private List<SortField> sortFields;
+	private List<LuceneSearchAggregation> aggregations;
 
 	@Override
 	public void collectPredicate(Query luceneQuery) {
@@ -50,6 +53,14 @@ public void collectSortFields(SortField[] sortFields) {
 		Collections.addAll( this.sortFields, sortFields );
 	}
 
+	@Override
+	public void collectAggregation(LuceneSearchAggregation aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new ArrayList<>( 3 );
+		}
+		aggregations.add( aggregation );
+	}
+
 	public Query toLuceneQueryPredicate() {
 		return luceneQueryPredicate;
 	}
@@ -65,4 +76,8 @@ public Sort toLuceneSort() {
 
 		return new Sort( sortFields.toArray( new SortField[sortFields.size()] ) );
 	}
+
+	public List<LuceneSearchAggregation> toLuceneAggregations() {
+		return aggregations == null ? Collections.emptyList() : aggregations;
+	}
 }
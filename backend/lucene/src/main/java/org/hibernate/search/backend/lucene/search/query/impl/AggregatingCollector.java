@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.List;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.MultiCollector;
+
+/**
+ * A collector feeding the same documents to the main collector of a query and to the collectors of its aggregations,
+ * so that aggregations are computed in the same pass as the top docs and hit count.
+ */
+class AggregatingCollector extends FilterCollector {
+
+	private final Collector mainCollector;
+
+	private final List<Collector> aggregationCollectors;
+
+	AggregatingCollector(Collector mainCollector, List<Collector> aggregationCollectors) {
+		super( wrap( mainCollector, aggregationCollectors ) );
+		this.mainCollector = mainCollector;
+		this.aggregationCollectors = aggregationCollectors;
+	}
+
+	Collector getMainCollector() {
+		return mainCollector;
+	}
+
+	Collector getAggregationCollector(int index) {
+		return aggregationCollectors.get( index );
+	}
+
+	private static Collector wrap(Collector mainCollector, List<Collector> aggregationCollectors) {
+		Collector[] collectors = new Collector[aggregationCollectors.size() + 1];
+		collectors[0] = mainCollector;
+		for ( int i = 0; i < aggregationCollectors.size(); ++i ) {
+			collectors[i + 1] = aggregationCollectors.get( i );
+		}
+		return MultiCollector.wrap( collectors );
+	}
+}
@@ -6,10 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
 
 /**
  * A hit extractor used when multiple values must be extracted for each hit.
@@ -39,9 +39,9 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
+	public void extract(C collector, LuceneHit hit) throws IOException {
 		for ( HitExtractor<? super C> extractor : extractors ) {
-			extractor.extract( collector, document );
+			extractor.extract( collector, hit );
 		}
 	}
 }
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.engine.search.query.spi.DocumentReferenceHitCollector;
 
 class DocumentReferenceHitExtractor extends AbstractDocumentReferenceHitExtractor<DocumentReferenceHitCollector> {
@@ -21,7 +20,7 @@ private DocumentReferenceHitExtractor() {
 	}
 
 	@Override
-	public void extract(DocumentReferenceHitCollector collector, Document document) {
-		collector.collectReference( extractDocumentReference( document ) );
+	public void extract(DocumentReferenceHitCollector collector, LuceneHit hit) {
+		collector.collectReference( extractDocumentReference( hit.getDocument() ) );
 	}
 }
@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
@@ -22,6 +21,8 @@
 	private final LuceneFieldConverter<F, ?> converter;
 	private final LuceneFieldCodec<F> codec;
 
+	private final boolean decodeFromDocValues;
+
 	FieldProjectionHitExtractor(String absoluteFieldPath,
 			LuceneIndexSchemaFieldNode<F> schemaFieldNode) {
 		this( absoluteFieldPath, schemaFieldNode.getConverter(), schemaFieldNode.getCodec() );
@@ -32,6 +33,7 @@ private FieldProjectionHitExtractor(String absoluteFieldPath,
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.converter = converter;
 		this.codec = codec;
+		this.decodeFromDocValues = codec.isDecodingFromDocValuesSupported();
 	}
 
 	@Override
@@ -41,6 +43,10 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(Set<String> absoluteFieldPaths) {
+		if ( decodeFromDocValues ) {
+			// Nothing to do, the value will be read from doc values
+			return;
+		}
 		if ( codec.getOverriddenStoredFields().isEmpty() ) {
 			absoluteFieldPaths.add( absoluteFieldPath );
 		}
@@ -50,8 +56,14 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
-		F rawValue = codec.decode( document, absoluteFieldPath );
+	public void extract(ProjectionHitCollector collector, LuceneHit hit) throws IOException {
+		F rawValue;
+		if ( decodeFromDocValues ) {
+			rawValue = codec.decode( hit.getLeafReader(), hit.getLeafDocId(), absoluteFieldPath );
+		}
+		else {
+			rawValue = codec.decode( hit.getDocument(), absoluteFieldPath );
+		}
 		collector.collectProjection( converter.convertFromProjection( rawValue ) );
 	}
 }
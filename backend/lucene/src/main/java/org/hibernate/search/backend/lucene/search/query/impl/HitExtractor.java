@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
 public interface HitExtractor<C> {
 
 	/**
@@ -22,6 +21,9 @@
 	/**
 	 * Contributes to the list of fields extracted from the Lucene document. Some fields might require the extraction of
 	 * other fields e.g. if the stored fields have different names.
+	 * <p>
+	 * Extractors that do not need stored fields (e.g. because they rely on doc values) should not contribute anything:
+	 * stored fields are not loaded at all when no extractor requires them.
 	 *
 	 * @param absoluteFieldPaths The set of absolute field paths contributed.
 	 */
@@ -31,7 +33,8 @@
 	 * Perform hit extraction.
 	 *
 	 * @param collector The hit collector, which will receive the result of the extraction.
-	 * @param document The Lucene document extracted from the index.
+	 * @param hit The hit, giving access to the Lucene document extracted from the index and to doc values.
+	 * @throws IOException If reading from the index fails.
 	 */
-	void extract(C collector, Document document);
+	void extract(C collector, LuceneHit hit) throws IOException;
 }
@@ -6,10 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 class IndexSensitiveHitExtractor<C> implements HitExtractor<C> {
@@ -37,9 +37,9 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
-		String indexName = document.get( LuceneFields.indexFieldName() );
+	public void extract(C collector, LuceneHit hit) throws IOException {
+		String indexName = hit.getDocument().get( LuceneFields.indexFieldName() );
 		HitExtractor<? super C> delegate = extractorByIndex.get( indexName );
-		delegate.extract( collector, document );
+		delegate.extract( collector, hit );
 	}
 }
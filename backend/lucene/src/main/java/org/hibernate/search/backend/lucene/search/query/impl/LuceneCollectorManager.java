@@ -0,0 +1,403 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.util.Counter;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+
+/**
+ * A collector manager creating the collectors required by a query for each index slice,
+ * and merging their results once all slices have been searched.
+ * <p>
+ * When top docs are not required, only the total hit count is collected.
+ * When the query defines aggregations, their collectors are fed the same documents as the main collector.
+ * <p>
+ * When a timeout is set, collectors stop collecting once the timeout is exceeded,
+ * and the results only take into account the documents collected so far.
+ * <p>
+ * When a hit count threshold is set, collectors stop collecting once they have counted enough hits,
+ * provided the remaining documents cannot change the top docs:
+ * when top docs are not required, or when sorting by index order.
+ * When sorting on a prefix of the index sort, the same applies to each segment written with that index sort:
+ * collection of such a segment stops once it contributed enough top docs and enough hits were counted.
+ */
+class LuceneCollectorManager implements CollectorManager<Collector, LuceneCollectors> {
+
+	private final Sort sort;
+
+	private final int maxDocs;
+
+	private final ScoreDoc after;
+
+	private final List<LuceneSearchAggregation> aggregations;
+
+	private final long terminateAfter;
+	private final Long segmentTerminateAfterHitCount;
+	private volatile boolean terminatedEarly = false;
+
+	private final Counter clock;
+	private final long deadline;
+	private volatile boolean timedOut = false;
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top docs to collect, or {@code 0} to only collect the total hit count.
+	 * @param after The last hit of the previous page when scrolling, or {@code null} to collect the top hits.
+	 * @param aggregations The aggregations to compute.
+	 * @param hitCountThreshold The number of hits to count exactly, or {@code null} to always count hits exactly.
+	 * @param timeout The timeout, starting now, or {@code null} for no timeout.
+	 */
+	LuceneCollectorManager(Sort sort, int maxDocs, ScoreDoc after, List<LuceneSearchAggregation> aggregations,
+			Long hitCountThreshold, SearchTimeout timeout) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.aggregations = aggregations;
+		this.terminateAfter = computeTerminateAfter( hitCountThreshold );
+		this.segmentTerminateAfterHitCount = computeSegmentTerminateAfterHitCount( hitCountThreshold );
+		if ( timeout == null ) {
+			this.clock = null;
+			this.deadline = Long.MAX_VALUE;
+		}
+		else {
+			this.clock = timeout.getClock();
+			this.deadline = clock.get() + timeout.getTimeoutMs();
+		}
+	}
+
+	@Override
+	public Collector newCollector() {
+		Collector collector = newMainCollector();
+
+		if ( terminateAfter < Long.MAX_VALUE ) {
+			collector = new TerminateAfterCollector( collector );
+		}
+		else if ( segmentTerminateAfterHitCount != null ) {
+			collector = new IndexSortTerminatingCollector( collector );
+		}
+
+		if ( !aggregations.isEmpty() ) {
+			List<Collector> aggregationCollectors = new ArrayList<>( aggregations.size() );
+			for ( LuceneSearchAggregation aggregation : aggregations ) {
+				aggregationCollectors.add( aggregation.createCollector() );
+			}
+			collector = new AggregatingCollector( collector, aggregationCollectors );
+		}
+
+		if ( clock != null ) {
+			collector = new TimeoutCollector( collector );
+		}
+
+		return collector;
+	}
+
+	@Override
+	public LuceneCollectors reduce(Collection<Collector> collectors) throws IOException {
+		if ( clock != null ) {
+			collectors = unwrap( collectors );
+		}
+		if ( terminateAfter < Long.MAX_VALUE || segmentTerminateAfterHitCount != null ) {
+			collectors = unwrap( collectors );
+		}
+
+		if ( aggregations.isEmpty() ) {
+			return reduceMainCollectors( collectors, Collections.emptyMap() );
+		}
+
+		List<Collector> mainCollectors = new ArrayList<>( collectors.size() );
+		for ( Collector collector : collectors ) {
+			mainCollectors.add( ( (AggregatingCollector) collector ).getMainCollector() );
+		}
+
+		Map<String, Map<Object, Long>> aggregationResults = new LinkedHashMap<>( aggregations.size() );
+		for ( int i = 0; i < aggregations.size(); ++i ) {
+			LuceneSearchAggregation aggregation = aggregations.get( i );
+			List<Collector> aggregationCollectors = new ArrayList<>( collectors.size() );
+			for ( Collector collector : collectors ) {
+				aggregationCollectors.add( ( (AggregatingCollector) collector ).getAggregationCollector( i ) );
+			}
+			aggregationResults.put(
+					aggregation.getName(), Collections.unmodifiableMap( aggregation.reduce( aggregationCollectors ) )
+			);
+		}
+
+		return reduceMainCollectors( mainCollectors, Collections.unmodifiableMap( aggregationResults ) );
+	}
+
+	private long computeTerminateAfter(Long hitCountThreshold) {
+		if ( hitCountThreshold == null || !aggregations.isEmpty() || after != null ) {
+			// Aggregations must see every matching document, and so must the search for the next page
+			return Long.MAX_VALUE;
+		}
+		else if ( maxDocs == 0 ) {
+			return hitCountThreshold;
+		}
+		else if ( isIndexOrder( sort ) ) {
+			/*
+			 * Documents are collected in index order: once the top docs are collected, the others are not competitive.
+			 * This holds for each slice, and thus for the whole search,
+			 * because slices are made of consecutive segments (see SlicingIndexSearcher).
+			 */
+			return Math.max( maxDocs, hitCountThreshold );
+		}
+		else {
+			// The top docs can only be known after collecting every matching document
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private Long computeSegmentTerminateAfterHitCount(Long hitCountThreshold) {
+		if ( terminateAfter < Long.MAX_VALUE || hitCountThreshold == null || !aggregations.isEmpty() || after != null
+				|| maxDocs == 0 || sort == null ) {
+			return null;
+		}
+		// Whether segments are sorted accordingly can only be known when collecting each segment
+		return hitCountThreshold;
+	}
+
+	private static boolean isIndexOrder(Sort sort) {
+		if ( sort == null ) {
+			return false;
+		}
+		SortField firstSortField = sort.getSort()[0];
+		return firstSortField.getType() == SortField.Type.DOC && !firstSortField.getReverse();
+	}
+
+	/**
+	 * @return {@code true} if documents sorted according to {@code indexSort}
+	 * are also sorted according to {@code sort}, {@code false} otherwise.
+	 */
+	private static boolean isPrefixOf(Sort sort, Sort indexSort) {
+		if ( indexSort == null ) {
+			return false;
+		}
+		SortField[] sortFields = sort.getSort();
+		SortField[] indexSortFields = indexSort.getSort();
+		if ( sortFields.length > indexSortFields.length ) {
+			return false;
+		}
+		for ( int i = 0; i < sortFields.length; ++i ) {
+			// SortField.equals() ignores the missing value, which also affects the order
+			if ( !sortFields[i].equals( indexSortFields[i] )
+					|| !Objects.equals( sortFields[i].getMissingValue(), indexSortFields[i].getMissingValue() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<Collector> unwrap(Collection<Collector> collectors) {
+		List<Collector> unwrappedCollectors = new ArrayList<>( collectors.size() );
+		for ( Collector collector : collectors ) {
+			unwrappedCollectors.add( ( (DelegatingCollector) collector ).getDelegate() );
+		}
+		return unwrappedCollectors;
+	}
+
+	private Collector newMainCollector() {
+		if ( maxDocs == 0 ) {
+			return new TotalHitCountCollector();
+		}
+		else if ( sort == null ) {
+			return TopScoreDocCollector.create( maxDocs, after );
+		}
+		else {
+			return TopFieldCollector.create(
+					sort,
+					maxDocs,
+					(FieldDoc) after,
+					true,
+					true,
+					true,
+					true
+			);
+		}
+	}
+
+	private LuceneCollectors reduceMainCollectors(Collection<Collector> collectors,
+			Map<String, Map<Object, Long>> aggregationResults) {
+		if ( maxDocs == 0 ) {
+			long totalHits = 0L;
+			for ( Collector collector : collectors ) {
+				totalHits += ( (TotalHitCountCollector) collector ).getTotalHits();
+			}
+			return new LuceneCollectors( totalHits, !terminatedEarly, null, aggregationResults, timedOut );
+		}
+
+		TopDocs topDocs;
+		if ( collectors.size() == 1 ) {
+			// No need to merge anything
+			topDocs = ( (TopDocsCollector<?>) collectors.iterator().next() ).topDocs();
+		}
+		else if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[collectors.size()];
+			int i = 0;
+			for ( Collector collector : collectors ) {
+				sliceTopDocs[i++] = ( (TopDocsCollector<?>) collector ).topDocs();
+			}
+			topDocs = TopDocs.merge( 0, maxDocs, sliceTopDocs, true );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[collectors.size()];
+			int i = 0;
+			for ( Collector collector : collectors ) {
+				sliceTopDocs[i++] = ( (TopFieldCollector) collector ).topDocs();
+			}
+			topDocs = TopDocs.merge( sort, 0, maxDocs, sliceTopDocs, true );
+		}
+		return new LuceneCollectors( topDocs.totalHits, !terminatedEarly, topDocs, aggregationResults, timedOut );
+	}
+
+	private boolean checkTimeout() {
+		if ( !timedOut && clock.get() > deadline ) {
+			timedOut = true;
+		}
+		return timedOut;
+	}
+
+	private abstract static class DelegatingCollector extends FilterCollector {
+
+		DelegatingCollector(Collector in) {
+			super( in );
+		}
+
+		Collector getDelegate() {
+			return in;
+		}
+	}
+
+	/**
+	 * A collector ending the collection of each slice as soon as the timeout is exceeded.
+	 * <p>
+	 * {@link CollectionTerminatedException} makes the searcher skip to the next segment,
+	 * which will itself be skipped immediately, so the search ends quickly without failing.
+	 */
+	private class TimeoutCollector extends DelegatingCollector {
+
+		TimeoutCollector(Collector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( checkTimeout() ) {
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					if ( checkTimeout() ) {
+						throw new CollectionTerminatedException();
+					}
+					super.collect( doc );
+				}
+			};
+		}
+	}
+
+	/**
+	 * A collector ending the collection of each slice as soon as it collected enough documents.
+	 * <p>
+	 * Segments are searched in order within a slice, so the remaining segments of the slice are skipped immediately,
+	 * without even creating a scorer.
+	 * <p>
+	 * When sorting by index order, this relies on slices being made of consecutive segments:
+	 * the documents collected by each slice are then the first matching documents of that slice,
+	 * and the top docs of the search are among them.
+	 */
+	private class TerminateAfterCollector extends DelegatingCollector {
+
+		private long collectedCount = 0L;
+
+		TerminateAfterCollector(Collector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( collectedCount >= terminateAfter ) {
+				terminatedEarly = true;
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					if ( collectedCount >= terminateAfter ) {
+						terminatedEarly = true;
+						throw new CollectionTerminatedException();
+					}
+					++collectedCount;
+					super.collect( doc );
+				}
+			};
+		}
+	}
+
+	/**
+	 * A collector ending the collection of each segment sorted on the query sort
+	 * as soon as that segment contributed enough top docs and the slice counted enough hits.
+	 * <p>
+	 * Documents of such a segment are collected in the order of the query sort,
+	 * so the remaining documents of the segment cannot be competitive.
+	 * Other segments are collected fully.
+	 */
+	private class IndexSortTerminatingCollector extends DelegatingCollector {
+
+		private final long hitCountThreshold = segmentTerminateAfterHitCount;
+		private long collectedCount = 0L;
+
+		IndexSortTerminatingCollector(Collector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			boolean segmentSorted = isPrefixOf( sort, context.reader().getMetaData().getSort() );
+			return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+				private int segmentCollectedCount = 0;
+
+				@Override
+				public void collect(int doc) throws IOException {
+					if ( segmentSorted && segmentCollectedCount >= maxDocs
+							&& collectedCount >= hitCountThreshold ) {
+						terminatedEarly = true;
+						throw new CollectionTerminatedException();
+					}
+					++segmentCollectedCount;
+					++collectedCount;
+					super.collect( doc );
+				}
+			};
+		}
+	}
+}
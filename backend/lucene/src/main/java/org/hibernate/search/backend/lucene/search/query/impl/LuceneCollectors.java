@@ -6,49 +6,61 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.search.Collector;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 class LuceneCollectors {
 
-	private final TopDocsCollector<?> topDocsCollector;
+	private final long totalHits;
+
+	private final boolean totalHitsExact;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final TopDocs topDocs;
 
-	private final Collector compositeCollector;
+	private final Map<String, Map<Object, Long>> aggregations;
 
-	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector) {
-		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = totalHitCountCollector;
-		this.compositeCollector = compositeCollector;
+	private final boolean timedOut;
+
+	LuceneCollectors(long totalHits, boolean totalHitsExact, TopDocs topDocs,
+			Map<String, Map<Object, Long>> aggregations, boolean timedOut) {
+		this.totalHits = totalHits;
+		this.totalHitsExact = totalHitsExact;
+		this.topDocs = topDocs;
+		this.aggregations = aggregations;
+		this.timedOut = timedOut;
 	}
 
 	long getTotalHits() {
-		if ( topDocsCollector != null ) {
-			return topDocsCollector.getTotalHits();
-		}
-		else {
-			return totalHitCountCollector.getTotalHits();
-		}
+		return totalHits;
+	}
+
+	boolean isTotalHitsExact() {
+		return totalHitsExact;
+	}
+
+	boolean isTimedOut() {
+		return timedOut;
+	}
+
+	Map<String, Map<Object, Long>> getAggregations() {
+		return aggregations;
 	}
 
 	TopDocs getTopDocs(long firstResultIndex, Long maxResultsCount) {
-		if ( topDocsCollector == null ) {
+		if ( topDocs == null ) {
 			return null;
 		}
 
-		if ( maxResultsCount == null ) {
-			return topDocsCollector.topDocs( (int) firstResultIndex );
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		int start = (int) Math.min( firstResultIndex, scoreDocs.length );
+		int end = maxResultsCount == null ? scoreDocs.length
+				: (int) Math.min( start + maxResultsCount, scoreDocs.length );
+		if ( start == 0 && end == scoreDocs.length ) {
+			return topDocs;
 		}
-		else {
-			return topDocsCollector.topDocs( (int) firstResultIndex, maxResultsCount.intValue() );
-		}
-	}
-
-	Collector getCompositeCollector() {
-		return compositeCollector;
+		return new TopDocs( topDocs.totalHits, Arrays.copyOfRange( scoreDocs, start, end ), topDocs.getMaxScore() );
 	}
 }
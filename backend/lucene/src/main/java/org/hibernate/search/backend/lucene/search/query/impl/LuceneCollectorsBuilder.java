@@ -6,78 +6,75 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 
 class LuceneCollectorsBuilder {
 
-	private Sort sort;
+	private final Sort sort;
 
-	private int maxDocs;
+	private final int maxDocs;
 
-	private TopDocsCollector<?> topDocsCollector;
+	private final ScoreDoc after;
 
-	private TotalHitCountCollector totalHitCountCollector;
+	private boolean topDocsRequired = false;
 
-	private List<Collector> luceneCollectors = new ArrayList<>();
+	private List<LuceneSearchAggregation> aggregations = Collections.emptyList();
+
+	private Long hitCountThreshold;
+
+	private SearchTimeout timeout;
 
 	LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null );
+	}
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top docs to collect.
+	 * @param after The last hit of the previous page when scrolling, or {@code null} to collect the top hits.
+	 */
+	LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
+		this.after = after;
 	}
 
 	void requireTopDocsCollector() {
-		if ( maxDocs == 0 ) {
-			if ( totalHitCountCollector == null ) {
-				totalHitCountCollector = new TotalHitCountCollector();
-				luceneCollectors.add( totalHitCountCollector );
-			}
-		}
-		else if ( topDocsCollector == null ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
-			luceneCollectors.add( topDocsCollector );
-		}
+		topDocsRequired = true;
 	}
 
-	void addCollector(Collector collector) {
-		luceneCollectors.add( collector );
+	void requireAggregationCollectors(List<LuceneSearchAggregation> aggregations) {
+		this.aggregations = aggregations;
 	}
 
-	LuceneCollectors build() {
-		Collector compositeCollector;
-		if ( luceneCollectors.size() == 1 ) {
-			compositeCollector = topDocsCollector != null ? topDocsCollector : totalHitCountCollector;
-		}
-		else {
-			compositeCollector = MultiCollector.wrap( luceneCollectors );
-		}
+	/**
+	 * @param hitCountThreshold The number of hits to count exactly; above this threshold,
+	 * collection may end early and the total hit count may only be a lower bound.
+	 */
+	void setHitCountThreshold(long hitCountThreshold) {
+		this.hitCountThreshold = hitCountThreshold;
+	}
 
-		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
+	/**
+	 * @param timeout The timeout, starting when {@link #build()} is called.
+	 */
+	void setTimeout(SearchTimeout timeout) {
+		this.timeout = timeout;
 	}
 
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
-		TopDocsCollector<?> topDocsCollector;
-		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
-		}
-		else {
-			topDocsCollector = TopFieldCollector.create(
-					sort,
-					maxDocs,
-					true,
-					true,
-					true,
-					true
-			);
-		}
-		return topDocsCollector;
+	/**
+	 * @return A collector manager, creating one set of collectors per index slice
+	 * and reducing the results of all slices into a {@link LuceneCollectors}.
+	 */
+	CollectorManager<Collector, LuceneCollectors> build() {
+		return new LuceneCollectorManager( sort, topDocsRequired ? maxDocs : 0, after, aggregations,
+				hitCountThreshold, timeout );
 	}
 }
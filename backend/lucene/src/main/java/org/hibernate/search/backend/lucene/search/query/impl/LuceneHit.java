@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
+
+/**
+ * A search hit, as passed to {@link HitExtractor}s.
+ * <p>
+ * Gives access to the stored fields of the hit, as well as to the segment it belongs to,
+ * so that hit extractors can read doc values instead of loading stored fields.
+ * <p>
+ * Instances are mutable and reused from one hit to the next: they must not be kept after extraction.
+ */
+public final class LuceneHit {
+
+	private Document document;
+	private LeafReader leafReader;
+	private int leafDocId;
+
+	LuceneHit() {
+	}
+
+	void reset(Document document, LeafReader leafReader, int leafDocId) {
+		this.document = document;
+		this.leafReader = leafReader;
+		this.leafDocId = leafDocId;
+	}
+
+	/**
+	 * @return The Lucene document holding the stored fields contributed by the hit extractors.
+	 */
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * @return The reader of the segment this hit belongs to.
+	 */
+	public LeafReader getLeafReader() {
+		return leafReader;
+	}
+
+	/**
+	 * @return The id of this hit, relative to the segment it belongs to.
+	 */
+	public int getLeafDocId() {
+		return leafDocId;
+	}
+}
@@ -6,44 +6,71 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
-import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.GroupableSearchQuery;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 
 /**
  * @author Guillaume Smet
  */
-public class LuceneSearchQuery<T> implements SearchQuery<T> {
+public class LuceneSearchQuery<T> implements GroupableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSearchQueryGroupExecutor groupExecutor;
 	private final LuceneWorkFactory workFactory;
 	private final Set<String> indexNames;
 	private final Set<ReaderProvider> readerProviders;
+	private final ExecutorService searchExecutor;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final List<LuceneSearchAggregation> luceneAggregations;
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
 
 	private Long firstResultIndex = 0L;
 	private Long maxResultsCount;
+	private final Long hitCountThreshold;
+	private final SearchTimeout timeout;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSearchQueryGroupExecutor groupExecutor,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
-			Query luceneQuery, Sort luceneSort, HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor) {
+			ExecutorService searchExecutor,
+			Query luceneQuery, Sort luceneSort, List<LuceneSearchAggregation> luceneAggregations,
+			Long hitCountThreshold, SearchTimeout timeout,
+			HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.groupExecutor = groupExecutor;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
 		this.readerProviders = readerProviders;
+		this.searchExecutor = searchExecutor;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.luceneAggregations = luceneAggregations;
+		this.hitCountThreshold = hitCountThreshold;
+		this.timeout = timeout;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
 	}
@@ -70,12 +97,61 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		LuceneQueryWork<SearchResult<T>> work = workFactory.search( new LuceneSearcher<T>(
+		return queryOrchestrator.submit( createSearchWork() ).join().loadBlocking();
+	}
+
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		return queryOrchestrator.submit( createSearchWork() )
+				.thenApply( LuceneLoadableSearchResult::loadBlocking );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		/*
+		 * The search itself does not involve remote calls and is executed in the calling thread;
+		 * only the loading of objects is offloaded to the loading executor.
+		 */
+		return queryOrchestrator.submit( createSearchWork() )
+				.thenApplyAsync( LuceneLoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
+	@Override
+	public LuceneSearchQueryGroupExecutor getGroupExecutor() {
+		return groupExecutor;
+	}
+
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork() {
+		return createSearchWork( readerProviders );
+	}
+
+	LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork(IndexReaderSnapshot snapshot) {
+		return createSearchWork( snapshot.wrap( readerProviders ) );
+	}
+
+	private LuceneQueryWork<LuceneLoadableSearchResult<T>> createSearchWork(Set<ReaderProvider> readerProviders) {
+		return workFactory.search( new LuceneSearcher<T>(
 				indexNames,
 				readerProviders,
-				luceneQuery, luceneSort,
-				firstResultIndex, maxResultsCount,
+				searchExecutor,
+				luceneQuery, luceneSort, luceneAggregations,
+				firstResultIndex, maxResultsCount, hitCountThreshold, timeout,
 				hitExtractor, searchResultExtractor ) );
-		return queryOrchestrator.submit( work ).join();
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		if ( chunkSize <= 0 ) {
+			throw log.invalidScrollChunkSize( chunkSize );
+		}
+		return new LuceneSearchScroll<>( queryOrchestrator, workFactory,
+				new LuceneSearcher<T>(
+						indexNames,
+						readerProviders,
+						searchExecutor,
+						luceneQuery, luceneSort, Collections.emptyList(),
+						null, null, null, null,
+						hitExtractor, searchResultExtractor ),
+				chunkSize );
 	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexReaderSnapshot;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.GroupableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryGroupExecutor;
+
+/**
+ * Executes groups of queries targeting the same backend on a single snapshot of the indexes.
+ */
+class LuceneSearchQueryGroupExecutor implements SearchQueryGroupExecutor {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+
+	LuceneSearchQueryGroupExecutor(LuceneQueryWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> execute(List<? extends GroupableSearchQuery<?>> queries) {
+		List<LuceneLoadableSearchResult<?>> loadableResults = new ArrayList<>( queries.size() );
+		try ( IndexReaderSnapshot snapshot = new IndexReaderSnapshot() ) {
+			/*
+			 * Creating the works acquires the readers of all queries before any of them executes,
+			 * so that every query sees the same version of each index.
+			 * Readers are released when the snapshot is closed, even if a query fails.
+			 */
+			List<LuceneQueryWork<? extends LuceneLoadableSearchResult<?>>> works = new ArrayList<>( queries.size() );
+			for ( GroupableSearchQuery<?> query : queries ) {
+				// Only Lucene queries from this backend return this executor
+				works.add( ( (LuceneSearchQuery<?>) query ).createSearchWork( snapshot ) );
+			}
+			for ( LuceneQueryWork<? extends LuceneLoadableSearchResult<?>> work : works ) {
+				loadableResults.add( queryOrchestrator.submit( work ).join() );
+			}
+		}
+
+		List<SearchResult<?>> results = new ArrayList<>( loadableResults.size() );
+		for ( LuceneLoadableSearchResult<?> loadableResult : loadableResults ) {
+			results.add( loadableResult.loadBlocking() );
+		}
+		return results;
+	}
+
+}
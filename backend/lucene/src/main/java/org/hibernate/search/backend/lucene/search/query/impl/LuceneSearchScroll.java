@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.util.EventContext;
+
+/**
+ * A scroll over the hits of a Lucene search query.
+ * <p>
+ * The index reader is opened when the scroll is created and kept open until the scroll is closed,
+ * so that every chunk is collected from the same snapshot of the index.
+ * Each chunk is collected using "search after" semantics,
+ * so that only {@code chunkSize} hits are kept in memory at any given time, regardless of the position in the results.
+ */
+public class LuceneSearchScroll<T> implements SearchScroll<T> {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearcher<T> searcher;
+	private final int chunkSize;
+
+	private ScoreDoc lastHit;
+	private boolean exhausted = false;
+	private List<T> nextChunk;
+
+	LuceneSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator, LuceneWorkFactory workFactory,
+			LuceneSearcher<T> searcher, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + searcher.getLuceneQuery() + ", chunkSize=" + chunkSize + "]";
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( nextChunk == null && !exhausted ) {
+			LuceneQueryWork<List<T>> work = workFactory.scroll( this );
+			List<T> chunk = queryOrchestrator.submit( work ).join();
+			if ( !chunk.isEmpty() ) {
+				nextChunk = chunk;
+			}
+		}
+		return nextChunk != null;
+	}
+
+	@Override
+	public List<T> next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		List<T> chunk = nextChunk;
+		nextChunk = null;
+		return chunk;
+	}
+
+	@Override
+	public void close() {
+		exhausted = true;
+		nextChunk = null;
+		searcher.close();
+	}
+
+	/**
+	 * Collect the next chunk of hits.
+	 * <p>
+	 * Not meant to be called directly: use {@link #hasNext()} and {@link #next()} instead.
+	 *
+	 * @return The next chunk of hits, or an empty list if there are no more hits.
+	 * @throws IOException If the index cannot be read.
+	 */
+	public List<T> fetchNextChunk() throws IOException {
+		if ( exhausted ) {
+			return Collections.emptyList();
+		}
+
+		TopDocs topDocs = searcher.searchAfter( lastHit, chunkSize );
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		if ( scoreDocs.length < chunkSize ) {
+			// Avoid an additional, useless search when we already know there are no more hits
+			exhausted = true;
+		}
+		if ( scoreDocs.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		lastHit = scoreDocs[scoreDocs.length - 1];
+		return searcher.extractHits( topDocs );
+	}
+
+	public Query getLuceneQuery() {
+		return searcher.getLuceneQuery();
+	}
+
+	public EventContext getEventContext() {
+		return searcher.getEventContext();
+	}
+}
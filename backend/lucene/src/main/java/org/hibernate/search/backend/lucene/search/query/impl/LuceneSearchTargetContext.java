@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.SearchAggregationFactoryImpl;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.predicate.impl.SearchPredicateFactoryImpl;
@@ -20,11 +21,13 @@
 
 	private final SearchPredicateFactoryImpl searchPredicateFactory;
 	private final SearchSortFactoryImpl searchSortFactory;
+	private final SearchAggregationFactoryImpl searchAggregationFactory;
 	private final SearchQueryFactoryImpl searchQueryFactory;
 
 	public LuceneSearchTargetContext(SearchBackendContext searchBackendContext, LuceneSearchTargetModel searchTargetModel) {
 		this.searchPredicateFactory = new SearchPredicateFactoryImpl( searchTargetModel );
 		this.searchSortFactory = new SearchSortFactoryImpl( searchTargetModel );
+		this.searchAggregationFactory = new SearchAggregationFactoryImpl( searchTargetModel );
 		this.searchQueryFactory = new SearchQueryFactoryImpl( searchBackendContext, searchTargetModel );
 	}
 
@@ -38,6 +41,11 @@ public SearchSortFactoryImpl getSearchSortFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public SearchAggregationFactoryImpl getSearchAggregationFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public SearchQueryFactoryImpl getSearchQueryFactory() {
 		return searchQueryFactory;
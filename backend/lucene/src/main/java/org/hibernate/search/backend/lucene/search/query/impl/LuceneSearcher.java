@@ -7,63 +7,132 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.logging.spi.EventContexts;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final Set<String> indexNames;
 	private final IndexSearcher indexSearcher;
+	private final IndexSearcher parallelIndexSearcher;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final List<LuceneSearchAggregation> luceneAggregations;
 
 	private final long firstResultIndex;
 	private final Long maxResultsCount;
+	private final Long hitCountThreshold;
+	private final SearchTimeout timeout;
 
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
 
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
+			ExecutorService searchExecutor,
 			Query luceneQuery,
 			Sort luceneSort,
+			List<LuceneSearchAggregation> luceneAggregations,
 			Long firstResultIndex,
 			Long maxResultsCount,
+			Long hitCountThreshold,
+			SearchTimeout timeout,
 			HitExtractor<?> hitExtractor,
 			SearchResultExtractor<T> searchResultExtractor) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		IndexReader indexReader = MultiReaderFactory.openReader( indexNames, readerProviders );
+		this.indexSearcher = new IndexSearcher( indexReader );
+		this.parallelIndexSearcher = searchExecutor == null ? null
+				: new SlicingIndexSearcher( indexReader, searchExecutor );
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.luceneAggregations = luceneAggregations;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex.longValue();
 		this.maxResultsCount = maxResultsCount;
+		this.hitCountThreshold = hitCountThreshold;
+		this.timeout = timeout;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
 	}
 
-	public SearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
-
+	public LuceneLoadableSearchResult<T> execute() throws IOException {
 		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
 		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
-		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+		if ( !luceneAggregations.isEmpty() ) {
+			luceneCollectorsBuilder.requireAggregationCollectors( luceneAggregations );
+		}
+		if ( hitCountThreshold != null ) {
+			luceneCollectorsBuilder.setHitCountThreshold( hitCountThreshold );
+		}
+		if ( timeout != null ) {
+			luceneCollectorsBuilder.setTimeout( timeout );
+		}
+
+		// Each slice collects up to maxDocs top docs: only search slices in parallel when the window is bounded
+		IndexSearcher searcher = maxResultsCount == null ? indexSearcher : getParallelIndexSearcher();
+		LuceneCollectors luceneCollectors = searcher.search( luceneQuery, luceneCollectorsBuilder.build() );
+
+		boolean timedOut = luceneCollectors.isTimedOut();
+		if ( timedOut && timeout.isExceptionOnTimeout() ) {
+			throw log.queryTimedOut( luceneQuery, timeout.getTimeoutMs(), getEventContext() );
+		}
+
+		return searchResultExtractor.extract( indexSearcher,
+				luceneCollectors.getTotalHits(), luceneCollectors.isTotalHitsExact(),
+				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ),
+				luceneCollectors.getAggregations(), timedOut );
+	}
+
+	/**
+	 * Execute the query, collecting the hits that come right after the given hit in the sort order.
+	 * <p>
+	 * The index reader is not released after this call, so that this method can be called repeatedly
+	 * on the same snapshot of the index.
+	 *
+	 * @param after The last hit of the previous chunk, or {@code null} to collect the first chunk.
+	 * @param chunkSize The maximum number of hits to collect.
+	 * @return The collected hits. May be empty, never {@code null}.
+	 * @throws IOException If the index cannot be read.
+	 */
+	TopDocs searchAfter(ScoreDoc after, int chunkSize) throws IOException {
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, chunkSize, after );
+		luceneCollectorsBuilder.requireTopDocsCollector();
+		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		LuceneCollectors luceneCollectors = getParallelIndexSearcher().search(
+				luceneQuery, luceneCollectorsBuilder.build()
+		);
 
-		return searchResultExtractor.extract( indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ) );
+		return luceneCollectors.getTopDocs( 0L, (long) chunkSize );
+	}
+
+	List<T> extractHits(TopDocs topDocs) throws IOException {
+		return searchResultExtractor.extract( indexSearcher, topDocs.totalHits, true, topDocs,
+				Collections.emptyMap(), false )
+				.loadBlocking().getHits();
 	}
 
 	public Query getLuceneQuery() {
@@ -83,6 +152,10 @@ public void close() {
 		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
 	}
 
+	private IndexSearcher getParallelIndexSearcher() {
+		return parallelIndexSearcher == null ? indexSearcher : parallelIndexSearcher;
+	}
+
 	private int getMaxDocs() {
 		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
 		// as it is done in Search 5.
@@ -8,7 +8,6 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 
 /**
@@ -40,7 +39,7 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
+	public void extract(ProjectionHitCollector collector, LuceneHit hit) {
 		collector.collectProjection( null );
 	}
 }
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.engine.search.query.spi.LoadingHitCollector;
 
 class ObjectHitExtractor extends AbstractDocumentReferenceHitExtractor<LoadingHitCollector> {
@@ -21,7 +20,7 @@ private ObjectHitExtractor() {
 	}
 
 	@Override
-	public void extract(LoadingHitCollector collector, Document document) {
-		collector.collectForLoading( extractDocumentReference( document ) );
+	public void extract(LoadingHitCollector collector, LuceneHit hit) {
+		collector.collectForLoading( extractDocumentReference( hit.getDocument() ) );
 	}
 }
@@ -9,6 +9,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
@@ -24,16 +25,21 @@ public class SearchBackendContext {
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
+	private final ExecutorService searchExecutor;
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final LuceneSearchQueryGroupExecutor groupExecutor;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
+			ExecutorService searchExecutor,
 			LuceneQueryWorkOrchestrator orchestrator) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.searchExecutor = searchExecutor;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.groupExecutor = new LuceneSearchQueryGroupExecutor( orchestrator );
 	}
 
 	@Override
@@ -58,7 +64,9 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 		return new SearchQueryBuilderImpl<>(
 				workFactory,
 				orchestrator,
+				groupExecutor,
 				multiTenancyStrategy,
+				searchExecutor,
 				searchTargetModel,
 				sessionContext,
 				new ReusableDocumentStoredFieldVisitor( storedFields ),
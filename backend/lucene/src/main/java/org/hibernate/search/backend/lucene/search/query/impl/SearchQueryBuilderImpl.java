@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
@@ -28,7 +30,9 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSearchQueryGroupExecutor groupExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ExecutorService searchExecutor;
 
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final String tenantId;
@@ -38,10 +42,15 @@
 	private final HitAggregator<C, List<T>> hitAggregator;
 	private final LuceneSearchQueryElementCollector elementCollector;
 
+	private Long hitCountThreshold;
+	private SearchTimeout timeout;
+
 	SearchQueryBuilderImpl(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSearchQueryGroupExecutor groupExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
+			ExecutorService searchExecutor,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContext sessionContext,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
@@ -49,7 +58,9 @@
 			HitAggregator<C, List<T>> hitAggregator) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.groupExecutor = groupExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.searchExecutor = searchExecutor;
 
 		this.searchTargetModel = searchTargetModel;
 		this.tenantId = sessionContext.getTenantIdentifier();
@@ -71,6 +82,16 @@ public void addRoutingKey(String routingKey) {
 		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		this.timeout = new SearchTimeout( timeout, timeUnit, exceptionOnTimeout );
+	}
+
+	@Override
+	public void setHitCountThreshold(long threshold) {
+		this.hitCountThreshold = threshold;
+	}
+
 	private SearchQuery<T> build() {
 		SearchResultExtractor<T> searchResultExtractor = new SearchResultExtractorImpl<>( storedFieldVisitor, hitExtractor, hitAggregator );
 
@@ -78,10 +99,12 @@ private SearchQuery<T> build() {
 		luceneQueryBuilder.add( elementCollector.toLuceneQueryPredicate(), Occur.MUST );
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
-		return new LuceneSearchQuery<T>( queryOrchestrator, workFactory,
-				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
+		return new LuceneSearchQuery<T>( queryOrchestrator, groupExecutor, workFactory,
+				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(), searchExecutor,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), tenantId ),
 				elementCollector.toLuceneSort(),
+				elementCollector.toLuceneAggregations(),
+				hitCountThreshold, timeout,
 				hitExtractor, searchResultExtractor );
 	}
 
@@ -7,13 +7,15 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
-import org.hibernate.search.engine.search.SearchResult;
 
 public interface SearchResultExtractor<T> {
 
-	SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs) throws IOException;
+	LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, boolean totalHitsExact,
+			TopDocs topDocs,
+			Map<String, Map<Object, Long>> aggregations, boolean timedOut) throws IOException;
 
 }
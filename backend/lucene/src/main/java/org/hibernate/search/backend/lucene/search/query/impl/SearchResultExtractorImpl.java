@@ -7,20 +7,23 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
 
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 
+	private final boolean loadStoredFields;
+
 	private final HitExtractor<? super C> hitExtractor;
 
 	private final HitAggregator<C, List<T>> hitAggregator;
@@ -30,43 +33,48 @@ public SearchResultExtractorImpl(
 			HitExtractor<? super C> hitExtractor,
 			HitAggregator<C, List<T>> hitAggregator) {
 		this.storedFieldVisitor = storedFieldVisitor;
+		// Hit extractors relying on doc values only do not require stored fields
+		this.loadStoredFields = storedFieldVisitor.countAcceptedFields() > 0;
 		this.hitExtractor = hitExtractor;
 		this.hitAggregator = hitAggregator;
 	}
 
 	@Override
-	public SearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs) throws IOException {
-		List<T> finalHits = extractHits( indexSearcher, topDocs );
-
-		return new SearchResult<T>() {
-
-			@Override
-			public long getHitCount() {
-				return totalHits;
-			}
-
-			@Override
-			public List<T> getHits() {
-				return finalHits;
-			}
-		};
+	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, boolean totalHitsExact,
+			TopDocs topDocs,
+			Map<String, Map<Object, Long>> aggregations, boolean timedOut) throws IOException {
+		collectHits( indexSearcher, topDocs );
+		// Hits will be built, possibly loading objects, when the result is loaded
+		return new LuceneLoadableSearchResult<>( totalHits, totalHitsExact, hitAggregator, aggregations, timedOut );
 	}
 
-	private List<T> extractHits(IndexSearcher indexSearcher, TopDocs topDocs) throws IOException {
+	private void collectHits(IndexSearcher indexSearcher, TopDocs topDocs) throws IOException {
 		if ( topDocs == null ) {
-			return Collections.emptyList();
+			hitAggregator.init( 0 );
+			return;
 		}
 
 		hitAggregator.init( topDocs.scoreDocs.length );
 
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+		Document emptyDocument = loadStoredFields ? null : new Document();
+		LuceneHit luceneHit = new LuceneHit();
+
 		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
+			Document document;
+			if ( loadStoredFields ) {
+				indexSearcher.doc( hit.doc, storedFieldVisitor );
+				document = storedFieldVisitor.getDocumentAndReset();
+			}
+			else {
+				document = emptyDocument;
+			}
+
+			LeafReaderContext leaf = leaves.get( ReaderUtil.subIndex( hit.doc, leaves ) );
+			luceneHit.reset( document, leaf.reader(), hit.doc - leaf.docBase );
 
 			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, document );
+			hitExtractor.extract( hitCollector, luceneHit );
 		}
-
-		return Collections.unmodifiableList( hitAggregator.build() );
 	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.util.Counter;
+
+/**
+ * The timeout of a search query, and what to do when it is exceeded.
+ */
+final class SearchTimeout {
+
+	private final long timeoutMs;
+	private final boolean exceptionOnTimeout;
+	private final Counter clock;
+
+	SearchTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		// Same clock as Lucene's TimeLimitingCollector: a counter updated by a background thread, cheap to read
+		this( timeout, timeUnit, exceptionOnTimeout, TimeLimitingCollector.getGlobalCounter() );
+	}
+
+	/**
+	 * @param timeout The timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @param exceptionOnTimeout Whether an exception should be thrown when the timeout is exceeded.
+	 * @param clock The clock to measure time with, in milliseconds.
+	 */
+	SearchTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout, Counter clock) {
+		// Never round down to zero: the timeout would be exceeded before anything is collected
+		this.timeoutMs = Math.max( 1L, timeUnit.toMillis( timeout ) );
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.clock = clock;
+	}
+
+	long getTimeoutMs() {
+		return timeoutMs;
+	}
+
+	boolean isExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
+	Counter getClock() {
+		return clock;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[timeoutMs=" + timeoutMs + ", exceptionOnTimeout=" + exceptionOnTimeout + "]";
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An index searcher searching slices of the index in parallel using an executor.
+ * <p>
+ * By default, Lucene creates one slice per segment, which for a multi-index search
+ * over many small segments leads to many tiny tasks.
+ * Instead, neighbouring segments from all the targeted indexes are grouped into slices of comparable sizes:
+ * large segments get their own slice, while runs of consecutive small segments are grouped together.
+ * <p>
+ * Slices preserve the order of segments: segments in a slice are consecutive,
+ * and slices are in the same order as the segments they contain.
+ * Thus collecting slices one after the other visits documents in index order,
+ * which matters both when merging the results of each slice (ties are broken by slice, then by document)
+ * and when terminating collection early based on index order.
+ */
+class SlicingIndexSearcher extends IndexSearcher {
+
+	/**
+	 * The maximum number of documents in a slice containing multiple segments.
+	 */
+	private static final int MAX_DOCS_PER_SLICE = 250_000;
+
+	/**
+	 * The maximum number of segments in a slice.
+	 */
+	private static final int MAX_SEGMENTS_PER_SLICE = 5;
+
+	SlicingIndexSearcher(IndexReader reader, ExecutorService executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		// Note: this method is called from the superclass constructor; it must not rely on instance fields.
+		List<LeafSlice> slices = new ArrayList<>();
+		List<LeafReaderContext> currentGroup = new ArrayList<>();
+		long currentGroupDocCount = 0L;
+		// Leaves are in index order (ascending docBase): keep that order
+		for ( LeafReaderContext leaf : leaves ) {
+			int leafDocCount = leaf.reader().maxDoc();
+			if ( leafDocCount >= MAX_DOCS_PER_SLICE ) {
+				if ( !currentGroup.isEmpty() ) {
+					slices.add( new LeafSlice( currentGroup.toArray( new LeafReaderContext[0] ) ) );
+					currentGroup.clear();
+					currentGroupDocCount = 0L;
+				}
+				slices.add( new LeafSlice( leaf ) );
+				continue;
+			}
+			currentGroup.add( leaf );
+			currentGroupDocCount += leafDocCount;
+			if ( currentGroupDocCount >= MAX_DOCS_PER_SLICE || currentGroup.size() >= MAX_SEGMENTS_PER_SLICE ) {
+				slices.add( new LeafSlice( currentGroup.toArray( new LeafReaderContext[0] ) ) );
+				currentGroup.clear();
+				currentGroupDocCount = 0L;
+			}
+		}
+		if ( !currentGroup.isEmpty() ) {
+			slices.add( new LeafSlice( currentGroup.toArray( new LeafReaderContext[0] ) ) );
+		}
+		return slices.toArray( new LeafSlice[0] );
+	}
+}
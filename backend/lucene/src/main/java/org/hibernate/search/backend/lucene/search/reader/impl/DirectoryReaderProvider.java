@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.ReaderManager;
+import org.apache.lucene.store.Directory;
+
+/**
+ * A {@link ReaderProvider} sharing a single reader between all queries targeting an index
+ * whose directory is written to by another process.
+ * <p>
+ * The reader is reopened if a new commit was published to the directory,
+ * at most once every {@code refreshInterval} milliseconds.
+ * Until a first commit is published, queries are given an empty reader.
+ */
+public class DirectoryReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final Directory directory;
+	private final long refreshInterval;
+
+	private final IndexReader emptyReader;
+
+	// Created lazily, when the directory contains an index
+	private volatile ReaderManager readerManager;
+	private volatile long lastRefreshTime;
+
+	public DirectoryReaderProvider(EventContext eventContext, Directory directory, long refreshInterval) {
+		this.eventContext = eventContext;
+		this.directory = directory;
+		this.refreshInterval = refreshInterval;
+		try {
+			this.emptyReader = new MultiReader();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ReaderManager::close, readerManager );
+			closer.push( IndexReader::close, emptyReader );
+		}
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			ReaderManager manager = getReaderManager();
+			if ( manager == null ) {
+				return emptyReader;
+			}
+			refreshIfNecessary( manager );
+			return manager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		if ( reader == emptyReader ) {
+			// Shared and never reopened: only closed along with this provider
+			return;
+		}
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	private ReaderManager getReaderManager() throws IOException {
+		ReaderManager manager = readerManager;
+		if ( manager != null ) {
+			return manager;
+		}
+		long now = System.currentTimeMillis();
+		if ( now - lastRefreshTime < refreshInterval ) {
+			return null;
+		}
+		synchronized ( this ) {
+			if ( readerManager == null ) {
+				lastRefreshTime = now;
+				if ( DirectoryReader.indexExists( directory ) ) {
+					readerManager = new ReaderManager( directory );
+				}
+			}
+			return readerManager;
+		}
+	}
+
+	private void refreshIfNecessary(ReaderManager manager) throws IOException {
+		long now = System.currentTimeMillis();
+		if ( now - lastRefreshTime < refreshInterval ) {
+			return;
+		}
+		lastRefreshTime = now;
+		// Does not wait if another thread is already refreshing: the current reader is good enough meanwhile
+		manager.maybeRefresh();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A snapshot of multiple indexes, shared by multiple queries.
+ * <p>
+ * The reader of each index is acquired from the index's provider as soon as a query targeting that index
+ * is {@link #wrap(Set) wrapped}, i.e. before any query executes;
+ * every query then reuses the same readers, and thus sees the same version of each index,
+ * even if indexes are changed in the meantime.
+ * Readers are released to their provider when the snapshot is closed.
+ */
+public final class IndexReaderSnapshot implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Map<ReaderProvider, SnapshotReaderProvider> snapshotReaderProviders = new LinkedHashMap<>();
+
+	/**
+	 * Acquire the readers of the given indexes, unless they are already part of this snapshot.
+	 *
+	 * @param readerProviders The reader providers of the indexes targeted by a query.
+	 * @return Reader providers returning readers from this snapshot.
+	 */
+	public Set<ReaderProvider> wrap(Set<ReaderProvider> readerProviders) {
+		Set<ReaderProvider> result = new LinkedHashSet<>( readerProviders.size() );
+		for ( ReaderProvider readerProvider : readerProviders ) {
+			SnapshotReaderProvider snapshotReaderProvider = snapshotReaderProviders.get( readerProvider );
+			if ( snapshotReaderProvider == null ) {
+				snapshotReaderProvider = new SnapshotReaderProvider( readerProvider );
+				snapshotReaderProviders.put( readerProvider, snapshotReaderProvider );
+				// Acquired now rather than when the query executes, so that all queries see the same point in time
+				snapshotReaderProvider.acquire();
+			}
+			result.add( snapshotReaderProvider );
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		for ( SnapshotReaderProvider snapshotReaderProvider : snapshotReaderProviders.values() ) {
+			snapshotReaderProvider.release();
+		}
+		snapshotReaderProviders.clear();
+	}
+
+	private static final class SnapshotReaderProvider implements ReaderProvider {
+
+		private final ReaderProvider delegate;
+		private IndexReader reader;
+
+		private SnapshotReaderProvider(ReaderProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		synchronized void acquire() {
+			reader = delegate.openIndexReader();
+		}
+
+		@Override
+		public synchronized IndexReader openIndexReader() {
+			// Each query holds its own reference, released in closeIndexReader
+			reader.incRef();
+			return reader;
+		}
+
+		@Override
+		public void closeIndexReader(IndexReader reader) {
+			// Do not use close(), which only works once per reader instance
+			try {
+				reader.decRef();
+			}
+			catch (IOException e) {
+				log.couldNotCloseResource( e );
+			}
+		}
+
+		synchronized void release() {
+			if ( reader != null ) {
+				delegate.closeIndexReader( reader );
+				reader = null;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[delegate=" + delegate + "]";
+		}
+	}
+
+}
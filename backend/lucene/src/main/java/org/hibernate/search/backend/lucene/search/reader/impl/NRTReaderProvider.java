@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.ReaderManager;
+
+/**
+ * A {@link ReaderProvider} sharing a single near-real-time reader between all queries targeting an index.
+ * <p>
+ * Queries only acquire and release references to the shared reader;
+ * the reader itself is only reopened when the index was changed
+ * (see {@link #setIndexChanged()}), and at most once every {@code refreshInterval} milliseconds.
+ */
+public class NRTReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final ReaderManager readerManager;
+	private final long refreshInterval;
+
+	private final AtomicLong changeGeneration = new AtomicLong( 0L );
+	// Protected by synchronization on updates
+	private volatile long refreshedGeneration = 0L;
+	private volatile long lastRefreshTime;
+
+	public NRTReaderProvider(EventContext eventContext, IndexWriter indexWriter, long refreshInterval) {
+		this.eventContext = eventContext;
+		try {
+			this.readerManager = new ReaderManager( indexWriter, true, false );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+		this.refreshInterval = refreshInterval;
+		this.lastRefreshTime = System.currentTimeMillis();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	@Override
+	public void close() throws IOException {
+		readerManager.close();
+	}
+
+	/**
+	 * Mark the shared reader as stale, so that it will be refreshed before being handed to the next query.
+	 * <p>
+	 * Expected to be called after changes were flushed or committed to the index.
+	 */
+	public void setIndexChanged() {
+		changeGeneration.incrementAndGet();
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			refreshIfNecessary();
+			return readerManager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	private void refreshIfNecessary() throws IOException {
+		long targetGeneration = changeGeneration.get();
+		if ( targetGeneration <= refreshedGeneration ) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if ( now - lastRefreshTime < refreshInterval ) {
+			return;
+		}
+		lastRefreshTime = now;
+		/*
+		 * If another thread is already refreshing, this will wait for it to finish and then refresh again,
+		 * so that changes flushed before this call are guaranteed to be visible.
+		 */
+		readerManager.maybeRefreshBlocking();
+		markRefreshed( targetGeneration );
+	}
+
+	private synchronized void markRefreshed(long generation) {
+		if ( generation > refreshedGeneration ) {
+			refreshedGeneration = generation;
+		}
+	}
+}
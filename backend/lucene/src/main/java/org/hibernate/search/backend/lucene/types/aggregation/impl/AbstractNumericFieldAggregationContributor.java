@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.NumericRangeAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.NumericTermsAggregation;
+import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An aggregation contributor for fields whose values are stored as longs in {@link org.apache.lucene.index.NumericDocValues}.
+ *
+ * @param <F> The type of the index field.
+ */
+abstract class AbstractNumericFieldAggregationContributor<F> implements LuceneFieldAggregationContributor<F> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	@Override
+	public LuceneSearchAggregation terms(String name, String absoluteFieldPath, LuceneFieldConverter<F, ?> converter,
+			int maxTermCount) {
+		return new NumericTermsAggregation( name, absoluteFieldPath, maxTermCount,
+				value -> converter.convertFromProjection( decode( value ) ) );
+	}
+
+	@Override
+	public LuceneSearchAggregation range(String name, String absoluteFieldPath, LuceneFieldConverter<F, ?> converter,
+			List<AggregationRange> ranges) {
+		List<String> keys = new ArrayList<>( ranges.size() );
+		List<Long> froms = new ArrayList<>( ranges.size() );
+		List<Long> tos = new ArrayList<>( ranges.size() );
+		for ( AggregationRange range : ranges ) {
+			keys.add( range.getKey() );
+			froms.add( convertBound( absoluteFieldPath, converter, range.getFrom() ) );
+			tos.add( convertBound( absoluteFieldPath, converter, range.getTo() ) );
+		}
+		return new NumericRangeAggregation( name, absoluteFieldPath, keys, froms, tos );
+	}
+
+	/**
+	 * @param value A value read from doc values.
+	 * @return The corresponding field value.
+	 */
+	protected abstract F decode(long value);
+
+	private Long convertBound(String absoluteFieldPath, LuceneFieldConverter<F, ?> converter, Object bound) {
+		if ( bound == null ) {
+			return null;
+		}
+		Object convertedBound;
+		try {
+			convertedBound = converter.convertFromDsl( bound );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+		return convertedBound == null ? null : ( (Number) convertedBound ).longValue();
+	}
+}
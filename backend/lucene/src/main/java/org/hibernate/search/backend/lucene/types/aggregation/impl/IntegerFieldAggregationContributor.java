@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+public final class IntegerFieldAggregationContributor extends AbstractNumericFieldAggregationContributor<Integer> {
+
+	public static final IntegerFieldAggregationContributor INSTANCE = new IntegerFieldAggregationContributor();
+
+	private IntegerFieldAggregationContributor() {
+	}
+
+	@Override
+	protected Integer decode(long value) {
+		return (int) value;
+	}
+}
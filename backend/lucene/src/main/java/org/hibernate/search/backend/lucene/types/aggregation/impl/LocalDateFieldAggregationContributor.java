@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.time.LocalDate;
+
+public final class LocalDateFieldAggregationContributor extends AbstractNumericFieldAggregationContributor<LocalDate> {
+
+	public static final LocalDateFieldAggregationContributor INSTANCE = new LocalDateFieldAggregationContributor();
+
+	private LocalDateFieldAggregationContributor() {
+	}
+
+	@Override
+	protected LocalDate decode(long value) {
+		return LocalDate.ofEpochDay( value );
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+
+/**
+ * @param <F> The type of the index field.
+ */
+public interface LuceneFieldAggregationContributor<F> {
+
+	LuceneSearchAggregation terms(String name, String absoluteFieldPath, LuceneFieldConverter<F, ?> converter,
+			int maxTermCount);
+
+	LuceneSearchAggregation range(String name, String absoluteFieldPath, LuceneFieldConverter<F, ?> converter,
+			List<AggregationRange> ranges);
+
+	// equals()/hashCode() needs to be implemented if the aggregation contributor is not a singleton
+
+	boolean equals(Object obj);
+
+	int hashCode();
+}
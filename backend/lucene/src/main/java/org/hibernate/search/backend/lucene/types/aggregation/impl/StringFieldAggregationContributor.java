@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.StringTermsAggregation;
+import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public final class StringFieldAggregationContributor implements LuceneFieldAggregationContributor<String> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final StringFieldAggregationContributor INSTANCE = new StringFieldAggregationContributor();
+
+	private StringFieldAggregationContributor() {
+	}
+
+	@Override
+	public LuceneSearchAggregation terms(String name, String absoluteFieldPath,
+			LuceneFieldConverter<String, ?> converter, int maxTermCount) {
+		return new StringTermsAggregation( name, absoluteFieldPath, maxTermCount, converter::convertFromProjection );
+	}
+
+	@Override
+	public LuceneSearchAggregation range(String name, String absoluteFieldPath,
+			LuceneFieldConverter<String, ?> converter, List<AggregationRange> ranges) {
+		throw log.unsupportedRangeAggregation( EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+	}
+}
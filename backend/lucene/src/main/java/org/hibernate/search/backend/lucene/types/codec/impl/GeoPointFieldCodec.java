@@ -17,6 +17,7 @@
 import org.apache.lucene.document.LatLonPoint;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -48,9 +49,8 @@ public GeoPointFieldCodec(String absoluteFieldPath, Store store, Sortable sortab
 				longitudeAbsoluteFieldPath = null;
 				storedFields = Collections.emptySet();
 				break;
-			case COMPRESS:
-				// TODO HSEARCH-3081
 			case YES:
+			case COMPRESS:
 				latitudeAbsoluteFieldPath = internalFieldName( absoluteFieldPath, LATITUDE );
 				longitudeAbsoluteFieldPath = internalFieldName( absoluteFieldPath, LONGITUDE );
 				storedFields = CollectionHelper.asSet( latitudeAbsoluteFieldPath, longitudeAbsoluteFieldPath );
@@ -71,12 +71,10 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			case NO:
 				break;
 			case YES:
+			case COMPRESS:
 				documentBuilder.addField( new StoredField( latitudeAbsoluteFieldPath, value.getLatitude() ) );
 				documentBuilder.addField( new StoredField( longitudeAbsoluteFieldPath, value.getLongitude() ) );
 				break;
-			case COMPRESS:
-				// TODO HSEARCH-3081
-				break;
 		}
 		switch ( sortable ) {
 			case DEFAULT:
@@ -102,11 +100,23 @@ public GeoPoint decode(Document document, String absoluteFieldPath) {
 		return GeoPoint.of( (double) latitudeField.numericValue(), (double) longitudeField.numericValue() );
 	}
 
+	@Override
+	public GeoPoint decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) {
+		// Doc values only hold an encoded, lossy version of the point: projections always use stored fields
+		throw new AssertionFailure( "Unexpected attempt to decode a GeoPoint from doc values for field '"
+				+ absoluteFieldPath + "'" );
+	}
+
 	@Override
 	public Set<String> getOverriddenStoredFields() {
 		return storedFields;
 	}
 
+	@Override
+	public boolean isStoredFieldsCompressionRequired() {
+		return Store.COMPRESS.equals( store );
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
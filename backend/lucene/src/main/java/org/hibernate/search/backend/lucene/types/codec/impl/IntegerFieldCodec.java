@@ -6,13 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -39,10 +43,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			case NO:
 				break;
 			case YES:
-				documentBuilder.addField( new StoredField( absoluteFieldPath, value ) );
-				break;
 			case COMPRESS:
-				// TODO HSEARCH-3081
+				documentBuilder.addField( new StoredField( absoluteFieldPath, value ) );
 				break;
 		}
 
@@ -69,6 +71,28 @@ public Integer decode(Document document, String absoluteFieldPath) {
 		return (Integer) field.numericValue();
 	}
 
+	@Override
+	public boolean isDecodingFromDocValuesSupported() {
+		// Only decode from doc values if the field is projectable in the first place
+		return ( Store.YES.equals( store ) || Store.COMPRESS.equals( store ) ) && Sortable.YES.equals( sortable );
+	}
+
+	@Override
+	public boolean isStoredFieldsCompressionRequired() {
+		return Store.COMPRESS.equals( store );
+	}
+
+	@Override
+	public Integer decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) throws IOException {
+		NumericDocValues docValues = DocValues.getNumeric( leafReader, absoluteFieldPath );
+
+		if ( !docValues.advanceExact( leafDocId ) ) {
+			return null;
+		}
+
+		return (int) docValues.longValue();
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -10,6 +10,7 @@
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -22,7 +23,10 @@
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -58,10 +62,8 @@ public void encode(LuceneDocumentBuilder documentBuilder, String absoluteFieldPa
 			case NO:
 				break;
 			case YES:
-				documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
-				break;
 			case COMPRESS:
-				// TODO HSEARCH-3081
+				documentBuilder.addField( new StoredField( absoluteFieldPath, FORMATTER.format( value ) ) );
 				break;
 		}
 
@@ -96,6 +98,28 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 		return LocalDate.parse( value, FORMATTER );
 	}
 
+	@Override
+	public boolean isDecodingFromDocValuesSupported() {
+		// Only decode from doc values if the field is projectable in the first place
+		return ( Store.YES.equals( store ) || Store.COMPRESS.equals( store ) ) && Sortable.YES.equals( sortable );
+	}
+
+	@Override
+	public boolean isStoredFieldsCompressionRequired() {
+		return Store.COMPRESS.equals( store );
+	}
+
+	@Override
+	public LocalDate decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) throws IOException {
+		NumericDocValues docValues = DocValues.getNumeric( leafReader, absoluteFieldPath );
+
+		if ( !docValues.advanceExact( leafDocId ) ) {
+			return null;
+		}
+
+		return LocalDate.ofEpochDay( docValues.longValue() );
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
@@ -40,6 +42,18 @@ default Set<String> getOverriddenStoredFields() {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Determine whether this codec requires the stored fields of the index to be compressed.
+	 * <p>
+	 * Lucene compresses stored fields per segment, not per field:
+	 * a single codec requiring compression will enable compression for all the stored fields of the index.
+	 *
+	 * @return {@code true} if this codec requires stored fields compression, {@code false} otherwise.
+	 */
+	default boolean isStoredFieldsCompressionRequired() {
+		return false;
+	}
+
 	/**
 	 * Extract the value from the Lucene document, typically used in projections.
 	 *
@@ -49,6 +63,33 @@ default Set<String> getOverriddenStoredFields() {
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * Determine whether values can be decoded from doc values instead of stored fields,
+	 * see {@link #decode(LeafReader, int, String)}.
+	 * <p>
+	 * Must only return {@code true} if decoding from doc values gives the exact same result
+	 * as decoding from stored fields.
+	 *
+	 * @return {@code true} if this codec supports decoding from doc values, {@code false} otherwise.
+	 */
+	default boolean isDecodingFromDocValuesSupported() {
+		return false;
+	}
+
+	/**
+	 * Extract the value from the doc values of a document, typically used in projections.
+	 * <p>
+	 * Only called if {@link #isDecodingFromDocValuesSupported()} returns {@code true}:
+	 * codecs that never support decoding from doc values should throw an {@link org.hibernate.search.util.AssertionFailure}.
+	 *
+	 * @param leafReader The reader of the segment the document belongs to.
+	 * @param leafDocId The id of the document, relative to the segment.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return The decoded value.
+	 * @throws IOException If reading the doc values fails.
+	 */
+	F decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) throws IOException;
+
 	// equals()/hashCode() needs to be implemented if the codec is not a singleton
 
 	boolean equals(Object obj);
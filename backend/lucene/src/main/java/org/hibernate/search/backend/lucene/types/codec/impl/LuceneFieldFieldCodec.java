@@ -11,11 +11,13 @@
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.document.model.LuceneFieldValueExtractor;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 public final class LuceneFieldFieldCodec<F> implements LuceneFieldCodec<F> {
@@ -57,6 +59,13 @@ public F decode(Document document, String absoluteFieldPath) {
 		return fieldValueExtractor.extract( field );
 	}
 
+	@Override
+	public F decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) {
+		// The doc values contributed by user-defined fields are unknown: projections always use stored fields
+		throw new AssertionFailure( "Unexpected attempt to decode a native Lucene field from doc values for field '"
+				+ absoluteFieldPath + "'" );
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -13,20 +14,27 @@
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.util.impl.AnalyzerUtils;
 
 public final class StringFieldCodec implements LuceneFieldCodec<String> {
 
+	private final Store store;
+
 	private final Sortable sortable;
 
 	private final FieldType fieldType;
 
 	private final Analyzer normalizer;
 
-	public StringFieldCodec(Sortable sortable, FieldType fieldType, Analyzer normalizer) {
+	public StringFieldCodec(Store store, Sortable sortable, FieldType fieldType, Analyzer normalizer) {
+		this.store = store;
 		this.sortable = sortable;
 		this.fieldType = fieldType;
 		this.normalizer = normalizer;
@@ -60,6 +68,29 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public boolean isDecodingFromDocValuesSupported() {
+		// Only decode from doc values if the field is projectable in the first place,
+		// and if doc values hold the original value, not a normalized one
+		return fieldType.stored() && Sortable.YES.equals( sortable ) && normalizer == null;
+	}
+
+	@Override
+	public boolean isStoredFieldsCompressionRequired() {
+		return Store.COMPRESS.equals( store );
+	}
+
+	@Override
+	public String decode(LeafReader leafReader, int leafDocId, String absoluteFieldPath) throws IOException {
+		SortedDocValues docValues = DocValues.getSorted( leafReader, absoluteFieldPath );
+
+		if ( !docValues.advanceExact( leafDocId ) ) {
+			return null;
+		}
+
+		return docValues.binaryValue().utf8ToString();
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -74,13 +105,14 @@ public boolean equals(Object obj) {
 
 		StringFieldCodec other = (StringFieldCodec) obj;
 
-		return Objects.equals( sortable, other.sortable ) &&
+		return Objects.equals( store, other.store ) &&
+				Objects.equals( sortable, other.sortable ) &&
 				Objects.equals( fieldType, other.fieldType ) &&
 				Objects.equals( normalizer, other.normalizer );
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( sortable, fieldType, normalizer );
+		return Objects.hash( store, sortable, fieldType, normalizer );
 	}
 }
@@ -6,16 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.lucene.document.model.dsl.LuceneStandardIndexSchemaFieldTypedContext;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaContext;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeContributor;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.converter.FromIndexFieldValueConverter;
 import org.hibernate.search.engine.backend.document.converter.ToIndexFieldValueConverter;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.engine.backend.document.spi.IndexSchemaFieldDefinitionHelper;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @param <S> The concrete type of this context.
@@ -26,6 +33,8 @@
 public abstract class AbstractLuceneStandardIndexSchemaFieldTypedContext<S extends AbstractLuceneStandardIndexSchemaFieldTypedContext<? extends S, F>, F>
 		implements LuceneStandardIndexSchemaFieldTypedContext<S, F>, LuceneIndexSchemaNodeContributor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneIndexSchemaContext schemaContext;
 
 	private final IndexSchemaFieldDefinitionHelper<F> helper;
@@ -34,6 +43,8 @@
 
 	private Store store = Store.DEFAULT;
 
+	private SortOrder indexSortOrder;
+
 	protected AbstractLuceneStandardIndexSchemaFieldTypedContext(LuceneIndexSchemaContext schemaContext, String relativeFieldName,
 			Class<F> fieldType) {
 		this.schemaContext = schemaContext;
@@ -74,6 +85,12 @@ public S store(Store store) {
 		return thisAsS();
 	}
 
+	@Override
+	public S indexSort(SortOrder order) {
+		this.indexSortOrder = order;
+		return thisAsS();
+	}
+
 	protected abstract S thisAsS();
 
 	protected String getRelativeFieldName() {
@@ -87,4 +104,19 @@ protected Store getStore() {
 	protected final LuceneIndexSchemaContext getSchemaContext() {
 		return schemaContext;
 	}
+
+	protected final SortOrder getIndexSortOrder() {
+		return indexSortOrder;
+	}
+
+	protected void contributeIndexSort(LuceneIndexSchemaNodeCollector collector,
+			LuceneIndexSchemaFieldNode<F> schemaNode, Sortable sortable) {
+		if ( indexSortOrder == null ) {
+			return;
+		}
+		if ( !Sortable.YES.equals( sortable ) ) {
+			throw log.cannotUseIndexSortOnNonSortableField( schemaContext.getEventContext() );
+		}
+		collector.collectIndexSortField( schemaNode.getAbsoluteFieldPath(), indexSortOrder );
+	}
 }
@@ -76,6 +76,7 @@ public void contribute(LuceneIndexSchemaNodeCollector collector, LuceneIndexSche
 				new StandardFieldConverter<>( helper.createUserIndexFieldConverter() ),
 				new LuceneFieldFieldCodec<>( fieldContributor, fieldValueExtractor ),
 				null,
+				null,
 				null
 		);
 
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaContext;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.spi.IndexSchemaFieldDefinitionHelper;
@@ -13,11 +15,13 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.types.codec.impl.GeoPointFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.StandardFieldConverter;
 import org.hibernate.search.backend.lucene.types.predicate.impl.GeoPointFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.GeoPointFieldSortContributor;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
@@ -25,6 +29,8 @@
 public class LuceneGeoPointIndexSchemaFieldContextImpl
 		extends AbstractLuceneStandardIndexSchemaFieldTypedContext<LuceneGeoPointIndexSchemaFieldContextImpl, GeoPoint> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private Sortable sortable = Sortable.DEFAULT;
 
 	public LuceneGeoPointIndexSchemaFieldContextImpl(LuceneIndexSchemaContext schemaContext, String relativeFieldName) {
@@ -40,13 +46,18 @@ public LuceneGeoPointIndexSchemaFieldContextImpl sortable(Sortable sortable) {
 	@Override
 	protected void contribute(IndexSchemaFieldDefinitionHelper<GeoPoint> helper, LuceneIndexSchemaNodeCollector collector,
 			LuceneIndexSchemaObjectNode parentNode) {
+		if ( getIndexSortOrder() != null ) {
+			throw log.indexSortNotSupportedByGeoPoint( getSchemaContext().getEventContext() );
+		}
+
 		LuceneIndexSchemaFieldNode<GeoPoint> schemaNode = new LuceneIndexSchemaFieldNode<>(
 				parentNode,
 				getRelativeFieldName(),
 				new StandardFieldConverter<>( helper.createUserIndexFieldConverter() ),
 				new GeoPointFieldCodec( parentNode.getAbsolutePath( getRelativeFieldName() ), getStore(), sortable ),
 				GeoPointFieldPredicateBuilderFactory.INSTANCE,
-				GeoPointFieldSortContributor.INSTANCE
+				GeoPointFieldSortContributor.INSTANCE,
+				null
 		);
 
 		helper.initialize( new LuceneIndexFieldAccessor<>( schemaNode ) );
@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexFieldAccessor;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.IntegerFieldAggregationContributor;
 import org.hibernate.search.backend.lucene.types.codec.impl.IntegerFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.StandardFieldConverter;
 import org.hibernate.search.backend.lucene.types.predicate.impl.IntegerFieldPredicateBuilderFactory;
@@ -46,12 +47,14 @@ protected void contribute(IndexSchemaFieldDefinitionHelper<Integer> helper, Luce
 				converter,
 				new IntegerFieldCodec( getStore(), sortable ),
 				new IntegerFieldPredicateBuilderFactory( converter ),
-				IntegerFieldSortContributor.INSTANCE
+				IntegerFieldSortContributor.INSTANCE,
+				sortable == Sortable.YES ? IntegerFieldAggregationContributor.INSTANCE : null
 		);
 
 		helper.initialize( new LuceneIndexFieldAccessor<>( schemaNode ) );
 
 		collector.collectFieldNode( schemaNode.getAbsoluteFieldPath(), schemaNode );
+		contributeIndexSort( collector, schemaNode, sortable );
 	}
 
 	@Override
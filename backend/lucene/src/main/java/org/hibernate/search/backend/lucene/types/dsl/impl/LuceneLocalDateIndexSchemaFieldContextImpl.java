@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LocalDateFieldAggregationContributor;
 import org.hibernate.search.backend.lucene.types.codec.impl.LocalDateFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.LocalDateFieldConverter;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LocalDateFieldPredicateBuilderFactory;
@@ -48,12 +49,14 @@ protected void contribute(IndexSchemaFieldDefinitionHelper<LocalDate> helper, Lu
 				converter,
 				new LocalDateFieldCodec( getStore(), sortable ),
 				new LocalDateFieldPredicateBuilderFactory( converter ),
-				LocalDateFieldSortContributor.INSTANCE
+				LocalDateFieldSortContributor.INSTANCE,
+				sortable == Sortable.YES ? LocalDateFieldAggregationContributor.INSTANCE : null
 		);
 
 		helper.initialize( new LuceneIndexFieldAccessor<>( schemaNode ) );
 
 		collector.collectFieldNode( schemaNode.getAbsoluteFieldPath(), schemaNode );
+		contributeIndexSort( collector, schemaNode, sortable );
 	}
 
 	@Override
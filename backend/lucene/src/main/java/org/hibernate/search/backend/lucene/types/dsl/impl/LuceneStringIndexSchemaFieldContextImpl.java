@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.StringFieldAggregationContributor;
 import org.hibernate.search.backend.lucene.types.codec.impl.StringFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.StringFieldConverter;
 import org.hibernate.search.backend.lucene.types.predicate.impl.StringFieldPredicateBuilderFactory;
@@ -107,17 +108,20 @@ protected void contribute(IndexSchemaFieldDefinitionHelper<String> helper, Lucen
 				getRelativeFieldName(),
 				converter,
 				new StringFieldCodec(
+						getStore(),
 						sortable,
 						getFieldType( getStore(), analyzer != null ),
 						analyzerOrNormalizer
 				),
 				new StringFieldPredicateBuilderFactory( converter, analyzer != null, queryBuilder ),
-				StringFieldSortContributor.INSTANCE
+				StringFieldSortContributor.INSTANCE,
+				sortable == Sortable.YES ? StringFieldAggregationContributor.INSTANCE : null
 		);
 
 		helper.initialize( new LuceneIndexFieldAccessor<>( schemaNode ) );
 
 		collector.collectFieldNode( schemaNode.getAbsoluteFieldPath(), schemaNode );
+		contributeIndexSort( collector, schemaNode, sortable );
 
 		if ( analyzerOrNormalizer != null ) {
 			collector.collectAnalyzer( schemaNode.getAbsoluteFieldPath(), analyzerOrNormalizer );
@@ -160,10 +164,8 @@ private static FieldType getFieldType(Store store, boolean analyzed) {
 				fieldType.setStored( false );
 				break;
 			case YES:
-				fieldType.setStored( true );
-				break;
 			case COMPRESS:
-				// TODO HSEARCH-3081
+				fieldType.setStored( true );
 				break;
 		}
 		fieldType.freeze();
@@ -11,15 +11,15 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneLoadableSearchResult;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
-public class ExecuteQueryLuceneWork<T> implements LuceneQueryWork<SearchResult<T>> {
+public class ExecuteQueryLuceneWork<T> implements LuceneQueryWork<LuceneLoadableSearchResult<T>> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -30,12 +30,12 @@ public ExecuteQueryLuceneWork(LuceneSearcher<T> searcher) {
 	}
 
 	@Override
-	public CompletableFuture<SearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
+	public CompletableFuture<LuceneLoadableSearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
 		// FIXME for now everything is blocking here, we need a non blocking wrapper on top of the IndexWriter
 		return Futures.create( () -> CompletableFuture.completedFuture( executeQuery( searcher ) ) );
 	}
 
-	private SearchResult<T> executeQuery(LuceneSearcher<T> searcher) {
+	private LuceneLoadableSearchResult<T> executeQuery(LuceneSearcher<T> searcher) {
 		try {
 			return searcher.execute();
 		}
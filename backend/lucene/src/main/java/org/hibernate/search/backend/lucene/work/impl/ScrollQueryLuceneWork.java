@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchScroll;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A work fetching the next chunk of hits of a {@link LuceneSearchScroll}.
+ * <p>
+ * Contrary to {@link ExecuteQueryLuceneWork}, this work does not release the index reader:
+ * the reader is released when the scroll is closed.
+ */
+public class ScrollQueryLuceneWork<T> implements LuceneQueryWork<List<T>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearchScroll<T> scroll;
+
+	public ScrollQueryLuceneWork(LuceneSearchScroll<T> scroll) {
+		this.scroll = scroll;
+	}
+
+	@Override
+	public CompletableFuture<List<T>> execute(LuceneQueryWorkExecutionContext context) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchNextChunk() ) );
+	}
+
+	private List<T> fetchNextChunk() {
+		try {
+			return scroll.fetchNextChunk();
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnQueryExecution( scroll.getLuceneQuery(), scroll.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "scroll=" ).append( scroll )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import org.apache.lucene.search.MatchAllDocsQuery;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchScroll;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
 
@@ -38,6 +40,12 @@ public LuceneIndexWork<?> delete(String indexName, String tenantId, String id, S
 		return multiTenancyStrategy.createDeleteEntryLuceneWork( indexName, tenantId, id );
 	}
 
+	@Override
+	public LuceneIndexWork<?> deleteAll(String indexName, String tenantId) {
+		return new DeleteAllEntriesLuceneWork( indexName, tenantId,
+				multiTenancyStrategy.decorateLuceneQuery( new MatchAllDocsQuery(), tenantId ) );
+	}
+
 	@Override
 	public LuceneIndexWork<?> flush(String indexName) {
 		return new FlushIndexLuceneWork( indexName );
@@ -57,4 +65,9 @@ public LuceneIndexWork<?> optimize(String indexName) {
 	public <T> ExecuteQueryLuceneWork<T> search(LuceneSearcher<T> luceneSearcher) {
 		return new ExecuteQueryLuceneWork<T>( luceneSearcher );
 	}
+
+	@Override
+	public <T> ScrollQueryLuceneWork<T> scroll(LuceneSearchScroll<T> luceneSearchScroll) {
+		return new ScrollQueryLuceneWork<T>( luceneSearchScroll );
+	}
 }
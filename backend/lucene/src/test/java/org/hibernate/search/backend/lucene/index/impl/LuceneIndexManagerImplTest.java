@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestratorFactory;
+import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class LuceneIndexManagerImplTest {
+
+	private static final String INDEX_NAME = "indexName";
+	private static final int BULK_RAM_BUFFER_SIZE = 64;
+
+	private final Directory directory = new RAMDirectory();
+
+	private LuceneIndexManagerImpl indexManager;
+
+	@Before
+	public void setup() {
+		NoMultiTenancyStrategyImpl multiTenancyStrategy = new NoMultiTenancyStrategyImpl();
+		IndexingBackendContext indexingBackendContext = new IndexingBackendContext(
+				EventContexts.fromBackendName( "backendName" ),
+				context -> new DirectoryHolder() {
+					@Override
+					public void start() {
+						// Nothing to do
+					}
+
+					@Override
+					public Directory get() {
+						return directory;
+					}
+
+					@Override
+					public void close() throws IOException {
+						directory.close();
+					}
+				},
+				new StubLuceneWorkFactory( multiTenancyStrategy ), multiTenancyStrategy,
+				0L, BULK_RAM_BUFFER_SIZE,
+				new LuceneIndexWorkOrchestratorFactory( CommitPolicyConfiguration.CHANGESET, 0L, 10 )
+		);
+		indexManager = new LuceneIndexManagerImpl( indexingBackendContext, null,
+				INDEX_NAME, new LuceneIndexModel( INDEX_NAME, collector -> { } ) );
+		indexManager.start().join();
+	}
+
+	@After
+	public void cleanup() {
+		indexManager.close();
+	}
+
+	@Test
+	public void bulkIndexing_ramBufferRestoredWhenLastBulkIndexingFinishes() {
+		assertThat( getRamBufferSize() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+
+		indexManager.startBulkIndexing().join();
+		assertThat( getRamBufferSize() ).isEqualTo( BULK_RAM_BUFFER_SIZE );
+
+		indexManager.startBulkIndexing().join();
+		indexManager.finishBulkIndexing().join();
+		// Another bulk indexing is still in progress
+		assertThat( getRamBufferSize() ).isEqualTo( BULK_RAM_BUFFER_SIZE );
+
+		indexManager.finishBulkIndexing().join();
+		assertThat( getRamBufferSize() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+	}
+
+	@Test
+	public void bulkIndexing_documentsDurableWhenFinished() throws IOException {
+		indexManager.startBulkIndexing().join();
+
+		IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> executor =
+				indexManager.createDocumentWorkExecutor( () -> null );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			futures.add( executor.update( referenceProvider( String.valueOf( i ) ), document -> { } ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		// Documents submitted during bulk indexing are not committed until bulk indexing finishes
+		assertThat( countCommittedDocuments() ).isEqualTo( 0 );
+
+		indexManager.finishBulkIndexing().join();
+		assertThat( countCommittedDocuments() ).isEqualTo( 10 );
+	}
+
+	private double getRamBufferSize() {
+		return indexManager.getIndexWriter().getConfig().getRAMBufferSizeMB();
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		if ( !DirectoryReader.indexExists( directory ) ) {
+			return 0;
+		}
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static DocumentReferenceProvider referenceProvider(String id) {
+		return new DocumentReferenceProvider() {
+			@Override
+			public String getIdentifier() {
+				return id;
+			}
+
+			@Override
+			public String getRoutingKey() {
+				return null;
+			}
+		};
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.search.reader.impl.NRTReaderProvider;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class LuceneIndexWorkOrchestratorImplTest {
+
+	private static final EventContext EVENT_CONTEXT = EventContexts.fromIndexName( "indexName" );
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private NRTReaderProvider readerProvider;
+	private LuceneIndexWorkOrchestratorImpl orchestrator;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new RAMDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig() );
+		readerProvider = new NRTReaderProvider( EVENT_CONTEXT, indexWriter, 0L );
+		orchestrator = new LuceneIndexWorkOrchestratorImpl( "indexName", EVENT_CONTEXT,
+				indexWriter, readerProvider, CommitPolicyConfiguration.CHANGESET, 0L, 10 );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		orchestrator.close();
+		readerProvider.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void failure_runtimeException() {
+		CompletableFuture<?> failingFuture = orchestrator.submit( Arrays.asList(
+				addDocumentWork(),
+				failingWork( new IllegalStateException( "Some failure" ) )
+		) );
+		CompletableFuture<?> successfulFuture = orchestrator.submit( addDocumentWork() );
+
+		SubTest.expectException( "Changeset with a failing work", failingFuture::join )
+				.assertThrown()
+				.hasCauseInstanceOf( IllegalStateException.class )
+				.hasStackTraceContaining( "Some failure" );
+		// The failure must not affect other changesets
+		successfulFuture.join();
+	}
+
+	@Test
+	public void failure_error() {
+		CompletableFuture<?> failingFuture = orchestrator.submit( failingWork( new AssertionError( "Some error" ) ) );
+		CompletableFuture<?> successfulFuture = orchestrator.submit( addDocumentWork() );
+
+		// The future must be completed even if the work throws an Error
+		SubTest.expectException( "Changeset with a work throwing an Error", failingFuture::join )
+				.assertThrown()
+				.hasCauseInstanceOf( AssertionError.class )
+				.hasStackTraceContaining( "Some error" );
+		successfulFuture.join();
+	}
+
+	@Test
+	public void failure_allChangesetsFailed() throws IOException {
+		CompletableFuture<?> failingFuture = orchestrator.submit( failingWork( new IllegalStateException( "Some failure" ) ) );
+		SubTest.expectException( "Changeset with a failing work", failingFuture::join )
+				.assertThrown()
+				.hasCauseInstanceOf( IllegalStateException.class );
+		assertThat( indexWriter.hasUncommittedChanges() ).isFalse();
+
+		// Later changesets must still be applied and committed
+		orchestrator.submit( addDocumentWork() ).join();
+		assertThat( countCommittedDocuments() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void close_processesPendingChangesets() throws IOException {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			futures.add( orchestrator.submit( addDocumentWork() ) );
+		}
+
+		orchestrator.close();
+
+		for ( CompletableFuture<?> future : futures ) {
+			assertThat( future ).isCompleted();
+			future.join();
+		}
+		assertThat( countCommittedDocuments() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void close_submitAfterClose() {
+		orchestrator.close();
+
+		CompletableFuture<?> future = orchestrator.submit( addDocumentWork() );
+		SubTest.expectException( "Submitting after close", future::join )
+				.assertThrown()
+				.hasCauseInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "the index writer is closed" );
+	}
+
+	@Test
+	public void close_concurrentSubmits() throws Exception {
+		int threadCount = 4;
+		ExecutorService submitters = Executors.newFixedThreadPool( threadCount, "submitter" );
+		try {
+			CountDownLatch submittersStarted = new CountDownLatch( threadCount );
+			List<Future<List<CompletableFuture<?>>>> submitterResults = new ArrayList<>();
+			for ( int i = 0; i < threadCount; i++ ) {
+				submitterResults.add( submitters.submit( () -> {
+					List<CompletableFuture<?>> futures = new ArrayList<>();
+					submittersStarted.countDown();
+					for ( int j = 0; j < 200; j++ ) {
+						futures.add( orchestrator.submit( addDocumentWork() ) );
+					}
+					return futures;
+				} ) );
+			}
+
+			submittersStarted.await();
+			orchestrator.close();
+
+			int successCount = 0;
+			for ( Future<List<CompletableFuture<?>>> submitterResult : submitterResults ) {
+				for ( CompletableFuture<?> future : submitterResult.get( 10, TimeUnit.SECONDS ) ) {
+					// Every changeset must be either applied or rejected, never left pending
+					assertThat( future ).isDone();
+					if ( !future.isCompletedExceptionally() ) {
+						++successCount;
+					}
+				}
+			}
+			assertThat( countCommittedDocuments() ).isEqualTo( successCount );
+		}
+		finally {
+			submitters.shutdownNow();
+		}
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static LuceneIndexWork<Long> addDocumentWork() {
+		return context -> {
+			try {
+				return CompletableFuture.completedFuture( context.getIndexWriter().addDocument( new Document() ) );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		};
+	}
+
+	private static LuceneIndexWork<Void> failingWork(Throwable throwable) {
+		return context -> {
+			if ( throwable instanceof Error ) {
+				throw (Error) throwable;
+			}
+			throw (RuntimeException) throwable;
+		};
+	}
+}
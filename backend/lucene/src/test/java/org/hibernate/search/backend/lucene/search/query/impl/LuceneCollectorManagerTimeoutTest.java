@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Counter;
+
+/**
+ * Test the behavior of queries exceeding their timeout,
+ * using a manual clock so that the timeout is exceeded deterministically.
+ */
+public class LuceneCollectorManagerTimeoutTest {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	private Directory directory;
+	private DirectoryReader indexReader;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new RAMDirectory();
+		try ( IndexWriter indexWriter = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				indexWriter.addDocument( new Document() );
+			}
+		}
+		indexReader = DirectoryReader.open( directory );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexReader.close();
+		directory.close();
+	}
+
+	@Test
+	public void truncateAfter_deadlineAlreadyExceeded() throws IOException {
+		ManualClock clock = new ManualClock( 0L );
+		LuceneCollectorManager collectorManager = collectorManager( new SearchTimeout( 10L, TimeUnit.MILLISECONDS, false, clock ) );
+		clock.addAndGet( 11L );
+
+		LuceneCollectors collectors = new IndexSearcher( indexReader ).search( new MatchAllDocsQuery(), collectorManager );
+
+		// Nothing was collected, but the search did not fail
+		assertThat( collectors.isTimedOut() ).isTrue();
+		assertThat( collectors.getTotalHits() ).isEqualTo( 0L );
+		assertThat( collectors.getTopDocs( 0L, null ).scoreDocs ).isEmpty();
+	}
+
+	@Test
+	public void truncateAfter_deadlineExceededDuringCollection() throws IOException {
+		// Time passes by one millisecond each time the clock is read
+		ManualClock clock = new ManualClock( 1L );
+		LuceneCollectorManager collectorManager = collectorManager( new SearchTimeout( 10L, TimeUnit.MILLISECONDS, false, clock ) );
+
+		LuceneCollectors collectors = new IndexSearcher( indexReader ).search( new MatchAllDocsQuery(), collectorManager );
+
+		// Only the documents collected before the timeout are taken into account
+		assertThat( collectors.isTimedOut() ).isTrue();
+		assertThat( collectors.getTotalHits() ).isBetween( 1L, DOCUMENT_COUNT - 1L );
+		assertThat( (long) collectors.getTopDocs( 0L, null ).scoreDocs.length )
+				.isEqualTo( collectors.getTotalHits() );
+	}
+
+	@Test
+	public void noTimeout() throws IOException {
+		ManualClock clock = new ManualClock( 0L );
+		LuceneCollectorManager collectorManager = collectorManager( new SearchTimeout( 10L, TimeUnit.MILLISECONDS, false, clock ) );
+
+		LuceneCollectors collectors = new IndexSearcher( indexReader ).search( new MatchAllDocsQuery(), collectorManager );
+
+		assertThat( collectors.isTimedOut() ).isFalse();
+		assertThat( collectors.getTotalHits() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void failAfter_deadlineAlreadyExceeded() {
+		// Time passes by more than the timeout each time the clock is read
+		ManualClock clock = new ManualClock( 11L );
+		SearchTimeout timeout = new SearchTimeout( 10L, TimeUnit.MILLISECONDS, true, clock );
+
+		try ( LuceneSearcher<Object> searcher = searcher( timeout ) ) {
+			SubTest.expectException( "Query exceeding its timeout", searcher::execute )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "exceeded the timeout of 10ms" );
+		}
+	}
+
+	private LuceneCollectorManager collectorManager(SearchTimeout timeout) {
+		return new LuceneCollectorManager( null, DOCUMENT_COUNT, null, Collections.emptyList(), null, timeout );
+	}
+
+	private LuceneSearcher<Object> searcher(SearchTimeout timeout) {
+		ReaderProvider readerProvider = new ReaderProvider() {
+			@Override
+			public IndexReader openIndexReader() {
+				return indexReader;
+			}
+
+			@Override
+			public void closeIndexReader(IndexReader reader) {
+				// The reader is closed after each test
+			}
+		};
+		HitExtractor<Object> hitExtractor = new HitExtractor<Object>() {
+			@Override
+			public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
+				luceneCollectorBuilder.requireTopDocsCollector();
+			}
+
+			@Override
+			public void contributeFields(Set<String> absoluteFieldPaths) {
+				// Nothing to do
+			}
+
+			@Override
+			public void extract(Object collector, LuceneHit hit) {
+				// Nothing to do
+			}
+		};
+		return new LuceneSearcher<>(
+				Collections.singleton( "indexName" ), Collections.singleton( readerProvider ), null,
+				new MatchAllDocsQuery(), null, Collections.emptyList(),
+				0L, 10L, null, timeout,
+				hitExtractor,
+				(indexSearcher, totalHits, totalHitsExact, topDocs, aggregations, timedOut) -> {
+					throw new AssertionError( "Results should not be extracted when the query timed out" );
+				}
+		);
+	}
+
+	/**
+	 * A clock that only moves forward when told to,
+	 * or by a fixed amount each time it is read.
+	 */
+	private static class ManualClock extends Counter {
+
+		private final long tick;
+		private long time = 0L;
+
+		ManualClock(long tick) {
+			this.tick = tick;
+		}
+
+		@Override
+		public long addAndGet(long delta) {
+			time += delta;
+			return time;
+		}
+
+		@Override
+		public long get() {
+			long result = time;
+			time += tick;
+			return result;
+		}
+	}
+}
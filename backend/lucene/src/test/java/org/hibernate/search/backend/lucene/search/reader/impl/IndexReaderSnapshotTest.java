@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class IndexReaderSnapshotTest {
+
+	private static final EventContext EVENT_CONTEXT = EventContexts.fromIndexName( "indexName" );
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private NRTReaderProvider readerProvider;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new RAMDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig() );
+		readerProvider = new NRTReaderProvider( EVENT_CONTEXT, indexWriter, 0L );
+		addDocument();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		readerProvider.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void queriesShareSameReader() throws IOException {
+		Set<ReaderProvider> readerProviders = Collections.singleton( readerProvider );
+
+		IndexReader firstQueryReader;
+		try ( IndexReaderSnapshot snapshot = new IndexReaderSnapshot() ) {
+			ReaderProvider firstQueryReaderProvider = snapshot.wrap( readerProviders ).iterator().next();
+			ReaderProvider secondQueryReaderProvider = snapshot.wrap( readerProviders ).iterator().next();
+
+			firstQueryReader = firstQueryReaderProvider.openIndexReader();
+			// The index is changed between the execution of the two queries
+			addDocument();
+			IndexReader secondQueryReader = secondQueryReaderProvider.openIndexReader();
+
+			// Both queries see the same version of the index
+			assertThat( secondQueryReader ).isSameAs( firstQueryReader );
+			assertThat( secondQueryReader.numDocs() ).isEqualTo( 1 );
+
+			firstQueryReaderProvider.closeIndexReader( firstQueryReader );
+			secondQueryReaderProvider.closeIndexReader( secondQueryReader );
+		}
+
+		// Once the snapshot is closed, queries see the latest version of the index
+		IndexReader reader = readerProvider.openIndexReader();
+		try {
+			assertThat( reader ).isNotSameAs( firstQueryReader );
+			assertThat( reader.numDocs() ).isEqualTo( 2 );
+			// The reader of the snapshot was released and closed on refresh
+			assertThat( firstQueryReader.getRefCount() ).isEqualTo( 0 );
+		}
+		finally {
+			readerProvider.closeIndexReader( reader );
+		}
+	}
+
+	@Test
+	public void readersAcquiredBeforeAnyQueryExecutes() throws IOException {
+		try ( Directory otherDirectory = new RAMDirectory();
+				IndexWriter otherIndexWriter = new IndexWriter( otherDirectory, new IndexWriterConfig() ) ) {
+			NRTReaderProvider otherReaderProvider = new NRTReaderProvider( EVENT_CONTEXT, otherIndexWriter, 0L );
+			try {
+				otherIndexWriter.addDocument( new Document() );
+				otherReaderProvider.setIndexChanged();
+
+				try ( IndexReaderSnapshot snapshot = new IndexReaderSnapshot() ) {
+					// Each query of the group targets a different index
+					ReaderProvider firstQueryReaderProvider =
+							snapshot.wrap( Collections.singleton( readerProvider ) ).iterator().next();
+					ReaderProvider secondQueryReaderProvider =
+							snapshot.wrap( Collections.singleton( otherReaderProvider ) ).iterator().next();
+
+					IndexReader firstQueryReader = firstQueryReaderProvider.openIndexReader();
+					firstQueryReaderProvider.closeIndexReader( firstQueryReader );
+					// The index targeted by the second query is changed after the first query executed
+					otherIndexWriter.addDocument( new Document() );
+					otherReaderProvider.setIndexChanged();
+					IndexReader secondQueryReader = secondQueryReaderProvider.openIndexReader();
+
+					// The second query sees its index as it was when the group started executing
+					assertThat( secondQueryReader.numDocs() ).isEqualTo( 1 );
+					secondQueryReaderProvider.closeIndexReader( secondQueryReader );
+				}
+			}
+			finally {
+				otherReaderProvider.close();
+			}
+		}
+	}
+
+	private void addDocument() throws IOException {
+		indexWriter.addDocument( new Document() );
+		readerProvider.setIndexChanged();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class NRTReaderProviderTest {
+
+	private static final EventContext EVENT_CONTEXT = EventContexts.fromIndexName( "indexName" );
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+	private NRTReaderProvider readerProvider;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new RAMDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig() );
+		indexWriter.addDocument( new Document() );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if ( readerProvider != null ) {
+			readerProvider.close();
+		}
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void indexUnchanged_readerReused() {
+		readerProvider = new NRTReaderProvider( EVENT_CONTEXT, indexWriter, 0L );
+
+		IndexReader firstReader = readerProvider.openIndexReader();
+		IndexReader secondReader = readerProvider.openIndexReader();
+		try {
+			assertThat( secondReader ).isSameAs( firstReader );
+			assertThat( secondReader.numDocs() ).isEqualTo( 1 );
+		}
+		finally {
+			readerProvider.closeIndexReader( firstReader );
+			readerProvider.closeIndexReader( secondReader );
+		}
+
+		// Releasing the reader does not close it: it is still shared with later queries
+		IndexReader thirdReader = readerProvider.openIndexReader();
+		try {
+			assertThat( thirdReader ).isSameAs( firstReader );
+		}
+		finally {
+			readerProvider.closeIndexReader( thirdReader );
+		}
+	}
+
+	@Test
+	public void indexChanged_readerRefreshed() throws IOException {
+		readerProvider = new NRTReaderProvider( EVENT_CONTEXT, indexWriter, 0L );
+
+		IndexReader firstReader = readerProvider.openIndexReader();
+		readerProvider.closeIndexReader( firstReader );
+
+		// Changes are not visible until the index is marked as changed
+		indexWriter.addDocument( new Document() );
+		IndexReader secondReader = readerProvider.openIndexReader();
+		try {
+			assertThat( secondReader ).isSameAs( firstReader );
+			assertThat( secondReader.numDocs() ).isEqualTo( 1 );
+		}
+		finally {
+			readerProvider.closeIndexReader( secondReader );
+		}
+
+		readerProvider.setIndexChanged();
+		IndexReader thirdReader = readerProvider.openIndexReader();
+		try {
+			assertThat( thirdReader ).isNotSameAs( firstReader );
+			assertThat( thirdReader.numDocs() ).isEqualTo( 2 );
+		}
+		finally {
+			readerProvider.closeIndexReader( thirdReader );
+		}
+	}
+
+	@Test
+	public void indexChanged_refreshInterval() throws IOException {
+		// Long enough that the reader is never refreshed during the test
+		readerProvider = new NRTReaderProvider( EVENT_CONTEXT, indexWriter, TimeUnit.HOURS.toMillis( 1 ) );
+
+		IndexReader firstReader = readerProvider.openIndexReader();
+		readerProvider.closeIndexReader( firstReader );
+
+		indexWriter.addDocument( new Document() );
+		readerProvider.setIndexChanged();
+
+		// The reader is not refreshed more often than the refresh interval
+		IndexReader secondReader = readerProvider.openIndexReader();
+		try {
+			assertThat( secondReader ).isSameAs( firstReader );
+			assertThat( secondReader.numDocs() ).isEqualTo( 1 );
+		}
+		finally {
+			readerProvider.closeIndexReader( secondReader );
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.document.model.dsl;
 
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+
 public interface StandardIndexSchemaFieldTypedContext<S extends StandardIndexSchemaFieldTypedContext<? extends S, F>, F>
 		extends IndexSchemaFieldTypedContext<S, F> {
 
@@ -13,4 +15,20 @@
 
 	S sortable(Sortable sortable);
 
+	/**
+	 * Include this field in the sort applied to documents in the index itself.
+	 * <p>
+	 * The field must be {@link Sortable#YES sortable}.
+	 * When multiple fields of an index are part of the index sort,
+	 * they are applied in the order they were declared.
+	 * <p>
+	 * Queries sorted on a prefix of the index sort, with the same orders,
+	 * can stop collecting matches early when they do not require an exact hit count.
+	 * Changing the index sort requires re-creating the index.
+	 *
+	 * @param order The order of this field in the index sort.
+	 * @return {@code this}, for method chaining.
+	 */
+	S indexSort(SortOrder order);
+
 }
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on single documents, for use in bulk operations such as mass indexing.
+ * <p>
+ * Contrary to {@link IndexWorkPlan}, works are not accumulated:
+ * each work is sent to the backend as soon as it is passed to the executor,
+ * independently from works passed to other executors or work plans.
+ * <p>
+ * Works are not committed or refreshed individually:
+ * they are only guaranteed to be durable and visible to queries
+ * after {@link IndexManagerImplementor#finishBulkIndexing()} completes.
+ *
+ * @param <D> The expected document type.
+ */
+public interface IndexDocumentWorkExecutor<D> {
+
+	/**
+	 * Add a document to the index, replacing any existing document with the same identifier.
+	 * <p>
+	 * The document is built synchronously, in the calling thread, before this method returns,
+	 * so the data passed to the document contributor may be released as soon as this method returns.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to add.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A future that will be completed when the work is executed.
+	 */
+	CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<D> documentContributor);
+
+}
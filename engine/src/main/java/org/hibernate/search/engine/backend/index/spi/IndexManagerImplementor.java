@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.index.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.common.spi.SessionContext;
@@ -22,8 +24,56 @@
 	 */
 	IndexManager toAPI();
 
+	/**
+	 * Start the index manager, initializing the index if necessary,
+	 * for instance by creating it on a remote cluster or by opening it on the filesystem.
+	 * <p>
+	 * Called exactly once, after all mappings have been built,
+	 * and before any other method except {@link #close()}.
+	 * Multiple index managers may be started concurrently, from different threads.
+	 *
+	 * @return A future that will be completed when the index manager is ready to be used.
+	 */
+	CompletableFuture<?> start();
+
 	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext);
 
+	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext);
+
+	/**
+	 * Prepare the index for a large amount of works submitted through
+	 * {@link #createDocumentWorkExecutor(SessionContext) document work executors},
+	 * for instance by disabling periodic refreshes or enlarging indexing buffers.
+	 * <p>
+	 * Must be followed by a call to {@link #finishBulkIndexing()}, even if indexing fails.
+	 * Bulk indexing may be started multiple times concurrently:
+	 * the index is only restored to its normal state when the last bulk indexing finishes.
+	 *
+	 * @return A future that will be completed when the index is ready for bulk indexing.
+	 */
+	CompletableFuture<?> startBulkIndexing();
+
+	/**
+	 * Make the works submitted through document work executors durable and visible to queries,
+	 * then restore the index to its normal state if no other bulk indexing is in progress.
+	 * <p>
+	 * Must only be called once all the works submitted through document work executors are complete.
+	 *
+	 * @return A future that will be completed when the works are durable and visible to queries.
+	 */
+	CompletableFuture<?> finishBulkIndexing();
+
+	/**
+	 * Delete all documents from the index,
+	 * or only the documents of the tenant of the given session context if multi-tenancy is enabled.
+	 * <p>
+	 * Documents indexed after the returned future completes are not affected.
+	 *
+	 * @param sessionContext The session context, providing the tenant whose documents should be deleted.
+	 * @return A future that will be completed when the deletion is durable and visible to queries.
+	 */
+	CompletableFuture<?> purge(SessionContext sessionContext);
+
 	IndexSearchTargetBuilder createSearchTarget();
 
 	void addToSearchTarget(IndexSearchTargetBuilder searchTargetBuilder);
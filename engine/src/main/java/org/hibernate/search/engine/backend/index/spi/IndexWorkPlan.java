@@ -46,6 +46,18 @@
 	 */
 	void delete(DocumentReferenceProvider documentReferenceProvider);
 
+	/**
+	 * Move all the works of this work plan to the end of another work plan,
+	 * so that they are executed along with the works of that plan.
+	 * <p>
+	 * Both work plans must have been created by the same index manager, for the same tenant.
+	 * Works that have already been prepared do not need to be prepared again.
+	 * This work plan is left empty, as if it had been executed.
+	 *
+	 * @param target The work plan to move works to.
+	 */
+	void drainTo(IndexWorkPlan<D> target);
+
 	/**
 	 * Prepare the work plan execution, i.e. execute as much as possible without writing to the index.
 	 * <p>
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.cfg;
+
+/**
+ * Configuration properties for the Hibernate Search engine.
+ */
+public final class SearchEngineSettings {
+
+	private SearchEngineSettings() {
+	}
+
+	/**
+	 * The maximum number of index managers started concurrently during bootstrap,
+	 * i.e. the maximum number of indexes being created or opened at the same time.
+	 * <p>
+	 * Expects an integer.
+	 * With {@code 1} or less, index managers are started one after the other in the thread bootstrapping Hibernate Search.
+	 */
+	public static final String INDEX_MANAGER_START_PARALLELISM = "bootstrap.index_manager_start_parallelism";
+
+	/**
+	 * Default values for the different settings if no values are given.
+	 */
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final int INDEX_MANAGER_START_PARALLELISM = 10;
+	}
+
+}
@@ -7,8 +7,12 @@
 package org.hibernate.search.engine.common.impl;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
@@ -21,10 +25,13 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.logging.spi.FailureCollector;
 import org.hibernate.search.engine.mapper.mapping.building.impl.RootIndexModelBindingContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexManagerBuildingState;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexModelBindingContext;
 import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Executors;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
 
@@ -44,7 +51,8 @@ class IndexManagerBuildingStateHolder {
 	private final ConfigurationPropertySource defaultIndexPropertySource;
 
 	private final Map<String, BackendBuildingState<?>> backendBuildingStateByName = new HashMap<>();
-	private final Map<String, IndexMappingBuildingStateImpl<?>> indexManagerBuildingStateByName = new HashMap<>();
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<String, IndexMappingBuildingStateImpl<?>> indexManagerBuildingStateByName = new LinkedHashMap<>();
 
 	IndexManagerBuildingStateHolder(RootBuildContext rootBuildContext,
 			ConfigurationPropertySource propertySource) {
@@ -87,6 +95,65 @@ Map<String, IndexManagerImplementor<?>> getIndexManagersByName() {
 		return indexManagersByName;
 	}
 
+	/**
+	 * Start all index managers, at most {@code parallelism} at a time,
+	 * and collect the failures of each index manager separately.
+	 */
+	void startIndexManagers(int parallelism) {
+		FailureCollector failureCollector = rootBuildContext.getFailureCollector();
+		// Use a LinkedHashMap for deterministic iteration
+		Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+		ExecutorService executor = null;
+		try {
+			if ( parallelism > 1 && indexManagerBuildingStateByName.size() > 1 ) {
+				executor = Executors.newFixedThreadPool(
+						Math.min( parallelism, indexManagerBuildingStateByName.size() ),
+						"Hibernate Search - Index manager start"
+				);
+			}
+			for ( Map.Entry<String, IndexMappingBuildingStateImpl<?>> entry : indexManagerBuildingStateByName.entrySet() ) {
+				IndexManagerImplementor<?> indexManager = entry.getValue().getBuilt();
+				CompletableFuture<?> future;
+				if ( executor == null ) {
+					future = startIndexManager( indexManager );
+					// Wait for completion before starting the next index manager
+					future.handle( (result, throwable) -> null ).join();
+				}
+				else {
+					// Block a thread of the executor until the index manager is started, so as to bound parallelism
+					future = CompletableFuture.runAsync( () -> startIndexManager( indexManager ).join(), executor );
+				}
+				futures.put( entry.getKey(), future );
+			}
+			for ( Map.Entry<String, CompletableFuture<?>> entry : futures.entrySet() ) {
+				try {
+					entry.getValue().join();
+				}
+				catch (RuntimeException e) {
+					Throwable failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					failureCollector.withContext( EventContexts.fromIndexName( entry.getKey() ) )
+							.add( failure );
+				}
+			}
+		}
+		finally {
+			if ( executor != null ) {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private static CompletableFuture<?> startIndexManager(IndexManagerImplementor<?> indexManager) {
+		try {
+			return indexManager.start();
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<?> future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
+		}
+	}
+
 	void closeOnFailure(SuppressingCloser closer) {
 		closer.pushAll( state -> state.closeOnFailure( closer ), indexManagerBuildingStateByName.values() );
 		closer.pushAll( BackendBuildingState::closeOnFailure, backendBuildingStateByName.values() );
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
@@ -32,6 +35,26 @@ public IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext) {
 		return implementor.createWorkPlan( sessionContext );
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext) {
+		return implementor.createDocumentWorkExecutor( sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		return implementor.startBulkIndexing();
+	}
+
+	@Override
+	public CompletableFuture<?> finishBulkIndexing() {
+		return implementor.finishBulkIndexing();
+	}
+
+	@Override
+	public CompletableFuture<?> purge(SessionContext sessionContext) {
+		return implementor.purge( sessionContext );
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return implementor.createSearchTarget();
@@ -23,6 +23,8 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.SearchEngineSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
 import org.hibernate.search.engine.environment.bean.BeanProvider;
@@ -60,6 +62,12 @@ public class SearchIntegrationBuilderImpl implements SearchIntegrationBuilder {
 
 	private static final int FAILURE_LIMIT = 100;
 
+	private static final ConfigurationProperty<Integer> INDEX_MANAGER_START_PARALLELISM =
+			ConfigurationProperty.forKey( SearchEngineSettings.INDEX_MANAGER_START_PARALLELISM )
+					.asInteger()
+					.withDefault( SearchEngineSettings.Defaults.INDEX_MANAGER_START_PARALLELISM )
+					.build();
+
 	private final ConfigurationPropertySource mainPropertySource;
 	private final Properties overriddenProperties = new Properties();
 	private final Map<MappingKey<?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -202,6 +210,14 @@ public SearchIntegration build() {
 			failureCollector.checkNoFailure();
 			checkingRootFailures = false;
 
+			// Fourth phase: start index managers, initializing indexes concurrently
+			indexManagerBuildingStateHolder.startIndexManagers(
+					INDEX_MANAGER_START_PARALLELISM.get( propertySource )
+			);
+			checkingRootFailures = true;
+			failureCollector.checkNoFailure();
+			checkingRootFailures = false;
+
 			return new SearchIntegrationImpl(
 					beanResolver,
 					mappings,
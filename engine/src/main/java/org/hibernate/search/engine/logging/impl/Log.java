@@ -8,6 +8,8 @@
 package org.hibernate.search.engine.logging.impl;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
 import org.hibernate.search.util.EventContext;
@@ -166,4 +168,24 @@ SearchException relativeFieldNameCannotContainDot(String relativeFieldName,
 			value = "Multiple calls to createAccessor() for the same field definition."
 					+ " You must call createAccessor() exactly once.")
 	SearchException cannotCreateAccessorMultipleTimes(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Query '%1$s' was not part of the executed query group.")
+	SearchException queryNotInGroup(Object query);
+
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Multiple aggregations with the same name: '%1$s'. Aggregation names must be unique within a query.")
+	SearchException duplicateAggregationName(String name);
+
+	@Message(id = ID_OFFSET_2 + 27,
+			value = "Unknown aggregation: '%1$s'. Aggregations defined in the query: %2$s.")
+	SearchException unknownAggregation(String name, Set<String> definedNames);
+
+	@Message(id = ID_OFFSET_2 + 28,
+			value = "Invalid query timeout: '%1$s %2$s'. The timeout must be strictly positive.")
+	SearchException invalidQueryTimeout(long timeout, TimeUnit timeUnit);
+
+	@Message(id = ID_OFFSET_2 + 29,
+			value = "Invalid hit count threshold: '%1$s'. The threshold must be positive or zero.")
+	SearchException invalidHitCountThreshold(long threshold);
 }
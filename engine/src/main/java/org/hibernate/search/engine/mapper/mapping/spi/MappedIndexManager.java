@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.engine.mapper.mapping.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
@@ -23,6 +26,14 @@
 
 	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext);
 
+	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext);
+
+	CompletableFuture<?> startBulkIndexing();
+
+	CompletableFuture<?> finishBulkIndexing();
+
+	CompletableFuture<?> purge(SessionContext sessionContext);
+
 	IndexSearchTargetBuilder createSearchTarget();
 
 	void addToSearchTarget(IndexSearchTargetBuilder searchTargetBuilder);
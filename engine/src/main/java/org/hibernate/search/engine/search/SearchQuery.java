@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 /**
  * @author Yoann Rodiere
  */
@@ -19,4 +22,44 @@
 
 	SearchResult<T> execute();
 
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * Equivalent to {@link #executeAsync(Executor)} with an executor running tasks immediately:
+	 * objects, if any, will be loaded in the thread completing the search,
+	 * which may be an I/O thread of the backend.
+	 * This is only appropriate when loading objects is not needed or is cheap and non-blocking.
+	 *
+	 * @return A stage completed with the search result.
+	 */
+	CompletionStage<SearchResult<T>> executeAsync();
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * Hits are fetched from the backend without blocking the calling thread when the backend allows it.
+	 * Then, if the hits require loading objects (entities in particular),
+	 * loading is performed as a separate stage, executed by the given executor.
+	 * <p>
+	 * The query must not be executed again until the returned stage completes.
+	 *
+	 * @param loadingExecutor The executor used to load objects and build the hits.
+	 * @return A stage completed with the search result.
+	 */
+	CompletionStage<SearchResult<T>> executeAsync(Executor loadingExecutor);
+
+	/**
+	 * Execute the query and iterate over all of its hits, in chunks.
+	 * <p>
+	 * Contrary to {@link #execute()}, this does not require the whole result set to fit in memory,
+	 * nor does it suffer from the cost of deep pagination:
+	 * it is the preferred way of processing very large result sets.
+	 * <p>
+	 * Limits set through {@link #setFirstResult(Long)} and {@link #setMaxResults(Long)} are ignored.
+	 *
+	 * @param chunkSize The maximum number of hits in each chunk. Must be strictly positive.
+	 * @return A scroll over the hits. Must be closed after use.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
 }
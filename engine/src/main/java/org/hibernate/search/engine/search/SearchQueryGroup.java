@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.hibernate.search.engine.search.query.impl.SearchQueryGroupImpl;
+
+/**
+ * A group of search queries to be executed together.
+ * <p>
+ * Queries targeting the same backend are executed in a single operation when the backend allows it:
+ * a single round trip for remote backends, a single snapshot of the indexes for embedded backends.
+ * This avoids the per-query overhead and gives a consistent view of the indexes across the grouped queries.
+ */
+public interface SearchQueryGroup {
+
+	/**
+	 * Execute all queries in this group.
+	 * <p>
+	 * If any query fails, the whole execution fails.
+	 *
+	 * @return The results of the queries.
+	 */
+	SearchQueryGroupResult execute();
+
+	/**
+	 * Create a group of queries.
+	 *
+	 * @param queries The queries to group.
+	 * @return The corresponding {@link SearchQueryGroup}.
+	 */
+	static SearchQueryGroup of(SearchQuery<?>... queries) {
+		return of( Arrays.asList( queries ) );
+	}
+
+	/**
+	 * Create a group of queries.
+	 *
+	 * @param queries The queries to group.
+	 * @return The corresponding {@link SearchQueryGroup}.
+	 */
+	static SearchQueryGroup of(Collection<? extends SearchQuery<?>> queries) {
+		return new SearchQueryGroupImpl( queries );
+	}
+
+}
@@ -7,16 +7,47 @@
 package org.hibernate.search.engine.search;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.SearchException;
 
 /**
  * @author Yoann Rodiere
  */
 public interface SearchResult<T> {
 
+	/**
+	 * @return The number of documents matching the query,
+	 * or a lower bound of that number if {@link #isHitCountExact()} returns {@code false}.
+	 */
 	long getHitCount();
 
+	/**
+	 * @return {@code true} if {@link #getHitCount()} is the exact number of matching documents,
+	 * {@code false} if it is only a lower bound,
+	 * which may only happen when a threshold was set with
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#hitCountThreshold(long)}.
+	 */
+	boolean isHitCountExact();
+
 	List<T> getHits();
 
-	// TODO aggregations, facets, ...
+	/**
+	 * @param name The name of an aggregation defined in the query.
+	 * @return The result of the aggregation: a map from each bucket key (a field value for terms aggregations,
+	 * a range key for range aggregations) to the number of matching documents in that bucket.
+	 * The iteration order of the map is the order of the buckets.
+	 * @throws SearchException If no aggregation with that name was defined in the query.
+	 */
+	Map<Object, Long> getAggregation(String name);
+
+	/**
+	 * @return {@code true} if the query timed out and this result is partial,
+	 * which may only happen when a timeout was set with
+	 * {@link org.hibernate.search.engine.search.dsl.query.SearchQueryContext#truncateAfter(long, TimeUnit)}.
+	 * {@code false} otherwise.
+	 */
+	boolean isTimedOut();
 
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An iterator over the hits of a search query, returning hits in chunks.
+ * <p>
+ * Chunks are fetched lazily, one at a time, so that iterating over a large result set
+ * only requires enough memory to hold one chunk.
+ * <p>
+ * A scroll holds resources in the backend (a pinned index reader, a server-side search context, ...)
+ * and must be {@link #close() closed} as soon as it is no longer needed.
+ *
+ * @param <T> The type of hits.
+ */
+public interface SearchScroll<T> extends Iterator<List<T>>, AutoCloseable {
+
+	/**
+	 * @return {@code true} if there is at least one more chunk of hits, {@code false} otherwise.
+	 */
+	@Override
+	boolean hasNext();
+
+	/**
+	 * @return The next chunk of hits. Never empty.
+	 * @throws java.util.NoSuchElementException If there are no more hits.
+	 */
+	@Override
+	List<T> next();
+
+	/**
+	 * Release the resources held by this scroll.
+	 */
+	@Override
+	void close();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+/**
+ * A range of values in a range aggregation.
+ * <p>
+ * The lower bound is included, the upper bound is excluded.
+ * Bounds are values passed through the DSL, and thus need to be converted by the backend.
+ */
+public final class AggregationRange {
+
+	private final String key;
+	private final Object from;
+	private final Object to;
+
+	public AggregationRange(String key, Object from, Object to) {
+		this.key = key;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[key=" + key + ", from=" + from + ", to=" + to + "]";
+	}
+
+	/**
+	 * @return The key of this range in the aggregation result.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * @return The lower bound (included), or {@code null} if there is no lower bound.
+	 */
+	public Object getFrom() {
+		return from;
+	}
+
+	/**
+	 * @return The upper bound (excluded), or {@code null} if there is no upper bound.
+	 */
+	public Object getTo() {
+		return to;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import java.util.List;
+
+/**
+ * A factory for search aggregations.
+ * <p>
+ * This is the main entry point for the engine
+ * to ask the backend to build search aggregations.
+ *
+ * @param <C> The type of query element collector
+ * @param <B> The implementation type of aggregations
+ */
+public interface SearchAggregationFactory<C, B> {
+
+	/**
+	 * Contribute aggregations to a collector.
+	 *
+	 * @param collector The query element collector.
+	 * @param aggregations The aggregation implementations.
+	 */
+	void contribute(C collector, List<B> aggregations);
+
+	/**
+	 * @param name The name of the aggregation, used to retrieve its result.
+	 * @param absoluteFieldPath The absolute path of the field to aggregate on.
+	 * @param maxTermCount The maximum number of terms to return.
+	 * @return An aggregation counting the matching documents for each distinct value of the field,
+	 * returning the {@code maxTermCount} values with the highest counts.
+	 */
+	B terms(String name, String absoluteFieldPath, int maxTermCount);
+
+	/**
+	 * @param name The name of the aggregation, used to retrieve its result.
+	 * @param absoluteFieldPath The absolute path of the field to aggregate on.
+	 * @param ranges The ranges to count documents for.
+	 * @return An aggregation counting the matching documents for each given range of values of the field.
+	 */
+	B range(String name, String absoluteFieldPath, List<AggregationRange> ranges);
+
+}
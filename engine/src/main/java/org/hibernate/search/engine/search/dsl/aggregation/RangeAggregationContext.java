@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.engine.search.dsl.ExplicitEndContext;
+
+/**
+ * The context used when defining a range aggregation.
+ *
+ * @param <N> The type of the next context (returned by {@link #end()}).
+ */
+public interface RangeAggregationContext<N> extends ExplicitEndContext<N> {
+
+	/**
+	 * Add a range to the aggregation.
+	 *
+	 * @param key The key of the range in the aggregation result.
+	 * @param from The lower bound of the range (included), or {@code null} for no lower bound.
+	 * @param to The upper bound of the range (excluded), or {@code null} for no upper bound.
+	 * The signature of this method defines bounds as {@link Object}s,
+	 * but a specific type is expected depending on the targeted field,
+	 * as in the range predicate.
+	 * @return {@code this}, for method chaining.
+	 */
+	RangeAggregationContext<N> range(String key, Object from, Object to);
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A context allowing to define an aggregation.
+ * <p>
+ * Aggregations are computed in the same pass over the matching documents as the hits,
+ * and their results are available through {@link org.hibernate.search.engine.search.SearchResult#getAggregation(String)}.
+ *
+ * @param <N> The type of the next context (returned by {@link TermsAggregationContext#end()} for example).
+ */
+public interface SearchAggregationContainerContext<N> {
+
+	/**
+	 * Count matching documents for each distinct value of a field.
+	 * <p>
+	 * The result maps each value to the number of matching documents with that value,
+	 * in descending order of count.
+	 *
+	 * @param absoluteFieldPath The absolute path of the index field to aggregate on.
+	 * The field must be sortable.
+	 * @return A context allowing to define the aggregation more precisely
+	 * or {@link TermsAggregationContext#end() end the aggregation definition}.
+	 * @throws SearchException If the field does not support aggregations.
+	 */
+	TermsAggregationContext<N> terms(String absoluteFieldPath);
+
+	/**
+	 * Count matching documents for ranges of values of a field.
+	 * <p>
+	 * The result maps the key of each range to the number of matching documents in that range,
+	 * in the order the ranges were defined.
+	 *
+	 * @param absoluteFieldPath The absolute path of the index field to aggregate on.
+	 * The field must be sortable and of a numeric or temporal type.
+	 * @return A context allowing to define the ranges.
+	 * @throws SearchException If the field does not support range aggregations.
+	 */
+	RangeAggregationContext<N> range(String absoluteFieldPath);
+
+}
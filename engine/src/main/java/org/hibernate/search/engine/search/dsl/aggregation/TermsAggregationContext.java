@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import org.hibernate.search.engine.search.dsl.ExplicitEndContext;
+
+/**
+ * The context used when defining a terms aggregation.
+ *
+ * @param <N> The type of the next context (returned by {@link #end()}).
+ */
+public interface TermsAggregationContext<N> extends ExplicitEndContext<N> {
+
+	/**
+	 * @param maxTermCount The maximum number of distinct values to return. Defaults to 10.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationContext<N> maxTermCount(int maxTermCount);
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+
+class RangeAggregationContextImpl<N, B> implements RangeAggregationContext<N>, SearchAggregationContributor<B> {
+
+	private final SearchAggregationFactory<?, B> factory;
+	private final String name;
+	private final String absoluteFieldPath;
+	private final N nextContext;
+
+	private final List<AggregationRange> ranges = new ArrayList<>();
+
+	RangeAggregationContextImpl(SearchAggregationFactory<?, B> factory, String name, String absoluteFieldPath,
+			N nextContext) {
+		this.factory = factory;
+		this.name = name;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.nextContext = nextContext;
+	}
+
+	@Override
+	public RangeAggregationContext<N> range(String key, Object from, Object to) {
+		ranges.add( new AggregationRange( key, from, to ) );
+		return this;
+	}
+
+	@Override
+	public N end() {
+		return nextContext;
+	}
+
+	@Override
+	public B toImplementation() {
+		return factory.range( name, absoluteFieldPath, ranges );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationContainerContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+
+public class SearchAggregationContainerContextImpl<N, B> implements SearchAggregationContainerContext<N> {
+
+	private final SearchAggregationFactory<?, B> factory;
+	private final String name;
+	private final Consumer<SearchAggregationContributor<B>> contributorCollector;
+	private final N nextContext;
+
+	public SearchAggregationContainerContextImpl(SearchAggregationFactory<?, B> factory, String name,
+			Consumer<SearchAggregationContributor<B>> contributorCollector, N nextContext) {
+		this.factory = factory;
+		this.name = name;
+		this.contributorCollector = contributorCollector;
+		this.nextContext = nextContext;
+	}
+
+	@Override
+	public TermsAggregationContext<N> terms(String absoluteFieldPath) {
+		TermsAggregationContextImpl<N, B> child =
+				new TermsAggregationContextImpl<>( factory, name, absoluteFieldPath, nextContext );
+		contributorCollector.accept( child );
+		return child;
+	}
+
+	@Override
+	public RangeAggregationContext<N> range(String absoluteFieldPath) {
+		RangeAggregationContextImpl<N, B> child =
+				new RangeAggregationContextImpl<>( factory, name, absoluteFieldPath, nextContext );
+		contributorCollector.accept( child );
+		return child;
+	}
+}
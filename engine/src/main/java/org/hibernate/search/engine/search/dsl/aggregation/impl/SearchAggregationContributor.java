@@ -0,0 +1,18 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+/**
+ * An aggregation defined through the DSL, to be converted to its implementation when the query is built.
+ *
+ * @param <B> The implementation type of aggregations
+ */
+public interface SearchAggregationContributor<B> {
+
+	B toImplementation();
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+
+class TermsAggregationContextImpl<N, B> implements TermsAggregationContext<N>, SearchAggregationContributor<B> {
+
+	private static final int DEFAULT_MAX_TERM_COUNT = 10;
+
+	private final SearchAggregationFactory<?, B> factory;
+	private final String name;
+	private final String absoluteFieldPath;
+	private final N nextContext;
+
+	private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+
+	TermsAggregationContextImpl(SearchAggregationFactory<?, B> factory, String name, String absoluteFieldPath,
+			N nextContext) {
+		this.factory = factory;
+		this.name = name;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.nextContext = nextContext;
+	}
+
+	@Override
+	public TermsAggregationContext<N> maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+		return this;
+	}
+
+	@Override
+	public N end() {
+		return nextContext;
+	}
+
+	@Override
+	public B toImplementation() {
+		return factory.terms( name, absoluteFieldPath, maxTermCount );
+	}
+}
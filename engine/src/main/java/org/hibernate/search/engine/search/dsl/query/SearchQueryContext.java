@@ -8,9 +8,11 @@
 
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationContainerContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 
 /**
@@ -28,6 +30,69 @@
 
 	SearchSortContainerContext<SearchQueryContext<Q>> sort();
 
+	/**
+	 * Define an aggregation, whose result will be available
+	 * through {@link org.hibernate.search.engine.search.SearchResult#getAggregation(String)}.
+	 *
+	 * @param name The name of the aggregation. Must be unique within the query.
+	 * @return A context allowing to define the aggregation.
+	 */
+	SearchAggregationContainerContext<SearchQueryContext<Q>> aggregation(String name);
+
+	/**
+	 * Stop the query and throw an exception if it takes longer than the given timeout.
+	 * <p>
+	 * The timeout is enforced by the backend on a best-effort basis:
+	 * the query may run for slightly longer than the timeout before being stopped.
+	 *
+	 * @param timeout The timeout value. Must be strictly positive.
+	 * @param timeUnit The unit of the timeout value.
+	 * @return {@code this}, for method chaining.
+	 * @see #truncateAfter(long, TimeUnit)
+	 */
+	SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop the query if it takes longer than the given timeout, and return partial results.
+	 * <p>
+	 * Partial results only take into account the documents collected before the timeout,
+	 * for the hits, the hit count and aggregations alike.
+	 * They are flagged with {@link org.hibernate.search.engine.search.SearchResult#isTimedOut()}.
+	 *
+	 * @param timeout The timeout value. Must be strictly positive.
+	 * @param timeUnit The unit of the timeout value.
+	 * @return {@code this}, for method chaining.
+	 * @see #failAfter(long, TimeUnit)
+	 */
+	SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Only count matching documents exactly up to the given threshold.
+	 * <p>
+	 * Once the threshold is reached, the backend may stop counting matching documents,
+	 * and even stop scanning them when it knows the remaining ones cannot be hits,
+	 * for instance when no hits are requested or when sorting by index order.
+	 * The hit count is then only a lower bound, as indicated by
+	 * {@link org.hibernate.search.engine.search.SearchResult#isHitCountExact()}.
+	 * <p>
+	 * By default, matching documents are always counted exactly.
+	 *
+	 * @param threshold The number of matching documents to count exactly. Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 * @see #skipHitCount()
+	 */
+	SearchQueryContext<Q> hitCountThreshold(long threshold);
+
+	/**
+	 * Do not count matching documents, unless the backend can do it at no cost.
+	 * <p>
+	 * Equivalent to {@code hitCountThreshold( 0 )}.
+	 *
+	 * @return {@code this}, for method chaining.
+	 * @see #hitCountThreshold(long)
+	 */
+	SearchQueryContext<Q> skipHitCount();
+
 	Q build();
 
 }
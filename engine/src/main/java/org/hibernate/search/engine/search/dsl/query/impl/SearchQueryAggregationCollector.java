@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationContainerContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.SearchAggregationContainerContextImpl;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.SearchAggregationContributor;
+import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Collect search aggregations to later add them to a search query.
+ * <p>
+ * This class is essentially a bridge transferring information from {@link SearchQueryContext}
+ * to {@link SearchQueryBuilder#getQueryElementCollector()}.
+ */
+class SearchQueryAggregationCollector<C, B> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchAggregationFactory<C, B> factory;
+	private final Set<String> names = new HashSet<>();
+	private final List<SearchAggregationContributor<B>> contributors = new ArrayList<>();
+
+	SearchQueryAggregationCollector(SearchAggregationFactory<C, B> factory) {
+		this.factory = factory;
+	}
+
+	void contribute(C collector) {
+		if ( contributors.isEmpty() ) {
+			return;
+		}
+		List<B> aggregations = new ArrayList<>( contributors.size() );
+		for ( SearchAggregationContributor<B> contributor : contributors ) {
+			aggregations.add( contributor.toImplementation() );
+		}
+		factory.contribute( collector, aggregations );
+	}
+
+	<N> SearchAggregationContainerContext<N> createContainerContext(String name, N nextContext) {
+		if ( !names.add( name ) ) {
+			throw log.duplicateAggregationName( name );
+		}
+		return new SearchAggregationContainerContextImpl<>( factory, name, contributors::add, nextContext );
+	}
+}
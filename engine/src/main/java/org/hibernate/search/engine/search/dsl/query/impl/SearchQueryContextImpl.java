@@ -6,16 +6,21 @@
  */
 package org.hibernate.search.engine.search.dsl.query.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationContainerContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 
 /**
@@ -23,12 +28,16 @@
  */
 final class SearchQueryContextImpl<T, Q, C> implements SearchQueryContext<Q> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final SearchQueryBuilder<T, C> searchQueryBuilder;
 	private final Function<SearchQuery<T>, Q> searchQueryWrapperFactory;
 	private final SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector;
 
 	private final SearchQuerySortCollector<? super C, ?> searchSortCollector;
 
+	private final SearchQueryAggregationCollector<? super C, ?> searchAggregationCollector;
+
 	SearchQueryContextImpl(SearchTargetContext<C> targetContext, SearchQueryBuilder<T, C> searchQueryBuilder,
 			Function<SearchQuery<T>, Q> searchQueryWrapperFactory,
 			SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector) {
@@ -36,6 +45,8 @@
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
 		this.searchPredicateCollector = searchPredicateCollector;
 		this.searchSortCollector = new SearchQuerySortCollector<>( targetContext.getSearchSortFactory() );
+		this.searchAggregationCollector =
+				new SearchQueryAggregationCollector<>( targetContext.getSearchAggregationFactory() );
 	}
 
 	@Override
@@ -62,11 +73,48 @@ public SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext<Se
 		return this;
 	}
 
+	@Override
+	public SearchQueryContext<Q> failAfter(long timeout, TimeUnit timeUnit) {
+		return timeout( timeout, timeUnit, true );
+	}
+
+	@Override
+	public SearchQueryContext<Q> truncateAfter(long timeout, TimeUnit timeUnit) {
+		return timeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public SearchQueryContext<Q> hitCountThreshold(long threshold) {
+		if ( threshold < 0L ) {
+			throw log.invalidHitCountThreshold( threshold );
+		}
+		searchQueryBuilder.setHitCountThreshold( threshold );
+		return this;
+	}
+
+	@Override
+	public SearchQueryContext<Q> skipHitCount() {
+		return hitCountThreshold( 0L );
+	}
+
 	@Override
 	public SearchSortContainerContext<SearchQueryContext<Q>> sort() {
 		return searchSortCollector.createContainerContext( this );
 	}
 
+	@Override
+	public SearchAggregationContainerContext<SearchQueryContext<Q>> aggregation(String name) {
+		return searchAggregationCollector.createContainerContext( name, this );
+	}
+
+	private SearchQueryContext<Q> timeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		if ( timeout <= 0L ) {
+			throw log.invalidQueryTimeout( timeout, timeUnit );
+		}
+		searchQueryBuilder.setTimeout( timeout, timeUnit, exceptionOnTimeout );
+		return this;
+	}
+
 	@Override
 	public Q build() {
 		/*
@@ -83,6 +131,7 @@ public Q build() {
 		C collector = searchQueryBuilder.getQueryElementCollector();
 		searchPredicateCollector.contribute( collector );
 		searchSortCollector.contribute( collector );
+		searchAggregationCollector.contribute( collector );
 		return searchQueryBuilder.build( searchQueryWrapperFactory );
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.dsl.spi;
 
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
 import org.hibernate.search.engine.search.predicate.spi.SearchPredicateFactory;
 import org.hibernate.search.engine.search.query.spi.SearchQueryFactory;
 import org.hibernate.search.engine.search.sort.spi.SearchSortFactory;
@@ -21,6 +22,8 @@
 
 	SearchSortFactory<? super C, ?> getSearchSortFactory();
 
+	SearchAggregationFactory<? super C, ?> getSearchAggregationFactory();
+
 	SearchQueryFactory<C> getSearchQueryFactory();
 
 }
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryGroup;
+import org.hibernate.search.engine.search.SearchQueryGroupResult;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.GroupableSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchQueryGroupExecutor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class SearchQueryGroupImpl implements SearchQueryGroup {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<SearchQuery<?>> queries;
+
+	public SearchQueryGroupImpl(Collection<? extends SearchQuery<?>> queries) {
+		this.queries = new ArrayList<>( queries );
+	}
+
+	@Override
+	public SearchQueryGroupResult execute() {
+		Map<SearchQuery<?>, SearchResult<?>> results = new IdentityHashMap<>();
+
+		// Partition the queries by executor, preserving the order of the queries
+		Map<SearchQueryGroupExecutor, List<GroupableSearchQuery<?>>> queriesByExecutor = new LinkedHashMap<>();
+		for ( SearchQuery<?> query : queries ) {
+			if ( results.containsKey( query ) ) {
+				// Duplicate query
+				continue;
+			}
+			if ( query instanceof GroupableSearchQuery ) {
+				GroupableSearchQuery<?> groupableQuery = (GroupableSearchQuery<?>) query;
+				queriesByExecutor.computeIfAbsent( groupableQuery.getGroupExecutor(), ignored -> new ArrayList<>() )
+						.add( groupableQuery );
+				results.put( query, null );
+			}
+			else {
+				results.put( query, query.execute() );
+			}
+		}
+
+		for ( Map.Entry<SearchQueryGroupExecutor, List<GroupableSearchQuery<?>>> entry : queriesByExecutor.entrySet() ) {
+			List<GroupableSearchQuery<?>> executorQueries = entry.getValue();
+			if ( executorQueries.size() == 1 ) {
+				// No need to group anything
+				GroupableSearchQuery<?> query = executorQueries.get( 0 );
+				results.put( query, query.execute() );
+				continue;
+			}
+			List<SearchResult<?>> executorResults = entry.getKey().execute( executorQueries );
+			for ( int i = 0; i < executorQueries.size(); i++ ) {
+				results.put( executorQueries.get( i ), executorResults.get( i ) );
+			}
+		}
+
+		return new SearchQueryGroupResultImpl( results );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queries=" + queries + "]";
+	}
+
+	private static final class SearchQueryGroupResultImpl implements SearchQueryGroupResult {
+
+		private final Map<SearchQuery<?>, SearchResult<?>> results;
+
+		private SearchQueryGroupResultImpl(Map<SearchQuery<?>, SearchResult<?>> results) {
+			this.results = results;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // Results are mapped to the query that produced them, so the types match
+		public <T> SearchResult<T> get(SearchQuery<T> query) {
+			SearchResult<?> result = results.get( query );
+			if ( result == null ) {
+				throw log.queryNotInGroup( query );
+			}
+			return (SearchResult<T>) result;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchQuery;
+
+/**
+ * A search query that can be executed along with other queries in a single operation.
+ *
+ * @param <T> The type of hits.
+ */
+public interface GroupableSearchQuery<T> extends SearchQuery<T> {
+
+	/**
+	 * @return The executor able to execute this query along with other queries.
+	 * Queries returning the same executor instance will be passed together
+	 * to {@link SearchQueryGroupExecutor#execute(List)}.
+	 */
+	SearchQueryGroupExecutor getGroupExecutor();
+
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.SearchQuery;
@@ -22,7 +23,19 @@
 
 	void addRoutingKey(String routingKey);
 
-	// TODO add more arguments, such as faceting options
+	/**
+	 * @param timeout The timeout value. Always strictly positive.
+	 * @param timeUnit The unit of the timeout value.
+	 * @param exceptionOnTimeout {@code true} to fail the query on timeout,
+	 * {@code false} to return partial results.
+	 */
+	void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout);
+
+	/**
+	 * @param threshold The number of matching documents to count exactly. Always positive or zero.
+	 * Above this threshold, the hit count may only be a lower bound.
+	 */
+	void setHitCountThreshold(long threshold);
 
 	<Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory);
 
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchResult;
+
+/**
+ * Executes multiple queries in a single operation.
+ * <p>
+ * Implementations are expected to be provided by backends, one instance per backend.
+ */
+public interface SearchQueryGroupExecutor {
+
+	/**
+	 * @param queries The queries to execute.
+	 * All of them returned this executor from {@link GroupableSearchQuery#getGroupExecutor()}.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	List<SearchResult<?>> execute(List<? extends GroupableSearchQuery<?>> queries);
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A simple implementation of {@link SearchResult}, holding pre-computed hits and aggregations.
+ *
+ * @param <T> The type of hits.
+ */
+public final class SimpleSearchResult<T> implements SearchResult<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final long hitCount;
+	private final boolean hitCountExact;
+	private final List<T> hits;
+	private final Map<String, Map<Object, Long>> aggregations;
+	private final boolean timedOut;
+
+	public SimpleSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, Collections.emptyMap() );
+	}
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hits The hits. Must be unmodifiable.
+	 * @param aggregations The result of each aggregation, by name. Must be unmodifiable.
+	 */
+	public SimpleSearchResult(long hitCount, List<T> hits, Map<String, Map<Object, Long>> aggregations) {
+		this( hitCount, hits, aggregations, false );
+	}
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hits The hits. Must be unmodifiable.
+	 * @param aggregations The result of each aggregation, by name. Must be unmodifiable.
+	 * @param timedOut Whether the query timed out, in which case the result is partial.
+	 */
+	public SimpleSearchResult(long hitCount, List<T> hits, Map<String, Map<Object, Long>> aggregations,
+			boolean timedOut) {
+		this( hitCount, true, hits, aggregations, timedOut );
+	}
+
+	/**
+	 * @param hitCount The total hit count, or a lower bound of the total hit count.
+	 * @param hitCountExact Whether the total hit count is exact.
+	 * @param hits The hits. Must be unmodifiable.
+	 * @param aggregations The result of each aggregation, by name. Must be unmodifiable.
+	 * @param timedOut Whether the query timed out, in which case the result is partial.
+	 */
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, List<T> hits,
+			Map<String, Map<Object, Long>> aggregations, boolean timedOut) {
+		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
+		this.hits = hits;
+		this.aggregations = aggregations;
+		this.timedOut = timedOut;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[hitCount=" + hitCount + ", hitCountExact=" + hitCountExact + ", hits=" + hits
+				+ ", aggregations=" + aggregations + ", timedOut=" + timedOut + "]";
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public boolean isHitCountExact() {
+		return hitCountExact;
+	}
+
+	@Override
+	public List<T> getHits() {
+		return hits;
+	}
+
+	@Override
+	public Map<Object, Long> getAggregation(String name) {
+		Map<Object, Long> result = aggregations.get( name );
+		if ( result == null ) {
+			throw log.unknownAggregation( name, aggregations.keySet() );
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.http.util.EntityUtils;
+import org.assertj.core.api.Assertions;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+
+/**
+ * Test bulk indexing, i.e. documents streamed to the index between
+ * {@link MappedIndexManager#startBulkIndexing()} and {@link MappedIndexManager#finishBulkIndexing()}.
+ */
+public class ElasticsearchBulkIndexingIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "IndexName";
+	private static final String ELASTICSEARCH_INDEX_NAME = "indexname";
+	private static final int DOCUMENT_COUNT = 50;
+
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "index.number_of_replicas";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private RestClient client;
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		SearchIntegration integration = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+		client = integration.getBackend( BACKEND_NAME ).unwrap( ElasticsearchBackend.class )
+				.getClient( RestClient.class );
+	}
+
+	@Test
+	public void settingsRestoredWhenLastBulkIndexingFinishes() throws IOException {
+		JsonObject initialSettings = getSettings();
+
+		indexManager.startBulkIndexing().join();
+		JsonObject bulkSettings = getSettings();
+		Assertions.assertThat( bulkSettings.get( REFRESH_INTERVAL_SETTING ).getAsString() ).isEqualTo( "-1" );
+		Assertions.assertThat( bulkSettings.get( NUMBER_OF_REPLICAS_SETTING ).getAsString() ).isEqualTo( "0" );
+
+		indexManager.startBulkIndexing().join();
+		indexManager.finishBulkIndexing().join();
+		// Another bulk indexing is still in progress
+		Assertions.assertThat( getSettings().get( REFRESH_INTERVAL_SETTING ).getAsString() ).isEqualTo( "-1" );
+
+		indexManager.finishBulkIndexing().join();
+		JsonObject restoredSettings = getSettings();
+		Assertions.assertThat( restoredSettings.get( REFRESH_INTERVAL_SETTING ) )
+				.isEqualTo( initialSettings.get( REFRESH_INTERVAL_SETTING ) );
+		Assertions.assertThat( restoredSettings.get( NUMBER_OF_REPLICAS_SETTING ) )
+				.isEqualTo( initialSettings.get( NUMBER_OF_REPLICAS_SETTING ) );
+	}
+
+	@Test
+	public void documentsDurableAndVisibleWhenFinished() throws IOException {
+		indexManager.startBulkIndexing().join();
+
+		IndexDocumentWorkExecutor<? extends DocumentElement> executor =
+				indexManager.createDocumentWorkExecutor( sessionContext );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			ids.add( id );
+			futures.add( executor.update( referenceProvider( id ),
+					document -> indexAccessors.string.write( document, "text" + id ) ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		indexManager.finishBulkIndexing().join();
+
+		// Periodic refreshes are disabled during bulk indexing: documents are visible thanks to the final refresh
+		assertThat( matchAllQuery() ).hasReferencesHitsAnyOrder( b -> ids.forEach( id -> b.doc( INDEX_NAME, id ) ) );
+		// The final flush commits all segments, so documents do not rely on the translog anymore
+		JsonObject shards = performGet( "/" + ELASTICSEARCH_INDEX_NAME + "/_segments", Collections.emptyMap() )
+				.getAsJsonObject( "indices" ).getAsJsonObject( ELASTICSEARCH_INDEX_NAME )
+				.getAsJsonObject( "shards" );
+		for ( Map.Entry<String, JsonElement> shard : shards.entrySet() ) {
+			for ( JsonElement shardCopy : shard.getValue().getAsJsonArray() ) {
+				JsonObject segments = shardCopy.getAsJsonObject().getAsJsonObject( "segments" );
+				for ( Map.Entry<String, JsonElement> segment : segments.entrySet() ) {
+					Assertions.assertThat( segment.getValue().getAsJsonObject().get( "committed" ).getAsBoolean() )
+							.as( "Segment " + segment.getKey() + " of shard " + shard.getKey() + " is committed" )
+							.isTrue();
+				}
+			}
+		}
+	}
+
+	private JsonObject getSettings() throws IOException {
+		return performGet( "/" + ELASTICSEARCH_INDEX_NAME + "/_settings", Collections.singletonMap( "flat_settings", "true" ) )
+				.getAsJsonObject( ELASTICSEARCH_INDEX_NAME ).getAsJsonObject( "settings" );
+	}
+
+	private JsonObject performGet(String path, Map<String, String> params) throws IOException {
+		Response response = client.performRequest( "GET", path, params );
+		return new JsonParser().parse( EntityUtils.toString( response.getEntity() ) ).getAsJsonObject();
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -10,10 +10,33 @@
 
 public class ElasticsearchTckBackendFeatures extends TckBackendFeatures {
 
+	private static final String ELASTICSEARCH_VERSION_PROPERTY = "test.elasticsearch.host.version";
+
 	@Override
 	public boolean localDateTypeOnMissingValueUse() {
 		// See https://hibernate.atlassian.net/browse/HSEARCH-3255
 		return false;
 	}
 
+	@Override
+	public boolean indexSort() {
+		// Index sort was introduced in Elasticsearch 6.0
+		return getElasticsearchMajorVersion() >= 6;
+	}
+
+	@Override
+	public boolean indexSortEarlyTermination() {
+		// Elasticsearch only terminates early when hits are not tracked at all, i.e. when the threshold is 0
+		return false;
+	}
+
+	private static int getElasticsearchMajorVersion() {
+		String version = System.getProperty( ELASTICSEARCH_VERSION_PROPERTY );
+		if ( version == null ) {
+			// Not running from the Maven build: assume a recent version
+			return Integer.MAX_VALUE;
+		}
+		return Integer.parseInt( version.substring( 0, version.indexOf( '.' ) ) );
+	}
+
 }
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class LuceneCommitPolicyIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Object[][] commitPolicies() {
+		return new Object[][] {
+				{ "changeset" },
+				{ "scheduled" },
+				{ "near_real_time" }
+		};
+	}
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final String commitPolicy;
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	public LuceneCommitPolicyIT(String commitPolicy) {
+		this.commitPolicy = commitPolicy;
+	}
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty(
+						"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_POLICY,
+						commitPolicy
+				)
+				.withProperty(
+						"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_INTERVAL,
+						"50"
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void concurrentWorkPlans_visibleWhenExecuted() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			String id = String.valueOf( i );
+			ids.add( id );
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			workPlan.add( referenceProvider( id ), document -> indexAccessors.string.write( document, "text" + id ) );
+			futures.add( workPlan.execute() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		assertThat( matchAllQuery() ).hasReferencesHitsAnyOrder( b -> ids.forEach( id -> b.doc( INDEX_NAME, id ) ) );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.delete( referenceProvider( "0" ) );
+		workPlan.execute().join();
+		ids.remove( "0" );
+
+		assertThat( matchAllQuery() ).hasReferencesHitsAnyOrder( b -> ids.forEach( id -> b.doc( INDEX_NAME, id ) ) );
+	}
+
+	@Test
+	public void invalidCommitInterval() {
+		Assume.assumeFalse( "The changeset commit policy does not use the commit interval",
+				"changeset".equals( commitPolicy ) );
+
+		SubTest.expectException(
+				"Commit policy '" + commitPolicy + "' with a commit interval of 0",
+				() -> setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty(
+								"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_POLICY,
+								commitPolicy
+						)
+						.withProperty(
+								"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_INTERVAL,
+								"0"
+						)
+						.withIndex( "MappedType", INDEX_NAME,
+								ctx -> new IndexAccessors( ctx.getSchemaElement() ), indexManager -> { } )
+						.setup()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid commit interval: '0'" )
+				.hasMessageContaining( SearchBackendLuceneSettings.LUCENE_INDEXING_COMMIT_INTERVAL )
+				.hasMessageContaining( commitPolicy );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.assertj.core.api.Assertions;
+
+public class LuceneDirectoryProviderIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final long REPLICATION_TIMEOUT_MS = 10_000L;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void localHeap() {
+		IndexHandle index = setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER ), "local_heap" ) );
+
+		index.add( "1", "2" );
+
+		assertThat( index.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void localHeap_fileSystemLockingStrategy() {
+		SubTest.expectException(
+				"Heap directory with a filesystem locking strategy",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER ), "local_heap" )
+						.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_LOCKING_STRATEGY ),
+								"native_filesystem" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Locking strategy 'NATIVE_FILESYSTEM' cannot be used with directories stored in the heap" );
+	}
+
+	@Test
+	public void localDirectory_nio_simpleFileSystemLocks() throws IOException {
+		IndexHandle index = setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY ),
+						temporaryFolder.newFolder().toString() )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY ),
+						"nio" )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_LOCKING_STRATEGY ),
+						"simple_filesystem" ) );
+
+		index.add( "1", "2" );
+
+		assertThat( index.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void localDirectory_mmap_preload() throws IOException {
+		IndexHandle index = setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY ),
+						temporaryFolder.newFolder().toString() )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_FILESYSTEM_ACCESS_STRATEGY ),
+						"mmap" )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_MMAP_PRELOAD ), "true" )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_MMAP_MAX_CHUNK_SIZE ),
+						String.valueOf( 1 << 20 ) ) );
+
+		index.add( "1", "2" );
+
+		assertThat( index.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void masterReplica() throws IOException, InterruptedException {
+		Path sharedRootDirectory = temporaryFolder.newFolder().toPath();
+		IndexHandle master = setup( replicationConfiguration( "local_directory_master", sharedRootDirectory ) );
+		IndexHandle replica = setup( replicationConfiguration( "local_directory_replica", sharedRootDirectory ) );
+
+		assertThat( replica.matchAllQuery() ).hasNoHits();
+
+		master.add( "1", "2" );
+		replica.awaitHitCount( 2 );
+		assertThat( replica.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		// Only new files are copied, and the replica must see the deletions as well
+		master.add( "3" );
+		master.delete( "1" );
+		replica.awaitHitCount( 2, "3" );
+		assertThat( replica.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "2", "3" );
+
+		SubTest.expectException(
+				"Writing to a replica",
+				() -> replica.add( "4" )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to write to this index: its directory is read-only" );
+
+		SubTest.expectException(
+				"Streaming documents to a replica",
+				() -> replica.indexManager.createDocumentWorkExecutor( sessionContext )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to write to this index: its directory is read-only" );
+	}
+
+	/**
+	 * Test that replication publishes commits even when the master commits faster than files can be copied:
+	 * the commit being copied must be pinned, otherwise its files may be deleted mid-copy over and over.
+	 */
+	@Test
+	public void masterReplica_frequentCommits() throws IOException, InterruptedException {
+		Path sharedRootDirectory = temporaryFolder.newFolder().toPath();
+		IndexHandle master = setup( replicationConfiguration( "local_directory_master", sharedRootDirectory ) );
+		IndexHandle replica = setup( replicationConfiguration( "local_directory_replica", sharedRootDirectory ) );
+
+		AtomicBoolean writing = new AtomicBoolean( true );
+		AtomicInteger writtenCount = new AtomicInteger();
+		Thread writer = new Thread( () -> {
+			while ( writing.get() ) {
+				// With the default commit policy, each work plan is committed
+				master.add( String.valueOf( writtenCount.incrementAndGet() ) );
+			}
+		} );
+		writer.start();
+		try {
+			long deadline = System.currentTimeMillis() + REPLICATION_TIMEOUT_MS;
+			long replicatedHitCount = 0L;
+			while ( replicatedHitCount == 0L && System.currentTimeMillis() < deadline ) {
+				Thread.sleep( 20L );
+				replicatedHitCount = replica.matchAllQuery().execute().getHitCount();
+			}
+			Assertions.assertThat( replicatedHitCount )
+					.as( "Hit count on the replica while the master keeps committing" )
+					.isGreaterThan( 0L );
+		}
+		finally {
+			writing.set( false );
+			writer.join();
+		}
+
+		replica.awaitHitCount( writtenCount.get() );
+		Assertions.assertThat( replica.matchAllQuery().execute().getHitCount() ).isEqualTo( writtenCount.get() );
+	}
+
+	@Test
+	public void masterReplica_replicaStartedFirst() throws IOException, InterruptedException {
+		Path sharedRootDirectory = temporaryFolder.newFolder().toPath();
+		IndexHandle replica = setup( replicationConfiguration( "local_directory_replica", sharedRootDirectory ) );
+		IndexHandle master = setup( replicationConfiguration( "local_directory_master", sharedRootDirectory ) );
+
+		master.add( "1" );
+		replica.awaitHitCount( 1 );
+		assertThat( replica.matchAllQuery() ).hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void master_undefinedSharedRootDirectory() {
+		SubTest.expectException(
+				"Master directory without a shared root directory",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER ),
+								"local_directory_master" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Undefined shared root directory" )
+				.hasMessageContaining( SearchBackendLuceneSettings.LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY );
+	}
+
+	@Test
+	public void unknownDirectoryProvider() {
+		SubTest.expectException(
+				"Unknown directory provider",
+				() -> setup( setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER ),
+								"some_invalid_name" ) )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "some_invalid_name" )
+				.hasMessageContaining( "neither a built-in directory provider nor a reference to a bean" );
+	}
+
+	private SearchSetupHelper.SetupContext replicationConfiguration(String directoryProvider, Path sharedRootDirectory)
+			throws IOException {
+		return setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER ),
+						directoryProvider )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY ),
+						temporaryFolder.newFolder().toString() )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_SHARED_ROOT_DIRECTORY ),
+						sharedRootDirectory.toString() )
+				.withProperty( backendProperty( SearchBackendLuceneSettings.LUCENE_DIRECTORY_REPLICATION_INTERVAL ),
+						"50" );
+	}
+
+	private IndexHandle setup(SearchSetupHelper.SetupContext setupContext) {
+		IndexHandle index = new IndexHandle();
+		setupContext
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> index.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> index.indexManager = indexManager
+				)
+				.setup();
+		return index;
+	}
+
+	private static String backendProperty(String key) {
+		return "backend." + BACKEND_NAME + "." + key;
+	}
+
+	private class IndexHandle {
+		private IndexAccessors indexAccessors;
+		private MappedIndexManager<?> indexManager;
+
+		void add(String... ids) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			for ( String id : ids ) {
+				workPlan.add( referenceProvider( id ), document -> indexAccessors.string.write( document, "text" + id ) );
+			}
+			workPlan.execute().join();
+		}
+
+		void delete(String id) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			workPlan.delete( referenceProvider( id ) );
+			workPlan.execute().join();
+		}
+
+		SearchQuery<DocumentReference> matchAllQuery() {
+			IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+			return searchTarget.query( sessionContext )
+					.asReferences()
+					.predicate().matchAll().end()
+					.build();
+		}
+
+		void awaitHitCount(long expectedHitCount, String... expectedIds) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + REPLICATION_TIMEOUT_MS;
+			while ( System.currentTimeMillis() < deadline ) {
+				if ( matchAllQuery().execute().getHitCount() == expectedHitCount && containsAll( expectedIds ) ) {
+					return;
+				}
+				Thread.sleep( 20L );
+			}
+		}
+
+		private boolean containsAll(String... ids) {
+			for ( String id : ids ) {
+				IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+				SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+						.asReferences()
+						.predicate().match().onField( "string" ).matching( "text" + id ).end()
+						.build();
+				if ( query.execute().getHitCount() == 0 ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
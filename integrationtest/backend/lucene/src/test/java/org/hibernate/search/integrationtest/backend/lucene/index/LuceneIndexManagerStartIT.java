@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.cfg.SearchEngineSettings;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LuceneIndexManagerStartIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME_PREFIX = "IndexName";
+	private static final int INDEX_COUNT = 6;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final Map<String, IndexFieldAccessor<String>> accessors = new LinkedHashMap<>();
+	private final Map<String, MappedIndexManager<?>> indexManagers = new LinkedHashMap<>();
+	private final SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void parallel() {
+		setup( "3" );
+		checkAllIndexesUsable();
+	}
+
+	@Test
+	public void sequential() {
+		setup( "1" );
+		checkAllIndexesUsable();
+	}
+
+	@Test
+	public void failure_reportedForEachIndex() throws IOException {
+		File rootDirectory = temporaryFolder.newFolder();
+		// A file prevents the creation of the directory of these indexes
+		new File( rootDirectory, INDEX_NAME_PREFIX + 1 ).createNewFile();
+		new File( rootDirectory, INDEX_NAME_PREFIX + 4 ).createNewFile();
+
+		SubTest.expectException(
+				() -> setupHelper.withDefaultConfiguration( BACKEND_NAME )
+						.withProperty(
+								"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY,
+								rootDirectory.getAbsolutePath()
+						)
+						.withProperty( SearchEngineSettings.INDEX_MANAGER_START_PARALLELISM, "3" )
+						.withIndex( "MappedType1", INDEX_NAME_PREFIX + 1, ctx -> { }, indexManager -> { } )
+						.withIndex( "MappedType2", INDEX_NAME_PREFIX + 2, ctx -> { }, indexManager -> { } )
+						.withIndex( "MappedType4", INDEX_NAME_PREFIX + 4, ctx -> { }, indexManager -> { } )
+						.setup()
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildSingleContextFailureReportPattern()
+						.indexContext( INDEX_NAME_PREFIX + 1 )
+						.backendContext( BACKEND_NAME )
+						.failure( "Unable to initialize the directory of this index" )
+						.build()
+				)
+				.hasMessageMatching( FailureReportUtils.buildSingleContextFailureReportPattern()
+						.indexContext( INDEX_NAME_PREFIX + 4 )
+						.backendContext( BACKEND_NAME )
+						.failure( "Unable to initialize the directory of this index" )
+						.build()
+				);
+	}
+
+	private void setup(String parallelism) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( SearchEngineSettings.INDEX_MANAGER_START_PARALLELISM, parallelism );
+		for ( int i = 0; i < INDEX_COUNT; i++ ) {
+			String indexName = INDEX_NAME_PREFIX + i;
+			setupContext = setupContext.withIndex(
+					"MappedType" + i, indexName,
+					ctx -> accessors.put( indexName, ctx.getSchemaElement().field( "string" ).asString().createAccessor() ),
+					indexManager -> indexManagers.put( indexName, indexManager )
+			);
+		}
+		setupContext.setup();
+	}
+
+	private void checkAllIndexesUsable() {
+		for ( Map.Entry<String, MappedIndexManager<?>> entry : indexManagers.entrySet() ) {
+			String indexName = entry.getKey();
+			IndexFieldAccessor<String> accessor = accessors.get( indexName );
+			IndexWorkPlan<? extends DocumentElement> workPlan = entry.getValue().createWorkPlan( sessionContext );
+			workPlan.add( referenceProvider( "1" ), document -> accessor.write( document, "text" ) );
+			workPlan.execute().join();
+
+			IndexSearchTarget searchTarget = entry.getValue().createSearchTarget().build();
+			SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+					.asReferences()
+					.predicate().matchAll().end()
+					.build();
+			assertThat( query ).hasReferencesHitsAnyOrder( indexName, "1" );
+		}
+	}
+}
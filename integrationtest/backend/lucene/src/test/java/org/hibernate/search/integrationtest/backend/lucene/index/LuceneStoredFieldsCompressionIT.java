@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.ProjectionsSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.apache.lucene.codecs.lucene50.Lucene50StoredFieldsFormat;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LuceneStoredFieldsCompressionIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String COMPRESSED_INDEX_NAME = "CompressedIndexName";
+	private static final String UNCOMPRESSED_INDEX_NAME = "UncompressedIndexName";
+
+	private static final String DESCRIPTION = "A long description, which would benefit from compression. ";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path rootDirectory;
+
+	private IndexAccessors compressedIndexAccessors;
+	private MappedIndexManager<?> compressedIndexManager;
+	private IndexAccessors uncompressedIndexAccessors;
+	private MappedIndexManager<?> uncompressedIndexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() throws IOException {
+		rootDirectory = temporaryFolder.newFolder().toPath();
+
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty(
+						"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY,
+						rootDirectory.toString()
+				)
+				.withIndex(
+						"MappedType", COMPRESSED_INDEX_NAME,
+						ctx -> this.compressedIndexAccessors = new IndexAccessors( ctx.getSchemaElement(), Store.COMPRESS ),
+						indexManager -> this.compressedIndexManager = indexManager
+				)
+				.withIndex(
+						"OtherMappedType", UNCOMPRESSED_INDEX_NAME,
+						ctx -> this.uncompressedIndexAccessors = new IndexAccessors( ctx.getSchemaElement(), Store.YES ),
+						indexManager -> this.uncompressedIndexManager = indexManager
+				)
+				.setup();
+
+		initData( compressedIndexManager, compressedIndexAccessors );
+		initData( uncompressedIndexManager, uncompressedIndexAccessors );
+	}
+
+	@Test
+	public void compressedFieldsAreProjectable() {
+		IndexSearchTarget searchTarget = compressedIndexManager.createSearchTarget().build();
+		SearchQuery<List<?>> query = searchTarget.query( sessionContext )
+				.asProjections( "description", "integer" )
+				.predicate().matchAll().end()
+				.build();
+
+		assertThat( query ).hasProjectionsHitsAnyOrder( b -> {
+			b.projection( description( 1 ), 1 );
+			b.projection( description( 2 ), 2 );
+		} );
+	}
+
+	@Test
+	public void compressionModePerIndex() throws IOException {
+		Assertions.assertThat( getStoredFieldsModes( COMPRESSED_INDEX_NAME ) )
+				.containsOnly( Lucene50StoredFieldsFormat.Mode.BEST_COMPRESSION.name() );
+		Assertions.assertThat( getStoredFieldsModes( UNCOMPRESSED_INDEX_NAME ) )
+				.containsOnly( Lucene50StoredFieldsFormat.Mode.BEST_SPEED.name() );
+	}
+
+	private List<String> getStoredFieldsModes(String indexName) throws IOException {
+		try ( Directory directory = FSDirectory.open( rootDirectory.resolve( indexName ) ) ) {
+			SegmentInfos segmentInfos = SegmentInfos.readLatestCommit( directory );
+			Assertions.assertThat( segmentInfos.size() ).isGreaterThan( 0 );
+			List<String> modes = new ArrayList<>();
+			for ( SegmentCommitInfo segmentCommitInfo : segmentInfos ) {
+				modes.add( segmentCommitInfo.info.getAttribute( Lucene50StoredFieldsFormat.MODE_KEY ) );
+			}
+			return modes;
+		}
+	}
+
+	private void initData(MappedIndexManager<?> indexManager, IndexAccessors indexAccessors) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 1; i <= 2; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( value ) ), document -> {
+				indexAccessors.description.write( document, description( value ) );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static String description(int i) {
+		StringBuilder builder = new StringBuilder();
+		for ( int j = 0; j < 20; j++ ) {
+			builder.append( DESCRIPTION );
+		}
+		return builder.append( i ).toString();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> description;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root, Store descriptionStore) {
+			description = root.field( "description" ).asString().store( descriptionStore ).createAccessor();
+			integer = root.field( "integer" ).asInteger().store( Store.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.ProjectionsSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test projections on fields that are both stored and sortable,
+ * for which the Lucene backend reads values from doc values instead of stored fields.
+ */
+public class LuceneDocValuesProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void docValuesOnly() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<List<?>> query = searchTarget.query( sessionContext )
+				.asProjections( "string", "integer", "localDate" )
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).asc().onMissingValue().sortLast().end()
+				.build();
+
+		assertThat( query ).hasProjectionsHitsExactOrder( b -> {
+			b.projection( "text 1", 1, LocalDate.of( 2018, 1, 1 ) );
+			b.projection( "text 2", 2, LocalDate.of( 2018, 2, 2 ) );
+			b.projection( null, null, null );
+		} );
+	}
+
+	@Test
+	public void mixedWithStoredFields() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<List<?>> query = searchTarget.query( sessionContext )
+				.asProjections( "integer", "storedOnly", "normalizedString" )
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).asc().onMissingValue().sortLast().end()
+				.build();
+
+		// Normalized doc values cannot be used for projections: the original value must be returned
+		assertThat( query ).hasProjectionsHitsExactOrder( b -> {
+			b.projection( 1, "stored 1", "Normalized 1" );
+			b.projection( 2, "stored 2", "Normalized 2" );
+			b.projection( null, null, null );
+		} );
+	}
+
+	private void initData() {
+		/*
+		 * Doc values are read from each segment using document IDs relative to that segment:
+		 * commit each work plan separately so that hits come from several segments,
+		 * and a wrong segment or ID would be caught.
+		 */
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+			indexAccessors.integer.write( document, 1 );
+			indexAccessors.localDate.write( document, LocalDate.of( 2018, 1, 1 ) );
+			indexAccessors.storedOnly.write( document, "stored 1" );
+			indexAccessors.normalizedString.write( document, "Normalized 1" );
+		} );
+		workPlan.execute().join();
+
+		workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+			indexAccessors.integer.write( document, 2 );
+			indexAccessors.localDate.write( document, LocalDate.of( 2018, 2, 2 ) );
+			indexAccessors.storedOnly.write( document, "stored 2" );
+			indexAccessors.normalizedString.write( document, "Normalized 2" );
+		} );
+		workPlan.add( referenceProvider( EMPTY ), document -> { } );
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<LocalDate> localDate;
+		final IndexFieldAccessor<String> storedOnly;
+		final IndexFieldAccessor<String> normalizedString;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString()
+					.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+			integer = root.field( "integer" ).asInteger()
+					.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+			localDate = root.field( "localDate" ).asLocalDate()
+					.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+			storedOnly = root.field( "storedOnly" ).asString()
+					.store( Store.YES ).createAccessor();
+			normalizedString = root.field( "normalizedString" ).asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneParallelSearchIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 30;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty(
+						"backend." + BACKEND_NAME + "." + SearchBackendLuceneSettings.LUCENE_SEARCH_THREAD_POOL_SIZE,
+						"4"
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sort_paging() {
+		SearchQuery<DocumentReference> query = sortedQuery();
+		query.setFirstResult( 5L );
+		query.setMaxResults( 10L );
+
+		assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasReferencesHitsExactOrder( b -> {
+					for ( int i = 5; i < 15; i++ ) {
+						b.doc( INDEX_NAME, id( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void score() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+
+		assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasReferencesHitsAnyOrder( b -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						b.doc( INDEX_NAME, id( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void scroll() {
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = sortedQuery().scroll( 7 ) ) {
+			scroll.forEachRemaining( chunk -> chunk.forEach( reference -> ids.add( reference.getId() ) ) );
+		}
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedIds.add( id( i ) );
+		}
+		Assertions.assertThat( ids ).containsExactlyElementsOf( expectedIds );
+	}
+
+	@Test
+	public void scroll_equalSortValues() {
+		// All documents have the same sort value: ties must be broken consistently, by index order
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "constant" ).asc().end()
+				.build();
+
+		assertScrollMatchesIndexOrder( query );
+	}
+
+	@Test
+	public void scroll_equalScores() {
+		// All documents have the same score: ties must be broken consistently, by index order
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		assertScrollMatchesIndexOrder( query );
+	}
+
+	@Test
+	public void hitCountThreshold_indexOrder() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setMaxResults( 10L );
+
+		// Even if collection of each slice ended early, the top hits must be the first documents in index order
+		List<DocumentReference> hits = query.execute().getHits();
+		Assertions.assertThat( hits ).containsExactlyElementsOf( indexOrder().subList( 0, 10 ) );
+	}
+
+	private void assertScrollMatchesIndexOrder(SearchQuery<DocumentReference> query) {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 7 ) ) {
+			scroll.forEachRemaining( hits::addAll );
+		}
+		Assertions.assertThat( hits ).containsExactlyElementsOf( indexOrder() );
+	}
+
+	private List<DocumentReference> indexOrder() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.build();
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+		List<DocumentReference> hits = query.execute().getHits();
+		Assertions.assertThat( hits ).hasSize( DOCUMENT_COUNT );
+		return hits;
+	}
+
+	private SearchQuery<DocumentReference> sortedQuery() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+	}
+
+	private void initData() {
+		// Index documents in separate work plans, so that they end up in multiple segments
+		for ( int i = DOCUMENT_COUNT - 1; i >= 0; i-- ) {
+			String id = id( i );
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			workPlan.add( referenceProvider( id ), document -> {
+				indexAccessors.string.write( document, id );
+				indexAccessors.constant.write( document, 42 );
+			} );
+			workPlan.execute().join();
+		}
+	}
+
+	private static String id(int i) {
+		return String.format( Locale.ROOT, "%03d", i );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> constant;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().sortable( Sortable.YES ).createAccessor();
+			constant = root.field( "constant" ).asInteger().sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
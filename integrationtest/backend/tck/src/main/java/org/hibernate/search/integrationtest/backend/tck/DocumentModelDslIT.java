@@ -19,6 +19,7 @@
 import org.hibernate.search.integrationtest.backend.tck.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.common.CollectionHelper;
 import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
@@ -407,6 +408,48 @@ public void analyzerAndNormalizer() {
 				) );
 	}
 
+	@Test
+	public void indexSortOnNonSortableField() {
+		SubTest.expectException(
+				"Adding a non-sortable field to the index sort",
+				() -> setup( ctx -> {
+					IndexSchemaElement root = ctx.getSchemaElement();
+					root.field( "myField" ).asInteger()
+							.indexSort( SortOrder.ASC )
+							.createAccessor();
+				} )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "This field cannot be part of the index sort" )
+				.hasMessageContaining( "only sortable fields can be part of the index sort" )
+				.satisfies( FailureReportUtils.hasContext(
+						EventContexts.fromIndexName( INDEX_NAME ),
+						EventContexts.fromIndexFieldAbsolutePath( "myField" )
+				) );
+	}
+
+	@Test
+	public void indexSortOnGeoPointField() {
+		SubTest.expectException(
+				"Adding a GeoPoint field to the index sort",
+				() -> setup( ctx -> {
+					IndexSchemaElement root = ctx.getSchemaElement();
+					root.field( "myField" ).asGeoPoint()
+							.sortable( Sortable.YES )
+							.indexSort( SortOrder.ASC )
+							.createAccessor();
+				} )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Index sort is not supported by the GeoPoint field type" )
+				.satisfies( FailureReportUtils.hasContext(
+						EventContexts.fromIndexName( INDEX_NAME ),
+						EventContexts.fromIndexFieldAbsolutePath( "myField" )
+				) );
+	}
+
 	@Test
 	public void missingCreateAccessorCall() {
 		for ( Function<IndexSchemaFieldContext, StandardIndexSchemaFieldTypedContext<?, ?>> typedContextFunction : MAIN_TYPES ) {
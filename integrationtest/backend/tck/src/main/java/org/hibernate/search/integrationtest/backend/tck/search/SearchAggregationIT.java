@@ -0,0 +1,299 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String DOCUMENT_5 = "5";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms_string() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "string" ).end()
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME,
+				DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, DOCUMENT_5, EMPTY );
+		// Most frequent terms first, then by term order
+		assertExactOrder( result.getAggregation( "colors" ), buckets( "red", 3L, "blue", 1L, "green", 1L ) );
+	}
+
+	@Test
+	public void terms_string_maxTermCount() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "string" ).maxTermCount( 2 ).end()
+				.build();
+
+		assertExactOrder( query.execute().getAggregation( "colors" ), buckets( "red", 3L, "blue", 1L ) );
+	}
+
+	@Test
+	public void terms_integer() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "sizes" ).terms( "integer" ).end()
+				.build();
+
+		assertExactOrder( query.execute().getAggregation( "sizes" ), buckets( 2, 2L, 1, 1L, 5, 1L, 10, 1L ) );
+	}
+
+	@Test
+	public void terms_onlyMatchingDocuments() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "integer" ).matching( 2 ).end()
+				.aggregation( "colors" ).terms( "string" ).end()
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+		assertExactOrder( result.getAggregation( "colors" ), buckets( "blue", 1L, "red", 1L ) );
+	}
+
+	@Test
+	public void range_integer() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "sizes" ).range( "integer" )
+						.range( "small", null, 2 )
+						.range( "medium", 2, 6 )
+						.range( "large", 6, null )
+						.end()
+				.build();
+
+		assertExactOrder( query.execute().getAggregation( "sizes" ),
+				buckets( "small", 1L, "medium", 3L, "large", 1L ) );
+	}
+
+	@Test
+	public void range_declarationOrder() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "sizes" ).range( "integer" )
+						.range( "large", 6, null )
+						.range( "small", null, 2 )
+						.range( "medium", 2, 6 )
+						.end()
+				.build();
+
+		// Buckets must be returned in the order ranges were declared, not sorted by bound
+		assertExactOrder( query.execute().getAggregation( "sizes" ),
+				buckets( "large", 1L, "small", 1L, "medium", 3L ) );
+	}
+
+	@Test
+	public void multipleAggregations_limitedHits() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "string" ).end()
+				.aggregation( "sizes" ).range( "integer" )
+						.range( "small", null, 2 )
+						.range( "other", 2, null )
+						.end()
+				.build();
+		// Aggregations must take into account all matching documents, not only the returned hits
+		query.setMaxResults( 1L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 6L );
+		Assertions.assertThat( result.getHits() ).hasSize( 1 );
+		assertExactOrder( result.getAggregation( "colors" ), buckets( "red", 3L, "blue", 1L, "green", 1L ) );
+		assertExactOrder( result.getAggregation( "sizes" ), buckets( "small", 1L, "other", 4L ) );
+	}
+
+	@Test
+	public void unsortableField() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		// Depending on the backend, the failure may happen when building or when executing the query
+		Assertions.assertThatThrownBy( () -> searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "unsortable" ).end()
+				.build()
+				.execute()
+		)
+				.isInstanceOf( SearchException.class );
+	}
+
+	@Test
+	public void duplicateName() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Multiple aggregations with the same name: 'colors'" );
+
+		searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "string" ).end()
+				.aggregation( "colors" ).terms( "integer" ).end()
+				.build();
+	}
+
+	@Test
+	public void unknownName() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchResult<DocumentReference> result = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "colors" ).terms( "string" ).end()
+				.build()
+				.execute();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Unknown aggregation: 'sizes'" );
+
+		result.getAggregation( "sizes" );
+	}
+
+	private static Map<Object, Long> buckets(Object... keysAndCounts) {
+		Map<Object, Long> result = new LinkedHashMap<>();
+		for ( int i = 0; i < keysAndCounts.length; i += 2 ) {
+			result.put( keysAndCounts[i], (Long) keysAndCounts[i + 1] );
+		}
+		return result;
+	}
+
+	private static void assertExactOrder(Map<Object, Long> actual, Map<Object, Long> expected) {
+		Assertions.assertThat( actual ).containsExactly( expected.entrySet().toArray( new Map.Entry[0] ) );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.string.write( document, "red" );
+			indexAccessors.integer.write( document, 1 );
+			indexAccessors.unsortable.write( document, "red" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.string.write( document, "red" );
+			indexAccessors.integer.write( document, 2 );
+			indexAccessors.unsortable.write( document, "red" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			indexAccessors.string.write( document, "blue" );
+			indexAccessors.integer.write( document, 2 );
+			indexAccessors.unsortable.write( document, "blue" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_4 ), document -> {
+			indexAccessors.string.write( document, "green" );
+			indexAccessors.integer.write( document, 5 );
+			indexAccessors.unsortable.write( document, "green" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_5 ), document -> {
+			indexAccessors.string.write( document, "red" );
+			indexAccessors.integer.write( document, 10 );
+			indexAccessors.unsortable.write( document, "red" );
+		} );
+		workPlan.add( referenceProvider( EMPTY ), document -> { } );
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME,
+				DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, DOCUMENT_5, EMPTY );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<String> unsortable;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().sortable( Sortable.YES ).createAccessor();
+			integer = root.field( "integer" ).asInteger().sortable( Sortable.YES ).createAccessor();
+			unsortable = root.field( "unsortable" ).asString().sortable( Sortable.NO ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchHitCountIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String DOCUMENT_5 = "5";
+
+	private static final int SPREAD_DOCUMENT_COUNT = 40;
+	private static final int SPREAD_BATCH_SIZE = 8;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void exactByDefault() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( 0L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasNoHits().hasHitCount( 5L );
+		Assertions.assertThat( result.isHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void skipHitCount_noHits() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.skipHitCount()
+				.build();
+		query.setMaxResults( 0L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasNoHits();
+		Assertions.assertThat( result.isHitCountExact() ).isFalse();
+		Assertions.assertThat( result.getHitCount() ).isBetween( 0L, 5L );
+	}
+
+	@Test
+	public void hitCountThreshold_hits() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.hitCountThreshold( 2L )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		// The hits must not be affected by the threshold
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME,
+				DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, DOCUMENT_5 );
+		assertHitCount( result, 2L, 5L );
+	}
+
+	@Test
+	public void hitCountThreshold_indexOrder() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> referenceQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.build();
+		referenceQuery.setMaxResults( 2L );
+		SearchResult<DocumentReference> referenceResult = referenceQuery.execute();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setMaxResults( 2L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		// Even if collection ended early, the top hits must be the same
+		SearchResultAssert.assertThat( result ).hasHitsExactOrder( referenceResult.getHits() );
+		assertHitCount( result, 1L, 5L );
+	}
+
+	/**
+	 * Test that a threshold below the requested page does not truncate the page or change the top hits,
+	 * with documents spread over several shards (Elasticsearch) or segments (Lucene).
+	 */
+	@Test
+	public void hitCountThreshold_sortedPage_severalShards() {
+		initSpreadData();
+
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> referenceQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).desc().end()
+				.build();
+		referenceQuery.setFirstResult( 2L );
+		referenceQuery.setMaxResults( 10L );
+		SearchResult<DocumentReference> referenceResult = referenceQuery.execute();
+		Assertions.assertThat( referenceResult.getHits() ).hasSize( 10 );
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).desc().end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setFirstResult( 2L );
+		query.setMaxResults( 10L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		SearchResultAssert.assertThat( result ).hasHitsExactOrder( referenceResult.getHits() );
+		assertHitCount( result, 1L, 5L + SPREAD_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void hitCountThreshold_indexOrderPage_severalShards() {
+		initSpreadData();
+
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> referenceQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.build();
+		referenceQuery.setMaxResults( 10L );
+		SearchResult<DocumentReference> referenceResult = referenceQuery.execute();
+		Assertions.assertThat( referenceResult.getHits() ).hasSize( 10 );
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byIndexOrder().end()
+				.hitCountThreshold( 0L )
+				.build();
+		query.setMaxResults( 10L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		SearchResultAssert.assertThat( result ).hasHitsExactOrder( referenceResult.getHits() );
+		assertHitCount( result, 0L, 5L + SPREAD_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void hitCountThreshold_aggregation() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.aggregation( "values" ).terms( "string" ).end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setMaxResults( 0L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		// Aggregations must not be affected by the threshold
+		Assertions.assertThat( result.getAggregation( "values" ).values() ).containsOnly( 1L ).hasSize( 5 );
+		assertHitCount( result, 1L, 5L );
+	}
+
+	@Test
+	public void hitCountThreshold_invalid() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Invalid hit count threshold: '-1'" );
+
+		searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.hitCountThreshold( -1L );
+	}
+
+	private static void assertHitCount(SearchResult<?> result, long threshold, long exactHitCount) {
+		if ( result.isHitCountExact() ) {
+			Assertions.assertThat( result.getHitCount() ).isEqualTo( exactHitCount );
+		}
+		else {
+			// Backends are free to stop counting as soon as the threshold is reached
+			Assertions.assertThat( result.getHitCount() ).isBetween( threshold, exactHitCount );
+		}
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			indexAccessors.string.write( document, "text 3" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_4 ), document -> {
+			indexAccessors.string.write( document, "text 4" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_5 ), document -> {
+			indexAccessors.string.write( document, "text 5" );
+		} );
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME,
+				DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, DOCUMENT_5 );
+	}
+
+	/**
+	 * Index documents through several work plans,
+	 * so that they end up in several segments (Lucene) and shards (Elasticsearch).
+	 */
+	private void initSpreadData() {
+		for ( int batch = 0; batch < SPREAD_DOCUMENT_COUNT / SPREAD_BATCH_SIZE; ++batch ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			for ( int i = 0; i < SPREAD_BATCH_SIZE; ++i ) {
+				String value = String.format( Locale.ROOT, "spread %02d", batch * SPREAD_BATCH_SIZE + i );
+				workPlan.add( referenceProvider( value ), document -> {
+					indexAccessors.string.write( document, value );
+				} );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
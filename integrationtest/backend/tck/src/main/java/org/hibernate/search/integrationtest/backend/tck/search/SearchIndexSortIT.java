@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
+import org.hibernate.search.integrationtest.backend.tck.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchIndexSortIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String DOCUMENT_5 = "5";
+	private static final String DOCUMENT_6 = "6";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		Assume.assumeTrue(
+				"Index sort is not supported, skipping.",
+				TckConfiguration.get().getBackendFeatures().indexSort()
+		);
+
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sortedOnIndexSort() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).desc().end()
+				.build();
+		query.setMaxResults( 3L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_5, DOCUMENT_3, DOCUMENT_6 )
+				.hasHitCount( 6L );
+		Assertions.assertThat( result.isHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void sortedOnIndexSort_hitCountThreshold() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).desc().end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setMaxResults( 2L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		// Even if collection ended early in some segments, the top hits must be the same
+		assertThat( result ).hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_5, DOCUMENT_3 );
+		if ( TckConfiguration.get().getBackendFeatures().indexSortEarlyTermination() ) {
+			// Each segment is sorted and contains more documents than requested: collection must have ended early
+			Assertions.assertThat( result.isHitCountExact() ).isFalse();
+			Assertions.assertThat( result.getHitCount() ).isBetween( 1L, 5L );
+		}
+		else {
+			Assertions.assertThat( result.isHitCountExact() ).isTrue();
+			Assertions.assertThat( result.getHitCount() ).isEqualTo( 6L );
+		}
+	}
+
+	@Test
+	public void sortedOnReverseIndexSort_hitCountThreshold() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).asc().end()
+				.hitCountThreshold( 1L )
+				.build();
+		query.setMaxResults( 2L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		// The query sort does not match the index sort: every document must be collected
+		assertThat( result ).hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_4 )
+				.hasHitCount( 6L );
+		Assertions.assertThat( result.isHitCountExact() ).isTrue();
+	}
+
+	private void initData() {
+		/*
+		 * Index documents in two batches, so that the index is more likely to contain multiple segments.
+		 * Segments are sorted when they are written, whatever their number,
+		 * and each batch contains more documents than the hits requested by the tests,
+		 * so that collection of each segment can end early.
+		 */
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.integer.write( document, 3 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.integer.write( document, 1 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			indexAccessors.integer.write( document, 5 );
+		} );
+		workPlan.execute().join();
+
+		workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_4 ), document -> {
+			indexAccessors.integer.write( document, 2 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_5 ), document -> {
+			indexAccessors.integer.write( document, 6 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_6 ), document -> {
+			indexAccessors.integer.write( document, 4 );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME,
+				DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4, DOCUMENT_5, DOCUMENT_6 );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer" ).asInteger()
+					.sortable( Sortable.YES )
+					.indexSort( SortOrder.DESC )
+					.createAccessor();
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchQueryGroup;
+import org.hibernate.search.engine.search.SearchQueryGroupResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SearchQueryGroupIT {
+
+	private static final String INDEX_NAME_1 = "IndexName_1";
+
+	private static final String DOCUMENT_1_1 = "1_1";
+	private static final String STRING_1_1 = "aaa";
+
+	private static final String DOCUMENT_1_2 = "1_2";
+	private static final String STRING_1_2 = "bbb";
+
+	private static final String DOCUMENT_1_3 = "1_3";
+	private static final String STRING_1_3 = "ccc";
+
+	private static final String INDEX_NAME_2 = "IndexName_2";
+
+	private static final String DOCUMENT_2_1 = "2_1";
+	private static final String STRING_2_1 = "aaa";
+
+	private static final String DOCUMENT_2_2 = "2_2";
+	private static final String STRING_2_2 = "ddd";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors_1;
+	private MappedIndexManager<?> indexManager_1;
+
+	private IndexAccessors indexAccessors_2;
+	private MappedIndexManager<?> indexManager_2;
+
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType_1", INDEX_NAME_1,
+						ctx -> this.indexAccessors_1 = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager_1 = indexManager
+				)
+				.withIndex(
+						"MappedType_2", INDEX_NAME_2,
+						ctx -> this.indexAccessors_2 = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager_2 = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void singleIndex() {
+		IndexSearchTarget searchTarget = indexManager_1.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> matchAllQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		SearchQuery<DocumentReference> pagedQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		pagedQuery.setFirstResult( 1L );
+		pagedQuery.setMaxResults( 1L );
+		SearchQuery<DocumentReference> matchQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( STRING_1_3 ).end()
+				.build();
+
+		SearchQueryGroupResult result = SearchQueryGroup.of( matchAllQuery, pagedQuery, matchQuery ).execute();
+
+		assertThat( result.get( matchAllQuery ) )
+				.hasHitCount( 3 )
+				.hasReferencesHitsExactOrder( INDEX_NAME_1, DOCUMENT_1_1, DOCUMENT_1_2, DOCUMENT_1_3 );
+		assertThat( result.get( pagedQuery ) )
+				.hasHitCount( 3 )
+				.hasReferencesHitsExactOrder( INDEX_NAME_1, DOCUMENT_1_2 );
+		assertThat( result.get( matchQuery ) )
+				.hasHitCount( 1 )
+				.hasReferencesHitsExactOrder( INDEX_NAME_1, DOCUMENT_1_3 );
+	}
+
+	@Test
+	public void multipleIndexes() {
+		SearchQuery<DocumentReference> query1 = indexManager_1.createSearchTarget().build()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( "aaa" ).end()
+				.build();
+		SearchQuery<DocumentReference> query2 = indexManager_2.createSearchTarget().build()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		SearchQuery<DocumentReference> query1And2 = createMultiIndexSearchTarget()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( "aaa" ).end()
+				.build();
+
+		SearchQueryGroupResult result = SearchQueryGroup.of( query1, query2, query1And2 ).execute();
+
+		assertThat( result.get( query1 ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME_1, DOCUMENT_1_1 );
+		assertThat( result.get( query2 ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME_2, DOCUMENT_2_1, DOCUMENT_2_2 );
+		assertThat( result.get( query1And2 ) )
+				.hasReferencesHitsAnyOrder( b -> {
+					b.doc( INDEX_NAME_1, DOCUMENT_1_1 );
+					b.doc( INDEX_NAME_2, DOCUMENT_2_1 );
+				} );
+	}
+
+	@Test
+	public void duplicateQuery() {
+		SearchQuery<DocumentReference> query = indexManager_1.createSearchTarget().build()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		SearchQueryGroupResult result = SearchQueryGroup.of( query, query ).execute();
+
+		assertThat( result.get( query ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME_1, DOCUMENT_1_1, DOCUMENT_1_2, DOCUMENT_1_3 );
+	}
+
+	@Test
+	public void get_queryNotInGroup() {
+		IndexSearchTarget searchTarget = indexManager_1.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		SearchQuery<DocumentReference> otherQuery = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		SearchQueryGroupResult result = SearchQueryGroup.of( query ).execute();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "was not part of the executed query group" );
+
+		result.get( otherQuery );
+	}
+
+	private IndexSearchTarget createMultiIndexSearchTarget() {
+		IndexSearchTargetBuilder searchTargetBuilder = indexManager_1.createSearchTarget();
+		indexManager_2.addToSearchTarget( searchTargetBuilder );
+		return searchTargetBuilder.build();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager_1.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1_1 ), document -> {
+			indexAccessors_1.string.write( document, STRING_1_1 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_1_2 ), document -> {
+			indexAccessors_1.string.write( document, STRING_1_2 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_1_3 ), document -> {
+			indexAccessors_1.string.write( document, STRING_1_3 );
+		} );
+		workPlan.execute().join();
+
+		workPlan = indexManager_2.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_2_1 ), document -> {
+			indexAccessors_2.string.write( document, STRING_2_1 );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2_2 ), document -> {
+			indexAccessors_2.string.write( document, STRING_2_2 );
+		} );
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		SearchQuery<DocumentReference> query = createMultiIndexSearchTarget()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( b -> {
+			b.doc( INDEX_NAME_1, DOCUMENT_1_1, DOCUMENT_1_2, DOCUMENT_1_3 );
+			b.doc( INDEX_NAME_2, DOCUMENT_2_1, DOCUMENT_2_2 );
+		} );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
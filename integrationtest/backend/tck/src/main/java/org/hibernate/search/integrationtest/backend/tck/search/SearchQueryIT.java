@@ -9,6 +9,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -20,6 +25,8 @@
 import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
 import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -174,6 +181,68 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void scroll() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+
+		List<List<String>> chunks = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			while ( scroll.hasNext() ) {
+				chunks.add( scroll.next().stream().map( DocumentReference::getId ).collect( Collectors.toList() ) );
+			}
+		}
+
+		assertThat( chunks ).containsExactly(
+				Arrays.asList( DOCUMENT_1, DOCUMENT_2 ),
+				Arrays.asList( DOCUMENT_3 )
+		);
+	}
+
+	@Test
+	public void scroll_ignoresPaging() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).desc().end()
+				.build();
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1 ) ) {
+			scroll.forEachRemaining( chunk -> {
+				assertThat( chunk ).hasSize( 1 );
+				ids.add( chunk.get( 0 ).getId() );
+			} );
+			assertThat( scroll.hasNext() ).isFalse();
+		}
+
+		assertThat( ids ).containsExactly( DOCUMENT_3, DOCUMENT_2, DOCUMENT_1 );
+	}
+
+	@Test
+	public void scroll_invalidChunkSize() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Invalid chunk size for scrolling" );
+
+		query.scroll( 0 );
+	}
+
 	@Test
 	public void getQueryString() {
 		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
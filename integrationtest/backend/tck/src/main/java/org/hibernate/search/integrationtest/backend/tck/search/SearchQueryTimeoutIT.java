@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that queries with a timeout behave normally when they complete in time.
+ * <p>
+ * Queries actually exceeding their timeout cannot be triggered reliably in tests,
+ * so they are not tested here.
+ */
+public class SearchQueryTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors;
+	private MappedIndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void failAfter_notExceeded() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.failAfter( 1, TimeUnit.HOURS )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void truncateAfter_notExceeded() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( "text 2" ).end()
+				.sort().byField( "string" ).end()
+				.truncateAfter( 1, TimeUnit.HOURS )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result ).hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_2 );
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 1L );
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void noTimeout() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		Assertions.assertThat( query.execute().isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void failAfter_invalidTimeout() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Invalid query timeout: '0 SECONDS'" );
+
+		searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.failAfter( 0, TimeUnit.SECONDS );
+	}
+
+	@Test
+	public void truncateAfter_invalidTimeout() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Invalid query timeout: '-1 MILLISECONDS'" );
+
+		searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.truncateAfter( -1, TimeUnit.MILLISECONDS );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			indexAccessors.string.write( document, "text 1" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			indexAccessors.string.write( document, "text 2" );
+		} );
+		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			indexAccessors.string.write( document, "text 3" );
+		} );
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		assertThat( query ).hasReferencesHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
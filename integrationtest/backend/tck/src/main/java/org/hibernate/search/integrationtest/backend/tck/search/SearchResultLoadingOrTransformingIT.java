@@ -17,6 +17,10 @@
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -36,6 +40,7 @@
 import org.hibernate.search.engine.search.ObjectLoader;
 import org.hibernate.search.engine.search.ProjectionConstants;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
 
@@ -44,6 +49,8 @@
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import org.assertj.core.api.Assertions;
+
 import org.easymock.EasyMock;
 
 public class SearchResultLoadingOrTransformingIT {
@@ -178,6 +185,61 @@ public void objects_referencesTransformer_objectLoading() {
 		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
 	}
 
+	@Test
+	public void objects_referencesTransformer_objectLoading_async() throws Exception {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		DocumentReference mainReference = reference( INDEX_NAME, MAIN_ID );
+		DocumentReference emptyReference = reference( INDEX_NAME, EMPTY_ID );
+		StubTransformedReference mainTransformedReference = new StubTransformedReference( mainReference );
+		StubTransformedReference emptyTransformedReference = new StubTransformedReference( emptyReference );
+		StubLoadedObject mainLoadedObject = new StubLoadedObject( mainReference );
+		StubLoadedObject emptyLoadedObject = new StubLoadedObject( emptyReference );
+
+		Function<DocumentReference, StubTransformedReference> referenceTransformerMock =
+				EasyMock.createMock( StubDocumentReferenceTransformer.class );
+		ObjectLoader<StubTransformedReference, StubLoadedObject> objectLoaderMock =
+				EasyMock.createMock( StubObjectLoader.class );
+
+		SearchQuery<StubLoadedObject> objectsQuery =
+				searchTarget.query( sessionContext, referenceTransformerMock, objectLoaderMock )
+						.asObjects()
+						.predicate().matchAll().end()
+						.build();
+
+		ExecutorService loadingExecutor = Executors.newSingleThreadExecutor(
+				runnable -> new Thread( runnable, "loading-thread" )
+		);
+		AtomicReference<String> loadingThreadName = new AtomicReference<>();
+
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( mainReference ) ) )
+				.andReturn( mainTransformedReference );
+		EasyMock.expect( referenceTransformerMock.apply( referenceMatcher( emptyReference ) ) )
+				.andReturn( emptyTransformedReference );
+		EasyMock.expect( objectLoaderMock.load(
+				EasyMock.or(
+						EasyMock.eq( Arrays.asList( mainTransformedReference, emptyTransformedReference ) ),
+						EasyMock.eq( Arrays.asList( emptyTransformedReference, mainTransformedReference ) )
+				)
+		) )
+				.andAnswer( () -> {
+					loadingThreadName.set( Thread.currentThread().getName() );
+					return Arrays.asList( mainLoadedObject, emptyLoadedObject );
+				} );
+		EasyMock.replay( referenceTransformerMock, objectLoaderMock );
+		try {
+			SearchResult<StubLoadedObject> result = objectsQuery.executeAsync( loadingExecutor )
+					.toCompletableFuture().get( 30, TimeUnit.SECONDS );
+			assertThat( result ).hasHitsExactOrder( mainLoadedObject, emptyLoadedObject );
+		}
+		finally {
+			loadingExecutor.shutdownNow();
+		}
+		EasyMock.verify( referenceTransformerMock, objectLoaderMock );
+		// Objects must be loaded on the given executor, never on a backend thread
+		Assertions.assertThat( loadingThreadName.get() ).isEqualTo( "loading-thread" );
+	}
+
 	@Test
 	public void projection_referencesTransformer_objectLoading() {
 		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
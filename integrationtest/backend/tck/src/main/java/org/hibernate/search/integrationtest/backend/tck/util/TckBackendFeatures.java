@@ -19,4 +19,17 @@ public boolean localDateTypeOnMissingValueUse() {
 	public boolean distanceSortDesc() {
 		return true;
 	}
+
+	public boolean indexSort() {
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if the backend stops collecting a sorted segment early
+	 * when a query with a hit count threshold is sorted like the index,
+	 * {@code false} if it always counts hits exactly in that case.
+	 */
+	public boolean indexSortEarlyTermination() {
+		return true;
+	}
 }
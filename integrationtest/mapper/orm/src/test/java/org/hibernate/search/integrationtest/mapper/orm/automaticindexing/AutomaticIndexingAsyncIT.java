@@ -0,0 +1,294 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.orm.spi.AsyncIndexingErrorHandler;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing with asynchronous execution of works after the transaction is committed.
+ */
+public class AutomaticIndexingAsyncIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Rule
+	public ExpectedLog4jLog log = ExpectedLog4jLog.create();
+
+	private final List<Throwable> reportedFailures = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void commitDoesNotWaitForExecution() {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		// The transaction was committed even though the works are not complete yet
+		backendMock.verifyExpectationsMet();
+		assertThat( executionFuture ).isNotDone();
+
+		executionFuture.complete( null );
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void failureReportedToErrorHandler() {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+		assertThat( reportedFailures ).isEmpty();
+
+		RuntimeException failure = new RuntimeException( "Simulated failure" );
+		executionFuture.completeExceptionally( failure );
+		assertThat( reportedFailures ).hasSize( 1 );
+		assertThat( reportedFailures.get( 0 ) ).satisfies( throwable -> {
+			Throwable cause = throwable;
+			while ( cause != failure && cause.getCause() != null ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).isSameAs( failure );
+		} );
+	}
+
+	@Test
+	public void overflow_drop() {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_QUEUE_SIZE, 1 )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_OVERFLOW_POLICY, "drop" ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The queue is full: works of the next transaction are prepared, but never executed
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "indexedField", "initialValue" ) )
+					.prepared();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Once the first works complete, there is room in the queue again
+		executionFuture.complete( null );
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 3, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "3", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void overflow_callerRuns() {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_QUEUE_SIZE, 1 )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_OVERFLOW_POLICY, "caller_runs" ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The queue is full: works of the next transaction are executed synchronously
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		executionFuture.complete( null );
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void overflow_block() throws InterruptedException {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_QUEUE_SIZE, 1 )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_OVERFLOW_POLICY, "block" ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The queue is full: the commit of the next transaction blocks until there is room in the queue
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "2", b -> b.field( "indexedField", "initialValue" ) )
+				.preparedThenExecuted();
+		CompletableFuture<?> secondTransactionFuture = CompletableFuture.runAsync(
+				() -> OrmUtils.withinTransaction( sessionFactory, session -> {
+					session.persist( new IndexedEntity( 2, "initialValue" ) );
+				} )
+		);
+		Thread.sleep( 100L );
+		assertThat( secondTransactionFuture ).isNotDone();
+
+		executionFuture.complete( null );
+		secondTransactionFuture.join();
+		backendMock.verifyExpectationsMet();
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void shutdown_waitsForExecution() throws InterruptedException {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Works executing in the background are drained before the session factory is closed
+		CompletableFuture<?> closeFuture = CompletableFuture.runAsync( sessionFactory::close );
+		Thread.sleep( 100L );
+		assertThat( closeFuture ).isNotDone();
+
+		executionFuture.complete( null );
+		closeFuture.join();
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void shutdown_timeout() {
+		SessionFactory sessionFactory = setup( ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_SHUTDOWN_TIMEOUT, 100L ) );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Works that never complete are abandoned once the timeout expires
+		log.expectMessage( "did not complete within 100 ms on shutdown" );
+		sessionFactory.close();
+		assertThat( executionFuture ).isNotDone();
+	}
+
+	private SessionFactory setup(OrmSetupHelper.SetupContext setupContext) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		AsyncIndexingErrorHandler errorHandler = reportedFailures::add;
+		SessionFactory sessionFactory = setupContext
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_EXECUTION, "async" )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_ASYNC_ERROR_HANDLER, errorHandler )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		protected IndexedEntity() {
+			// For Hibernate ORM
+		}
+
+		IndexedEntity(int id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing with works from different transactions coalesced before being sent to the backend.
+ */
+public class AutomaticIndexingCoalescingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Test
+	public void worksOnSameDocumentMergedWhileExecuting() throws InterruptedException {
+		SessionFactory sessionFactory = setup( 10L );
+
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+				.preparedThenExecuted( executionFuture );
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+		} );
+		awaitExpectationsMet();
+
+		// The first work is still executing: works on the same document are held and merged
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "updatedValue1" ) )
+				.prepared();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue1" );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "updatedValue2" ) )
+				.prepared();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue2" );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Once the first work completes, only the latest state is indexed
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "indexedField", "updatedValue2" ) )
+				.executed();
+		executionFuture.complete( null );
+		awaitExpectationsMet();
+	}
+
+	@Test
+	public void deleteThenAddFlushedOnClose() throws InterruptedException {
+		// Long enough that works are only flushed on close
+		SessionFactory sessionFactory = setup( TimeUnit.HOURS.toMillis( 1 ) );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+				.prepared();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+		} );
+		awaitExpectationsMet();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.delete( "1" )
+				.prepared();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			session.delete( entity );
+		} );
+		awaitExpectationsMet();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "newValue" ) )
+				.prepared();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "newValue" ) );
+		} );
+		awaitExpectationsMet();
+
+		/*
+		 * The delete replaced the initial add, and the new add must be executed after the delete,
+		 * in a single work plan, when the held works are flushed on shutdown.
+		 */
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.delete( "1" )
+				.add( "1", b -> b.field( "indexedField", "newValue" ) )
+				.executed();
+		sessionFactory.close();
+		backendMock.verifyExpectationsMet();
+	}
+
+	private SessionFactory setup(long coalescingWindowMs) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		SessionFactory sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				// Do not block commits while works are held in the coalescing buffer
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_EXECUTION, "async" )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_COALESCING_WINDOW, coalescingWindowMs )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	private void awaitExpectationsMet() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( true ) {
+			try {
+				backendMock.verifyExpectationsMet();
+				return;
+			}
+			catch (AssertionError e) {
+				if ( System.nanoTime() > deadline ) {
+					throw e;
+				}
+				Thread.sleep( 10 );
+			}
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		protected IndexedEntity() {
+			// For Hibernate ORM
+		}
+
+		IndexedEntity(int id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing with entity changes recorded in an outbox table within the transaction,
+ * and indexed later by pollers.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	private static final String OUTBOX_TABLE_NAME = "HSEARCH_OUTBOX_EVENT";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@After
+	public void cleanupOutbox() {
+		if ( sessionFactory != null ) {
+			// The database is shared between tests: make sure we do not leave events behind
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				session.createNativeQuery( "delete from " + OUTBOX_TABLE_NAME ).executeUpdate();
+			} );
+		}
+	}
+
+	@Test
+	public void commitRecordsEvents() {
+		setup( false );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+		} );
+		// Nothing is indexed on commit: the changes are only recorded in the outbox
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents() ).isEqualTo( 1L );
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue" );
+		} );
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents() ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void rollbackDiscardsEvents() {
+		setup( false );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			session.getTransaction().begin();
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+			session.flush();
+			session.getTransaction().rollback();
+		} );
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void pollingIndexesEntities() throws InterruptedException {
+		setup( true );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+		} );
+		awaitExpectationsMet();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.delete( "1" )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity = session.get( IndexedEntity.class, 1 );
+			session.delete( entity );
+		} );
+		awaitExpectationsMet();
+		assertThat( countOutboxEvents() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void failingEventDoesNotBlockOthers() throws InterruptedException {
+		setup( true, 2 );
+
+		// An event that can never be processed: its entity type does not exist
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.createNativeQuery( "insert into " + OUTBOX_TABLE_NAME
+					+ " (EVENT_TYPE, ENTITY_NAME, ENTITY_ID, TENANT_ID, PARTITION_ID, ATTEMPTS)"
+					+ " values (0, 'unknownEntity', '1', null, 0, 0)" )
+					.executeUpdate();
+		} );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "1", b -> b.field( "indexedField", "value1" ) )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "value1" ) );
+		} );
+		// The failing event was recorded before, but must not block this one
+		awaitExpectationsMet();
+		awaitFailingEventAttempts( 1L );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "2", b -> b.field( "indexedField", "value2" ) )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 2, "value2" ) );
+		} );
+		awaitExpectationsMet();
+		// The failing event failed as many times as allowed: it is abandoned, but left in the outbox
+		awaitFailingEventAttempts( 2L );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "3", b -> b.field( "indexedField", "value3" ) )
+				.preparedThenExecuted();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 3, "value3" ) );
+		} );
+		awaitExpectationsMet();
+		assertThat( countOutboxEvents() ).isEqualTo( 1L );
+		assertThat( getFailingEventAttempts() ).isEqualTo( 2L );
+	}
+
+	private void setup(boolean pollingEnabled) {
+		setup( pollingEnabled, SearchOrmSettings.Defaults.INDEXING_OUTBOX_MAX_ATTEMPTS );
+	}
+
+	private void setup(boolean pollingEnabled, int maxAttempts) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_EXECUTION, "outbox" )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_OUTBOX_POLLING_ENABLED, pollingEnabled )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_OUTBOX_POLLING_INTERVAL, 10 )
+				.withPropertyRadical( SearchOrmSettings.Radicals.INDEXING_OUTBOX_MAX_ATTEMPTS, maxAttempts )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private long countOutboxEvents() {
+		long[] result = new long[1];
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			result[0] = ( (Number) session.createNativeQuery( "select count(*) from " + OUTBOX_TABLE_NAME )
+					.getSingleResult() ).longValue();
+		} );
+		return result[0];
+	}
+
+	private long getFailingEventAttempts() {
+		long[] result = new long[1];
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			result[0] = ( (Number) session.createNativeQuery( "select ATTEMPTS from " + OUTBOX_TABLE_NAME
+					+ " where ENTITY_NAME = 'unknownEntity'" )
+					.getSingleResult() ).longValue();
+		} );
+		return result[0];
+	}
+
+	private void awaitFailingEventAttempts(long expectedAttempts) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( getFailingEventAttempts() < expectedAttempts && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( getFailingEventAttempts() ).isEqualTo( expectedAttempts );
+	}
+
+	private void awaitExpectationsMet() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( true ) {
+			try {
+				backendMock.verifyExpectationsMet();
+				return;
+			}
+			catch (AssertionError e) {
+				if ( System.nanoTime() > deadline ) {
+					throw e;
+				}
+				Thread.sleep( 10 );
+			}
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		protected IndexedEntity() {
+			// For Hibernate ORM
+		}
+
+		IndexedEntity(int id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+}
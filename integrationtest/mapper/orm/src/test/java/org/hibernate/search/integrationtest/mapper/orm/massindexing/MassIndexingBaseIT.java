@@ -0,0 +1,297 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the mass indexer, which reindexes entities straight from the database.
+ * <p>
+ * Loading is done with a single thread per entity type,
+ * so that works are sent to the backend in a deterministic order.
+ */
+public class MassIndexingBaseIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( Book.INDEX, b -> b
+				.field( "title", String.class )
+		);
+		backendMock.expectSchema( Author.INDEX, b -> b
+				.field( "name", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( Book.class, Author.class, NotIndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, "The Hobbit" ) );
+			session.persist( new Book( 2, "The Silmarillion" ) );
+			session.persist( new Book( 3, "Unfinished Tales" ) );
+			session.persist( new Author( 1, "J.R.R. Tolkien" ) );
+			session.persist( new NotIndexedEntity( 1 ) );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "1", b -> b.field( "title", "The Hobbit" ) )
+					.add( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.add( "3", b -> b.field( "title", "Unfinished Tales" ) )
+					.preparedThenExecuted();
+			backendMock.expectWorks( Author.INDEX )
+					.add( "1", b -> b.field( "name", "J.R.R. Tolkien" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void allTypes() {
+		CountingMonitor monitor = new CountingMonitor();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer()
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 2 )
+					.monitor( monitor );
+
+			backendMock.expectWorks( Author.INDEX )
+					.purge()
+					.update( "1", b -> b.field( "name", "J.R.R. Tolkien" ) )
+					.executed();
+			backendMock.expectWorks( Book.INDEX )
+					.purge()
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.update( "3", b -> b.field( "title", "Unfinished Tales" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( monitor.totalCount.get() ).isEqualTo( 4L );
+		assertThat( monitor.entitiesLoaded.get() ).isEqualTo( 4L );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( 4L );
+		assertThat( monitor.completed.get() ).isTrue();
+	}
+
+	@Test
+	public void singleType() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer( Collections.singleton( Book.class ) )
+					.threadsToLoadObjects( 1 );
+
+			backendMock.expectWorks( Book.INDEX )
+					.purge()
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.update( "3", b -> b.field( "title", "Unfinished Tales" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void limitIndexedObjectsTo() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer( Collections.singleton( Book.class ) )
+					.threadsToLoadObjects( 1 )
+					.limitIndexedObjectsTo( 2 );
+
+			backendMock.expectWorks( Book.INDEX )
+					.purge()
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void purgeAllOnStart_disabled() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer( Collections.singleton( Book.class ) )
+					.threadsToLoadObjects( 1 )
+					.purgeAllOnStart( false );
+
+			// The index is not purged before indexing
+			backendMock.expectWorks( Book.INDEX )
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.update( "3", b -> b.field( "title", "Unfinished Tales" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void notIndexedType() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			SubTest.expectException(
+					() -> fullTextSession.createMassIndexer( Collections.singleton( NotIndexedEntity.class ) )
+			)
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Cannot mass index type '" + NotIndexedEntity.class.getName() + "'" );
+		} );
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while waiting for mass indexing", e );
+		}
+	}
+
+	private static class CountingMonitor implements MassIndexingMonitor {
+		private final AtomicLong totalCount = new AtomicLong();
+		private final AtomicLong entitiesLoaded = new AtomicLong();
+		private final AtomicLong documentsAdded = new AtomicLong();
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		@Override
+		public void addToTotalCount(long increment) {
+			totalCount.addAndGet( increment );
+		}
+
+		@Override
+		public void entitiesLoaded(long increment) {
+			entitiesLoaded.addAndGet( increment );
+		}
+
+		@Override
+		public void documentsAdded(long increment) {
+			documentsAdded.addAndGet( increment );
+		}
+
+		@Override
+		public void indexingCompleted() {
+			completed.set( true );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		protected Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Indexed(index = Author.INDEX)
+	public static class Author {
+
+		static final String INDEX = "Author";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		protected Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "NotIndexedEntity")
+	public static class NotIndexedEntity {
+
+		@Id
+		private Integer id;
+
+		protected NotIndexedEntity() {
+		}
+
+		NotIndexedEntity(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+}
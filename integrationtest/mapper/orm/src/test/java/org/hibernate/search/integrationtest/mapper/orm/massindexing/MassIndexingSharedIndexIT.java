@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import java.util.Collections;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the mass indexer when several entity types are indexed in the same index.
+ * <p>
+ * Loading is done with a single thread per entity type,
+ * so that works are sent to the backend in a deterministic order.
+ */
+public class MassIndexingSharedIndexIT {
+
+	private static final String SHARED_INDEX = "Shared";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( SHARED_INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( Book.class, Author.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, "The Hobbit" ) );
+			session.persist( new Book( 2, "The Silmarillion" ) );
+
+			backendMock.expectWorks( SHARED_INDEX )
+					.add( "1", b -> b.field( "title", "The Hobbit" ) )
+					.add( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Author( 3, "J.R.R. Tolkien" ) );
+
+			backendMock.expectWorks( SHARED_INDEX )
+					.add( "3", b -> b.field( "name", "J.R.R. Tolkien" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void singleType_purgeAllOnStart_reindexesTypesSharingTheIndex() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer( Collections.singleton( Book.class ) )
+					.threadsToLoadObjects( 1 );
+
+			// The index is purged only once, and authors are reindexed since purging deleted them too
+			backendMock.expectWorks( SHARED_INDEX )
+					.purge()
+					.update( "3", b -> b.field( "name", "J.R.R. Tolkien" ) )
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void singleType_purgeAllOnStart_disabled() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession fullTextSession = Search.getFullTextSession( session );
+			MassIndexer indexer = fullTextSession.createMassIndexer( Collections.singleton( Book.class ) )
+					.threadsToLoadObjects( 1 )
+					.purgeAllOnStart( false );
+
+			// Nothing is deleted: only the targeted type needs to be reindexed
+			backendMock.expectWorks( SHARED_INDEX )
+					.update( "1", b -> b.field( "title", "The Hobbit" ) )
+					.update( "2", b -> b.field( "title", "The Silmarillion" ) )
+					.executed();
+
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while waiting for mass indexing", e );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Indexed(index = SHARED_INDEX)
+	public static class Book {
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		protected Book() {
+		}
+
+		Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Indexed(index = SHARED_INDEX)
+	public static class Author {
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		protected Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -15,8 +15,11 @@
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.ArrayElementExtractor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.IterableElementExtractor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.MapKeyExtractor;
@@ -115,6 +118,42 @@ public Map<List<String>, String> getMyProperty() {
 		);
 	}
 
+	@Test
+	public void chain_customExtractorWithStreamOnly() {
+		@Indexed(index = INDEX_NAME)
+		class IndexedEntity {
+			private Integer id;
+			private Map<String, List<String>> myProperty;
+
+			private IndexedEntity(int id, Map<String, List<String>> myProperty) {
+				this.id = id;
+				this.myProperty = myProperty;
+			}
+
+			@DocumentId
+			public Integer getId() {
+				return id;
+			}
+
+			@GenericField(extractors = {
+					@ContainerValueExtractorBeanReference(type = MapValueExtractor.class),
+					@ContainerValueExtractorBeanReference(type = StreamOnlyIterableElementExtractor.class)
+			})
+			public Map<String, List<String>> getMyProperty() {
+				return myProperty;
+			}
+		}
+		Map<String, List<String>> map = new LinkedHashMap<>();
+		map.put( STRING_VALUE_1, CollectionHelper.asList( STRING_VALUE_2, STRING_VALUE_3 ) );
+		map.put( STRING_VALUE_4, CollectionHelper.asList( STRING_VALUE_5, STRING_VALUE_6 ) );
+		doTest(
+				IndexedEntity.class, (id, p) -> new IndexedEntity( id, p ),
+				String.class,
+				map,
+				STRING_VALUE_2, STRING_VALUE_3, STRING_VALUE_5, STRING_VALUE_6
+		);
+	}
+
 	@Test
 	public void containerBridge() {
 		@Indexed(index = INDEX_NAME)
@@ -479,6 +518,17 @@ public List<MyEnum> getMyProperty() {
 		}
 	}
 
+	/**
+	 * An extractor implementing only the stream-based method,
+	 * to check that the default implementation of the processor-based method works correctly.
+	 */
+	public static class StreamOnlyIterableElementExtractor<T> implements ContainerValueExtractor<Iterable<T>, T> {
+		@Override
+		public Stream<T> extract(Iterable<T> container) {
+			return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
+		}
+	}
+
 	public static class FirstCollectionElementBridge implements ValueBridge<Collection<String>, String> {
 		@Override
 		public String toIndexedValue(Collection<String> value) {
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.backend.elasticsearch.impl.ElasticsearchBackendFactory;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.backend.lucene.impl.LuceneBackendFactory;
+import org.hibernate.search.integrationtest.performance.elasticsearch.StubElasticsearchServer;
+
+/**
+ * The configuration of the backend used in a benchmark, along with the resources it requires:
+ * a temporary directory for Lucene, a stub HTTP server for Elasticsearch.
+ */
+public abstract class BackendConfiguration implements AutoCloseable {
+
+	public static final String BACKEND_NAME = "benchmarkBackend";
+
+	public static final String LUCENE = "lucene";
+	public static final String ELASTICSEARCH = "elasticsearch";
+
+	/**
+	 * @param backendType The type of backend: {@value #LUCENE} or {@value #ELASTICSEARCH}.
+	 * @param documentCount The number of documents Elasticsearch should pretend to have indexed.
+	 * @return A backend configuration, to be closed after use.
+	 * @throws IOException If the resources required by the backend cannot be created.
+	 */
+	public static BackendConfiguration create(String backendType, int documentCount) throws IOException {
+		switch ( backendType ) {
+			case LUCENE:
+				return new Lucene( Files.createTempDirectory( "hsearch-benchmark" ) );
+			case ELASTICSEARCH:
+				return new Elasticsearch( new StubElasticsearchServer( documentCount ) );
+			default:
+				throw new IllegalArgumentException( String.format(
+						Locale.ROOT, "Unknown backend type: '%1$s'. Expected '%2$s' or '%3$s'.",
+						backendType, LUCENE, ELASTICSEARCH
+				) );
+		}
+	}
+
+	private BackendConfiguration() {
+	}
+
+	/**
+	 * @param propertyCollector A collector for configuration properties.
+	 */
+	public void configure(BiConsumer<String, String> propertyCollector) {
+		propertyCollector.accept( "index.default.backend", BACKEND_NAME );
+		configureBackend( ( key, value ) -> propertyCollector.accept( "backend." + BACKEND_NAME + "." + key, value ) );
+	}
+
+	protected abstract void configureBackend(BiConsumer<String, String> propertyCollector);
+
+	/**
+	 * @return The directory containing the indexes, if they are stored on the local filesystem.
+	 */
+	public Optional<Path> getLocalIndexRootDirectory() {
+		return Optional.empty();
+	}
+
+	@Override
+	public abstract void close() throws IOException;
+
+	private static final class Lucene extends BackendConfiguration {
+
+		private final Path rootDirectory;
+
+		private Lucene(Path rootDirectory) {
+			this.rootDirectory = rootDirectory;
+		}
+
+		@Override
+		protected void configureBackend(BiConsumer<String, String> propertyCollector) {
+			propertyCollector.accept( "type", LuceneBackendFactory.class.getName() );
+			propertyCollector.accept( SearchBackendLuceneSettings.LUCENE_VERSION, "LATEST" );
+			propertyCollector.accept( SearchBackendLuceneSettings.LUCENE_DIRECTORY_PROVIDER, "local_directory" );
+			propertyCollector.accept( SearchBackendLuceneSettings.LUCENE_ROOT_DIRECTORY, rootDirectory.toString() );
+		}
+
+		@Override
+		public Optional<Path> getLocalIndexRootDirectory() {
+			return Optional.of( rootDirectory );
+		}
+
+		@Override
+		public void close() throws IOException {
+			Files.walkFileTree( rootDirectory, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					Files.delete( file );
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+					if ( exc != null ) {
+						throw exc;
+					}
+					Files.delete( dir );
+					return FileVisitResult.CONTINUE;
+				}
+			} );
+		}
+
+		@Override
+		public String toString() {
+			return LUCENE;
+		}
+	}
+
+	private static final class Elasticsearch extends BackendConfiguration {
+
+		private final StubElasticsearchServer server;
+
+		private Elasticsearch(StubElasticsearchServer server) {
+			this.server = server;
+		}
+
+		@Override
+		protected void configureBackend(BiConsumer<String, String> propertyCollector) {
+			propertyCollector.accept( "type", ElasticsearchBackendFactory.class.getName() );
+			propertyCollector.accept( SearchBackendElasticsearchSettings.HOST, server.getHostUrl() );
+		}
+
+		@Override
+		public void close() {
+			server.close();
+		}
+
+		@Override
+		public String toString() {
+			return ELASTICSEARCH;
+		}
+	}
+}
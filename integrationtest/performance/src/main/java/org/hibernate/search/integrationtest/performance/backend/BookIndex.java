@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingInitiator;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingKey;
+
+/**
+ * An index of books, accessed directly through the backend, without any mapper.
+ */
+public final class BookIndex implements AutoCloseable {
+
+	private static final String TYPE_NAME = "Book";
+
+	private static final int POPULATION_BATCH_SIZE = 500;
+
+	private final SearchIntegration integration;
+	private final MappedIndexManager<?> indexManager;
+	private final SessionContext sessionContext = new StubSessionContext();
+	private BookIndexAccessors indexAccessors;
+
+	public BookIndex(BackendConfiguration backendConfiguration, Store descriptionStore) {
+		SearchIntegrationBuilder integrationBuilder = SearchIntegration.builder();
+		backendConfiguration.configure( integrationBuilder::setProperty );
+
+		StubMappingInitiator initiator = new StubMappingInitiator( false );
+		initiator.add(
+				TYPE_NAME, Book.INDEX,
+				ctx -> this.indexAccessors = new BookIndexAccessors( ctx.getSchemaElement(), descriptionStore )
+		);
+		StubMappingKey mappingKey = new StubMappingKey();
+		integrationBuilder.addMappingInitiator( mappingKey, initiator );
+
+		integration = integrationBuilder.build();
+		StubMapping mapping = integration.getMapping( mappingKey );
+		indexManager = mapping.getIndexManagerByTypeIdentifier( TYPE_NAME );
+	}
+
+	@Override
+	public void close() {
+		integration.close();
+	}
+
+	/**
+	 * Add the first books of the {@link Dataset} to the index.
+	 *
+	 * @param count The number of books to add.
+	 */
+	public void populate(int count) {
+		for ( int i = 0; i < count; i += POPULATION_BATCH_SIZE ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = createWorkPlan();
+			int end = Math.min( count, i + POPULATION_BATCH_SIZE );
+			for ( int id = i; id < end; id++ ) {
+				add( workPlan, Dataset.create( id ) );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	public IndexWorkPlan<? extends DocumentElement> createWorkPlan() {
+		return indexManager.createWorkPlan( sessionContext );
+	}
+
+	public void add(IndexWorkPlan<? extends DocumentElement> workPlan, Book book) {
+		workPlan.add(
+				referenceProvider( String.valueOf( book.getId() ) ),
+				document -> indexAccessors.write( document, book )
+		);
+	}
+
+	public void update(IndexWorkPlan<? extends DocumentElement> workPlan, Book book) {
+		workPlan.update(
+				referenceProvider( String.valueOf( book.getId() ) ),
+				document -> indexAccessors.write( document, book )
+		);
+	}
+
+	public IndexDocumentWorkExecutor<? extends DocumentElement> createDocumentWorkExecutor() {
+		return indexManager.createDocumentWorkExecutor( sessionContext );
+	}
+
+	public CompletableFuture<?> update(IndexDocumentWorkExecutor<? extends DocumentElement> executor, Book book) {
+		return executor.update(
+				referenceProvider( String.valueOf( book.getId() ) ),
+				document -> indexAccessors.write( document, book )
+		);
+	}
+
+	public CompletableFuture<?> startBulkIndexing() {
+		return indexManager.startBulkIndexing();
+	}
+
+	public CompletableFuture<?> finishBulkIndexing() {
+		return indexManager.finishBulkIndexing();
+	}
+
+	public IndexSearchTarget createSearchTarget() {
+		return indexManager.createSearchTarget().build();
+	}
+
+	public SessionContext getSessionContext() {
+		return sessionContext;
+	}
+}
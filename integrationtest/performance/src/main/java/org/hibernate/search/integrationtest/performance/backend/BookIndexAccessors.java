@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import java.time.LocalDate;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.integrationtest.performance.model.Book;
+
+/**
+ * The index schema used in backend benchmarks, mirroring the annotation mapping of {@link Book}.
+ */
+public final class BookIndexAccessors {
+
+	private final IndexFieldAccessor<String> title;
+	private final IndexFieldAccessor<String> description;
+	private final IndexFieldAccessor<Integer> pageCount;
+	private final IndexFieldAccessor<LocalDate> publicationDate;
+
+	public BookIndexAccessors(IndexSchemaElement root) {
+		this( root, Store.YES );
+	}
+
+	public BookIndexAccessors(IndexSchemaElement root, Store descriptionStore) {
+		title = root.field( Book.TITLE ).asString()
+				.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+		description = root.field( Book.DESCRIPTION ).asString()
+				.store( descriptionStore ).createAccessor();
+		pageCount = root.field( Book.PAGE_COUNT ).asInteger()
+				.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+		publicationDate = root.field( Book.PUBLICATION_DATE ).asLocalDate()
+				.store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+	}
+
+	public void write(DocumentElement document, Book book) {
+		title.write( document, book.getTitle() );
+		description.write( document, book.getDescription() );
+		pageCount.write( document, book.getPageCount() );
+		publicationDate.write( document, book.getPublicationDate() );
+	}
+}
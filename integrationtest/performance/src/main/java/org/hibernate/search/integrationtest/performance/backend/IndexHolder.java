@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import java.io.IOException;
+
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a {@link BookIndex}, populated with the first {@code initialIndexSize} books of the {@link Dataset}.
+ */
+@State(Scope.Benchmark)
+public class IndexHolder {
+
+	@Param({ BackendConfiguration.LUCENE, BackendConfiguration.ELASTICSEARCH })
+	private String backend;
+
+	@Param({ "10000" })
+	private int initialIndexSize;
+
+	private BackendConfiguration backendConfiguration;
+	private BookIndex index;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		backendConfiguration = BackendConfiguration.create( backend, initialIndexSize );
+		index = new BookIndex( backendConfiguration, Store.YES );
+		index.populate( initialIndexSize );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try ( BackendConfiguration ignored = backendConfiguration ) {
+			if ( index != null ) {
+				index.close();
+			}
+		}
+	}
+
+	public int getInitialIndexSize() {
+		return initialIndexSize;
+	}
+
+	public BookIndex getIndex() {
+		return index;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Indexing throughput of backends, through {@link IndexWorkPlan}s
+ * or through {@link IndexDocumentWorkExecutor}s in bulk indexing mode.
+ * <p>
+ * Each work plan operation is the execution of one work plan containing {@code worksPerPlan} works,
+ * including the wait for the works to be complete.
+ * <p>
+ * Each bulk operation is the execution of {@code worksPerBulk} works between the start and the end
+ * of bulk indexing, including the final commit/refresh.
+ */
+@Fork(1)
+public class IndexingBenchmarks {
+
+	@Benchmark
+	@Threads(4)
+	public void workPlan_add(IndexHolder holder, AddIdGenerator idGenerator, WorkPlanParams params) {
+		BookIndex index = holder.getIndex();
+		IndexWorkPlan<? extends DocumentElement> workPlan = index.createWorkPlan();
+		for ( int i = 0; i < params.worksPerPlan; i++ ) {
+			index.add( workPlan, Dataset.create( idGenerator.next() ) );
+		}
+		workPlan.execute().join();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void workPlan_update(IndexHolder holder, UpdateIdGenerator idGenerator, WorkPlanParams params) {
+		BookIndex index = holder.getIndex();
+		IndexWorkPlan<? extends DocumentElement> workPlan = index.createWorkPlan();
+		for ( int i = 0; i < params.worksPerPlan; i++ ) {
+			index.update( workPlan, Dataset.create( idGenerator.next() ) );
+		}
+		workPlan.execute().join();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void bulk_update(IndexHolder holder, UpdateIdGenerator idGenerator, BulkParams params) {
+		BookIndex index = holder.getIndex();
+		index.startBulkIndexing().join();
+		try {
+			IndexDocumentWorkExecutor<? extends DocumentElement> executor = index.createDocumentWorkExecutor();
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[params.worksPerBulk];
+			for ( int i = 0; i < params.worksPerBulk; i++ ) {
+				futures[i] = index.update( executor, Dataset.create( idGenerator.next() ) );
+			}
+			CompletableFuture.allOf( futures ).join();
+		}
+		finally {
+			index.finishBulkIndexing().join();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class WorkPlanParams {
+		@Param({ "1", "100" })
+		private int worksPerPlan;
+	}
+
+	@State(Scope.Benchmark)
+	public static class BulkParams {
+		@Param({ "1000" })
+		private int worksPerBulk;
+	}
+
+	/**
+	 * Generates identifiers of books that are not in the index yet.
+	 */
+	@State(Scope.Benchmark)
+	public static class AddIdGenerator {
+		private final AtomicInteger nextId = new AtomicInteger();
+
+		@Setup(Level.Trial)
+		public void setup(IndexHolder holder) {
+			nextId.set( holder.getInitialIndexSize() );
+		}
+
+		int next() {
+			return nextId.getAndIncrement();
+		}
+	}
+
+	/**
+	 * Generates identifiers of books that were initially added to the index.
+	 * <p>
+	 * Each thread updates its own books, so that works from different threads are not ordered against each other.
+	 */
+	@State(Scope.Thread)
+	public static class UpdateIdGenerator {
+		private int initialIndexSize;
+		private int threadCount;
+		private int nextId;
+
+		@Setup(Level.Trial)
+		public void setup(IndexHolder holder, ThreadParams threadParams) {
+			initialIndexSize = holder.getInitialIndexSize();
+			threadCount = threadParams.getThreadCount();
+			nextId = threadParams.getThreadIndex();
+		}
+
+		int next() {
+			int id = nextId;
+			nextId += threadCount;
+			if ( nextId >= initialIndexSize ) {
+				nextId = id % threadCount;
+			}
+			return id;
+		}
+	}
+}
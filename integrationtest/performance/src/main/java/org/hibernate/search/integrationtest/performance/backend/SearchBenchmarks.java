@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.performance.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Query latency of backends, including the search DSL, query execution and hit extraction.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class SearchBenchmarks {
+
+	/**
+	 * Building a query through the DSL, without executing it.
+	 */
+	@Benchmark
+	public SearchQuery<DocumentReference> dsl(IndexHolder holder) {
+		BookIndex index = holder.getIndex();
+		return index.createSearchTarget().query( index.getSessionContext() )
+				.asReferences()
+				.predicate().match().onField( Book.PAGE_COUNT ).matching( 500 ).end()
+				.sort().byField( Book.TITLE ).end()
+				.build();
+	}
+
+	@Benchmark
+	public List<DocumentReference> query_matchAll(IndexHolder holder, QueryParams params) {
+		BookIndex index = holder.getIndex();
+		SearchQuery<DocumentReference> query = index.createSearchTarget().query( index.getSessionContext() )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( params.maxResults );
+		return query.execute().getHits();
+	}
+
+	@Benchmark
+	public List<DocumentReference> query_range_sorted(IndexHolder holder, QueryParams params) {
+		BookIndex index = holder.getIndex();
+		SearchQuery<DocumentReference> query = index.createSearchTarget().query( index.getSessionContext() )
+				.asReferences()
+				.predicate().range().onField( Book.PAGE_COUNT ).from( 100 ).to( 600 ).end()
+				.sort().byField( Book.PUBLICATION_DATE ).desc().end()
+				.build();
+		query.setMaxResults( params.maxResults );
+		return query.execute().getHits();
+	}
+
+	/**
+	 * Projections on fields that are stored and sortable,
+	 * which some backends may extract without loading the stored document.
+	 */
+	@Benchmark
+	public List<List<?>> projection_sortableFields(IndexHolder holder, QueryParams params) {
+		BookIndex index = holder.getIndex();
+		SearchQuery<List<?>> query = index.createSearchTarget().query( index.getSessionContext() )
+				.asProjections( Book.TITLE, Book.PAGE_COUNT, Book.PUBLICATION_DATE )
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( params.maxResults );
+		return query.execute().getHits();
+	}
+
+	/**
+	 * Projections on a large, stored-only field, which requires loading the stored document.
+	 */
+	@Benchmark
+	public List<List<?>> projection_storedField(IndexHolder holder, QueryParams params) {
+		BookIndex index = holder.getIndex();
+		SearchQuery<List<?>> query = index.createSearchTarget().query( index.getSessionContext() )
+				.asProjections( Book.DESCRIPTION )
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( params.maxResults );
+		return query.execute().getHits();
+	}
+
+	@State(Scope.Benchmark)
+	public static class QueryParams {
+		@Param({ "10", "100" })
+		private long maxResults;
+	}
+}
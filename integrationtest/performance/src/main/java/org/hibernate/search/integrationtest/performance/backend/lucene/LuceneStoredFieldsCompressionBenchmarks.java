@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.performance.backend.BackendConfiguration;
+import org.hibernate.search.integrationtest.performance.backend.BookIndex;
+import org.hibernate.search.integrationtest.performance.model.Book;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The size/latency trade-off of {@link Store#COMPRESS} in the Lucene backend.
+ * <p>
+ * Reports the projection latency on a large stored field,
+ * along with the size of the index on disk as an auxiliary counter.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LuceneStoredFieldsCompressionBenchmarks {
+
+	@Benchmark
+	public List<List<?>> projection_storedField(CompressionIndexHolder holder, IndexSizeCounter indexSize) {
+		BookIndex index = holder.index;
+		SearchQuery<List<?>> query = index.createSearchTarget().query( index.getSessionContext() )
+				.asProjections( Book.DESCRIPTION )
+				.predicate().matchAll().end()
+				.build();
+		query.setMaxResults( holder.maxResults );
+		return query.execute().getHits();
+	}
+
+	@State(Scope.Benchmark)
+	public static class CompressionIndexHolder {
+
+		@Param({ "YES", "COMPRESS" })
+		private Store store;
+
+		@Param({ "10000" })
+		private int indexSize;
+
+		@Param({ "100" })
+		private long maxResults;
+
+		private BackendConfiguration backendConfiguration;
+		private BookIndex index;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			backendConfiguration = BackendConfiguration.create( BackendConfiguration.LUCENE, indexSize );
+			index = new BookIndex( backendConfiguration, store );
+			index.populate( indexSize );
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			try ( BackendConfiguration ignored = backendConfiguration ) {
+				if ( index != null ) {
+					index.close();
+				}
+			}
+		}
+
+		long computeIndexSizeInBytes() throws IOException {
+			Path rootDirectory = backendConfiguration.getLocalIndexRootDirectory().get();
+			try ( Stream<Path> files = Files.walk( rootDirectory ) ) {
+				return files.filter( Files::isRegularFile )
+						.mapToLong( file -> file.toFile().length() )
+						.sum();
+			}
+		}
+	}
+
+	/**
+	 * Reports the size of the index on disk, in kilobytes.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class IndexSizeCounter {
+
+		public long indexSizeInKilobytes;
+
+		@Setup(Level.Iteration)
+		public void setup(CompressionIndexHolder holder) throws IOException {
+			indexSizeInKilobytes = holder.computeIndexSizeInBytes() / 1024;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.elasticsearch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+import org.hibernate.search.util.impl.common.Executors;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An HTTP server pretending to be an Elasticsearch cluster, and throwing away everything it receives.
+ * <p>
+ * Allows to measure the cost of the Elasticsearch backend itself, including HTTP communication
+ * but excluding the cost of indexing and searching in Elasticsearch.
+ * <p>
+ * Bulk requests always succeed, and search requests return hits from the {@link Dataset},
+ * as if the first {@code documentCount} books of the dataset had been indexed.
+ */
+public final class StubElasticsearchServer implements AutoCloseable {
+
+	private static final String VERSION = "5.6.9";
+
+	private static final int DEFAULT_SEARCH_SIZE = 10;
+
+	private final int documentCount;
+	private final String[] hitSourceCache;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	public StubElasticsearchServer(int documentCount) throws IOException {
+		this.documentCount = documentCount;
+		this.hitSourceCache = new String[documentCount];
+		this.server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+		this.executor = Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors(), "Stub Elasticsearch server"
+		);
+		server.setExecutor( executor );
+		server.createContext( "/", this::handle );
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop( 0 );
+		executor.shutdownNow();
+	}
+
+	public String getHostUrl() {
+		InetSocketAddress address = server.getAddress();
+		return "http://" + address.getHostString() + ":" + address.getPort();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath();
+			String response;
+			if ( "GET".equals( method ) && "/".equals( path ) ) {
+				response = versionResponse();
+			}
+			else if ( path.endsWith( "/_bulk" ) ) {
+				response = bulkResponse( exchange );
+			}
+			else if ( path.endsWith( "/_search" ) ) {
+				response = searchResponse( exchange );
+			}
+			else {
+				consumeRequestBody( exchange );
+				response = "{\"acknowledged\":true}";
+			}
+			if ( "HEAD".equals( method ) ) {
+				exchange.sendResponseHeaders( 200, -1 );
+				return;
+			}
+			byte[] bytes = response.getBytes( StandardCharsets.UTF_8 );
+			exchange.getResponseHeaders().add( "Content-Type", "application/json; charset=UTF-8" );
+			exchange.sendResponseHeaders( 200, bytes.length );
+			try ( OutputStream outputStream = exchange.getResponseBody() ) {
+				outputStream.write( bytes );
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private String versionResponse() {
+		JsonObject version = new JsonObject();
+		version.addProperty( "number", VERSION );
+		JsonObject response = new JsonObject();
+		response.add( "version", version );
+		return response.toString();
+	}
+
+	private String bulkResponse(HttpExchange exchange) throws IOException {
+		StringBuilder builder = new StringBuilder( "{\"errors\":false,\"items\":[" );
+		boolean first = true;
+		try ( BufferedReader reader = new BufferedReader(
+				new InputStreamReader( exchange.getRequestBody(), StandardCharsets.UTF_8 ) ) ) {
+			String line;
+			boolean expectingSource = false;
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( expectingSource ) {
+					expectingSource = false;
+					continue;
+				}
+				// Action metadata: {"index":{...}}, {"delete":{...}}, ...
+				int nameEnd = line.indexOf( '"', 2 );
+				if ( !line.startsWith( "{\"" ) || nameEnd < 0 ) {
+					continue;
+				}
+				String action = line.substring( 2, nameEnd );
+				// Only the "delete" action is not followed by a document source
+				expectingSource = !"delete".equals( action );
+				if ( !first ) {
+					builder.append( ',' );
+				}
+				first = false;
+				builder.append( "{\"" ).append( action ).append( "\":{\"status\":200}}" );
+			}
+		}
+		return builder.append( "]}" ).toString();
+	}
+
+	private String searchResponse(HttpExchange exchange) throws IOException {
+		consumeRequestBody( exchange );
+
+		String path = exchange.getRequestURI().getPath();
+		// Path is "/<index names>/_search": use the first targeted index in the hits
+		String indexName = path.substring( 1, path.indexOf( '/', 1 ) ).split( "," )[0];
+
+		String query = exchange.getRequestURI().getRawQuery();
+		int from = getIntParameter( query, "from", 0 );
+		int size = getIntParameter( query, "size", DEFAULT_SEARCH_SIZE );
+
+		StringBuilder builder = new StringBuilder( "{\"took\":1,\"timed_out\":false,\"hits\":{\"total\":" )
+				.append( documentCount )
+				.append( ",\"hits\":[" );
+		int end = Math.min( documentCount, from + size );
+		for ( int id = from; id < end; id++ ) {
+			if ( id > from ) {
+				builder.append( ',' );
+			}
+			builder.append( "{\"_index\":\"" ).append( indexName ).append( "\",\"_type\":\"typeName\"" )
+					.append( ",\"_id\":\"" ).append( id ).append( "\",\"_score\":1.0" )
+					.append( ",\"_source\":" ).append( getHitSource( id ) )
+					.append( '}' );
+		}
+		return builder.append( "]}}" ).toString();
+	}
+
+	private String getHitSource(int id) {
+		String source = hitSourceCache[id];
+		if ( source == null ) {
+			Book book = Dataset.create( id );
+			JsonObject sourceObject = new JsonObject();
+			sourceObject.addProperty( Book.TITLE, book.getTitle() );
+			sourceObject.addProperty( Book.DESCRIPTION, book.getDescription() );
+			sourceObject.addProperty( Book.PAGE_COUNT, book.getPageCount() );
+			sourceObject.addProperty( Book.PUBLICATION_DATE, book.getPublicationDate().toString() );
+			source = sourceObject.toString();
+			// Races are harmless: concurrent threads will generate the same value
+			hitSourceCache[id] = source;
+		}
+		return source;
+	}
+
+	private static void consumeRequestBody(HttpExchange exchange) throws IOException {
+		// Do not use InputStream.skip(): the JDK server does not enforce the content length when skipping
+		byte[] buffer = new byte[4096];
+		try ( InputStream inputStream = exchange.getRequestBody() ) {
+			while ( inputStream.read( buffer ) >= 0 ) {
+				// Discard
+			}
+		}
+	}
+
+	private static int getIntParameter(String query, String name, int defaultValue) {
+		if ( query == null ) {
+			return defaultValue;
+		}
+		for ( String parameter : query.split( "&" ) ) {
+			int separatorIndex = parameter.indexOf( '=' );
+			if ( separatorIndex > 0 && name.equals( parameter.substring( 0, separatorIndex ) ) ) {
+				return Integer.parseInt( parameter.substring( separatorIndex + 1 ) );
+			}
+		}
+		return defaultValue;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.integrationtest.performance.backend.BackendConfiguration;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time needed to boot a JavaBean mapping, including index creation, then to shut it down.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class BootstrapBenchmarks {
+
+	@Benchmark
+	public void bootstrap(BackendHolder holder) {
+		try ( CloseableJavaBeanMapping mapping = MappingHolder.createMapping( holder.backendConfiguration ) ) {
+			// Nothing to do: we only measure bootstrap and shutdown
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class BackendHolder {
+		@Param({ BackendConfiguration.LUCENE, BackendConfiguration.ELASTICSEARCH })
+		private String backend;
+
+		private BackendConfiguration backendConfiguration;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			backendConfiguration = BackendConfiguration.create( backend, 0 );
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			backendConfiguration.close();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.integrationtest.performance.backend.BackendConfiguration;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a JavaBean mapping of {@link Book},
+ * whose index is populated with the first {@code initialIndexSize} books of the {@link Dataset}.
+ */
+@State(Scope.Benchmark)
+public class MappingHolder {
+
+	private static final int POPULATION_BATCH_SIZE = 500;
+
+	@Param({ BackendConfiguration.LUCENE, BackendConfiguration.ELASTICSEARCH })
+	private String backend;
+
+	@Param({ "10000" })
+	private int initialIndexSize;
+
+	private BackendConfiguration backendConfiguration;
+	private CloseableJavaBeanMapping mapping;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		backendConfiguration = BackendConfiguration.create( backend, initialIndexSize );
+		mapping = createMapping( backendConfiguration );
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try ( BackendConfiguration ignored = backendConfiguration ) {
+			if ( mapping != null ) {
+				mapping.close();
+			}
+		}
+	}
+
+	public int getInitialIndexSize() {
+		return initialIndexSize;
+	}
+
+	public JavaBeanMapping getMapping() {
+		return mapping;
+	}
+
+	static CloseableJavaBeanMapping createMapping(BackendConfiguration backendConfiguration) {
+		JavaBeanMappingBuilder builder = JavaBeanMapping.builder( MethodHandles.lookup() );
+		backendConfiguration.configure( builder::setProperty );
+		builder.addEntityType( Book.class );
+		builder.annotationMapping().add( Book.class );
+		return builder.build();
+	}
+
+	private void populate() {
+		try ( PojoSearchManager manager = mapping.createSearchManager() ) {
+			for ( int i = 0; i < initialIndexSize; i += POPULATION_BATCH_SIZE ) {
+				PojoWorkPlan workPlan = manager.createWorkPlan();
+				int end = Math.min( initialIndexSize, i + POPULATION_BATCH_SIZE );
+				for ( int id = i; id < end; id++ ) {
+					workPlan.add( Dataset.create( id ) );
+				}
+				workPlan.execute().join();
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.performance.model.Book;
+import org.hibernate.search.integrationtest.performance.model.Dataset;
+import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.mapper.pojo.search.PojoReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * End-to-end cost of indexing and searching through the POJO mapper,
+ * including the object/document transformation and the resolution of references.
+ */
+@Fork(1)
+@Threads(4)
+public class PojoMapperBenchmarks {
+
+	@Benchmark
+	public void workPlan_add(MappingHolder holder, AddIdGenerator idGenerator, WorkPlanParams params) {
+		try ( PojoSearchManager manager = holder.getMapping().createSearchManager() ) {
+			PojoWorkPlan workPlan = manager.createWorkPlan();
+			for ( int i = 0; i < params.worksPerPlan; i++ ) {
+				workPlan.add( Dataset.create( idGenerator.next() ) );
+			}
+			workPlan.execute().join();
+		}
+	}
+
+	/**
+	 * Building the document of an entity without sending it to the backend.
+	 */
+	@Benchmark
+	public void workPlan_prepare(MappingHolder holder, AddIdGenerator idGenerator, WorkPlanParams params) {
+		try ( PojoSearchManager manager = holder.getMapping().createSearchManager() ) {
+			PojoWorkPlan workPlan = manager.createWorkPlan();
+			for ( int i = 0; i < params.worksPerPlan; i++ ) {
+				workPlan.add( Dataset.create( idGenerator.next() ) );
+			}
+			workPlan.prepare();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public List<PojoReference> query_range_sorted(MappingHolder holder, QueryParams params) {
+		try ( PojoSearchManager manager = holder.getMapping().createSearchManager() ) {
+			SearchQuery<PojoReference> query = manager.search( Book.class ).query()
+					.asReferences()
+					.predicate().range().onField( Book.PAGE_COUNT ).from( 100 ).to( 600 ).end()
+					.sort().byField( Book.PUBLICATION_DATE ).desc().end()
+					.build();
+			query.setMaxResults( params.maxResults );
+			return query.execute().getHits();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class WorkPlanParams {
+		@Param({ "1", "100" })
+		private int worksPerPlan;
+	}
+
+	@State(Scope.Benchmark)
+	public static class QueryParams {
+		@Param({ "10", "100" })
+		private long maxResults;
+	}
+
+	/**
+	 * Generates identifiers of books that are not in the index yet.
+	 */
+	@State(Scope.Benchmark)
+	public static class AddIdGenerator {
+		private final AtomicInteger nextId = new AtomicInteger();
+
+		@Setup(Level.Trial)
+		public void setup(MappingHolder holder) {
+			nextId.set( holder.getInitialIndexSize() );
+		}
+
+		int next() {
+			return nextId.getAndIncrement();
+		}
+	}
+}
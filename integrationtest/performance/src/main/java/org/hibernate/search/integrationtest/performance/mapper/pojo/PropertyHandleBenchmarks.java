@@ -0,0 +1,177 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of reading every property of a wide entity through property handles,
+ * comparing method handles with accessors generated at bootstrap.
+ */
+@Fork(1)
+public class PropertyHandleBenchmarks {
+
+	@Benchmark
+	public void readAllProperties(HandleHolder holder, Blackhole blackhole) {
+		WideEntity entity = holder.entity;
+		for ( PropertyHandle handle : holder.handles ) {
+			blackhole.consume( handle.get( entity ) );
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class HandleHolder {
+
+		@Param({ "methodHandle", "generated" })
+		private String strategy;
+
+		private List<PropertyHandle> handles;
+
+		private WideEntity entity;
+
+		@Setup
+		public void setup() throws IllegalAccessException {
+			PropertyHandleFactory factory;
+			switch ( strategy ) {
+				case "methodHandle":
+					factory = PropertyHandleFactory.usingMethodHandle( MethodHandles.lookup() );
+					break;
+				case "generated":
+					factory = PropertyHandleFactory.usingGeneratedAccessors( MethodHandles.lookup() );
+					break;
+				default:
+					throw new IllegalArgumentException( "Unknown strategy: " + strategy );
+			}
+			handles = new ArrayList<>();
+			for ( Method method : WideEntity.class.getMethods() ) {
+				if ( method.getName().startsWith( "get" ) && method.getParameterCount() == 0
+						&& method.getDeclaringClass() == WideEntity.class ) {
+					handles.add( factory.createForMethod( method.getName(), method ) );
+				}
+			}
+			entity = new WideEntity();
+		}
+	}
+
+	public static class WideEntity {
+		private final String text1 = "text1";
+		private final String text2 = "text2";
+		private final String text3 = "text3";
+		private final String text4 = "text4";
+		private final String text5 = "text5";
+		private final String text6 = "text6";
+		private final String text7 = "text7";
+		private final String text8 = "text8";
+		private final String text9 = "text9";
+		private final String text10 = "text10";
+		private final int number1 = 1;
+		private final int number2 = 2;
+		private final int number3 = 3;
+		private final int number4 = 4;
+		private final int number5 = 5;
+		private final long long1 = 1L;
+		private final long long2 = 2L;
+		private final long long3 = 3L;
+		private final Integer boxed1 = 1;
+		private final Integer boxed2 = 2;
+
+		public String getText1() {
+			return text1;
+		}
+
+		public String getText2() {
+			return text2;
+		}
+
+		public String getText3() {
+			return text3;
+		}
+
+		public String getText4() {
+			return text4;
+		}
+
+		public String getText5() {
+			return text5;
+		}
+
+		public String getText6() {
+			return text6;
+		}
+
+		public String getText7() {
+			return text7;
+		}
+
+		public String getText8() {
+			return text8;
+		}
+
+		public String getText9() {
+			return text9;
+		}
+
+		public String getText10() {
+			return text10;
+		}
+
+		public int getNumber1() {
+			return number1;
+		}
+
+		public int getNumber2() {
+			return number2;
+		}
+
+		public int getNumber3() {
+			return number3;
+		}
+
+		public int getNumber4() {
+			return number4;
+		}
+
+		public int getNumber5() {
+			return number5;
+		}
+
+		public long getLong1() {
+			return long1;
+		}
+
+		public long getLong2() {
+			return long2;
+		}
+
+		public long getLong3() {
+			return long3;
+		}
+
+		public Integer getBoxed1() {
+			return boxed1;
+		}
+
+		public Integer getBoxed2() {
+			return boxed2;
+		}
+	}
+
+}
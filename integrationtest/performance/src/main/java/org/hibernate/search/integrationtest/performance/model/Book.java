@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.model;
+
+import java.time.LocalDate;
+
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+/**
+ * The entity used in benchmarks.
+ * <p>
+ * The annotations are only used by POJO mapper benchmarks;
+ * backend benchmarks map the same fields through {@link org.hibernate.search.integrationtest.performance.backend.BookIndexAccessors}.
+ */
+@Indexed(index = Book.INDEX)
+public class Book {
+
+	public static final String INDEX = "book";
+
+	public static final String TITLE = "title";
+	public static final String DESCRIPTION = "description";
+	public static final String PAGE_COUNT = "pageCount";
+	public static final String PUBLICATION_DATE = "publicationDate";
+
+	private Integer id;
+
+	private String title;
+
+	private String description;
+
+	private Integer pageCount;
+
+	private LocalDate publicationDate;
+
+	public Book() {
+	}
+
+	public Book(Integer id, String title, String description, Integer pageCount, LocalDate publicationDate) {
+		this.id = id;
+		this.title = title;
+		this.description = description;
+		this.pageCount = pageCount;
+		this.publicationDate = publicationDate;
+	}
+
+	@DocumentId
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	@GenericField(store = Store.YES, sortable = Sortable.YES)
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	@GenericField(store = Store.YES)
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	@GenericField(store = Store.YES, sortable = Sortable.YES)
+	public Integer getPageCount() {
+		return pageCount;
+	}
+
+	public void setPageCount(Integer pageCount) {
+		this.pageCount = pageCount;
+	}
+
+	@GenericField(store = Store.YES, sortable = Sortable.YES)
+	public LocalDate getPublicationDate() {
+		return publicationDate;
+	}
+
+	public void setPublicationDate(LocalDate publicationDate) {
+		this.publicationDate = publicationDate;
+	}
+}
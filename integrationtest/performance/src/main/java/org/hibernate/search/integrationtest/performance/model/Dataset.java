@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.model;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Generates reproducible, semi-random books.
+ * <p>
+ * The same identifier always yields the same book, so that benchmarks are comparable across runs.
+ */
+public final class Dataset {
+
+	private static final String[] WORDS = {
+			"search", "index", "document", "query", "projection", "lucene", "cluster", "shard", "segment",
+			"analyzer", "token", "field", "sort", "score", "hit", "entity", "mapping", "bridge", "property",
+			"value", "commit", "refresh", "merge", "reader", "writer", "directory", "bulk", "scroll", "page"
+	};
+
+	private static final LocalDate EPOCH = LocalDate.of( 1950, 1, 1 );
+
+	private static final int DESCRIPTION_WORD_COUNT = 200;
+
+	private Dataset() {
+	}
+
+	public static Book create(int id) {
+		return new Book(
+				id,
+				String.format( Locale.ROOT, "%s %s %08d", word( id, 0 ), word( id, 1 ), id ),
+				description( id ),
+				1 + (int) ( mix( id, 2 ) % 1000 ),
+				EPOCH.plusDays( mix( id, 3 ) % 25_000 )
+		);
+	}
+
+	private static String description(int id) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < DESCRIPTION_WORD_COUNT; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( word( id, 10 + i ) );
+		}
+		return builder.toString();
+	}
+
+	private static String word(int id, int position) {
+		return WORDS[(int) ( mix( id, position ) % WORDS.length )];
+	}
+
+	/*
+	 * A cheap, deterministic hash (SplitMix64 finalizer)
+	 * so that the same book is generated whatever the JVM.
+	 */
+	private static long mix(int id, int position) {
+		long z = ( (long) id << 16 ) + position + 0x9E3779B97F4A7C15L;
+		z = ( z ^ ( z >>> 30 ) ) * 0xBF58476D1CE4E5B9L;
+		z = ( z ^ ( z >>> 27 ) ) * 0x94D049BB133111EBL;
+		return ( z ^ ( z >>> 31 ) ) & Long.MAX_VALUE;
+	}
+}
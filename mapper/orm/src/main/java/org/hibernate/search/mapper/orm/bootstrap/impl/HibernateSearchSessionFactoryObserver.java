@@ -7,8 +7,12 @@
 package org.hibernate.search.mapper.orm.bootstrap.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
@@ -19,17 +23,25 @@
 import org.hibernate.resource.beans.container.spi.BeanContainer;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.UnusedPropertyTrackingConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.common.spi.SearchIntegrationBuilder;
 import org.hibernate.search.engine.environment.bean.spi.BeanResolver;
 import org.hibernate.search.engine.environment.bean.spi.ReflectionBeanResolver;
+import org.hibernate.search.mapper.orm.cfg.AsyncIndexingOverflowPolicyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.IndexingExecutionConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.event.impl.FullTextIndexEventListener;
+import org.hibernate.search.mapper.orm.impl.AsyncWorkPlanExecutor;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.impl.LoggingAsyncIndexingErrorHandler;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingInitiator;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingKey;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxPollingProcessor;
+import org.hibernate.search.mapper.orm.spi.AsyncIndexingErrorHandler;
 import org.hibernate.search.mapper.orm.spi.EnvironmentSynchronizer;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.Contracts;
@@ -56,6 +68,77 @@ public class HibernateSearchSessionFactoryObserver implements SessionFactoryObse
 	private final FullTextIndexEventListener listener;
 	private final Metadata metadata;
 
+	private static final ConfigurationProperty<IndexingExecutionConfiguration> INDEXING_EXECUTION =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_EXECUTION )
+					.as( IndexingExecutionConfiguration.class, IndexingExecutionConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_EXECUTION )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_ASYNC_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_ASYNC_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<AsyncIndexingOverflowPolicyConfiguration> INDEXING_ASYNC_OVERFLOW_POLICY =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_OVERFLOW_POLICY )
+					.as( AsyncIndexingOverflowPolicyConfiguration.class,
+							AsyncIndexingOverflowPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_ASYNC_OVERFLOW_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_ASYNC_SHUTDOWN_TIMEOUT =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_SHUTDOWN_TIMEOUT )
+					.asLong()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_ASYNC_SHUTDOWN_TIMEOUT )
+					.build();
+
+	private static final Pattern MULTI_VALUE_SEPARATOR_PATTERN = Pattern.compile( "[\\s,]+" );
+
+	private static final ConfigurationProperty<Integer> INDEXING_OUTBOX_PARTITION_COUNT =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_PARTITION_COUNT )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_OUTBOX_PARTITION_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<List<Integer>> INDEXING_OUTBOX_PARTITIONS =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_PARTITIONS )
+					.asInteger()
+					.multivalued( MULTI_VALUE_SEPARATOR_PATTERN )
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> INDEXING_OUTBOX_POLLING_ENABLED =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_POLLING_ENABLED )
+					.asBoolean()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_OUTBOX_POLLING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_OUTBOX_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> INDEXING_OUTBOX_TENANT_IDS =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_OUTBOX_TENANT_IDS )
+					.asString()
+					.multivalued( MULTI_VALUE_SEPARATOR_PATTERN )
+					.withDefault( Collections.emptyList() )
+					.build();
+
 	private final CompletableFuture<HibernateSearchContextService> contextFuture = new CompletableFuture<>();
 	private final CompletableFuture<?> closingTrigger = new CompletableFuture<>();
 
@@ -137,12 +220,13 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 		BeanResolver reflectionBeanResolver = null;
 		BeanResolver beanResolver = null;
+		OutboxPollingProcessor outboxPollingProcessor = null;
 		try {
 			SearchIntegrationBuilder builder = SearchIntegration.builder( propertySource );
 
 			HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
 			HibernateOrmMappingInitiator mappingInitiator = HibernateOrmMappingInitiator.create(
-					metadata, sessionFactoryImplementor
+					metadata, sessionFactoryImplementor, propertySource
 			);
 			builder.addMappingInitiator( mappingKey, mappingInitiator );
 
@@ -165,6 +249,9 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			}
 			builder.setBeanResolver( beanResolver );
 
+			AsyncWorkPlanExecutor asyncWorkPlanExecutor = createAsyncWorkPlanExecutor( beanResolver );
+			outboxPollingProcessor = createOutboxPollingProcessor( sessionFactoryImplementor );
+
 			// TODO namingService (JMX)
 
 			SearchIntegration integration = builder.build();
@@ -177,7 +264,10 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			//Register the SearchFactory in the ORM ServiceRegistry (for convenience of lookup)
 			HibernateSearchContextService contextService =
 					sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextService.class );
-			contextService.initialize( integration, mapping );
+			contextService.initialize( integration, mapping, asyncWorkPlanExecutor, outboxPollingProcessor );
+			if ( outboxPollingProcessor != null ) {
+				outboxPollingProcessor.start( contextService );
+			}
 			contextFuture.complete( contextService );
 
 			if ( unusedPropertyTrackingPropertySource != null ) {
@@ -189,6 +279,7 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
+					.push( OutboxPollingProcessor::close, outboxPollingProcessor )
 					.push( BeanResolver::close, reflectionBeanResolver )
 					.push( BeanResolver::close, beanResolver );
 
@@ -198,9 +289,57 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 	}
 
+	private AsyncWorkPlanExecutor createAsyncWorkPlanExecutor(BeanResolver beanResolver) {
+		if ( !IndexingExecutionConfiguration.ASYNC.equals( INDEXING_EXECUTION.get( propertySource ) ) ) {
+			return null;
+		}
+
+		int queueSize = INDEXING_ASYNC_QUEUE_SIZE.get( propertySource );
+		Contracts.assertStrictlyPositive( queueSize, SearchOrmSettings.INDEXING_ASYNC_QUEUE_SIZE );
+		ConfigurationProperty<Optional<AsyncIndexingErrorHandler>> errorHandlerProperty =
+				ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_ERROR_HANDLER )
+						.as(
+								AsyncIndexingErrorHandler.class,
+								reference -> beanResolver.resolve( reference, AsyncIndexingErrorHandler.class )
+						)
+						.build();
+		AsyncIndexingErrorHandler errorHandler = errorHandlerProperty.get( propertySource )
+				.orElseGet( LoggingAsyncIndexingErrorHandler::new );
+
+		return new AsyncWorkPlanExecutor(
+				queueSize, INDEXING_ASYNC_OVERFLOW_POLICY.get( propertySource ),
+				errorHandler, INDEXING_ASYNC_SHUTDOWN_TIMEOUT.get( propertySource )
+		);
+	}
+
+	private OutboxPollingProcessor createOutboxPollingProcessor(SessionFactoryImplementor sessionFactoryImplementor) {
+		if ( !IndexingExecutionConfiguration.OUTBOX.equals( INDEXING_EXECUTION.get( propertySource ) ) ) {
+			return null;
+		}
+
+		int partitionCount = INDEXING_OUTBOX_PARTITION_COUNT.get( propertySource );
+		Contracts.assertStrictlyPositive( partitionCount, SearchOrmSettings.INDEXING_OUTBOX_PARTITION_COUNT );
+		int pollingInterval = INDEXING_OUTBOX_POLLING_INTERVAL.get( propertySource );
+		Contracts.assertStrictlyPositive( pollingInterval, SearchOrmSettings.INDEXING_OUTBOX_POLLING_INTERVAL );
+		int batchSize = INDEXING_OUTBOX_BATCH_SIZE.get( propertySource );
+		Contracts.assertStrictlyPositive( batchSize, SearchOrmSettings.INDEXING_OUTBOX_BATCH_SIZE );
+		int maxAttempts = INDEXING_OUTBOX_MAX_ATTEMPTS.get( propertySource );
+		Contracts.assertStrictlyPositive( maxAttempts, SearchOrmSettings.INDEXING_OUTBOX_MAX_ATTEMPTS );
+
+		return new OutboxPollingProcessor(
+				sessionFactoryImplementor, partitionCount,
+				INDEXING_OUTBOX_PARTITIONS.get( propertySource ),
+				INDEXING_OUTBOX_TENANT_IDS.get( propertySource ),
+				INDEXING_OUTBOX_POLLING_ENABLED.get( propertySource ),
+				batchSize, pollingInterval, maxAttempts
+		);
+	}
+
 	@Override
 	public synchronized void sessionFactoryClosing(SessionFactory factory) {
 		cancelBoot();
+		// Outbox pollers use the session factory: stop them while it is still open
+		contextFuture.thenAccept( HibernateSearchContextService::stopOutboxPolling );
 	}
 
 	/**
@@ -227,7 +366,7 @@ public void sessionFactoryClosed(SessionFactory factory) {
 
 	private synchronized void cleanup(HibernateSearchContextService context) {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.push( c -> c.getIntegration().close(), context );
+			closer.push( HibernateSearchContextService::close, context );
 			// TODO JMX
 			// closer.push( JMXHook::unRegisterIfRegistered, jmx );
 		}
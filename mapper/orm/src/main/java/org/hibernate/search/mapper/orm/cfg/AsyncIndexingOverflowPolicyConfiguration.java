@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Policies applied when a transaction is committed while the maximum number of transactions
+ * whose indexing works are executing in the background has been reached.
+ *
+ * @see SearchOrmSettings#INDEXING_ASYNC_QUEUE_SIZE
+ */
+public enum AsyncIndexingOverflowPolicyConfiguration {
+
+	/**
+	 * The thread committing the transaction waits until the indexing works of another transaction complete,
+	 * then submits its own works for background execution.
+	 */
+	BLOCK("block"),
+
+	/**
+	 * The indexing works of the transaction are not executed, and a warning is logged.
+	 * The index will be out of sync with the database until the affected entities are reindexed.
+	 */
+	DROP("drop"),
+
+	/**
+	 * The thread committing the transaction executes the indexing works and waits for them to complete,
+	 * as if {@link IndexingExecutionConfiguration#SYNC} was used.
+	 */
+	CALLER_RUNS("caller_runs");
+
+	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private String externalRepresentation;
+
+	private AsyncIndexingOverflowPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link AsyncIndexingOverflowPolicyConfiguration} matching the given external representation
+	 * as specified via {@link SearchOrmSettings#INDEXING_ASYNC_OVERFLOW_POLICY}
+	 * @param overflowPolicy the overflow policy external representation
+	 * @return the {@link AsyncIndexingOverflowPolicyConfiguration}
+	 */
+	public static AsyncIndexingOverflowPolicyConfiguration fromExternalRepresentation(String overflowPolicy) {
+		for ( AsyncIndexingOverflowPolicyConfiguration value : values() ) {
+			if ( value.toExternalRepresentation().equals( overflowPolicy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownAsyncIndexingOverflowPolicy( overflowPolicy );
+	}
+
+	/**
+	 * Returns the external representation of this overflow policy. Generally this enumeration itself should preferably be
+	 * used for comparisons etc.
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
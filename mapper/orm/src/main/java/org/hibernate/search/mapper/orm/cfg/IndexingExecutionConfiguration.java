@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Modes for executing the indexing works triggered by entity changes after a transaction is committed.
+ */
+public enum IndexingExecutionConfiguration {
+
+	/**
+	 * The thread committing the transaction waits for the indexing works to be executed.
+	 */
+	SYNC("sync"),
+
+	/**
+	 * The thread committing the transaction only waits for the indexing works to be submitted to the backend;
+	 * the works are then executed in the background.
+	 */
+	ASYNC("async"),
+
+	/**
+	 * Entity changes are recorded in an outbox table of the application database, within the transaction,
+	 * and background pollers execute the indexing works after the transaction is committed.
+	 * <p>
+	 * Recorded changes survive application crashes: they will be indexed when the application restarts.
+	 */
+	OUTBOX("outbox");
+
+	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private String externalRepresentation;
+
+	private IndexingExecutionConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link IndexingExecutionConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#INDEXING_EXECUTION}
+	 * @param indexingExecution the indexing execution external representation
+	 * @return the {@link IndexingExecutionConfiguration}
+	 */
+	public static IndexingExecutionConfiguration fromExternalRepresentation(String indexingExecution) {
+		if ( SYNC.toExternalRepresentation().equals( indexingExecution ) ) {
+			return IndexingExecutionConfiguration.SYNC;
+		}
+		else if ( ASYNC.toExternalRepresentation().equals( indexingExecution ) ) {
+			return IndexingExecutionConfiguration.ASYNC;
+		}
+		else if ( OUTBOX.toExternalRepresentation().equals( indexingExecution ) ) {
+			return IndexingExecutionConfiguration.OUTBOX;
+		}
+		else {
+			throw LOG.unknownIndexingExecution( indexingExecution );
+		}
+	}
+
+	/**
+	 * Returns the external representation of this indexing execution. Generally this enumeration itself should preferably be
+	 * used for comparisons etc.
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
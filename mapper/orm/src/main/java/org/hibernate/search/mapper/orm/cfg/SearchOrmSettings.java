@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.cfg;
 
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
+import org.hibernate.search.mapper.orm.spi.AsyncIndexingErrorHandler;
 
 /**
  * @author Emmanuel Bernard
@@ -36,6 +37,138 @@ public final class SearchOrmSettings {
 	 */
 	public static final String INDEXING_STRATEGY = PREFIX + Radicals.INDEXING_STRATEGY;
 
+	/**
+	 * Defines how indexing works triggered by entity changes are executed after a transaction is committed,
+	 * default <code>sync</code>.
+	 * <p>
+	 * With <code>sync</code>, the thread committing the transaction waits for the works to be executed.
+	 * With <code>async</code>, the thread committing the transaction only waits for the works
+	 * to be submitted to the backend: works are then executed in the background,
+	 * and failures are reported to the {@link #INDEXING_ASYNC_ERROR_HANDLER}.
+	 * With <code>outbox</code>, entity changes are written to an outbox table within the transaction,
+	 * and executed later by background pollers: see the <code>INDEXING_OUTBOX_*</code> settings.
+	 * See {@link IndexingExecutionConfiguration}.
+	 */
+	public static final String INDEXING_EXECUTION = PREFIX + Radicals.INDEXING_EXECUTION;
+
+	/**
+	 * The maximum number of transactions whose indexing works may be executing in the background
+	 * at any given time, when {@link #INDEXING_EXECUTION} is <code>async</code>.
+	 * <p>
+	 * Expects a strictly positive integer. Defaults to 1000.
+	 */
+	public static final String INDEXING_ASYNC_QUEUE_SIZE = PREFIX + Radicals.INDEXING_ASYNC_QUEUE_SIZE;
+
+	/**
+	 * What to do when {@link #INDEXING_ASYNC_QUEUE_SIZE} is reached, default <code>block</code>.
+	 * <p>
+	 * See {@link AsyncIndexingOverflowPolicyConfiguration}.
+	 */
+	public static final String INDEXING_ASYNC_OVERFLOW_POLICY = PREFIX + Radicals.INDEXING_ASYNC_OVERFLOW_POLICY;
+
+	/**
+	 * The handler for failures of indexing works executed in the background,
+	 * when {@link #INDEXING_EXECUTION} is <code>async</code>.
+	 * <p>
+	 * Accepts an {@link AsyncIndexingErrorHandler} instance or the fully qualified class name
+	 * of an {@link AsyncIndexingErrorHandler} implementation.
+	 * Such an implementation must have a no-arg constructor.
+	 * By default, failures are logged.
+	 */
+	public static final String INDEXING_ASYNC_ERROR_HANDLER = PREFIX + Radicals.INDEXING_ASYNC_ERROR_HANDLER;
+
+	/**
+	 * The maximum time to wait, in milliseconds, for indexing works executed in the background
+	 * to complete when the {@code SessionFactory} is closed.
+	 * <p>
+	 * Expects a positive long. Defaults to 30000.
+	 */
+	public static final String INDEXING_ASYNC_SHUTDOWN_TIMEOUT = PREFIX + Radicals.INDEXING_ASYNC_SHUTDOWN_TIMEOUT;
+
+	/**
+	 * The number of partitions entity changes are split into in the outbox,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * Changes are assigned to a partition based on a hash of the entity identifier,
+	 * and each partition is processed by a single poller,
+	 * so changes to a given entity are always processed in order.
+	 * This must be the same on every application node sharing the database,
+	 * and must only be changed when the outbox is empty.
+	 * <p>
+	 * Expects a strictly positive integer. Defaults to 1.
+	 */
+	public static final String INDEXING_OUTBOX_PARTITION_COUNT = PREFIX + Radicals.INDEXING_OUTBOX_PARTITION_COUNT;
+
+	/**
+	 * The partitions of the outbox polled by this application node,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * Expects a list of integers between 0 (inclusive) and {@link #INDEXING_OUTBOX_PARTITION_COUNT} (exclusive),
+	 * separated by commas or whitespace.
+	 * Each partition should be polled by exactly one application node.
+	 * Defaults to all partitions.
+	 */
+	public static final String INDEXING_OUTBOX_PARTITIONS = PREFIX + Radicals.INDEXING_OUTBOX_PARTITIONS;
+
+	/**
+	 * Whether this application node polls the outbox, when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * When disabled, entity changes are still written to the outbox,
+	 * but are only processed by other application nodes.
+	 * Enabled by default.
+	 */
+	public static final String INDEXING_OUTBOX_POLLING_ENABLED = PREFIX + Radicals.INDEXING_OUTBOX_POLLING_ENABLED;
+
+	/**
+	 * The time to wait, in milliseconds, before polling the outbox again after it was found empty,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * Expects a strictly positive integer. Defaults to 100.
+	 */
+	public static final String INDEXING_OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of entity changes processed in a single transaction by outbox pollers,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * Expects a strictly positive integer. Defaults to 50.
+	 */
+	public static final String INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The number of times outbox pollers will try to process an entity change before abandoning it,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code>.
+	 * <p>
+	 * Only failures that do not affect the other entity changes processed at the same time are counted,
+	 * so that changes are not abandoned while, for instance, the backend is unreachable.
+	 * Abandoned changes are logged and left in the outbox table.
+	 * <p>
+	 * Expects a strictly positive integer. Defaults to 5.
+	 */
+	public static final String INDEXING_OUTBOX_MAX_ATTEMPTS = PREFIX + Radicals.INDEXING_OUTBOX_MAX_ATTEMPTS;
+
+	/**
+	 * The tenant identifiers for which the outbox should be polled,
+	 * when {@link #INDEXING_EXECUTION} is <code>outbox</code> and multi-tenancy is enabled.
+	 * <p>
+	 * Expects a list of tenant identifiers separated by commas or whitespace.
+	 * Mandatory when multi-tenancy is enabled.
+	 */
+	public static final String INDEXING_OUTBOX_TENANT_IDS = PREFIX + Radicals.INDEXING_OUTBOX_TENANT_IDS;
+
+	/**
+	 * The time, in milliseconds, during which index works are held before being sent to the backend,
+	 * so that they can be merged with works targeting the same document from other transactions.
+	 * <p>
+	 * Useful when the same entities are updated very frequently, e.g. counters or stock levels:
+	 * only the latest state of each document is indexed once per window.
+	 * Works targeting a given document are still executed in order.
+	 * Note that with synchronous execution ({@link #INDEXING_EXECUTION}), commits will wait up to this long.
+	 * <p>
+	 * Expects a positive integer. Defaults to 0, which disables coalescing.
+	 */
+	public static final String INDEXING_COALESCING_WINDOW = PREFIX + Radicals.INDEXING_COALESCING_WINDOW;
+
 	/**
 	 * When enabled re-indexing of an entity is skipped if the updates affect only non-indexed fields.
 	 * Enabled by default as it should be safe and should improve performance, disable it to force updates
@@ -60,13 +193,36 @@ public final class SearchOrmSettings {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * When enabled, Hibernate Search will generate accessors for entity properties at bootstrap,
+	 * which are faster than method handles when indexing.
+	 * Properties for which an accessor cannot be generated, for instance non-public getters,
+	 * will still be accessed through method handles.
+	 * Enabled by default. Disable to always use method handles.
+	 */
+	public static final String ENABLE_GENERATED_PROPERTY_ACCESSORS = PREFIX + Radicals.ENABLE_GENERATED_PROPERTY_ACCESSORS;
+
 	public static class Radicals {
 		public static final String ENABLE_CONFIGURATION_PROPERTY_TRACKING = "enable_configuration_property_tracking";
 		public static final String AUTOREGISTER_LISTENERS = "autoregister_listeners";
 		public static final String INDEXING_STRATEGY = "indexing_strategy";
+		public static final String INDEXING_EXECUTION = "indexing_execution";
+		public static final String INDEXING_ASYNC_QUEUE_SIZE = "indexing_async_queue_size";
+		public static final String INDEXING_ASYNC_OVERFLOW_POLICY = "indexing_async_overflow_policy";
+		public static final String INDEXING_ASYNC_ERROR_HANDLER = "indexing_async_error_handler";
+		public static final String INDEXING_ASYNC_SHUTDOWN_TIMEOUT = "indexing_async_shutdown_timeout";
+		public static final String INDEXING_OUTBOX_PARTITION_COUNT = "indexing_outbox_partition_count";
+		public static final String INDEXING_OUTBOX_PARTITIONS = "indexing_outbox_partitions";
+		public static final String INDEXING_OUTBOX_POLLING_ENABLED = "indexing_outbox_polling_enabled";
+		public static final String INDEXING_OUTBOX_POLLING_INTERVAL = "indexing_outbox_polling_interval";
+		public static final String INDEXING_OUTBOX_BATCH_SIZE = "indexing_outbox_batch_size";
+		public static final String INDEXING_OUTBOX_MAX_ATTEMPTS = "indexing_outbox_max_attempts";
+		public static final String INDEXING_OUTBOX_TENANT_IDS = "indexing_outbox_tenant_ids";
+		public static final String INDEXING_COALESCING_WINDOW = "indexing_coalescing_window";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String ENABLE_GENERATED_PROPERTY_ACCESSORS = "enable_generated_property_accessors";
 
 		private Radicals() {
 		}
@@ -83,8 +239,20 @@ private Defaults() {
 		public static final boolean ENABLE_CONFIGURATION_PROPERTY_TRACKING = true;
 		public static final boolean AUTOREGISTER_LISTENERS = true;
 		public static final IndexingStrategyConfiguration INDEXING_STRATEGY = IndexingStrategyConfiguration.EVENT;
+		public static final IndexingExecutionConfiguration INDEXING_EXECUTION = IndexingExecutionConfiguration.SYNC;
+		public static final int INDEXING_ASYNC_QUEUE_SIZE = 1000;
+		public static final AsyncIndexingOverflowPolicyConfiguration INDEXING_ASYNC_OVERFLOW_POLICY =
+				AsyncIndexingOverflowPolicyConfiguration.BLOCK;
+		public static final long INDEXING_ASYNC_SHUTDOWN_TIMEOUT = 30_000L;
+		public static final int INDEXING_OUTBOX_PARTITION_COUNT = 1;
+		public static final boolean INDEXING_OUTBOX_POLLING_ENABLED = true;
+		public static final int INDEXING_OUTBOX_POLLING_INTERVAL = 100;
+		public static final int INDEXING_OUTBOX_BATCH_SIZE = 50;
+		public static final int INDEXING_OUTBOX_MAX_ATTEMPTS = 5;
+		public static final int INDEXING_COALESCING_WINDOW = 0;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
+		public static final boolean ENABLE_GENERATED_PROPERTY_ACCESSORS = true;
 	}
 
 	private SearchOrmSettings() {
@@ -0,0 +1,133 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.orm.cfg.AsyncIndexingOverflowPolicyConfiguration;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.spi.AsyncIndexingErrorHandler;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Executes work plans without waiting for the works to complete,
+ * while limiting the number of work plans executing in the background at any given time.
+ * <p>
+ * Work plans are still prepared and submitted to the backend in the calling thread,
+ * because extracting data from entities requires access to the session, which is not thread-safe.
+ * Only the execution of the works by the backend, i.e. the index I/O, happens in the background.
+ */
+public final class AsyncWorkPlanExecutor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int queueSize;
+	private final AsyncIndexingOverflowPolicyConfiguration overflowPolicy;
+	private final AsyncIndexingErrorHandler errorHandler;
+	private final long shutdownTimeoutMs;
+
+	private final Semaphore permits;
+
+	public AsyncWorkPlanExecutor(int queueSize, AsyncIndexingOverflowPolicyConfiguration overflowPolicy,
+			AsyncIndexingErrorHandler errorHandler, long shutdownTimeoutMs) {
+		this.queueSize = queueSize;
+		this.overflowPolicy = overflowPolicy;
+		this.errorHandler = errorHandler;
+		this.shutdownTimeoutMs = shutdownTimeoutMs;
+		this.permits = new Semaphore( queueSize );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "queueSize=" ).append( queueSize )
+				.append( ", overflowPolicy=" ).append( overflowPolicy )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * Wait for the work plans executing in the background to complete,
+	 * or for the shutdown timeout to expire, whichever happens first.
+	 */
+	@Override
+	public void close() {
+		try {
+			if ( permits.tryAcquire( queueSize, shutdownTimeoutMs, TimeUnit.MILLISECONDS ) ) {
+				permits.release( queueSize );
+			}
+			else {
+				log.asyncIndexingShutdownTimeout( shutdownTimeoutMs );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.asyncIndexingInterrupted( e );
+		}
+	}
+
+	/**
+	 * Start executing the given work plan, without waiting for the works to complete,
+	 * unless the maximum number of work plans executing in the background was reached
+	 * and the overflow policy requires to wait.
+	 * <p>
+	 * Failures occurring in the background are reported to the {@link AsyncIndexingErrorHandler}.
+	 *
+	 * @param workPlan The work plan to execute.
+	 */
+	public void submit(PojoWorkPlan workPlan) {
+		if ( !permits.tryAcquire() ) {
+			switch ( overflowPolicy ) {
+				case BLOCK:
+					try {
+						permits.acquire();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw log.asyncIndexingInterrupted( e );
+					}
+					break;
+				case DROP:
+					log.droppingAsyncIndexingWorks( queueSize );
+					return;
+				case CALLER_RUNS:
+					workPlan.execute().join();
+					return;
+			}
+		}
+
+		CompletableFuture<?> future;
+		try {
+			future = workPlan.execute();
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		future.whenComplete( (result, throwable) -> {
+			permits.release();
+			if ( throwable != null ) {
+				handleError( throwable );
+			}
+		} );
+	}
+
+	private void handleError(Throwable throwable) {
+		try {
+			errorHandler.handle( throwable );
+		}
+		catch (RuntimeException e) {
+			e.addSuppressed( throwable );
+			log.asyncIndexingFailure( e );
+		}
+	}
+}
@@ -13,6 +13,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -33,6 +35,7 @@
 import org.hibernate.search.mapper.orm.hibernate.FullTextQuery;
 import org.hibernate.search.mapper.orm.search.impl.MutableObjectLoadingOptions;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -74,6 +77,11 @@ public List<R> getResultList() {
 		return list();
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync(Executor loadingExecutor) {
+		return searchQuery.executeAsync( loadingExecutor ).thenApply( SearchResult::getHits );
+	}
+
 	/**
 	 * Return an iterator on the results.
 	 * Retrieve the object one by one (initialize it during the next() operation)
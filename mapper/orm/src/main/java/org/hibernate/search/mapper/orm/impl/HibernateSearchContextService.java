@@ -26,8 +26,10 @@
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.outbox.impl.OutboxPollingProcessor;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.service.Service;
 
@@ -35,6 +37,8 @@ public class HibernateSearchContextService implements Service {
 
 	private volatile SearchIntegration integration;
 	private volatile HibernateOrmMapping mapping;
+	private volatile AsyncWorkPlanExecutor asyncWorkPlanExecutor;
+	private volatile OutboxPollingProcessor outboxPollingProcessor;
 
 	/*
 	 * FIXME support "enlist in transaction"? This only makes sense when index managers support it,
@@ -48,9 +52,20 @@ public class HibernateSearchContextService implements Service {
 	private static final String WORK_PLAN_PER_TRANSACTION_MAP_KEY =
 			HibernateSearchContextService.class.getName() + "#WORK_PLAN_PER_TRANSACTION_KEY";
 
-	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping) {
+	/**
+	 * @param integration The Search integration.
+	 * @param mapping The Hibernate ORM mapping.
+	 * @param asyncWorkPlanExecutor The executor to use for asynchronous execution of post-commit works,
+	 * or {@code null} if post-commit works should be executed synchronously.
+	 * @param outboxPollingProcessor The processor to record entity changes in the outbox,
+	 * or {@code null} if entity changes should be indexed directly.
+	 */
+	public void initialize(SearchIntegration integration, HibernateOrmMapping mapping,
+			AsyncWorkPlanExecutor asyncWorkPlanExecutor, OutboxPollingProcessor outboxPollingProcessor) {
 		this.integration = integration;
 		this.mapping = mapping;
+		this.asyncWorkPlanExecutor = asyncWorkPlanExecutor;
+		this.outboxPollingProcessor = outboxPollingProcessor;
 	}
 
 	public SearchIntegration getIntegration() {
@@ -62,6 +77,29 @@ public SearchIntegration getIntegration() {
 		}
 	}
 
+	/**
+	 * Stop polling the outbox, if enabled.
+	 * <p>
+	 * Pollers need to open sessions, so this must be called before the session factory is closed.
+	 */
+	public void stopOutboxPolling() {
+		if ( outboxPollingProcessor != null ) {
+			outboxPollingProcessor.stop();
+		}
+	}
+
+	/**
+	 * Close the Search integration,
+	 * after waiting for works executing asynchronously to complete.
+	 */
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxPollingProcessor::close, outboxPollingProcessor );
+			closer.push( AsyncWorkPlanExecutor::close, asyncWorkPlanExecutor );
+			closer.push( SearchIntegration::close, integration );
+		}
+	}
+
 	public HibernateOrmMapping getMapping() {
 		if ( mapping != null ) {
 			return mapping;
@@ -113,11 +151,21 @@ public PojoWorkPlan getCurrentWorkPlan(SessionImplementor sessionImplementor) {
 			}
 			PojoWorkPlan workPlan = workPlanPerTransaction.get( transactionIdentifier );
 			if ( workPlan == null ) {
-				workPlan = searchManager.createWorkPlan();
+				Synchronization txSync;
+				if ( outboxPollingProcessor != null ) {
+					// Changes must be recorded in the outbox before the transaction is committed
+					workPlan = outboxPollingProcessor.createWorkPlan( sessionImplementor );
+					txSync = new InTransactionWorkQueueSynchronization(
+							workPlan, workPlanPerTransaction, transactionIdentifier
+					);
+				}
+				else {
+					workPlan = searchManager.createWorkPlan();
+					txSync = createTransactionWorkQueueSynchronization(
+							workPlan, workPlanPerTransaction, transactionIdentifier
+					);
+				}
 				workPlanPerTransaction.put( transactionIdentifier, workPlan );
-				Synchronization txSync = createTransactionWorkQueueSynchronization(
-						workPlan, workPlanPerTransaction, transactionIdentifier
-				);
 				registerSynchronization( sessionImplementor, txSync );
 			}
 			return workPlan;
@@ -154,7 +202,7 @@ private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan w
 		}
 		else {
 			return new PostTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					workPlan, workPlanPerTransaction, transactionIdentifier, asyncWorkPlanExecutor
 			);
 		}
 	}
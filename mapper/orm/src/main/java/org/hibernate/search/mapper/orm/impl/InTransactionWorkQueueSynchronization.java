@@ -45,9 +45,8 @@ public void beforeCompletion() {
 			);
 			CompletableFuture<?> future = workPlan.execute();
 			/*
-			 * TODO decide whether we want the sync/async setting to be scoped per index,
-			 * or per EntityManager/SearchManager, or both (with one scope overriding the other).
-			 * See also PostTransactionWorkQueueSynchronization#afterCompletion, PojoSearchManagerImpl#close
+			 * Works executed within the transaction must be complete before the transaction completes,
+			 * so we always wait for the works here, regardless of the indexing execution settings.
 			 */
 			future.join();
 		}
@@ -8,7 +8,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
 
@@ -28,12 +27,19 @@ public class PostTransactionWorkQueueSynchronization implements Synchronization
 	private final PojoWorkPlan workPlan;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
+	private final AsyncWorkPlanExecutor asyncExecutor;
 
+	/**
+	 * @param asyncExecutor The executor to use for asynchronous execution,
+	 * or {@code null} to wait for the works to complete in {@link #afterCompletion(int)}.
+	 */
 	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
-			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
+			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier,
+			AsyncWorkPlanExecutor asyncExecutor) {
 		this.workPlan = workPlan;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
+		this.asyncExecutor = asyncExecutor;
 	}
 
 	@Override
@@ -47,13 +53,12 @@ public void afterCompletion(int i) {
 		try {
 			if ( Status.STATUS_COMMITTED == i ) {
 				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Performing work.", this );
-				CompletableFuture<?> future = workPlan.execute();
-				/*
-				 * TODO decide whether we want the sync/async setting to be scoped per index,
-				 * or per EntityManager/SearchManager, or both (with one scope overriding the other).
-				 * See also PojoSearchManagerImpl#close, InTransactionWorkQueueSynchronization#beforeCompletion
-				 */
-				future.join();
+				if ( asyncExecutor != null ) {
+					asyncExecutor.submit( workPlan );
+				}
+				else {
+					workPlan.execute().join();
+				}
 			}
 			else {
 				log.tracef(
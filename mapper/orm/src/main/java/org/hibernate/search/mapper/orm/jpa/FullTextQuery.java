@@ -6,7 +6,24 @@
  */
 package org.hibernate.search.mapper.orm.jpa;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import javax.persistence.TypedQuery;
 
 public interface FullTextQuery<T> extends TypedQuery<T> {
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * The search itself will not block the calling thread if the backend allows it,
+	 * but entities will be loaded from the session on the given executor.
+	 * Since sessions are not thread-safe, the session must not be used
+	 * until the returned stage completes.
+	 *
+	 * @param loadingExecutor The executor on which entities will be loaded.
+	 * @return A {@link CompletionStage} that will complete with the list of results.
+	 */
+	CompletionStage<List<T>> getResultListAsync(Executor loadingExecutor);
+
 }
@@ -101,4 +101,102 @@ SearchException invalidContainerValueExtractorForDirtyChecking(Class<?> ormMappi
 			value = "Unable to find a readable property '%2$s' on type '%1$s'.")
 	SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.class) PojoRawTypeModel<?> typeModel,
 			String propertyName);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 11,
+			value = "Mass indexing is going to index %1$d entities.")
+	void indexingEntities(long count);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 12,
+			value = "Mass indexing complete. Indexed %1$d entities.")
+	void indexingEntitiesCompleted(long count);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 13,
+			value = "Mass indexing progress: indexed %1$d entities in %2$d ms.")
+	void indexingProgress(long doneCount, long elapsedMs);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 14,
+			value = "Mass indexing speed: %1$f documents/second since start, %2$.2f%% complete.")
+	void indexingSpeed(float estimateSpeed, float estimatePercentileComplete);
+
+	@Message(id = ID_OFFSET_2 + 15,
+			value = "Cannot mass index type '%1$s', because it is not indexed,"
+					+ " neither directly nor through an indexed subtype.")
+	SearchException cannotMassIndexNonIndexedType(Class<?> type);
+
+	@Message(id = ID_OFFSET_2 + 16,
+			value = "Mass indexing was interrupted.")
+	SearchException massIndexingInterrupted(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 17,
+			value = "Mass indexing failed for entity type '%1$s': %2$s")
+	SearchException massIndexingFailure(String entityName, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Unknown indexing execution: %1$s")
+	SearchException unknownIndexingExecution(String indexingExecution);
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "Unknown overflow policy for asynchronous indexing: %1$s")
+	SearchException unknownAsyncIndexingOverflowPolicy(String overflowPolicy);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 20,
+			value = "Asynchronous indexing failed. The index may be out of sync with the database.")
+	void asyncIndexingFailure(@Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 21,
+			value = "Dropping the indexing works of a transaction: %1$d transactions are already being indexed in the background."
+					+ " The index will be out of sync with the database until the affected entities are reindexed.")
+	void droppingAsyncIndexingWorks(int queueSize);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 22,
+			value = "Some indexing works executed in the background did not complete within %1$d ms on shutdown;"
+					+ " they will be abandoned.")
+	void asyncIndexingShutdownTimeout(long timeoutMs);
+
+	@Message(id = ID_OFFSET_2 + 23,
+			value = "Interrupted while waiting for indexing works executed in the background to complete.")
+	SearchException asyncIndexingInterrupted(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 24,
+			value = "Cannot record changes to entity '%1$s' in the outbox: identifier type '%2$s' cannot be converted to a string."
+					+ " Only entities with a basic identifier type are supported by the outbox.")
+	SearchException outboxUnsupportedIdentifierType(String entityName, String identifierTypeName);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Multi-tenancy is enabled, but no tenant identifiers were provided for outbox polling."
+					+ " Set the tenant identifiers through the configuration property '"
+					+ SearchOrmSettings.INDEXING_OUTBOX_TENANT_IDS + "'.")
+	SearchException outboxMissingTenantIds();
+
+	@Message(id = ID_OFFSET_2 + 26,
+			value = "Invalid outbox partition: '%1$d'. Partitions must be between 0 (inclusive) and %2$d (exclusive).")
+	SearchException outboxInvalidPartition(int partitionId, int partitionCount);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 27,
+			value = "Failed to process outbox events of partition %1$d for tenant '%2$s'. The events will be processed again later.")
+	void outboxPollingFailure(int partitionId, String tenantId, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 28,
+			value = "Failed to process outbox event %1$s for tenant '%2$s' after %3$d attempts."
+					+ " The event will no longer be processed; the entity may need to be reindexed manually.")
+	void outboxEventAbandoned(String event, String tenantId, int attempts, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 29,
+			value = "Mass indexing failed while purging the indexes: %1$s")
+	SearchException massIndexingPurgeFailure(String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 30,
+			value = "Mass indexing will also index entity types %1$s:"
+					+ " they share an index with the targeted entity types, and that index is going to be purged.")
+	void massIndexingTypesSharingIndexes(Collection<String> entityNames);
 }
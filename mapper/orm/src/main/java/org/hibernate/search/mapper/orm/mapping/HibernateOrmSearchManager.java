@@ -10,6 +10,7 @@
 import java.util.Collections;
 
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
 
 public interface HibernateOrmSearchManager extends PojoSearchManager {
@@ -22,4 +23,21 @@ default <T> HibernateOrmSearchTarget<T> search(Class<T> targetedType) {
 	@Override
 	<T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? extends T>> targetedTypes);
 
+	/**
+	 * Creates a {@link MassIndexer} to rebuild the indexes of all indexed entity types.
+	 *
+	 * @return The created mass indexer.
+	 */
+	default MassIndexer createMassIndexer() {
+		return createMassIndexer( Collections.singleton( Object.class ) );
+	}
+
+	/**
+	 * Creates a {@link MassIndexer} to rebuild the indexes of some indexed entity types.
+	 *
+	 * @param types The types to reindex. Indexed subtypes of these types will be reindexed too.
+	 * @return The created mass indexer.
+	 */
+	MassIndexer createMassIndexer(Collection<? extends Class<?>> types);
+
 }
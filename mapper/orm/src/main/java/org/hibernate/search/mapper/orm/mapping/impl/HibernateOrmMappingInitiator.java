@@ -28,6 +28,7 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingDefinitionContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingInitiatorImpl;
+import org.hibernate.search.util.impl.common.Contracts;
 import org.hibernate.search.util.impl.common.StreamHelper;
 
 /*
@@ -45,10 +46,23 @@ public class HibernateOrmMappingInitiator extends PojoMappingInitiatorImpl<Hiber
 					.withDefault( SearchOrmSettings.Defaults.ENABLE_ANNOTATION_MAPPING )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> ENABLE_GENERATED_PROPERTY_ACCESSORS =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.ENABLE_GENERATED_PROPERTY_ACCESSORS )
+					.asBoolean()
+					.withDefault( SearchOrmSettings.Defaults.ENABLE_GENERATED_PROPERTY_ACCESSORS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_COALESCING_WINDOW =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_COALESCING_WINDOW )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_COALESCING_WINDOW )
+					.build();
+
 	public static HibernateOrmMappingInitiator create(Metadata metadata,
-			SessionFactoryImplementor sessionFactoryImplementor) {
-		HibernateOrmBootstrapIntrospector introspector =
-				new HibernateOrmBootstrapIntrospector( metadata, sessionFactoryImplementor );
+			SessionFactoryImplementor sessionFactoryImplementor, ConfigurationPropertySource propertySource) {
+		HibernateOrmBootstrapIntrospector introspector = new HibernateOrmBootstrapIntrospector(
+				metadata, sessionFactoryImplementor, ENABLE_GENERATED_PROPERTY_ACCESSORS.get( propertySource )
+		);
 
 		return new HibernateOrmMappingInitiator(
 				metadata,
@@ -106,6 +120,10 @@ public void configure(MappingBuildContext buildContext, ConfigurationPropertySou
 			}
 		}
 
+		int coalescingWindow = INDEXING_COALESCING_WINDOW.get( propertySource );
+		Contracts.assertPositiveOrZero( coalescingWindow, SearchOrmSettings.INDEXING_COALESCING_WINDOW );
+		setWorkCoalescingWindow( coalescingWindow );
+
 		// Apply the user-provided mapping configurer if necessary
 		final BeanProvider beanProvider = buildContext.getServiceManager().getBeanProvider();
 		ConfigurationProperty<Optional<HibernateOrmSearchMappingConfigurer>> mappingConfigurerProperty =
@@ -12,6 +12,8 @@
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManagerBuilder;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexerImpl;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospector;
 import org.hibernate.search.mapper.orm.search.impl.HibernateOrmSearchTargetImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
@@ -35,6 +37,14 @@ public <T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? exten
 		return new HibernateOrmSearchTargetImpl<>( searchTargetDelegate, sessionImplementor );
 	}
 
+	@Override
+	public MassIndexer createMassIndexer(Collection<? extends Class<?>> types) {
+		return new MassIndexerImpl(
+				sessionImplementor.getFactory(), sessionImplementor.getTenantIdentifier(),
+				getMappingDelegate(), types
+		);
+	}
+
 	static class Builder extends AbstractBuilder<HibernateOrmSearchManager>
 			implements HibernateOrmSearchManagerBuilder {
 		private final SessionImplementor sessionImplementor;
@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A MassIndexer is useful to rebuild the indexes from the
+ * data contained in the database.
+ * This process is expensive: all indexed entities and their
+ * indexedEmbedded properties are scrolled from database.
+ * <p>
+ * By default, the targeted indexes are purged before reindexing,
+ * so that documents whose entity no longer exists in the database are removed.
+ * Entity types sharing an index with the targeted types are then reindexed too.
+ * With {@link #purgeAllOnStart(boolean) purgeAllOnStart(false)},
+ * existing documents are replaced, but documents whose entity no longer exists in the database
+ * are kept in the index.
+ */
+public interface MassIndexer {
+
+	/**
+	 * Sets the number of entity types to be indexed in parallel.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param threadsToIndexObjects number of entity types to be indexed in parallel
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer typesToIndexInParallel(int threadsToIndexObjects);
+
+	/**
+	 * Sets the number of threads to be used to load the root entities
+	 * and build the documents, for each entity type.
+	 * <p>
+	 * Defaults to {@code 6}.
+	 *
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadObjects(int numberOfThreads);
+
+	/**
+	 * Sets the batch size used to load the root entities.
+	 * <p>
+	 * Each loading thread opens a transaction for each batch.
+	 * Defaults to {@code 10}.
+	 *
+	 * @param batchSize the batch size
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer batchSizeToLoadObjects(int batchSize);
+
+	/**
+	 * Specifies the fetch size to be used when loading primary keys
+	 * of the entities to index.
+	 * <p>
+	 * Some databases accept special values,
+	 * for example MySQL might benefit from using {@link Integer#MIN_VALUE},
+	 * otherwise it will attempt to preload everything in memory.
+	 * Defaults to {@code 100}.
+	 *
+	 * @param idFetchSize the fetch size to be used when loading primary keys
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer idFetchSize(int idFetchSize);
+
+	/**
+	 * Stops indexing after having indexed a set amount of objects of each entity type.
+	 * <p>
+	 * As a results the index will not be consistent with the database:
+	 * use only for testing on an (undefined) subset of database data.
+	 *
+	 * @param maximum the maximum number of objects to index per entity type
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer limitIndexedObjectsTo(long maximum);
+
+	/**
+	 * Removes all entities from the indexes before indexing.
+	 * <p>
+	 * Purging an index removes the documents of every entity type indexed in it,
+	 * so entity types sharing an index with the targeted types are reindexed too.
+	 * <p>
+	 * Set it to {@code false} only if you know there are no entities in the indexes
+	 * that were deleted from the database:
+	 * otherwise the indexes will keep returning these entities in search results.
+	 * Defaults to {@code true}.
+	 *
+	 * @param purgeAll whether all entities should be removed from the indexes before indexing
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer purgeAllOnStart(boolean purgeAll);
+
+	/**
+	 * Sets the monitor that will be notified of the progress of indexing.
+	 * <p>
+	 * Defaults to a monitor that logs the progress periodically.
+	 *
+	 * @param monitor the monitor, which must be thread-safe
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer monitor(MassIndexingMonitor monitor);
+
+	/**
+	 * Starts the indexing process in background (asynchronous).
+	 *
+	 * @return a future that will be completed when indexing is complete,
+	 * or completed exceptionally if indexing failed.
+	 */
+	CompletableFuture<?> start();
+
+	/**
+	 * Starts the indexing process, and then block until it's finished.
+	 *
+	 * @throws InterruptedException if the current thread is interrupted
+	 * while waiting.
+	 */
+	void startAndWait() throws InterruptedException;
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+/**
+ * A component that monitors progress of mass indexing.
+ * <p>
+ * As a {@link MassIndexer} can take some time to finish its job,
+ * a {@link MassIndexingMonitor} can be defined through {@link MassIndexer#monitor(MassIndexingMonitor)}
+ * to track indexing performance.
+ * <p>
+ * All methods may be invoked from several threads, thus implementors are required to be thread-safe.
+ * Calls are <strong>incremental</strong>:
+ * calling {@code documentsAdded(3)} and then {@code documentsAdded(1)}
+ * should be understood as "3+1 documents, i.e. 4 documents have been added".
+ */
+public interface MassIndexingMonitor {
+
+	/**
+	 * Notify the monitor that {@code increment} more entities have been
+	 * detected in the database and will be indexed.
+	 * <p>
+	 * This number can be incremented during indexing
+	 * as Hibernate Search moves from one entity type to the next.
+	 *
+	 * @param increment additional number of entities that will be indexed
+	 */
+	void addToTotalCount(long increment);
+
+	/**
+	 * Notify the monitor that {@code increment} more entities have been loaded from the database.
+	 *
+	 * @param increment additional number of entities loaded from database
+	 */
+	void entitiesLoaded(long increment);
+
+	/**
+	 * Notify the monitor that {@code increment} more documents have been added to the index.
+	 *
+	 * @param increment additional number of documents added to the index
+	 */
+	void documentsAdded(long increment);
+
+	/**
+	 * Notify the monitor that indexing is complete.
+	 */
+	void indexingCompleted();
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Indexes all the requested entity types,
+ * starting one {@link BatchIndexingWorkspace} per type
+ * and running up to a configured number of them concurrently.
+ */
+class BatchCoordinator implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final PojoMappingDelegate mappingDelegate;
+	private final List<MassIndexingTypeContext> typeContexts;
+	private final int typesToIndexInParallel;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+	private final long objectsLimit;
+	private final boolean purgeAtStart;
+	private final MassIndexingMonitor monitor;
+
+	BatchCoordinator(SessionFactoryImplementor sessionFactory, String tenantId,
+			PojoMappingDelegate mappingDelegate, List<MassIndexingTypeContext> typeContexts,
+			int typesToIndexInParallel, int threadsToLoadObjects, int batchSizeToLoadObjects,
+			int idFetchSize, long objectsLimit, boolean purgeAtStart,
+			MassIndexingMonitor monitor) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.mappingDelegate = mappingDelegate;
+		this.typeContexts = typeContexts;
+		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+		this.objectsLimit = objectsLimit;
+		this.purgeAtStart = purgeAtStart;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public void run() {
+		if ( purgeAtStart ) {
+			// Documents of entities deleted from the database would not be removed otherwise
+			purge();
+		}
+
+		List<Callable<Void>> workspaces = new ArrayList<>( typeContexts.size() );
+		for ( MassIndexingTypeContext typeContext : typeContexts ) {
+			workspaces.add( new BatchIndexingWorkspace(
+					sessionFactory, tenantId, mappingDelegate, typeContext,
+					threadsToLoadObjects, batchSizeToLoadObjects, idFetchSize, objectsLimit,
+					monitor
+			) );
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( typesToIndexInParallel, Math.max( 1, workspaces.size() ) ),
+				"Hibernate Search mass indexing - entity types"
+		);
+		try {
+			FailFastTaskRunner.runAll( executor, workspaces );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.massIndexingInterrupted( e );
+		}
+
+		monitor.indexingCompleted();
+	}
+
+	/**
+	 * Purge every targeted index before any type starts indexing,
+	 * so that purging an index shared by several types cannot delete documents that were just indexed.
+	 */
+	private void purge() {
+		List<Class<?>> indexedTypes = new ArrayList<>( typeContexts.size() );
+		for ( MassIndexingTypeContext typeContext : typeContexts ) {
+			indexedTypes.add( typeContext.getEntityType() );
+		}
+		try ( Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			mappingDelegate.purge(
+					new MassIndexingSessionContext( session.unwrap( SessionImplementor.class ) ),
+					indexedTypes
+			).join();
+		}
+		catch (RuntimeException e) {
+			throw log.massIndexingPurgeFailure( e.getMessage(), e );
+		}
+	}
+}
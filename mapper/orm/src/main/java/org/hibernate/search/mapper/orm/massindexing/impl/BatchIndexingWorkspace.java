@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * This Callable indexes all the entities of a single type:
+ * one thread produces batches of identifiers,
+ * and several other threads load the entities and build the documents in parallel.
+ */
+class BatchIndexingWorkspace implements Callable<Void> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final PojoMappingDelegate mappingDelegate;
+	private final MassIndexingTypeContext typeContext;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+	private final long objectsLimit;
+	private final MassIndexingMonitor monitor;
+
+	BatchIndexingWorkspace(SessionFactoryImplementor sessionFactory, String tenantId,
+			PojoMappingDelegate mappingDelegate, MassIndexingTypeContext typeContext,
+			int threadsToLoadObjects, int batchSizeToLoadObjects, int idFetchSize, long objectsLimit,
+			MassIndexingMonitor monitor) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.mappingDelegate = mappingDelegate;
+		this.typeContext = typeContext;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+		this.objectsLimit = objectsLimit;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public Void call() throws InterruptedException {
+		ProducerConsumerQueue<List<Serializable>> identifierQueue = new ProducerConsumerQueue<>( 1 );
+
+		List<Callable<Void>> tasks = new ArrayList<>( threadsToLoadObjects + 1 );
+		tasks.add( new IdentifierProducer(
+				identifierQueue, sessionFactory, tenantId, typeContext,
+				batchSizeToLoadObjects, idFetchSize, objectsLimit, monitor
+		) );
+		for ( int i = 0; i < threadsToLoadObjects; i++ ) {
+			tasks.add( new IdentifierConsumerDocumentProducer(
+					identifierQueue, sessionFactory, tenantId, mappingDelegate, typeContext, monitor
+			) );
+		}
+
+		Class<?> entityType = typeContext.getEntityType();
+		try {
+			mappingDelegate.startBulkIndexing( entityType ).join();
+			try {
+				// Created last: runAll() shuts it down, whatever happens
+				ExecutorService executor = Executors.newFixedThreadPool(
+						tasks.size(), "Hibernate Search mass indexing - " + typeContext.getEntityName()
+				);
+				FailFastTaskRunner.runAll( executor, tasks );
+			}
+			finally {
+				// Always restore the index to its normal state, and commit/refresh what has been indexed so far
+				mappingDelegate.finishBulkIndexing( entityType ).join();
+			}
+		}
+		catch (RuntimeException e) {
+			throw log.massIndexingFailure( typeContext.getEntityName(), e.getMessage(), e );
+		}
+		return null;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Runs tasks in parallel and waits for all of them to complete,
+ * interrupting the remaining tasks as soon as one of them fails.
+ */
+final class FailFastTaskRunner {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private FailFastTaskRunner() {
+	}
+
+	/**
+	 * @param executor An executor dedicated to the given tasks. It will be shut down before this method returns.
+	 * @param tasks The tasks to execute.
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	static void runAll(ExecutorService executor, List<? extends Callable<Void>> tasks) throws InterruptedException {
+		CompletionService<Void> completionService = new ExecutorCompletionService<>( executor );
+		try {
+			for ( Callable<Void> task : tasks ) {
+				completionService.submit( task );
+			}
+			for ( int i = 0; i < tasks.size(); i++ ) {
+				completionService.take().get();
+			}
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			else if ( cause instanceof InterruptedException ) {
+				throw log.massIndexingInterrupted( (InterruptedException) cause );
+			}
+			else {
+				throw new AssertionFailure( "Unexpected checked exception in a mass indexing task", cause );
+			}
+		}
+		finally {
+			// Interrupts the remaining tasks if one failed; no-op if all tasks completed
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+
+/**
+ * This Callable will consume batches of identifiers from a queue,
+ * load the corresponding entities in its own session,
+ * and send the documents built from those entities to the backend.
+ */
+class IdentifierConsumerDocumentProducer implements Callable<Void> {
+
+	private final ProducerConsumerQueue<List<Serializable>> source;
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final PojoMappingDelegate mappingDelegate;
+	private final MassIndexingTypeContext typeContext;
+	private final MassIndexingMonitor monitor;
+
+	IdentifierConsumerDocumentProducer(ProducerConsumerQueue<List<Serializable>> source,
+			SessionFactoryImplementor sessionFactory, String tenantId,
+			PojoMappingDelegate mappingDelegate,
+			MassIndexingTypeContext typeContext,
+			MassIndexingMonitor monitor) {
+		this.source = source;
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.mappingDelegate = mappingDelegate;
+		this.typeContext = typeContext;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public Void call() throws InterruptedException {
+		try ( Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( CacheMode.IGNORE );
+			session.setDefaultReadOnly( true );
+
+			PojoDocumentWorkExecutor documentWorkExecutor = mappingDelegate.createDocumentWorkExecutor(
+					new MassIndexingSessionContext( session.unwrap( SessionImplementor.class ) ),
+					typeContext.getEntityType()
+			);
+
+			List<Serializable> identifiers = source.take();
+			while ( identifiers != null ) {
+				loadAndIndex( session, documentWorkExecutor, identifiers );
+				identifiers = source.take();
+			}
+		}
+		return null;
+	}
+
+	private void loadAndIndex(Session session, PojoDocumentWorkExecutor documentWorkExecutor,
+			List<Serializable> identifiers) {
+		List<CompletableFuture<?>> futures = new ArrayList<>( identifiers.size() );
+		Transaction transaction = session.beginTransaction();
+		try {
+			List<?> entities = session.byMultipleIds( typeContext.getEntityType() )
+					.withBatchSize( identifiers.size() )
+					.multiLoad( identifiers );
+			// Entities are returned in the same order as identifiers, with null for deleted entities
+			for ( int i = 0; i < entities.size(); i++ ) {
+				Object entity = entities.get( i );
+				if ( entity != null ) {
+					futures.add( documentWorkExecutor.update( identifiers.get( i ), entity ) );
+				}
+			}
+			monitor.entitiesLoaded( futures.size() );
+			transaction.commit();
+		}
+		catch (RuntimeException e) {
+			transaction.rollback();
+			throw e;
+		}
+		finally {
+			session.clear();
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		monitor.documentsAdded( futures.size() );
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+
+/**
+ * This Callable will feed the identifiers of entities of a single type to a queue,
+ * in batches, for them to be loaded and indexed by {@link IdentifierConsumerDocumentProducer}s.
+ * <p>
+ * Identifiers are scrolled from a {@link StatelessSession},
+ * so that the persistence context does not grow as the scroll moves forward.
+ */
+class IdentifierProducer implements Callable<Void> {
+
+	private final ProducerConsumerQueue<List<Serializable>> destination;
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final MassIndexingTypeContext typeContext;
+	private final int batchSize;
+	private final int idFetchSize;
+	private final long objectsLimit;
+	private final MassIndexingMonitor monitor;
+
+	IdentifierProducer(ProducerConsumerQueue<List<Serializable>> destination,
+			SessionFactoryImplementor sessionFactory, String tenantId,
+			MassIndexingTypeContext typeContext,
+			int batchSize, int idFetchSize, long objectsLimit,
+			MassIndexingMonitor monitor) {
+		this.destination = destination;
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.typeContext = typeContext;
+		this.batchSize = batchSize;
+		this.idFetchSize = idFetchSize;
+		this.objectsLimit = objectsLimit;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public Void call() throws InterruptedException {
+		try ( StatelessSession session = sessionFactory.withStatelessOptions()
+				.tenantIdentifier( tenantId )
+				.openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				loadAllIdentifiers( session );
+				transaction.commit();
+			}
+			catch (InterruptedException | RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+		finally {
+			destination.producerStopping();
+		}
+		return null;
+	}
+
+	private void loadAllIdentifiers(StatelessSession session) throws InterruptedException {
+		Long rowCount = session.createQuery( typeContext.getCountQueryString(), Long.class )
+				.uniqueResult();
+		long totalCount = Math.min( rowCount, objectsLimit );
+		monitor.addToTotalCount( totalCount );
+
+		Query<Object> idQuery = session.createQuery( typeContext.getIdentifierQueryString(), Object.class )
+				.setFetchSize( idFetchSize )
+				.setReadOnly( true )
+				.setCacheable( false );
+
+		long counter = 0;
+		List<Serializable> batch = new ArrayList<>( batchSize );
+		try ( ScrollableResults results = idQuery.scroll( ScrollMode.FORWARD_ONLY ) ) {
+			while ( counter < totalCount && results.next() ) {
+				batch.add( (Serializable) results.get( 0 ) );
+				++counter;
+				if ( batch.size() == batchSize ) {
+					destination.put( batch );
+					batch = new ArrayList<>( batchSize );
+				}
+			}
+		}
+		if ( !batch.isEmpty() ) {
+			destination.put( batch );
+		}
+	}
+}
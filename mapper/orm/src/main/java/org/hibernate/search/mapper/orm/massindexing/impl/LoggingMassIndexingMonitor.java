@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A very simple implementation of {@link MassIndexingMonitor} which
+ * uses the logger at INFO level to output indexing speed statistics.
+ */
+class LoggingMassIndexingMonitor implements MassIndexingMonitor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final AtomicLong documentsDoneCounter = new AtomicLong();
+	private final LongAdder totalCounter = new LongAdder();
+	private final int logAfterNumberOfDocuments;
+	private volatile long startTime;
+
+	/**
+	 * Logs progress of indexing job every 50 documents written.
+	 */
+	LoggingMassIndexingMonitor() {
+		this( 50 );
+	}
+
+	/**
+	 * Logs progress of indexing job every {@code logAfterNumberOfDocuments}
+	 * documents written.
+	 *
+	 * @param logAfterNumberOfDocuments log each time the specified number of documents has been added
+	 */
+	LoggingMassIndexingMonitor(int logAfterNumberOfDocuments) {
+		this.logAfterNumberOfDocuments = logAfterNumberOfDocuments;
+	}
+
+	@Override
+	public void addToTotalCount(long increment) {
+		totalCounter.add( increment );
+		log.indexingEntities( increment );
+	}
+
+	@Override
+	public void entitiesLoaded(long increment) {
+		// not used
+	}
+
+	@Override
+	public void documentsAdded(long increment) {
+		long previous = documentsDoneCounter.getAndAdd( increment );
+		if ( previous == 0 ) {
+			startTime = System.nanoTime();
+		}
+		long current = previous + increment;
+		// Log whenever we cross a multiple of the period, since increments are batch sizes
+		if ( previous / logAfterNumberOfDocuments < current / logAfterNumberOfDocuments ) {
+			printStatusMessage( startTime, totalCounter.longValue(), current );
+		}
+	}
+
+	@Override
+	public void indexingCompleted() {
+		log.indexingEntitiesCompleted( documentsDoneCounter.longValue() );
+	}
+
+	private void printStatusMessage(long startTime, long totalTodoCount, long doneCount) {
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+		log.indexingProgress( doneCount, elapsedMs );
+		float estimateSpeed = doneCount * 1000f / Math.max( 1L, elapsedMs );
+		float estimatePercentileComplete = doneCount * 100f / Math.max( 1L, totalTodoCount );
+		log.indexingSpeed( estimateSpeed, estimatePercentileComplete );
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Prepares and configures a BatchIndexingWorkspace to start rebuilding
+ * the indexes for all entity instances in the database.
+ * The type of these entities is either all indexed entities or a
+ * subset, always including all subtypes.
+ */
+public class MassIndexerImpl implements MassIndexer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final PojoMappingDelegate mappingDelegate;
+	private final List<MassIndexingTypeContext> typeContexts;
+
+	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int batchSizeToLoadObjects = 10;
+	private int idFetchSize = 100;
+	private long objectsLimit = Long.MAX_VALUE;
+	private boolean purgeAtStart = true;
+	private MassIndexingMonitor monitor;
+
+	public MassIndexerImpl(SessionFactoryImplementor sessionFactory, String tenantId,
+			PojoMappingDelegate mappingDelegate, Collection<? extends Class<?>> targetedTypes) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.mappingDelegate = mappingDelegate;
+		this.typeContexts = toTypeContexts( sessionFactory, mappingDelegate, targetedTypes );
+	}
+
+	@Override
+	public MassIndexer typesToIndexInParallel(int numberOfThreads) {
+		Contracts.assertStrictlyPositive( numberOfThreads, "numberOfThreads" );
+		this.typesToIndexInParallel = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
+		Contracts.assertStrictlyPositive( numberOfThreads, "numberOfThreads" );
+		this.threadsToLoadObjects = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer batchSizeToLoadObjects(int batchSize) {
+		Contracts.assertStrictlyPositive( batchSize, "batchSize" );
+		this.batchSizeToLoadObjects = batchSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer idFetchSize(int idFetchSize) {
+		// don't check for positive/zero values as it's actually used by some databases
+		// as special values which might be useful.
+		this.idFetchSize = idFetchSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer limitIndexedObjectsTo(long maximum) {
+		this.objectsLimit = maximum;
+		return this;
+	}
+
+	@Override
+	public MassIndexer purgeAllOnStart(boolean purgeAll) {
+		this.purgeAtStart = purgeAll;
+		return this;
+	}
+
+	@Override
+	public MassIndexer monitor(MassIndexingMonitor monitor) {
+		this.monitor = monitor;
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<?> start() {
+		List<MassIndexingTypeContext> typeContextsToIndex = purgeAtStart
+				? withTypesSharingIndexes( typeContexts )
+				: typeContexts;
+		BatchCoordinator coordinator = new BatchCoordinator(
+				sessionFactory, tenantId, mappingDelegate, typeContextsToIndex,
+				typesToIndexInParallel, threadsToLoadObjects, batchSizeToLoadObjects,
+				idFetchSize, objectsLimit, purgeAtStart,
+				monitor == null ? new LoggingMassIndexingMonitor() : monitor
+		);
+		ExecutorService executor = Executors.newFixedThreadPool( 1, "Hibernate Search mass indexing - coordinator" );
+		return CompletableFuture.runAsync( coordinator, executor )
+				.whenComplete( (ignored, throwable) -> executor.shutdown() );
+	}
+
+	@Override
+	public void startAndWait() throws InterruptedException {
+		try {
+			start().get();
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			else {
+				throw new AssertionFailure( "Unexpected checked exception during mass indexing", cause );
+			}
+		}
+	}
+
+	private static List<MassIndexingTypeContext> toTypeContexts(SessionFactoryImplementor sessionFactory,
+			PojoMappingDelegate mappingDelegate, Collection<? extends Class<?>> targetedTypes) {
+		for ( Class<?> targetedType : targetedTypes ) {
+			if ( !mappingDelegate.isSearchable( targetedType ) ) {
+				throw log.cannotMassIndexNonIndexedType( targetedType );
+			}
+		}
+
+		List<MassIndexingTypeContext> result = new ArrayList<>();
+		for ( EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values() ) {
+			Class<?> mappedClass = persister.getMappedClass();
+			if ( mappedClass != null && mappingDelegate.isIndexable( mappedClass )
+					&& isAssignableToAny( mappedClass, targetedTypes ) ) {
+				result.add( new MassIndexingTypeContext( persister ) );
+			}
+		}
+		// Sort for deterministic ordering
+		result.sort( Comparator.comparing( MassIndexingTypeContext::getEntityName ) );
+		return result;
+	}
+
+	/*
+	 * Purging an index deletes the documents of every type indexed in it,
+	 * so types sharing an index with the targeted types must be reindexed too.
+	 */
+	private List<MassIndexingTypeContext> withTypesSharingIndexes(List<MassIndexingTypeContext> targetedTypeContexts) {
+		Set<Class<?>> targetedTypes = new LinkedHashSet<>();
+		for ( MassIndexingTypeContext typeContext : targetedTypeContexts ) {
+			targetedTypes.add( typeContext.getEntityType() );
+		}
+		Set<Class<?>> typesToIndex = mappingDelegate.getIndexedTypesSharingIndexWith( targetedTypes );
+		if ( typesToIndex.size() == targetedTypes.size() ) {
+			return targetedTypeContexts;
+		}
+
+		List<MassIndexingTypeContext> result = new ArrayList<>();
+		List<String> addedEntityNames = new ArrayList<>();
+		for ( EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values() ) {
+			Class<?> mappedClass = persister.getMappedClass();
+			if ( mappedClass != null && typesToIndex.contains( mappedClass ) ) {
+				MassIndexingTypeContext typeContext = new MassIndexingTypeContext( persister );
+				result.add( typeContext );
+				if ( !targetedTypes.contains( mappedClass ) ) {
+					addedEntityNames.add( typeContext.getEntityName() );
+				}
+			}
+		}
+		// Sort for deterministic ordering
+		result.sort( Comparator.comparing( MassIndexingTypeContext::getEntityName ) );
+		addedEntityNames.sort( Comparator.naturalOrder() );
+		log.massIndexingTypesSharingIndexes( addedEntityNames );
+		return result;
+	}
+
+	private static boolean isAssignableToAny(Class<?> mappedClass, Collection<? extends Class<?>> targetedTypes) {
+		for ( Class<?> targetedType : targetedTypes ) {
+			if ( targetedType.isAssignableFrom( mappedClass ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
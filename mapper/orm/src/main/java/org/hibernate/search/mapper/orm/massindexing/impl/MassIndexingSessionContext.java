@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+
+class MassIndexingSessionContext implements PojoSessionContext {
+	private final PojoRuntimeIntrospector runtimeIntrospector;
+	private final String tenantId;
+
+	MassIndexingSessionContext(SessionImplementor sessionImplementor) {
+		this.runtimeIntrospector = new HibernateOrmRuntimeIntrospector( sessionImplementor );
+		this.tenantId = sessionImplementor.getTenantIdentifier();
+	}
+
+	@Override
+	public String getTenantIdentifier() {
+		return tenantId;
+	}
+
+	@Override
+	public PojoRuntimeIntrospector getRuntimeIntrospector() {
+		return runtimeIntrospector;
+	}
+}
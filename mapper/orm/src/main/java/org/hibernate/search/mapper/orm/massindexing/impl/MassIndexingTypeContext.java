@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Information about an indexed entity type, as needed by the mass indexer.
+ */
+class MassIndexingTypeContext {
+
+	private final Class<?> entityType;
+	private final String entityName;
+	private final String countQueryString;
+	private final String identifierQueryString;
+
+	MassIndexingTypeContext(EntityPersister persister) {
+		this.entityType = persister.getMappedClass();
+		this.entityName = persister.getEntityName();
+		String identifierPropertyName = persister.getIdentifierPropertyName();
+		String identifierPath = "e." + ( identifierPropertyName == null ? "id" : identifierPropertyName );
+		/*
+		 * Only select entities of this exact type: subtypes are indexed separately,
+		 * or not at all if they are not indexed.
+		 */
+		String restriction = persister.getEntityMetamodel().getSubclassEntityNames().size() > 1
+				? " where type(e) = " + entityName
+				: "";
+		this.countQueryString = "select count(e) from " + entityName + " e" + restriction;
+		this.identifierQueryString = "select " + identifierPath + " from " + entityName + " e" + restriction;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + entityName + "]";
+	}
+
+	Class<?> getEntityType() {
+		return entityType;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	String getCountQueryString() {
+		return countQueryString;
+	}
+
+	String getIdentifierQueryString() {
+		return identifierQueryString;
+	}
+}
@@ -34,12 +34,13 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.util.impl.XClassOrdering;
 import org.hibernate.search.mapper.pojo.model.spi.GenericContextAwarePojoGenericTypeModel.RawTypeDeclaringContext;
-import org.hibernate.search.mapper.pojo.model.spi.MemberPropertyHandle;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoTypeModel;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
 import org.hibernate.search.mapper.pojo.util.spi.AnnotationHelper;
 import org.hibernate.search.util.impl.common.ReflectionHelper;
 import org.hibernate.search.util.impl.common.StreamHelper;
@@ -50,7 +51,7 @@
 public class HibernateOrmBootstrapIntrospector implements PojoBootstrapIntrospector {
 
 	private final ReflectionManager reflectionManager;
-	private final MethodHandles.Lookup lookup;
+	private final PropertyHandleFactory propertyHandleFactory;
 	private final AnnotationHelper annotationHelper;
 	private final SessionFactoryImplementor sessionFactoryImplementor;
 	private final HibernateOrmGenericContextHelper genericContextHelper;
@@ -69,7 +70,8 @@ public class HibernateOrmBootstrapIntrospector implements PojoBootstrapIntrospec
 	 */
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
-	public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplementor sessionFactoryImplementor) {
+	public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplementor sessionFactoryImplementor,
+			boolean generatedPropertyAccessorsEnabled) {
 		ReflectionManager metadataReflectionManager = null;
 		if ( metadata instanceof MetadataImplementor ) {
 			metadataReflectionManager = ((MetadataImplementor) metadata).getMetadataBuildingOptions().getReflectionManager();
@@ -84,7 +86,18 @@ public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplem
 			this.reflectionManager = new JavaReflectionManager();
 		}
 		// TODO get the user lookup from Hibernate ORM?
-		this.lookup = MethodHandles.publicLookup();
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		if ( generatedPropertyAccessorsEnabled ) {
+			/*
+			 * Accessor generation requires a lookup with private access.
+			 * Members are made accessible before creating handles (see createPropertyHandle),
+			 * so using our own lookup does not grant access to anything more than the public lookup would.
+			 */
+			this.propertyHandleFactory = PropertyHandleFactory.usingGeneratedAccessors( MethodHandles.lookup() );
+		}
+		else {
+			this.propertyHandleFactory = PropertyHandleFactory.usingMethodHandle( lookup );
+		}
 		this.annotationHelper = new AnnotationHelper( lookup );
 		this.sessionFactoryImplementor = sessionFactoryImplementor;
 		this.genericContextHelper = new HibernateOrmGenericContextHelper( this );
@@ -157,16 +170,16 @@ Stream<? extends Annotation> getAnnotationsByMetaAnnotationType(
 				.filter( annotation -> annotationHelper.isMetaAnnotated( annotation, metaAnnotationType ) );
 	}
 
-	MemberPropertyHandle createPropertyHandle(String name, Member member) throws IllegalAccessException {
+	PropertyHandle createPropertyHandle(String name, Member member) throws IllegalAccessException {
 		if ( member instanceof Method ) {
 			Method method = (Method) member;
 			setAccessible( method );
-			return new MemberPropertyHandle( name, method, lookup.unreflect( method ) );
+			return propertyHandleFactory.createForMethod( name, method );
 		}
 		else if ( member instanceof Field ) {
 			Field field = (Field) member;
 			setAccessible( field );
-			return new MemberPropertyHandle( name, field, lookup.unreflectGetter( field ) );
+			return propertyHandleFactory.createForField( name, field );
 		}
 		else {
 			throw new AssertionFailure( "Unexpected type for a " + Member.class.getName() + ": " + member );
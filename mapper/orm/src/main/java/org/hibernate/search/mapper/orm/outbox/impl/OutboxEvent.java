@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+/**
+ * An entity change recorded in the outbox.
+ */
+final class OutboxEvent {
+
+	private final long id;
+	private final OutboxEventType type;
+	private final String entityName;
+	private final String entityId;
+	private final String[] dirtyPaths;
+	private final int attempts;
+
+	OutboxEvent(long id, OutboxEventType type, String entityName, String entityId, String[] dirtyPaths,
+			int attempts) {
+		this.id = id;
+		this.type = type;
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.dirtyPaths = dirtyPaths;
+		this.attempts = attempts;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "id=" ).append( id )
+				.append( ", type=" ).append( type )
+				.append( ", entityName=" ).append( entityName )
+				.append( ", entityId=" ).append( entityId )
+				.append( ", attempts=" ).append( attempts )
+				.append( "]" )
+				.toString();
+	}
+
+	long getId() {
+		return id;
+	}
+
+	OutboxEventType getType() {
+		return type;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	String getEntityId() {
+		return entityId;
+	}
+
+	/**
+	 * @return The dirty paths, or {@code null} if the whole entity should be considered dirty.
+	 */
+	String[] getDirtyPaths() {
+		return dirtyPaths;
+	}
+
+	/**
+	 * @return The number of times processing this event failed, as of when it was selected.
+	 */
+	int getAttempts() {
+		return attempts;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import org.hibernate.search.util.AssertionFailure;
+
+/**
+ * The type of an entity change recorded in the outbox.
+ * <p>
+ * Each type is persisted as a code that must never change,
+ * since events written by previous versions may still be in the outbox.
+ */
+enum OutboxEventType {
+
+	ADD( 0 ),
+	UPDATE( 1 ),
+	DELETE( 2 );
+
+	private final int code;
+
+	OutboxEventType(int code) {
+		this.code = code;
+	}
+
+	int getCode() {
+		return code;
+	}
+
+	static OutboxEventType fromCode(int code) {
+		for ( OutboxEventType type : values() ) {
+			if ( type.code == code ) {
+				return type;
+			}
+		}
+		throw new AssertionFailure( "Unknown outbox event type code: " + code );
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * Converts entity identifiers to and from the string representation stored in the outbox.
+ */
+final class OutboxIdentifierConverter {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private OutboxIdentifierConverter() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static String toString(EntityPersister persister, Object identifier) {
+		return ( (StringRepresentableType<Object>) getIdentifierType( persister ) ).toString( identifier );
+	}
+
+	static Serializable fromString(EntityPersister persister, String identifier) {
+		return (Serializable) getIdentifierType( persister ).fromStringValue( identifier );
+	}
+
+	/**
+	 * @param entityId The string representation of an entity identifier.
+	 * @param partitionCount The total number of partitions.
+	 * @return The partition the entity is assigned to.
+	 * Relies on {@link String#hashCode()}, whose result is specified,
+	 * so that every application node assigns the same entity to the same partition.
+	 */
+	static int toPartition(String entityId, int partitionCount) {
+		return Math.floorMod( entityId.hashCode(), partitionCount );
+	}
+
+	private static StringRepresentableType<?> getIdentifierType(EntityPersister persister) {
+		Type type = persister.getIdentifierType();
+		if ( !( type instanceof StringRepresentableType ) ) {
+			throw log.outboxUnsupportedIdentifierType( persister.getEntityName(), type.getName() );
+		}
+		return (StringRepresentableType<?>) type;
+	}
+}
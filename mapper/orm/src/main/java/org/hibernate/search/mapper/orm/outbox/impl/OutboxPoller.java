@@ -0,0 +1,290 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Polls a single partition of the outbox,
+ * and indexes the entities whose changes were recorded there.
+ * <p>
+ * Entities are always loaded from the database and indexed in their current state,
+ * so the order in which events of different entities are processed does not matter,
+ * and processing an event twice (for instance after a failure) is harmless.
+ * <p>
+ * Events that repeatedly fail while other events are processed successfully are eventually abandoned:
+ * they are left in the outbox, but no longer processed.
+ */
+class OutboxPoller implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final HibernateSearchContextService contextService;
+	private final OutboxTable table;
+	private final int partitionId;
+	private final List<String> tenantIds;
+	private final int batchSize;
+	private final long pollingInterval;
+	private final int maxAttempts;
+
+	private volatile boolean stopped = false;
+
+	OutboxPoller(SessionFactoryImplementor sessionFactory, HibernateSearchContextService contextService,
+			OutboxTable table, int partitionId, List<String> tenantIds,
+			int batchSize, long pollingInterval, int maxAttempts) {
+		this.sessionFactory = sessionFactory;
+		this.contextService = contextService;
+		this.table = table;
+		this.partitionId = partitionId;
+		this.tenantIds = tenantIds;
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+		this.maxAttempts = maxAttempts;
+	}
+
+	@Override
+	public void run() {
+		try {
+			while ( !stopped ) {
+				boolean processedEvents = false;
+				for ( String tenantId : tenantIds ) {
+					processedEvents = processBatch( tenantId ) || processedEvents;
+				}
+				if ( !processedEvents ) {
+					Thread.sleep( pollingInterval );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			// We are being stopped
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Index the entities referenced by one batch of events, then remove the events from the outbox,
+	 * all in the same transaction.
+	 * <p>
+	 * If that fails, fall back to processing the events of the batch one by one,
+	 * so that a single event that cannot be processed does not block the others.
+	 *
+	 * @param tenantId The tenant whose events should be processed, or {@code null}.
+	 * @return {@code true} if events were processed, {@code false} if there were none or processing failed.
+	 */
+	private boolean processBatch(String tenantId) {
+		try {
+			List<OutboxEvent> events = inTransaction( tenantId, session -> {
+				List<OutboxEvent> selected = session.doReturningWork(
+						connection -> table.select( connection, partitionId, tenantId, maxAttempts, batchSize )
+				);
+				if ( !selected.isEmpty() ) {
+					process( session, selected );
+				}
+				return selected;
+			} );
+			return !events.isEmpty();
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Failed to process a batch of outbox events of partition %d for tenant '%s';"
+					+ " processing events one by one", partitionId, tenantId );
+			return processOneByOne( tenantId );
+		}
+	}
+
+	private boolean processOneByOne(String tenantId) {
+		List<OutboxEvent> events;
+		try {
+			events = inTransaction( tenantId, session -> session.doReturningWork(
+					connection -> table.select( connection, partitionId, tenantId, maxAttempts, batchSize )
+			) );
+		}
+		catch (RuntimeException e) {
+			log.outboxPollingFailure( partitionId, tenantId, e );
+			return false;
+		}
+
+		boolean processedEvents = false;
+		Map<OutboxEvent, RuntimeException> failures = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			try {
+				inTransaction( tenantId, session -> {
+					process( session, Collections.singletonList( event ) );
+					return null;
+				} );
+				processedEvents = true;
+			}
+			catch (RuntimeException e) {
+				failures.put( event, e );
+			}
+		}
+
+		if ( failures.isEmpty() ) {
+			return processedEvents;
+		}
+		else if ( !processedEvents ) {
+			/*
+			 * Every event failed: the events themselves are probably not the cause (e.g. the backend is unreachable).
+			 * Do not count this as an attempt, so that events are not abandoned while the failure lasts.
+			 */
+			log.outboxPollingFailure( partitionId, tenantId, failures.values().iterator().next() );
+			return false;
+		}
+		for ( Map.Entry<OutboxEvent, RuntimeException> failure : failures.entrySet() ) {
+			recordFailure( tenantId, failure.getKey(), failure.getValue() );
+		}
+		return true;
+	}
+
+	private void recordFailure(String tenantId, OutboxEvent event, RuntimeException failure) {
+		try {
+			inTransaction( tenantId, session -> {
+				session.doWork( connection -> table.incrementAttempts( connection, event ) );
+				return null;
+			} );
+		}
+		catch (RuntimeException e) {
+			failure.addSuppressed( e );
+			log.outboxPollingFailure( partitionId, tenantId, failure );
+			return;
+		}
+		int attempts = event.getAttempts() + 1;
+		if ( attempts >= maxAttempts ) {
+			// The event will no longer be selected
+			log.outboxEventAbandoned( event.toString(), tenantId, attempts, failure );
+		}
+		else {
+			log.outboxPollingFailure( partitionId, tenantId, failure );
+		}
+	}
+
+	/**
+	 * Index the entities referenced by the given events, then remove the events from the outbox.
+	 */
+	private void process(Session session, List<OutboxEvent> events) {
+		SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+		PojoWorkPlan workPlan = contextService.getSearchManager( sessionImplementor ).createWorkPlan();
+		Map<OutboxEvent, Object> entities = load( session, events );
+		for ( OutboxEvent event : events ) {
+			addWork( sessionImplementor, workPlan, event, entities.get( event ) );
+		}
+		workPlan.execute().join();
+
+		session.doWork( connection -> table.delete( connection, events ) );
+	}
+
+	private <T> T inTransaction(String tenantId, Function<Session, T> action) {
+		try ( Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( CacheMode.IGNORE );
+			session.setDefaultReadOnly( true );
+
+			Transaction transaction = session.beginTransaction();
+			try {
+				T result = action.apply( session );
+				transaction.commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * @return A map associating each event to the entity it references,
+	 * or to {@code null} if the entity no longer exists.
+	 */
+	private Map<OutboxEvent, Object> load(Session session, List<OutboxEvent> events) {
+		Map<String, Map<String, List<OutboxEvent>>> eventsByEntityNameAndId = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			eventsByEntityNameAndId.computeIfAbsent( event.getEntityName(), ignored -> new LinkedHashMap<>() )
+					.computeIfAbsent( event.getEntityId(), ignored -> new ArrayList<>() )
+					.add( event );
+		}
+
+		Map<OutboxEvent, Object> result = new HashMap<>();
+		for ( Map.Entry<String, Map<String, List<OutboxEvent>>> entry : eventsByEntityNameAndId.entrySet() ) {
+			String entityName = entry.getKey();
+			EntityPersister persister = sessionFactory.getMetamodel().entityPersister( entityName );
+			List<List<OutboxEvent>> eventsById = new ArrayList<>( entry.getValue().values() );
+			List<Serializable> ids = new ArrayList<>( eventsById.size() );
+			for ( String entityId : entry.getValue().keySet() ) {
+				ids.add( OutboxIdentifierConverter.fromString( persister, entityId ) );
+			}
+			// Entities are returned in the same order as identifiers, with null for deleted entities
+			List<?> loaded = session.byMultipleIds( entityName )
+					.withBatchSize( ids.size() )
+					.multiLoad( ids );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				Object entity = loaded.get( i );
+				for ( OutboxEvent event : eventsById.get( i ) ) {
+					result.put( event, entity );
+				}
+			}
+		}
+		return result;
+	}
+
+	private void addWork(SessionImplementor sessionImplementor, PojoWorkPlan workPlan,
+			OutboxEvent event, Object entity) {
+		EntityPersister persister = sessionFactory.getMetamodel().entityPersister( event.getEntityName() );
+		Serializable id = OutboxIdentifierConverter.fromString( persister, event.getEntityId() );
+		if ( entity == null ) {
+			// The entity no longer exists: the only thing left to do is to remove it from the index
+			if ( OutboxEventType.DELETE.equals( event.getType() ) ) {
+				workPlan.delete( id, persister.instantiate( id, sessionImplementor ) );
+			}
+			return;
+		}
+
+		switch ( event.getType() ) {
+			case ADD:
+				workPlan.add( id, entity );
+				break;
+			case UPDATE:
+				if ( event.getDirtyPaths() == null ) {
+					workPlan.update( id, entity );
+				}
+				else {
+					workPlan.update( id, entity, event.getDirtyPaths() );
+				}
+				break;
+			case DELETE:
+				// The entity was deleted, then re-created with the same identifier
+				workPlan.delete( id, entity );
+				break;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Records entity changes in the outbox, and polls the outbox to index the changed entities.
+ * <p>
+ * Changes are recorded in the same transaction as the changes themselves,
+ * so that they are either both committed or both rolled back,
+ * and are indexed later by {@link OutboxPoller pollers}, one per partition assigned to this node.
+ */
+public final class OutboxPollingProcessor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final OutboxTable table;
+	private final int partitionCount;
+	private final List<Integer> partitionIds;
+	private final List<String> tenantIds;
+	private final boolean pollingEnabled;
+	private final int batchSize;
+	private final long pollingInterval;
+	private final int maxAttempts;
+
+	private final List<OutboxPoller> pollers = new ArrayList<>();
+	private ExecutorService executor;
+
+	/**
+	 * @param sessionFactory The session factory.
+	 * @param partitionCount The total number of partitions.
+	 * @param partitionIds The partitions to poll, or an empty list to poll all partitions.
+	 * @param tenantIds The tenants to poll, or an empty list if multi-tenancy is disabled.
+	 * @param pollingEnabled Whether this node should poll the outbox.
+	 * @param batchSize The maximum number of events to process in a single transaction.
+	 * @param pollingInterval The time to wait before polling again after the outbox was found empty, in milliseconds.
+	 * @param maxAttempts The number of times processing an event may fail before the event is abandoned.
+	 */
+	public OutboxPollingProcessor(SessionFactoryImplementor sessionFactory,
+			int partitionCount, List<Integer> partitionIds, List<String> tenantIds,
+			boolean pollingEnabled, int batchSize, long pollingInterval, int maxAttempts) {
+		this.sessionFactory = sessionFactory;
+		this.table = new OutboxTable( sessionFactory.getJdbcServices().getDialect() );
+		this.partitionCount = partitionCount;
+		if ( partitionIds.isEmpty() ) {
+			this.partitionIds = new ArrayList<>( partitionCount );
+			for ( int i = 0; i < partitionCount; i++ ) {
+				this.partitionIds.add( i );
+			}
+		}
+		else {
+			for ( Integer partitionId : partitionIds ) {
+				if ( partitionId < 0 || partitionId >= partitionCount ) {
+					throw log.outboxInvalidPartition( partitionId, partitionCount );
+				}
+			}
+			this.partitionIds = partitionIds;
+		}
+		if ( MultiTenancyStrategy.NONE.equals( sessionFactory.getSessionFactoryOptions().getMultiTenancyStrategy() ) ) {
+			this.tenantIds = Collections.singletonList( null );
+		}
+		else if ( tenantIds.isEmpty() ) {
+			throw log.outboxMissingTenantIds();
+		}
+		else {
+			this.tenantIds = tenantIds;
+		}
+		this.pollingEnabled = pollingEnabled;
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+		this.maxAttempts = maxAttempts;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "partitionCount=" ).append( partitionCount )
+				.append( ", partitionIds=" ).append( partitionIds )
+				.append( ", pollingEnabled=" ).append( pollingEnabled )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * Create the outbox table if necessary, then start polling the partitions assigned to this node.
+	 *
+	 * @param contextService The context service, used by pollers to index entities.
+	 */
+	public synchronized void start(HibernateSearchContextService contextService) {
+		for ( String tenantId : tenantIds ) {
+			createTableIfMissing( tenantId );
+		}
+
+		if ( !pollingEnabled ) {
+			return;
+		}
+		executor = Executors.newFixedThreadPool( partitionIds.size(), "Hibernate Search outbox polling" );
+		for ( Integer partitionId : partitionIds ) {
+			OutboxPoller poller = new OutboxPoller(
+					sessionFactory, contextService, table, partitionId, tenantIds,
+					batchSize, pollingInterval, maxAttempts
+			);
+			pollers.add( poller );
+			executor.submit( poller );
+		}
+	}
+
+	/**
+	 * Stop polling, waiting for the batches being processed to complete.
+	 * <p>
+	 * Must be called while the session factory is still open.
+	 */
+	public synchronized void stop() {
+		if ( executor == null ) {
+			return;
+		}
+		for ( OutboxPoller poller : pollers ) {
+			poller.stop();
+		}
+		executor.shutdown();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.asyncIndexingInterrupted( e );
+		}
+		finally {
+			pollers.clear();
+			executor = null;
+		}
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	/**
+	 * @param sessionImplementor A Hibernate session
+	 *
+	 * @return A work plan recording changes to entities in the outbox.
+	 * Must be executed within the transaction that caused the changes.
+	 */
+	public PojoWorkPlan createWorkPlan(SessionImplementor sessionImplementor) {
+		return new OutboxWorkPlan( sessionImplementor, table, partitionCount );
+	}
+
+	private void createTableIfMissing(String tenantId) {
+		try ( Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				session.doWork( table::createIfMissing );
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.IdentityColumnSupport;
+
+/**
+ * The outbox table, where entity changes are recorded within the transaction that caused them,
+ * until they are indexed by pollers.
+ * <p>
+ * The table is accessed through plain JDBC, so that it does not need to be part of the application's ORM mapping.
+ */
+final class OutboxTable {
+
+	static final String TABLE_NAME = "HSEARCH_OUTBOX_EVENT";
+
+	private static final String INDEX_NAME = "HSEARCH_OUTBOX_EVENT_PARTITION";
+
+	private static final String ID = "ID";
+	private static final String EVENT_TYPE = "EVENT_TYPE";
+	private static final String ENTITY_NAME = "ENTITY_NAME";
+	private static final String ENTITY_ID = "ENTITY_ID";
+	private static final String DIRTY_PATHS = "DIRTY_PATHS";
+	private static final String TENANT_ID = "TENANT_ID";
+	private static final String PARTITION_ID = "PARTITION_ID";
+	private static final String ATTEMPTS = "ATTEMPTS";
+
+	private static final int NAME_LENGTH = 255;
+	private static final int DIRTY_PATHS_LENGTH = 4000;
+
+	private static final String DIRTY_PATHS_SEPARATOR = ",";
+	private static final Pattern DIRTY_PATHS_SEPARATOR_PATTERN = Pattern.compile( DIRTY_PATHS_SEPARATOR );
+
+	private static final String INSERT_SQL = "insert into " + TABLE_NAME
+			+ " (" + EVENT_TYPE + ", " + ENTITY_NAME + ", " + ENTITY_ID + ", " + DIRTY_PATHS
+			+ ", " + TENANT_ID + ", " + PARTITION_ID + ", " + ATTEMPTS + ")"
+			+ " values (?, ?, ?, ?, ?, ?, 0)";
+
+	private static final String DELETE_SQL = "delete from " + TABLE_NAME + " where " + ID + " = ?";
+
+	private static final String INCREMENT_ATTEMPTS_SQL = "update " + TABLE_NAME
+			+ " set " + ATTEMPTS + " = " + ATTEMPTS + " + 1"
+			+ " where " + ID + " = ?";
+
+	private final Dialect dialect;
+	private final String selectWithTenantSql;
+	private final String selectWithoutTenantSql;
+
+	OutboxTable(Dialect dialect) {
+		this.dialect = dialect;
+		String selectPrefix = "select " + ID + ", " + EVENT_TYPE + ", " + ENTITY_NAME + ", " + ENTITY_ID
+				+ ", " + DIRTY_PATHS + ", " + ATTEMPTS
+				+ " from " + TABLE_NAME
+				+ " where " + PARTITION_ID + " = ?"
+				// Abandoned events are left in the table, but must not be processed anymore
+				+ " and " + ATTEMPTS + " < ?";
+		// Lock the events, so that two pollers mistakenly assigned the same partition will not process them twice
+		String selectSuffix = " order by " + ID + dialect.getForUpdateString();
+		this.selectWithTenantSql = selectPrefix + " and " + TENANT_ID + " = ?" + selectSuffix;
+		this.selectWithoutTenantSql = selectPrefix + " and " + TENANT_ID + " is null" + selectSuffix;
+	}
+
+	void createIfMissing(Connection connection) throws SQLException {
+		if ( exists( connection ) ) {
+			return;
+		}
+		try ( Statement statement = connection.createStatement() ) {
+			statement.executeUpdate( createTableSql() );
+			statement.executeUpdate( "create index " + INDEX_NAME + " on " + TABLE_NAME
+					+ " (" + PARTITION_ID + ", " + ID + ")" );
+		}
+	}
+
+	void insert(Connection connection, List<PendingOutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( INSERT_SQL ) ) {
+			for ( PendingOutboxEvent event : events ) {
+				statement.setInt( 1, event.getType().getCode() );
+				statement.setString( 2, event.getEntityName() );
+				statement.setString( 3, event.getEntityId() );
+				String dirtyPaths = toDirtyPathsColumnValue( event.getDirtyPaths() );
+				if ( dirtyPaths == null ) {
+					statement.setNull( 4, Types.VARCHAR );
+				}
+				else {
+					statement.setString( 4, dirtyPaths );
+				}
+				if ( event.getTenantId() == null ) {
+					statement.setNull( 5, Types.VARCHAR );
+				}
+				else {
+					statement.setString( 5, event.getTenantId() );
+				}
+				statement.setInt( 6, event.getPartitionId() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @return The oldest events of the given partition and tenant that were not abandoned,
+	 * i.e. that failed less than {@code maxAttempts} times, in the order they were recorded.
+	 */
+	List<OutboxEvent> select(Connection connection, int partitionId, String tenantId, int maxAttempts,
+			int maxResults)
+			throws SQLException {
+		String sql = tenantId == null ? selectWithoutTenantSql : selectWithTenantSql;
+		try ( PreparedStatement statement = connection.prepareStatement( sql ) ) {
+			statement.setMaxRows( maxResults );
+			statement.setInt( 1, partitionId );
+			statement.setInt( 2, maxAttempts );
+			if ( tenantId != null ) {
+				statement.setString( 3, tenantId );
+			}
+			List<OutboxEvent> events = new ArrayList<>();
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					events.add( new OutboxEvent(
+							resultSet.getLong( 1 ),
+							OutboxEventType.fromCode( resultSet.getInt( 2 ) ),
+							resultSet.getString( 3 ),
+							resultSet.getString( 4 ),
+							fromDirtyPathsColumnValue( resultSet.getString( 5 ) ),
+							resultSet.getInt( 6 )
+					) );
+				}
+			}
+			return events;
+		}
+	}
+
+	void delete(Connection connection, List<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( DELETE_SQL ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setLong( 1, event.getId() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	void incrementAttempts(Connection connection, OutboxEvent event) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( INCREMENT_ATTEMPTS_SQL ) ) {
+			statement.setLong( 1, event.getId() );
+			statement.executeUpdate();
+		}
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Databases differ in how they store unquoted identifiers
+		for ( String name : new String[] { TABLE_NAME, TABLE_NAME.toLowerCase( Locale.ROOT ) } ) {
+			try ( ResultSet resultSet = metaData.getTables( null, null, name, new String[] { "TABLE" } ) ) {
+				if ( resultSet.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private String createTableSql() {
+		IdentityColumnSupport identityColumnSupport = dialect.getIdentityColumnSupport();
+		String idColumnDefinition;
+		if ( identityColumnSupport.hasDataTypeInIdentityColumn() ) {
+			idColumnDefinition = dialect.getTypeName( Types.BIGINT ) + " "
+					+ identityColumnSupport.getIdentityColumnString( Types.BIGINT );
+		}
+		else {
+			idColumnDefinition = identityColumnSupport.getIdentityColumnString( Types.BIGINT );
+		}
+		String varcharType = dialect.getTypeName( Types.VARCHAR, NAME_LENGTH, 0, 0 );
+		String integerType = dialect.getTypeName( Types.INTEGER );
+		return dialect.getCreateTableString() + " " + TABLE_NAME + " ("
+				+ ID + " " + idColumnDefinition + ", "
+				+ EVENT_TYPE + " " + integerType + " not null, "
+				+ ENTITY_NAME + " " + varcharType + " not null, "
+				+ ENTITY_ID + " " + varcharType + " not null, "
+				+ DIRTY_PATHS + " " + dialect.getTypeName( Types.VARCHAR, DIRTY_PATHS_LENGTH, 0, 0 ) + ", "
+				+ TENANT_ID + " " + varcharType + ", "
+				+ PARTITION_ID + " " + integerType + " not null, "
+				+ ATTEMPTS + " " + integerType + " not null, "
+				+ "primary key (" + ID + ")"
+				+ ")";
+	}
+
+	private static String toDirtyPathsColumnValue(String[] dirtyPaths) {
+		if ( dirtyPaths == null ) {
+			return null;
+		}
+		String value = String.join( DIRTY_PATHS_SEPARATOR, dirtyPaths );
+		if ( value.length() > DIRTY_PATHS_LENGTH ) {
+			// Too many dirty paths to store: consider the whole entity dirty
+			return null;
+		}
+		return value;
+	}
+
+	private static String[] fromDirtyPathsColumnValue(String value) {
+		if ( value == null ) {
+			return null;
+		}
+		else if ( value.isEmpty() ) {
+			return new String[0];
+		}
+		else {
+			return DIRTY_PATHS_SEPARATOR_PATTERN.split( value );
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+/**
+ * A work plan that does not index anything,
+ * but records entity changes in the outbox so that they can be indexed later by an {@link OutboxPoller}.
+ * <p>
+ * Changes are written to the outbox when the plan is executed,
+ * which must happen within the transaction that caused the changes.
+ */
+final class OutboxWorkPlan implements PojoWorkPlan {
+
+	private final SessionImplementor sessionImplementor;
+	private final OutboxTable table;
+	private final int partitionCount;
+
+	private final List<PendingOutboxEvent> events = new ArrayList<>();
+
+	OutboxWorkPlan(SessionImplementor sessionImplementor, OutboxTable table, int partitionCount) {
+		this.sessionImplementor = sessionImplementor;
+		this.table = table;
+		this.partitionCount = partitionCount;
+	}
+
+	@Override
+	public void add(Object entity) {
+		add( null, entity );
+	}
+
+	@Override
+	public void add(Object id, Object entity) {
+		addEvent( OutboxEventType.ADD, id, entity, null );
+	}
+
+	@Override
+	public void update(Object entity) {
+		update( null, entity );
+	}
+
+	@Override
+	public void update(Object id, Object entity) {
+		addEvent( OutboxEventType.UPDATE, id, entity, null );
+	}
+
+	@Override
+	public void update(Object entity, String... dirtyPaths) {
+		update( null, entity, dirtyPaths );
+	}
+
+	@Override
+	public void update(Object id, Object entity, String... dirtyPaths) {
+		addEvent( OutboxEventType.UPDATE, id, entity, dirtyPaths );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		delete( null, entity );
+	}
+
+	@Override
+	public void delete(Object id, Object entity) {
+		addEvent( OutboxEventType.DELETE, id, entity, null );
+	}
+
+	@Override
+	public void prepare() {
+		// Nothing to prepare: entity state will be read when the events are processed
+	}
+
+	@Override
+	public CompletableFuture<?> execute() {
+		try {
+			if ( !events.isEmpty() ) {
+				sessionImplementor.doWork( connection -> table.insert( connection, events ) );
+			}
+			return CompletableFuture.completedFuture( null );
+		}
+		finally {
+			events.clear();
+		}
+	}
+
+	private void addEvent(OutboxEventType type, Object providedId, Object entity, String[] dirtyPaths) {
+		EntityPersister persister = sessionImplementor.getEntityPersister( null, entity );
+		Object id = providedId != null ? providedId : persister.getIdentifier( entity, sessionImplementor );
+		String entityId = OutboxIdentifierConverter.toString( persister, id );
+		events.add( new PendingOutboxEvent(
+				type, persister.getEntityName(), entityId, dirtyPaths,
+				sessionImplementor.getTenantIdentifier(),
+				OutboxIdentifierConverter.toPartition( entityId, partitionCount )
+		) );
+	}
+}
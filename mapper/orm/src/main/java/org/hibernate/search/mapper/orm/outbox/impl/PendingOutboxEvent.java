@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.outbox.impl;
+
+/**
+ * An entity change to be written to the outbox.
+ */
+final class PendingOutboxEvent {
+
+	private final OutboxEventType type;
+	private final String entityName;
+	private final String entityId;
+	private final String[] dirtyPaths;
+	private final String tenantId;
+	private final int partitionId;
+
+	PendingOutboxEvent(OutboxEventType type, String entityName, String entityId, String[] dirtyPaths,
+			String tenantId, int partitionId) {
+		this.type = type;
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.dirtyPaths = dirtyPaths;
+		this.tenantId = tenantId;
+		this.partitionId = partitionId;
+	}
+
+	OutboxEventType getType() {
+		return type;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	String getEntityId() {
+		return entityId;
+	}
+
+	String[] getDirtyPaths() {
+		return dirtyPaths;
+	}
+
+	String getTenantId() {
+		return tenantId;
+	}
+
+	int getPartitionId() {
+		return partitionId;
+	}
+}
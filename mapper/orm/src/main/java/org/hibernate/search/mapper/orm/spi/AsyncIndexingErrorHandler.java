@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.spi;
+
+/**
+ * A handler for failures of indexing works executed in the background,
+ * when indexing is asynchronous.
+ * <p>
+ * Since nobody waits for the works to complete in that case,
+ * this handler is the only place where such failures are reported.
+ *
+ * @see org.hibernate.search.mapper.orm.cfg.SearchOrmSettings#INDEXING_ASYNC_ERROR_HANDLER
+ */
+public interface AsyncIndexingErrorHandler {
+
+	/**
+	 * Handle the failure of the indexing works triggered by one transaction.
+	 * <p>
+	 * This method may be called from any thread, possibly concurrently, and must not block.
+	 *
+	 * @param throwable The failure.
+	 */
+	void handle(Throwable throwable);
+
+}
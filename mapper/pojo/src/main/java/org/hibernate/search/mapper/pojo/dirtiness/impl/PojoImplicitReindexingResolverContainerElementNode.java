@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.pojo.dirtiness.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -52,11 +51,13 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, C dirty, S dirtinessState) {
-		try ( Stream<V> stream = extractor.extract( dirty ) ) {
-			stream.forEach( containerElement -> resolveEntitiesToReindexForContainerElement(
-					collector, runtimeIntrospector, containerElement, dirtinessState
-			) );
-		}
+		extractor.extract(
+				dirty,
+				( theCollector, containerElement, theDirtinessState ) -> resolveEntitiesToReindexForContainerElement(
+						theCollector, runtimeIntrospector, containerElement, theDirtinessState
+				),
+				collector, dirtinessState
+		);
 	}
 
 	private void resolveEntitiesToReindexForContainerElement(PojoReindexingCollector collector,
@@ -12,4 +12,26 @@
 
 	Stream<V> extract(C container);
 
+	/**
+	 * Pass each value of the given container to the given processor.
+	 * <p>
+	 * This is the method used when indexing, and it is called for every container of every indexed entity.
+	 * The default implementation relies on {@link #extract(Object)},
+	 * but implementations should override it to iterate on the container directly,
+	 * without allocating a stream.
+	 *
+	 * @param container A container, possibly {@code null}.
+	 * @param processor The processor to pass each value to.
+	 * @param target The target to pass to the processor.
+	 * @param context The context to pass to the processor.
+	 * @param <T> The type of the target.
+	 * @param <C2> The type of the context.
+	 */
+	default <T, C2> void extract(C container, ContainerValueProcessor<T, ? super V, C2> processor,
+			T target, C2 context) {
+		try ( Stream<V> stream = extract( container ) ) {
+			stream.forEach( value -> processor.process( target, value, context ) );
+		}
+	}
+
 }
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor;
+
+/**
+ * A processor for values extracted from a container by a {@link ContainerValueExtractor}.
+ * <p>
+ * The target and context are passed explicitly to each call,
+ * so that callers may use a single, non-capturing processor instance for every container.
+ *
+ * @param <T> The type of the target of the processing, for instance a document.
+ * @param <V> The type of extracted values.
+ * @param <C> The type of the context of the processing.
+ */
+@FunctionalInterface
+public interface ContainerValueProcessor<T, V, C> {
+
+	/**
+	 * @param target The target passed to {@link ContainerValueExtractor#extract(Object, ContainerValueProcessor, Object, Object)}.
+	 * @param value A value extracted from the container.
+	 * @param context The context passed to {@link ContainerValueExtractor#extract(Object, ContainerValueProcessor, Object, Object)}.
+	 */
+	void process(T target, V value, C context);
+
+}
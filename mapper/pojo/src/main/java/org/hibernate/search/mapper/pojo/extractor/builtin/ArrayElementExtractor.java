@@ -10,10 +10,22 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class ArrayElementExtractor<T> implements ContainerValueExtractor<T[], T> {
 	@Override
 	public Stream<T> extract(T[] container) {
 		return container == null ? Stream.empty() : Arrays.stream( container );
 	}
+
+	@Override
+	public <T2, C> void extract(T[] container, ContainerValueProcessor<T2, ? super T, C> processor,
+			T2 target, C context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			processor.process( target, element, context );
+		}
+	}
 }
@@ -7,13 +7,36 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class CollectionElementExtractor<T> implements ContainerValueExtractor<Collection<T>, T> {
 	@Override
 	public Stream<T> extract(Collection<T> container) {
 		return container == null ? Stream.empty() : container.stream();
 	}
+
+	@Override
+	public <T2, C> void extract(Collection<T> container, ContainerValueProcessor<T2, ? super T, C> processor,
+			T2 target, C context) {
+		if ( container == null ) {
+			return;
+		}
+		if ( container instanceof List && container instanceof RandomAccess ) {
+			// Avoid allocating an iterator
+			List<T> list = (List<T>) container;
+			for ( int i = 0; i < list.size(); i++ ) {
+				processor.process( target, list.get( i ), context );
+			}
+		}
+		else {
+			for ( T element : container ) {
+				processor.process( target, element, context );
+			}
+		}
+	}
 }
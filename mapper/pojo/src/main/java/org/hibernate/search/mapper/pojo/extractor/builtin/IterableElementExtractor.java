@@ -10,10 +10,22 @@
 import java.util.stream.StreamSupport;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class IterableElementExtractor<T> implements ContainerValueExtractor<Iterable<T>, T> {
 	@Override
 	public Stream<T> extract(Iterable<T> container) {
 		return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
 	}
+
+	@Override
+	public <T2, C> void extract(Iterable<T> container, ContainerValueProcessor<T2, ? super T, C> processor,
+			T2 target, C context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			processor.process( target, element, context );
+		}
+	}
 }
@@ -10,10 +10,22 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class MapKeyExtractor<T> implements ContainerValueExtractor<Map<T, ?>, T> {
 	@Override
 	public Stream<T> extract(Map<T, ?> container) {
 		return container == null ? Stream.empty() : container.keySet().stream();
 	}
+
+	@Override
+	public <T2, C> void extract(Map<T, ?> container, ContainerValueProcessor<T2, ? super T, C> processor,
+			T2 target, C context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T key : container.keySet() ) {
+			processor.process( target, key, context );
+		}
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class OptionalDoubleValueExtractor implements ContainerValueExtractor<OptionalDouble, Double> {
 	@Override
@@ -21,4 +22,12 @@ public Stream<Double> extract(OptionalDouble container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, C> void extract(OptionalDouble container, ContainerValueProcessor<T, ? super Double, C> processor,
+			T target, C context) {
+		if ( container != null && container.isPresent() ) {
+			processor.process( target, container.getAsDouble(), context );
+		}
+	}
 }
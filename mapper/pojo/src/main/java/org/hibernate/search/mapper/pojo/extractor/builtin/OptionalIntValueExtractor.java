@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class OptionalIntValueExtractor implements ContainerValueExtractor<OptionalInt, Integer> {
 	@Override
@@ -21,4 +22,12 @@ public Stream<Integer> extract(OptionalInt container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, C> void extract(OptionalInt container, ContainerValueProcessor<T, ? super Integer, C> processor,
+			T target, C context) {
+		if ( container != null && container.isPresent() ) {
+			processor.process( target, container.getAsInt(), context );
+		}
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class OptionalLongValueExtractor implements ContainerValueExtractor<OptionalLong, Long> {
 	@Override
@@ -21,4 +22,12 @@ public Stream<Long> extract(OptionalLong container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <T, C> void extract(OptionalLong container, ContainerValueProcessor<T, ? super Long, C> processor,
+			T target, C context) {
+		if ( container != null && container.isPresent() ) {
+			processor.process( target, container.getAsLong(), context );
+		}
+	}
 }
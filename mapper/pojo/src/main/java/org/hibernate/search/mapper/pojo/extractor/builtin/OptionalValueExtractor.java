@@ -10,10 +10,19 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 public class OptionalValueExtractor<T> implements ContainerValueExtractor<Optional<T>, T> {
 	@Override
 	public Stream<T> extract(Optional<T> container) {
 		return container == null ? Stream.empty() : container.map( Stream::of ).orElseGet( Stream::empty );
 	}
+
+	@Override
+	public <T2, C> void extract(Optional<T> container, ContainerValueProcessor<T2, ? super T, C> processor,
+			T2 target, C context) {
+		if ( container != null && container.isPresent() ) {
+			processor.process( target, container.get(), context );
+		}
+	}
 }
@@ -9,6 +9,7 @@
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueProcessor;
 
 class ChainingContainerValueExtractor<C, U, V> implements ContainerValueExtractor<C, V> {
 
@@ -26,6 +27,17 @@ public Stream<V> extract(C container) {
 		return parent.extract( container ).flatMap( chained::extract );
 	}
 
+	@Override
+	public <T, C2> void extract(C container, ContainerValueProcessor<T, ? super V, C2> processor,
+			T target, C2 context) {
+		parent.extract(
+				container,
+				( parentTarget, parentValue, parentContext ) ->
+						chained.extract( parentValue, processor, parentTarget, parentContext ),
+				target, context
+		);
+	}
+
 	public ContainerValueExtractor<C, U> getParent() {
 		return parent;
 	}
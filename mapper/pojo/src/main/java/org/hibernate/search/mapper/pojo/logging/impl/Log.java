@@ -8,6 +8,7 @@
 package org.hibernate.search.mapper.pojo.logging.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.util.Set;
 
@@ -280,4 +281,17 @@ SearchException invalidFieldEncodingForFullTextFieldMapping(IndexSchemaFieldType
 	)
 	SearchException invalidFieldEncodingForKeywordFieldMapping(IndexSchemaFieldTypedContext<?, ?> context,
 			@FormatWith(ClassFormatter.class) Class<?> expectedContextType);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 33,
+			value = "Cannot generate an accessor for '%1$s', falling back to a method handle. Cause: %2$s")
+	void cannotGenerateAccessor(Member member, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 34,
+			value = "Cannot index entities of type '%1$s', because this type is not indexed directly.")
+	SearchException cannotIndexNonIndexedType(Class<?> type);
+
+	@Message(id = ID_OFFSET_2 + 35,
+			value = "Interrupted while flushing the remaining works on shutdown: these works were not executed.")
+	SearchException interruptedWhileFlushingCoalescedWorks();
 }
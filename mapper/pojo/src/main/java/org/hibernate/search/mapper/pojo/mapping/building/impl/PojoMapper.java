@@ -37,6 +37,7 @@
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoContainedTypeManagerContainer;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoIndexedTypeManagerContainer;
 import org.hibernate.search.mapper.pojo.mapping.impl.PojoMappingDelegateImpl;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoWorkCoalescer;
 import org.hibernate.search.mapper.pojo.mapping.impl.ProvidedStringIdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.impl.PojoTypeAdditionalMetadataProvider;
@@ -58,6 +59,7 @@
 	private final ConfigurationPropertySource propertySource;
 	private final TypeMetadataContributorProvider<PojoTypeMetadataContributor> contributorProvider;
 	private final boolean implicitProvidedId;
+	private final long workCoalescingWindowMs;
 	private final BiFunction<ConfigurationPropertySource, PojoMappingDelegate, MappingImplementor<M>> wrapperFactory;
 	private final PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProvider;
 	private final ContainerValueExtractorBinder extractorBinder;
@@ -73,11 +75,13 @@ public PojoMapper(MappingBuildContext buildContext, ConfigurationPropertySource
 			TypeMetadataContributorProvider<PojoTypeMetadataContributor> contributorProvider,
 			PojoBootstrapIntrospector introspector,
 			boolean implicitProvidedId,
+			long workCoalescingWindowMs,
 			BiFunction<ConfigurationPropertySource, PojoMappingDelegate, MappingImplementor<M>> wrapperFactory) {
 		this.failureCollector = buildContext.getFailureCollector();
 		this.propertySource = propertySource;
 		this.contributorProvider = contributorProvider;
 		this.implicitProvidedId = implicitProvidedId;
+		this.workCoalescingWindowMs = workCoalescingWindowMs;
 		this.wrapperFactory = wrapperFactory;
 
 		typeAdditionalMetadataProvider = new PojoTypeAdditionalMetadataProvider(
@@ -198,7 +202,8 @@ public MappingImplementor<M> build() throws MappingAbortedException {
 
 			mappingImplementor = new PojoMappingDelegateImpl(
 					indexedTypeManagerContainerBuilder.build(),
-					containedTypeManagerContainerBuilder.build()
+					containedTypeManagerContainerBuilder.build(),
+					workCoalescingWindowMs > 0L ? new PojoWorkCoalescer( workCoalescingWindowMs ) : null
 			);
 		}
 		catch (MappingAbortedException | RuntimeException e) {
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+
+/**
+ * @param <I> The identifier type for the mapped entity type.
+ * @param <E> The entity type mapped to the index.
+ * @param <D> The document type for the index.
+ */
+class PojoDocumentWorkExecutorImpl<I, E, D extends DocumentElement> implements PojoDocumentWorkExecutor {
+
+	private final PojoIndexedTypeManager<I, E, D> typeManager;
+	private final PojoSessionContext sessionContext;
+	private final IndexDocumentWorkExecutor<D> delegate;
+
+	PojoDocumentWorkExecutorImpl(PojoIndexedTypeManager<I, E, D> typeManager, PojoSessionContext sessionContext,
+			IndexDocumentWorkExecutor<D> delegate) {
+		this.typeManager = typeManager;
+		this.sessionContext = sessionContext;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public CompletableFuture<?> update(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		DocumentReferenceProvider referenceProvider =
+				typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
+		return delegate.update( referenceProvider, typeManager.toDocumentContributor( entitySupplier ) );
+	}
+}
@@ -7,14 +7,18 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -112,12 +116,41 @@ void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntr
 		);
 	}
 
-	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(PojoSessionContext sessionContext) {
+	PojoIndexedTypeWorkPlan<I, E, D> createWorkPlan(PojoSessionContext sessionContext, PojoWorkCoalescer coalescer) {
 		return new PojoIndexedTypeWorkPlan<>(
-				this, sessionContext, indexManager.createWorkPlan( sessionContext )
+				this, sessionContext, createIndexWorkPlan( sessionContext ), coalescer
 		);
 	}
 
+	IndexWorkPlan<D> createIndexWorkPlan(PojoSessionContext sessionContext) {
+		return indexManager.createWorkPlan( sessionContext );
+	}
+
+	PojoDocumentWorkExecutor createDocumentWorkExecutor(PojoSessionContext sessionContext) {
+		return new PojoDocumentWorkExecutorImpl<>(
+				this, sessionContext, indexManager.createDocumentWorkExecutor( sessionContext )
+		);
+	}
+
+	CompletableFuture<?> startBulkIndexing() {
+		return indexManager.startBulkIndexing();
+	}
+
+	CompletableFuture<?> finishBulkIndexing() {
+		return indexManager.finishBulkIndexing();
+	}
+
+	CompletableFuture<?> purge(PojoSessionContext sessionContext) {
+		return indexManager.purge( sessionContext );
+	}
+
+	/**
+	 * @return The index manager, as exposed to users: the same instance for all types sharing the same index.
+	 */
+	IndexManager getIndexManager() {
+		return indexManager.toAPI();
+	}
+
 	IndexSearchTargetBuilder createSearchTarget() {
 		return indexManager.createSearchTarget();
 	}
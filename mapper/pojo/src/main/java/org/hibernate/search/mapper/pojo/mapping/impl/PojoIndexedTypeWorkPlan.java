@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -17,6 +19,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoWorkCoalescer.DocumentWorkType;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
 
 /**
@@ -28,15 +31,28 @@
 
 	private final PojoIndexedTypeManager<I, E, D> typeManager;
 	private final IndexWorkPlan<D> delegate;
+	private final PojoWorkCoalescer coalescer;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<I, IndexedEntityWorkPlan> workPlansPerId = new LinkedHashMap<>();
+	/*
+	 * Only used with a coalescer: one delegate per document, so that works can be merged per document.
+	 * The coalescer gathers these delegates into a single work plan per index when it flushes.
+	 */
+	private final List<CoalescedDocumentWork> coalescedWorks = new ArrayList<>();
 
+	/**
+	 * @param typeManager The type manager.
+	 * @param sessionContext The session context.
+	 * @param delegate The delegate to send works to, if there is no coalescer.
+	 * @param coalescer The coalescer to send works to, or {@code null} to send works directly to the delegate.
+	 */
 	PojoIndexedTypeWorkPlan(PojoIndexedTypeManager<I, E, D> typeManager, PojoSessionContext sessionContext,
-			IndexWorkPlan<D> delegate) {
+			IndexWorkPlan<D> delegate, PojoWorkCoalescer coalescer) {
 		super( sessionContext );
 		this.typeManager = typeManager;
 		this.delegate = delegate;
+		this.coalescer = coalescer;
 	}
 
 	@Override
@@ -84,7 +100,14 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 
 	void prepare() {
 		sendWorksToDelegate();
-		getDelegate().prepare();
+		if ( coalescer == null ) {
+			getDelegate().prepare();
+		}
+		else {
+			for ( CoalescedDocumentWork work : coalescedWorks ) {
+				work.delegate.prepare();
+			}
+		}
 	}
 
 	CompletableFuture<?> execute() {
@@ -93,7 +116,23 @@ CompletableFuture<?> execute() {
 		 * No need to call prepare() here:
 		 * delegates are supposed to handle execute() even without a prior call to prepare().
 		 */
-		return delegate.execute();
+		if ( coalescer == null ) {
+			return delegate.execute();
+		}
+		try {
+			List<CompletableFuture<?>> futures = new ArrayList<>( coalescedWorks.size() );
+			for ( CoalescedDocumentWork work : coalescedWorks ) {
+				// Several types may share the same index: works must be merged and batched per index, not per type
+				futures.add( coalescer.submit(
+						typeManager.getIndexManager(), sessionContext.getTenantIdentifier(), work.documentId,
+						work.type, work.delegate
+				) );
+			}
+			return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) );
+		}
+		finally {
+			coalescedWorks.clear();
+		}
 	}
 
 	private IndexedEntityWorkPlan getWork(I identifier) {
@@ -111,7 +150,24 @@ private IndexWorkPlan<D> getDelegate() {
 
 	private void sendWorksToDelegate() {
 		try {
-			workPlansPerId.values().forEach( IndexedEntityWorkPlan::sendWorkToDelegate );
+			for ( IndexedEntityWorkPlan workPerDocument : workPlansPerId.values() ) {
+				DocumentWorkType type = workPerDocument.getWorkType();
+				if ( type == null ) {
+					continue;
+				}
+				DocumentReferenceProvider referenceProvider = workPerDocument.toDocumentReferenceProvider();
+				if ( coalescer == null ) {
+					workPerDocument.sendWorkTo( delegate, type, referenceProvider );
+				}
+				else {
+					// Build the document now, while we can still access the entity
+					IndexWorkPlan<D> documentDelegate = typeManager.createIndexWorkPlan( sessionContext );
+					workPerDocument.sendWorkTo( documentDelegate, type, referenceProvider );
+					coalescedWorks.add( new CoalescedDocumentWork(
+							referenceProvider.getIdentifier(), type, documentDelegate
+					) );
+				}
+			}
 		}
 		finally {
 			workPlansPerId.clear();
@@ -194,21 +250,46 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 			}
 		}
 
-		void sendWorkToDelegate() {
-			DocumentReferenceProvider referenceProvider =
-					typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
+		/**
+		 * @return The type of work to send to the delegate, or {@code null} if there is nothing to do.
+		 */
+		DocumentWorkType getWorkType() {
 			if ( add ) {
 				if ( delete ) {
 					if ( considerAllDirty || typeManager.requiresSelfReindexing( dirtyPaths ) ) {
-						delegate.update( referenceProvider, typeManager.toDocumentContributor( entitySupplier ) );
+						return DocumentWorkType.UPDATE;
+					}
+					else {
+						return null;
 					}
 				}
 				else {
-					delegate.add( referenceProvider, typeManager.toDocumentContributor( entitySupplier ) );
+					return DocumentWorkType.ADD;
 				}
 			}
 			else if ( delete ) {
-				delegate.delete( referenceProvider );
+				return DocumentWorkType.DELETE;
+			}
+			else {
+				return null;
+			}
+		}
+
+		DocumentReferenceProvider toDocumentReferenceProvider() {
+			return typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
+		}
+
+		void sendWorkTo(IndexWorkPlan<D> target, DocumentWorkType type, DocumentReferenceProvider referenceProvider) {
+			switch ( type ) {
+				case ADD:
+					target.add( referenceProvider, typeManager.toDocumentContributor( entitySupplier ) );
+					break;
+				case UPDATE:
+					target.update( referenceProvider, typeManager.toDocumentContributor( entitySupplier ) );
+					break;
+				case DELETE:
+					target.delete( referenceProvider );
+					break;
 			}
 		}
 
@@ -232,4 +313,16 @@ private void addDirtyPath(String dirtyPath) {
 		}
 	}
 
+	private class CoalescedDocumentWork {
+		private final String documentId;
+		private final DocumentWorkType type;
+		private final IndexWorkPlan<D> delegate;
+
+		private CoalescedDocumentWork(String documentId, DocumentWorkType type, IndexWorkPlan<D> delegate) {
+			this.documentId = documentId;
+			this.type = type;
+			this.delegate = delegate;
+		}
+	}
+
 }
@@ -8,12 +8,18 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoDocumentWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
@@ -31,16 +37,26 @@ public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
+	private final PojoWorkCoalescer coalescer;
 
+	/**
+	 * @param indexedTypeManagers The indexed type managers.
+	 * @param containedTypeManagers The contained type managers.
+	 * @param coalescer The coalescer to send works to, or {@code null} to send works directly to the backend.
+	 */
 	public PojoMappingDelegateImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
-			PojoContainedTypeManagerContainer containedTypeManagers) {
+			PojoContainedTypeManagerContainer containedTypeManagers,
+			PojoWorkCoalescer coalescer) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
+		this.coalescer = coalescer;
 	}
 
 	@Override
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Flush the works held by the coalescer before anything else
+			closer.push( PojoWorkCoalescer::close, coalescer );
 			closer.pushAll( PojoIndexedTypeManager::close, indexedTypeManagers.getAll() );
 			closer.pushAll( PojoContainedTypeManager::close, containedTypeManagers.getAll() );
 		}
@@ -48,7 +64,63 @@ public void close() {
 
 	@Override
 	public PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext) {
-		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
+		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext, coalescer );
+	}
+
+	@Override
+	public PojoDocumentWorkExecutor createDocumentWorkExecutor(PojoSessionContext sessionContext,
+			Class<?> indexedType) {
+		return indexedTypeManagers.getByExactClass( indexedType )
+				.orElseThrow( () -> log.cannotIndexNonIndexedType( indexedType ) )
+				.createDocumentWorkExecutor( sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing(Class<?> indexedType) {
+		return indexedTypeManagers.getByExactClass( indexedType )
+				.orElseThrow( () -> log.cannotIndexNonIndexedType( indexedType ) )
+				.startBulkIndexing();
+	}
+
+	@Override
+	public CompletableFuture<?> finishBulkIndexing(Class<?> indexedType) {
+		return indexedTypeManagers.getByExactClass( indexedType )
+				.orElseThrow( () -> log.cannotIndexNonIndexedType( indexedType ) )
+				.finishBulkIndexing();
+	}
+
+	@Override
+	public CompletableFuture<?> purge(PojoSessionContext sessionContext, Collection<? extends Class<?>> indexedTypes) {
+		// Types may share the same index: purge each index only once
+		Map<IndexManager, PojoIndexedTypeManager<?, ?, ?>> typeManagersByIndexManager = new LinkedHashMap<>();
+		for ( Class<?> indexedType : indexedTypes ) {
+			PojoIndexedTypeManager<?, ?, ?> typeManager = indexedTypeManagers.getByExactClass( indexedType )
+					.orElseThrow( () -> log.cannotIndexNonIndexedType( indexedType ) );
+			typeManagersByIndexManager.putIfAbsent( typeManager.getIndexManager(), typeManager );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[typeManagersByIndexManager.size()];
+		int i = 0;
+		for ( PojoIndexedTypeManager<?, ?, ?> typeManager : typeManagersByIndexManager.values() ) {
+			futures[i++] = typeManager.purge( sessionContext );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	@Override
+	public Set<Class<?>> getIndexedTypesSharingIndexWith(Collection<? extends Class<?>> indexedTypes) {
+		Set<IndexManager> indexManagers = new HashSet<>();
+		for ( Class<?> indexedType : indexedTypes ) {
+			PojoIndexedTypeManager<?, ?, ?> typeManager = indexedTypeManagers.getByExactClass( indexedType )
+					.orElseThrow( () -> log.cannotIndexNonIndexedType( indexedType ) );
+			indexManagers.add( typeManager.getIndexManager() );
+		}
+		Set<Class<?>> result = new LinkedHashSet<>( indexedTypes );
+		for ( PojoIndexedTypeManager<?, ?, ?> typeManager : indexedTypeManagers.getAll() ) {
+			if ( indexManagers.contains( typeManager.getIndexManager() ) ) {
+				result.add( typeManager.getIndexedJavaClass() );
+			}
+		}
+		return result;
 	}
 
 	@Override
@@ -0,0 +1,309 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A buffer shared by all work plans of a mapping,
+ * merging works targeting the same document before they are sent to the backend.
+ * <p>
+ * Works are held for at most one coalescing window:
+ * if another work targeting the same document is submitted in the meantime,
+ * possibly from another transaction, only the latest state of the document is indexed.
+ * <p>
+ * Works targeting a given document are always executed in the order they were submitted:
+ * works are not sent to the backend while a previous work targeting the same document is still executing;
+ * instead, they stay in the buffer, where they can be merged with later works.
+ * <p>
+ * On each flush, the works targeting the same index and tenant are sent to the backend as a single work plan,
+ * so that the backend can execute them together, e.g. in a single bulk request or a single commit.
+ * As a consequence, a failure of that work plan is reported to the submitters of all the works it contained.
+ */
+public final class PojoWorkCoalescer implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	enum DocumentWorkType {
+		ADD,
+		UPDATE,
+		DELETE
+	}
+
+	private final long windowMs;
+	private final ScheduledExecutorService flushScheduler;
+
+	private final Object lock = new Object();
+	// Guarded by lock. Use a LinkedHashMap so that works are flushed in the order they were first submitted.
+	private final Map<DocumentKey, PendingDocumentWorks> pending = new LinkedHashMap<>();
+	// Guarded by lock
+	private final Map<DocumentKey, PendingDocumentWorks> executing = new HashMap<>();
+	// Guarded by lock
+	private boolean closed = false;
+
+	public PojoWorkCoalescer(long windowMs) {
+		this.windowMs = windowMs;
+		this.flushScheduler = Executors.newScheduledThreadPool( "Hibernate Search work coalescing" );
+		flushScheduler.scheduleWithFixedDelay( this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[windowMs=" + windowMs + "]";
+	}
+
+	/**
+	 * Flush the remaining works and wait for them to complete.
+	 */
+	@Override
+	public void close() {
+		synchronized ( lock ) {
+			closed = true;
+		}
+		try {
+			flushScheduler.shutdown();
+			flushScheduler.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+			// Works blocked by an executing work on the same document need more than one flush
+			while ( true ) {
+				List<CompletableFuture<?>> executingFutures = new ArrayList<>();
+				synchronized ( lock ) {
+					if ( pending.isEmpty() && executing.isEmpty() ) {
+						return;
+					}
+					for ( PendingDocumentWorks works : executing.values() ) {
+						executingFutures.add( works.future );
+					}
+				}
+				CompletableFuture.allOf( executingFutures.toArray( new CompletableFuture<?>[0] ) )
+						// Failures are reported to the submitters, we just need to wait
+						.handle( (result, throwable) -> null )
+						.get();
+				flush();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			throw new AssertionFailure( "Unexpected failure while waiting for executing works", e );
+		}
+		finally {
+			// Only happens if we were interrupted: make sure nobody waits forever for these works
+			failRemainingWorks();
+		}
+	}
+
+	/**
+	 * @param index An object identifying the index targeted by the work.
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param documentId The identifier of the document targeted by the work.
+	 * @param type The type of work.
+	 * @param documentWorkPlan A work plan containing the work, and only this work, ready to be executed.
+	 * @return A future that will be completed when the work, or a later work it was merged with, is complete.
+	 */
+	CompletableFuture<?> submit(Object index, String tenantId, String documentId,
+			DocumentWorkType type, IndexWorkPlan<?> documentWorkPlan) {
+		DocumentKey key = new DocumentKey( new TargetKey( index, tenantId ), documentId );
+		synchronized ( lock ) {
+			if ( !closed ) {
+				PendingDocumentWorks works = pending.get( key );
+				if ( works == null ) {
+					works = new PendingDocumentWorks( key );
+					pending.put( key, works );
+				}
+				works.merge( type, documentWorkPlan );
+				return works.future;
+			}
+		}
+		// The mapping is being closed: don't hold the work anymore
+		return documentWorkPlan.execute();
+	}
+
+	private void flush() {
+		// Use a LinkedHashMap so that batches are executed in the order their first work was submitted
+		Map<TargetKey, List<PendingDocumentWorks>> batches = new LinkedHashMap<>();
+		synchronized ( lock ) {
+			Iterator<PendingDocumentWorks> iterator = pending.values().iterator();
+			while ( iterator.hasNext() ) {
+				PendingDocumentWorks works = iterator.next();
+				if ( !executing.containsKey( works.key ) ) {
+					iterator.remove();
+					executing.put( works.key, works );
+					batches.computeIfAbsent( works.key.target, ignored -> new ArrayList<>() ).add( works );
+				}
+				// else: keep the works in the buffer until the previous works on the same document are complete
+			}
+		}
+		for ( List<PendingDocumentWorks> batch : batches.values() ) {
+			try {
+				execute( batch );
+			}
+			catch (RuntimeException e) {
+				/*
+				 * Don't let the exception escape: the scheduler would silently cancel all subsequent flushes,
+				 * and the works of this batch would be marked as executing forever.
+				 */
+				complete( batch, e );
+			}
+		}
+	}
+
+	private void execute(List<PendingDocumentWorks> batch) {
+		Futures.create( () -> createBatchWorkPlan( batch ).execute() )
+				.whenComplete( (result, throwable) -> complete( batch, throwable ) );
+	}
+
+	private static IndexWorkPlan<?> createBatchWorkPlan(List<PendingDocumentWorks> batch) {
+		// All work plans of the batch target the same index and tenant: gather their works into the first one
+		IndexWorkPlan<?> batchWorkPlan = batch.get( 0 ).workPlans.get( 0 );
+		for ( PendingDocumentWorks works : batch ) {
+			for ( IndexWorkPlan<?> workPlan : works.workPlans ) {
+				if ( workPlan != batchWorkPlan ) {
+					drain( workPlan, batchWorkPlan );
+				}
+			}
+		}
+		return batchWorkPlan;
+	}
+
+	private void complete(List<PendingDocumentWorks> batch, Throwable throwable) {
+		synchronized ( lock ) {
+			for ( PendingDocumentWorks works : batch ) {
+				executing.remove( works.key );
+			}
+		}
+		for ( PendingDocumentWorks works : batch ) {
+			if ( throwable != null ) {
+				works.future.completeExceptionally( throwable );
+			}
+			else {
+				works.future.complete( null );
+			}
+		}
+	}
+
+	private void failRemainingWorks() {
+		List<PendingDocumentWorks> remaining = new ArrayList<>();
+		synchronized ( lock ) {
+			remaining.addAll( pending.values() );
+			remaining.addAll( executing.values() );
+			pending.clear();
+			executing.clear();
+		}
+		for ( PendingDocumentWorks works : remaining ) {
+			works.future.completeExceptionally( log.interruptedWhileFlushingCoalescedWorks() );
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Work plans targeting the same index were created by the same index manager
+	private static <D> void drain(IndexWorkPlan<D> source, IndexWorkPlan<?> target) {
+		source.drainTo( (IndexWorkPlan<D>) target );
+	}
+
+	private static final class TargetKey {
+		private final Object index;
+		private final String tenantId;
+
+		private TargetKey(Object index, String tenantId) {
+			this.index = index;
+			this.tenantId = tenantId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			TargetKey other = (TargetKey) obj;
+			return index.equals( other.index )
+					&& Objects.equals( tenantId, other.tenantId );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( index, tenantId );
+		}
+	}
+
+	private static final class DocumentKey {
+		private final TargetKey target;
+		private final String documentId;
+
+		private DocumentKey(TargetKey target, String documentId) {
+			this.target = target;
+			this.documentId = documentId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return target.equals( other.target )
+					&& documentId.equals( other.documentId );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( target, documentId );
+		}
+	}
+
+	private static final class PendingDocumentWorks {
+		private final DocumentKey key;
+		private final List<IndexWorkPlan<?>> workPlans = new ArrayList<>( 2 );
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private PendingDocumentWorks(DocumentKey key) {
+			this.key = key;
+		}
+
+		void merge(DocumentWorkType type, IndexWorkPlan<?> documentWorkPlan) {
+			switch ( type ) {
+				case UPDATE:
+				case DELETE:
+					// Updates and deletes replace the document regardless of its previous state
+					workPlans.clear();
+					break;
+				case ADD:
+					/*
+					 * An add can only follow a delete (or nothing).
+					 * The add assumes the document is absent from the index,
+					 * so the delete must be executed first.
+					 */
+					break;
+			}
+			// Relative ordering of works is preserved when the work plans are drained into a single one
+			workPlans.add( documentWorkPlan );
+		}
+	}
+}
@@ -25,6 +25,7 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
 	private final PojoSessionContext sessionContext;
+	private final PojoWorkCoalescer coalescer;
 	private final PojoRuntimeIntrospector introspector;
 
 	// Use a LinkedHashMap for deterministic iteration
@@ -33,10 +34,11 @@ class PojoWorkPlanImpl implements PojoWorkPlan {
 
 	PojoWorkPlanImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
 			PojoContainedTypeManagerContainer containedTypeManagers,
-			PojoSessionContext sessionContext) {
+			PojoSessionContext sessionContext, PojoWorkCoalescer coalescer) {
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
 		this.sessionContext = sessionContext;
+		this.coalescer = coalescer;
 		this.introspector = sessionContext.getRuntimeIntrospector();
 	}
 
@@ -136,7 +138,7 @@ private PojoTypeWorkPlan createDelegate(Class<?> clazz) {
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
 			PojoIndexedTypeWorkPlan<?, ?, ?> delegate = indexedTypeManagerOptional.get()
-					.createWorkPlan( sessionContext );
+					.createWorkPlan( sessionContext, coalescer );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
@@ -165,7 +167,7 @@ private PojoTypeWorkPlan createDelegate(Class<?> clazz) {
 		Optional<? extends PojoIndexedTypeManager<?, ?, ?>> indexedTypeManagerOptional =
 				indexedTypeManagers.getByExactClass( clazz );
 		if ( indexedTypeManagerOptional.isPresent() ) {
-			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext );
+			delegate = indexedTypeManagerOptional.get().createWorkPlan( sessionContext, coalescer );
 			indexedTypeDelegates.put( clazz, delegate );
 			return delegate;
 		}
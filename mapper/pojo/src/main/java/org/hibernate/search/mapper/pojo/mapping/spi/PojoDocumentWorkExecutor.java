@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on documents of a single indexed type,
+ * sending each work to the backend immediately instead of collecting them in a work plan.
+ * <p>
+ * Meant for batch processes such as mass indexing,
+ * where entities are guaranteed not to be modified while they are being indexed,
+ * and where neither the deduplication of works nor the resolution of containing entities to reindex is necessary.
+ */
+public interface PojoDocumentWorkExecutor {
+
+	/**
+	 * Build the document for the given entity and send an update work to the backend,
+	 * replacing any existing document with the same identifier.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to index. Must be an instance of the indexed type this executor was created for.
+	 * @return A future that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> update(Object providedId, Object entity);
+
+}
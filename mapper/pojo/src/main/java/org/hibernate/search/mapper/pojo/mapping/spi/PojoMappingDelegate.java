@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.pojo.mapping.spi;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
@@ -19,6 +21,50 @@ public interface PojoMappingDelegate extends PojoMapping, AutoCloseable {
 
 	PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext);
 
+	PojoDocumentWorkExecutor createDocumentWorkExecutor(PojoSessionContext sessionContext, Class<?> indexedType);
+
+	/**
+	 * Prepare the index of the given type for a large amount of works
+	 * submitted through {@link #createDocumentWorkExecutor(PojoSessionContext, Class) document work executors}.
+	 *
+	 * @param indexedType The indexed type.
+	 * @return A future that will be completed when the index is ready.
+	 * @see org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor#startBulkIndexing()
+	 */
+	CompletableFuture<?> startBulkIndexing(Class<?> indexedType);
+
+	/**
+	 * Make the works submitted through document work executors durable and visible to queries,
+	 * and restore the index of the given type to its normal state.
+	 *
+	 * @param indexedType The indexed type.
+	 * @return A future that will be completed when the works are durable and visible to queries.
+	 * @see org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor#finishBulkIndexing()
+	 */
+	CompletableFuture<?> finishBulkIndexing(Class<?> indexedType);
+
+	/**
+	 * Delete all documents from the indexes of the given types,
+	 * or only the documents of the tenant of the given session if multi-tenancy is enabled.
+	 * <p>
+	 * Each index is purged only once, even if several of the given types are indexed in it.
+	 * <p>
+	 * Documents of other types sharing the same indexes are deleted too:
+	 * see {@link #getIndexedTypesSharingIndexWith(Collection)}.
+	 *
+	 * @param sessionContext The session context.
+	 * @param indexedTypes The indexed types.
+	 * @return A future that will be completed when the deletions are durable and visible to queries.
+	 * @see org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor#purge(org.hibernate.search.engine.common.spi.SessionContext)
+	 */
+	CompletableFuture<?> purge(PojoSessionContext sessionContext, Collection<? extends Class<?>> indexedTypes);
+
+	/**
+	 * @param indexedTypes The indexed types.
+	 * @return The given types, and all other indexed types sharing an index with at least one of them.
+	 */
+	Set<Class<?>> getIndexedTypesSharingIndexWith(Collection<? extends Class<?>> indexedTypes);
+
 	<T> PojoSearchTargetDelegate<T> createPojoSearchTarget(Collection<? extends Class<? extends T>> targetedTypes,
 			SessionContext sessionContext);
 
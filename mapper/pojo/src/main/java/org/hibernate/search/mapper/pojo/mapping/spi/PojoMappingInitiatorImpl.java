@@ -33,6 +33,7 @@
 
 	private boolean implicitProvidedId;
 	private boolean multiTenancyEnabled;
+	private long workCoalescingWindowMs;
 
 	private final AnnotationMappingDefinitionContextImpl annotationMappingDefinition;
 
@@ -74,6 +75,15 @@ public void setMultiTenancyEnabled(boolean multiTenancyEnabled) {
 		this.multiTenancyEnabled = multiTenancyEnabled;
 	}
 
+	/**
+	 * @param workCoalescingWindowMs The time, in milliseconds, during which index works are held
+	 * so that they can be merged with later works targeting the same document, possibly from other work plans.
+	 * {@code 0} to disable coalescing and send works to the backend as soon as a work plan is executed.
+	 */
+	public void setWorkCoalescingWindow(long workCoalescingWindowMs) {
+		this.workCoalescingWindowMs = workCoalescingWindowMs;
+	}
+
 	public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabled) {
 		annotationMappingDefinition.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
@@ -94,7 +104,7 @@ public Mapper<M> createMapper(MappingBuildContext buildContext, ConfigurationPro
 			TypeMetadataContributorProvider<PojoTypeMetadataContributor> contributorProvider) {
 		return new PojoMapper<>(
 				buildContext, propertySource, contributorProvider,
-				introspector, implicitProvidedId, mappingFactory::createMapping
+				introspector, implicitProvidedId, workCoalescingWindowMs, mappingFactory::createMapping
 		);
 	}
 
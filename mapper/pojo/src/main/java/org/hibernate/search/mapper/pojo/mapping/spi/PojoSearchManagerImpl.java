@@ -49,9 +49,9 @@ public void close() {
 		if ( workPlan != null ) {
 			CompletableFuture<?> future = workPlan.execute();
 			/*
-			 * TODO decide whether we want the sync/async setting to be scoped per index,
-			 * or per EntityManager/SearchManager, or both (with one scope overriding the other)
-			 * See also PostTransactionWorkQueueSynchronization#afterCompletion, InTransactionWorkQueueSynchronization#beforeCompletion
+			 * Always synchronous: works must be done when close() returns.
+			 * Asynchronous execution is configured per mapping, by the mappers supporting it,
+			 * e.g. the ORM mapper through its indexing_execution setting.
 			 */
 			future.join();
 		}
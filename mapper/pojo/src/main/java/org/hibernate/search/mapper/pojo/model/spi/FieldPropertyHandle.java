@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A {@link PropertyHandle} reading a field through a method handle
+ * whose type was adapted to {@code (Object)Object} at bootstrap,
+ * so that it can be called with {@link MethodHandle#invokeExact(Object...)},
+ * without the type check and adaptation {@link MethodHandle#invoke(Object...)} performs on each call.
+ * <p>
+ * Unlike getters, fields cannot be bound to a class generated through {@link java.lang.invoke.LambdaMetafactory},
+ * and the method handle is held in an instance field, which the JIT does not treat as a constant:
+ * the handle itself will not be inlined into the caller.
+ *
+ * @see PropertyHandleFactory#usingGeneratedAccessors(java.lang.invoke.MethodHandles.Lookup)
+ */
+final class FieldPropertyHandle implements PropertyHandle {
+
+	private final String name;
+	private final Field field;
+	private final MethodHandle getter;
+
+	/**
+	 * @param name The name of the property.
+	 * @param field The field to read.
+	 * @param getter A getter for the field, of type {@code (Object)Object}.
+	 */
+	FieldPropertyHandle(String name, Field field, MethodHandle getter) {
+		this.name = name;
+		this.field = field;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + field + "]";
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(Object thiz) {
+		try {
+			return (Object) getter.invokeExact( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new SearchException( "Exception while reading '" + field + "' on '" + thiz + "'" , e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return field.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		FieldPropertyHandle other = (FieldPropertyHandle) obj;
+		return name.equals( other.name ) && field.equals( other.field );
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+final class GeneratedAccessorPropertyHandleFactory implements PropertyHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+
+	GeneratedAccessorPropertyHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+	}
+
+	@Override
+	public PropertyHandle createForField(String name, Field field) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflectGetter( field );
+		if ( Modifier.isStatic( field.getModifiers() ) ) {
+			return new MemberPropertyHandle( name, field, getter );
+		}
+		// Adapt the type once, so that the handle can be called with invokeExact
+		return new FieldPropertyHandle( name, field, getter.asType( FUNCTION_APPLY_TYPE ) );
+	}
+
+	@Override
+	public PropertyHandle createForMethod(String name, Method method) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflect( method );
+		if ( isPublic( method.getModifiers(), method.getDeclaringClass() ) && !Modifier.isStatic( method.getModifiers() )
+				&& isVisibleFromLookup( method.getDeclaringClass() ) && isVisibleFromLookup( method.getReturnType() ) ) {
+			try {
+				return new GeneratedGetterPropertyHandle( name, method, generateGetter( getter ) );
+			}
+			catch (Error e) {
+				if ( !( e instanceof LinkageError ) ) {
+					throw e;
+				}
+				log.cannotGenerateAccessor( method, e.getMessage(), e );
+			}
+			catch (Throwable e) {
+				log.cannotGenerateAccessor( method, e.getMessage(), e );
+			}
+		}
+		return new MemberPropertyHandle( name, method, getter );
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, Object> generateGetter(MethodHandle getter) throws Throwable {
+		CallSite callSite = LambdaMetafactory.metafactory(
+				lookup, "apply", FUNCTION_FACTORY_TYPE, FUNCTION_APPLY_TYPE,
+				getter, getter.type().wrap()
+		);
+		return (Function<Object, Object>) callSite.getTarget().invokeExact();
+	}
+
+	/*
+	 * The generated class will reference the declaring class and return type,
+	 * and will resolve them from the class loader of the lookup class.
+	 * Make sure they will be resolved to the same classes,
+	 * otherwise the getter would only fail when first called, i.e. when indexing.
+	 */
+	private boolean isVisibleFromLookup(Class<?> clazz) {
+		if ( clazz.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return Class.forName( clazz.getName(), false, lookup.lookupClass().getClassLoader() ) == clazz;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static boolean isPublic(int memberModifiers, Class<?> declaringClass) {
+		return Modifier.isPublic( memberModifiers ) && Modifier.isPublic( declaringClass.getModifiers() );
+	}
+
+}
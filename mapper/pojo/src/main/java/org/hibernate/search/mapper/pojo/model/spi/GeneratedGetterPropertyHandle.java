@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A {@link PropertyHandle} invoking a getter through an accessor generated at bootstrap.
+ *
+ * @see PropertyHandleFactory#usingGeneratedAccessors(java.lang.invoke.MethodHandles.Lookup)
+ */
+final class GeneratedGetterPropertyHandle implements PropertyHandle {
+
+	private final String name;
+	private final Method method;
+	private final Function<Object, Object> getter;
+
+	GeneratedGetterPropertyHandle(String name, Method method, Function<Object, Object> getter) {
+		this.name = name;
+		this.method = method;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + method + "]";
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(Object thiz) {
+		try {
+			return getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Checked exceptions thrown by the getter are propagated as-is by the generated accessor
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw new SearchException( "Exception while invoking '" + method + "' on '" + thiz + "'" , e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return method.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		GeneratedGetterPropertyHandle other = (GeneratedGetterPropertyHandle) obj;
+		return name.equals( other.name ) && method.equals( other.method );
+	}
+
+}
@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -52,13 +51,13 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	public final void process(DocumentElement target, C source) {
-		try ( Stream<V> stream = extractor.extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem ) );
-		}
+		// Pass this node as context so that the processor is a non-capturing, shared instance
+		extractor.extract( source, PojoIndexingProcessorContainerElementNode::processItem, target, this );
 	}
 
-	private void processItem(DocumentElement target, V sourceItem) {
-		for ( PojoIndexingProcessor<? super V> nestedNode : nestedNodes ) {
+	private static <V> void processItem(DocumentElement target, V sourceItem,
+			PojoIndexingProcessorContainerElementNode<?, V> node) {
+		for ( PojoIndexingProcessor<? super V> nestedNode : node.nestedNodes ) {
 			nestedNode.process( target, sourceItem );
 		}
 	}
@@ -0,0 +1,293 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.mapper.pojo.mapping.impl.PojoWorkCoalescer.DocumentWorkType;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class PojoWorkCoalescerTest {
+
+	private static final Object INDEX_1 = "index1";
+	private static final Object INDEX_2 = "index2";
+
+	// Long enough that works are only flushed on close, unless a test says otherwise
+	private static final long LONG_WINDOW_MS = TimeUnit.HOURS.toMillis( 1 );
+
+	private final List<List<String>> executions = Collections.synchronizedList( new ArrayList<>() );
+	private volatile CompletableFuture<?> executionFuture = CompletableFuture.completedFuture( null );
+	private volatile RuntimeException drainFailure = null;
+
+	private PojoWorkCoalescer coalescer;
+
+	@After
+	public void cleanup() {
+		if ( coalescer != null ) {
+			coalescer.close();
+		}
+	}
+
+	@Test
+	public void flush_singleWorkPlanPerIndexAndTenant() {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+
+		List<CompletableFuture<?>> futures = Arrays.asList(
+				submit( INDEX_1, null, "1", DocumentWorkType.ADD ),
+				submit( INDEX_2, null, "2", DocumentWorkType.ADD ),
+				submit( INDEX_1, null, "3", DocumentWorkType.UPDATE ),
+				submit( INDEX_1, "tenant2", "4", DocumentWorkType.DELETE ),
+				submit( INDEX_2, null, "5", DocumentWorkType.DELETE )
+		);
+		assertThat( executions ).isEmpty();
+
+		coalescer.close();
+
+		assertThat( executions ).containsExactly(
+				Arrays.asList( "ADD 1", "UPDATE 3" ),
+				Arrays.asList( "ADD 2", "DELETE 5" ),
+				Collections.singletonList( "DELETE 4" )
+		);
+		for ( CompletableFuture<?> future : futures ) {
+			assertThat( future ).isCompleted();
+		}
+	}
+
+	@Test
+	public void merge_deleteThenAdd() {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+
+		CompletableFuture<?> deleteFuture = submit( INDEX_1, null, "1", DocumentWorkType.DELETE );
+		CompletableFuture<?> otherFuture = submit( INDEX_1, null, "2", DocumentWorkType.ADD );
+		CompletableFuture<?> addFuture = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+
+		coalescer.close();
+
+		// The add assumes the document is absent from the index: the delete must be executed first
+		assertThat( executions ).containsExactly(
+				Arrays.asList( "DELETE 1", "ADD 1", "ADD 2" )
+		);
+		assertThat( deleteFuture ).isCompleted();
+		assertThat( addFuture ).isCompleted();
+		assertThat( otherFuture ).isCompleted();
+	}
+
+	@Test
+	public void merge_updateReplacesPreviousWorks() {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+
+		CompletableFuture<?> deleteFuture = submit( INDEX_1, null, "1", DocumentWorkType.DELETE );
+		CompletableFuture<?> addFuture = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		CompletableFuture<?> updateFuture = submit( INDEX_1, null, "1", DocumentWorkType.UPDATE );
+
+		coalescer.close();
+
+		assertThat( executions ).containsExactly( Collections.singletonList( "UPDATE 1" ) );
+		assertThat( deleteFuture ).isCompleted();
+		assertThat( addFuture ).isCompleted();
+		assertThat( updateFuture ).isCompleted();
+	}
+
+	@Test
+	public void close_waitsForExecutingWorks() throws InterruptedException {
+		coalescer = new PojoWorkCoalescer( 10L );
+
+		CompletableFuture<?> firstExecutionFuture = new CompletableFuture<>();
+		executionFuture = firstExecutionFuture;
+		CompletableFuture<?> addFuture = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		awaitExecutionCount( 1 );
+
+		// The previous work on the same document is still executing: this work must be held
+		executionFuture = CompletableFuture.completedFuture( null );
+		CompletableFuture<?> updateFuture = submit( INDEX_1, null, "1", DocumentWorkType.UPDATE );
+		CompletableFuture<?> closeFuture = CompletableFuture.runAsync( coalescer::close );
+		Thread.sleep( 50L );
+		assertThat( executions ).hasSize( 1 );
+		assertThat( closeFuture ).isNotDone();
+
+		firstExecutionFuture.complete( null );
+		closeFuture.join();
+
+		assertThat( executions ).containsExactly(
+				Collections.singletonList( "ADD 1" ),
+				Collections.singletonList( "UPDATE 1" )
+		);
+		assertThat( addFuture ).isCompleted();
+		assertThat( updateFuture ).isCompleted();
+	}
+
+	@Test
+	public void close_interrupted() throws Exception {
+		coalescer = new PojoWorkCoalescer( 10L );
+
+		// The execution never completes
+		executionFuture = new CompletableFuture<>();
+		CompletableFuture<?> addFuture = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		awaitExecutionCount( 1 );
+		executionFuture = CompletableFuture.completedFuture( null );
+		CompletableFuture<?> updateFuture = submit( INDEX_1, null, "1", DocumentWorkType.UPDATE );
+
+		CompletableFuture<Boolean> closeFuture = CompletableFuture.supplyAsync( () -> {
+			Thread.currentThread().interrupt();
+			coalescer.close();
+			return Thread.interrupted();
+		} );
+
+		// The interrupt flag is preserved
+		assertThat( closeFuture.get( 10, TimeUnit.SECONDS ) ).isTrue();
+		// Submitters don't wait forever for works that will never be executed
+		assertThat( addFuture ).isCompletedExceptionally();
+		assertThat( updateFuture ).isCompletedExceptionally();
+	}
+
+	@Test
+	public void submitAfterClose() {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+		coalescer.close();
+
+		CompletableFuture<?> future = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+
+		// The work is not held anymore
+		assertThat( executions ).containsExactly( Collections.singletonList( "ADD 1" ) );
+		assertThat( future ).isCompleted();
+	}
+
+	@Test
+	public void failure_reportedToAllSubmittersOfTheWorkPlan() {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+		CompletableFuture<?> failedFuture = new CompletableFuture<>();
+		failedFuture.completeExceptionally( new IllegalStateException( "Some failure" ) );
+		executionFuture = failedFuture;
+
+		CompletableFuture<?> future1 = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		CompletableFuture<?> future2 = submit( INDEX_1, null, "2", DocumentWorkType.ADD );
+
+		coalescer.close();
+
+		assertThat( future1 ).isCompletedExceptionally();
+		assertThat( future2 ).isCompletedExceptionally();
+	}
+
+	@Test
+	public void failure_duringFlush_releasesDocuments() throws Exception {
+		coalescer = new PojoWorkCoalescer( LONG_WINDOW_MS );
+		drainFailure = new IllegalStateException( "Some failure" );
+
+		CompletableFuture<?> future1 = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		CompletableFuture<?> future2 = submit( INDEX_1, null, "2", DocumentWorkType.ADD );
+
+		// Close would wait forever if the documents were still considered as executing
+		CompletableFuture.runAsync( coalescer::close ).get( 10, TimeUnit.SECONDS );
+
+		assertThat( executions ).isEmpty();
+		assertThat( future1 ).isCompletedExceptionally();
+		assertThat( future2 ).isCompletedExceptionally();
+	}
+
+	@Test
+	public void failure_duringPeriodicFlush_doesNotCancelLaterFlushes() throws InterruptedException {
+		coalescer = new PojoWorkCoalescer( 10L );
+		drainFailure = new IllegalStateException( "Some failure" );
+
+		CompletableFuture<?> future1 = submit( INDEX_1, null, "1", DocumentWorkType.ADD );
+		CompletableFuture<?> future2 = submit( INDEX_1, null, "2", DocumentWorkType.ADD );
+		awaitDone( future1 );
+		awaitDone( future2 );
+
+		drainFailure = null;
+		CompletableFuture<?> future3 = submit( INDEX_1, null, "1", DocumentWorkType.UPDATE );
+		awaitDone( future3 );
+
+		assertThat( future3 ).isCompleted();
+		assertThat( executions ).contains( Collections.singletonList( "UPDATE 1" ) );
+	}
+
+	private CompletableFuture<?> submit(Object index, String tenantId, String documentId, DocumentWorkType type) {
+		RecordingWorkPlan workPlan = new RecordingWorkPlan();
+		workPlan.works.add( type + " " + documentId );
+		return coalescer.submit( index, tenantId, documentId, type, workPlan );
+	}
+
+	private void awaitExecutionCount(int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( executions.size() < count ) {
+			if ( System.nanoTime() > deadline ) {
+				throw new AssertionError( "Expected " + count + " executions, got " + executions );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	private void awaitDone(CompletableFuture<?> future) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( !future.isDone() ) {
+			if ( System.nanoTime() > deadline ) {
+				throw new AssertionError( "Expected the future to be done" );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	/**
+	 * A work plan recording the works it executes, in order.
+	 * Each work is represented by a string such as "ADD 1".
+	 */
+	private class RecordingWorkPlan implements IndexWorkPlan<Object> {
+		private final List<String> works = new ArrayList<>();
+
+		@Override
+		public void add(DocumentReferenceProvider documentReferenceProvider,
+				DocumentContributor<Object> documentContributor) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void update(DocumentReferenceProvider documentReferenceProvider,
+				DocumentContributor<Object> documentContributor) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void delete(DocumentReferenceProvider documentReferenceProvider) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void drainTo(IndexWorkPlan<Object> target) {
+			RuntimeException failure = drainFailure;
+			if ( failure != null ) {
+				throw failure;
+			}
+			( (RecordingWorkPlan) target ).works.addAll( works );
+			works.clear();
+		}
+
+		@Override
+		public void prepare() {
+			// Nothing to do
+		}
+
+		@Override
+		public CompletableFuture<?> execute() {
+			executions.add( new ArrayList<>( works ) );
+			works.clear();
+			return executionFuture;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class PropertyHandleFactoryTest {
+
+	private final PropertyHandleFactory generated = PropertyHandleFactory.usingGeneratedAccessors( MethodHandles.lookup() );
+
+	@Test
+	public void generated_publicGetter() throws Exception {
+		Method method = PublicEntity.class.getMethod( "getText" );
+		PropertyHandle handle = generated.createForMethod( "text", method );
+		assertThat( handle ).isInstanceOf( GeneratedGetterPropertyHandle.class );
+		assertThat( handle.getName() ).isEqualTo( "text" );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( "foo" );
+		assertThat( handle.get( new PublicEntity( null, 42 ) ) ).isNull();
+
+		assertThat( handle ).isEqualTo( generated.createForMethod( "text", method ) );
+		assertThat( handle ).isNotEqualTo( generated.createForMethod( "number", PublicEntity.class.getMethod( "getNumber" ) ) );
+	}
+
+	@Test
+	public void generated_publicGetter_primitive() throws Exception {
+		PropertyHandle handle = generated.createForMethod( "number", PublicEntity.class.getMethod( "getNumber" ) );
+		assertThat( handle ).isInstanceOf( GeneratedGetterPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void generated_publicGetter_exception() throws Exception {
+		PropertyHandle handle = generated.createForMethod( "failing", PublicEntity.class.getMethod( "getFailing" ) );
+		assertThat( handle ).isInstanceOf( GeneratedGetterPropertyHandle.class );
+		SubTest.expectException( () -> handle.get( new PublicEntity( "foo", 42 ) ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Exception while invoking" )
+				.hasCauseInstanceOf( IllegalStateException.class );
+	}
+
+	@Test
+	public void generated_nonPublicType_fallback() throws Exception {
+		Method method = NonPublicEntity.class.getMethod( "getText" );
+		PropertyHandle handle = generated.createForMethod( "text", method );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new NonPublicEntity( "foo" ) ) ).isEqualTo( "foo" );
+	}
+
+	@Test
+	public void generated_publicLookup_fallback() throws Exception {
+		PropertyHandleFactory factory = PropertyHandleFactory.usingGeneratedAccessors( MethodHandles.publicLookup() );
+		PropertyHandle handle = factory.createForMethod( "text", PublicEntity.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( "foo" );
+	}
+
+	@Test
+	public void generated_field() throws Exception {
+		Field field = PublicEntity.class.getDeclaredField( "text" );
+		field.setAccessible( true );
+		PropertyHandle handle = generated.createForField( "text", field );
+		assertThat( handle ).isInstanceOf( FieldPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( "foo" );
+		assertThat( handle ).isEqualTo( generated.createForField( "text", field ) );
+	}
+
+	@Test
+	public void generated_field_primitive() throws Exception {
+		Field field = PublicEntity.class.getDeclaredField( "number" );
+		field.setAccessible( true );
+		PropertyHandle handle = generated.createForField( "number", field );
+		assertThat( handle ).isInstanceOf( FieldPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void methodHandle() throws Exception {
+		PropertyHandleFactory factory = PropertyHandleFactory.usingMethodHandle( MethodHandles.lookup() );
+		PropertyHandle handle = factory.createForMethod( "text", PublicEntity.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( "foo" );
+
+		Field field = PublicEntity.class.getDeclaredField( "text" );
+		field.setAccessible( true );
+		handle = factory.createForField( "text", field );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicEntity( "foo", 42 ) ) ).isEqualTo( "foo" );
+	}
+
+	public static class PublicEntity {
+		private final String text;
+		private final int number;
+
+		PublicEntity(String text, int number) {
+			this.text = text;
+			this.number = number;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public int getNumber() {
+			return number;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException( "Failing getter" );
+		}
+	}
+
+	static class NonPublicEntity {
+		private final String text;
+
+		NonPublicEntity(String text) {
+			this.text = text;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+}
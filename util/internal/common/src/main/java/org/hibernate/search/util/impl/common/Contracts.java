@@ -35,4 +35,10 @@ public static void assertPositiveOrZero(int number, String objectDescription) {
 			throw log.mustBePositiveOrZero( objectDescription );
 		}
 	}
+
+	public static void assertStrictlyPositive(int number, String objectDescription) {
+		if ( number <= 0 ) {
+			throw log.mustBeStrictlyPositive( objectDescription );
+		}
+	}
 }
@@ -162,6 +162,10 @@ public WorkCallListContext delete(Consumer<StubIndexWork.Builder> contributor) {
 			return work( StubIndexWork.Type.DELETE, contributor );
 		}
 
+		public WorkCallListContext purge() {
+			return work( StubIndexWork.Type.PURGE, b -> { } );
+		}
+
 		WorkCallListContext work(StubIndexWork.Type type, Consumer<StubIndexWork.Builder> contributor) {
 			StubIndexWork.Builder builder = StubIndexWork.builder( type );
 			contributor.accept( builder );
@@ -184,19 +188,32 @@ public WorkCallListContext work(StubIndexWork work) {
 		}
 
 		public BackendMock preparedThenExecuted() {
+			return preparedThenExecuted( CompletableFuture.completedFuture( null ) );
+		}
+
+		/**
+		 * @param executionFuture The future to return when the works are executed,
+		 * allowing to control when and how the execution completes.
+		 * @return The backend mock, for method chaining.
+		 */
+		public BackendMock preparedThenExecuted(CompletableFuture<?> executionFuture) {
 			// First expect all works to be prepared, then expect all works to be executed
-			works.stream()
-					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.PREPARE, work ) )
-					.forEach( callQueue::expect );
-			works.stream()
-					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.EXECUTE, work ) )
-					.forEach( callQueue::expect );
-			return BackendMock.this;
+			prepared();
+			return executed( executionFuture );
 		}
 
 		public BackendMock executed() {
+			return executed( CompletableFuture.completedFuture( null ) );
+		}
+
+		/**
+		 * @param executionFuture The future to return when the works are executed,
+		 * allowing to control when and how the execution completes.
+		 * @return The backend mock, for method chaining.
+		 */
+		public BackendMock executed(CompletableFuture<?> executionFuture) {
 			works.stream()
-					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.EXECUTE, work ) )
+					.map( work -> new IndexWorkCall( indexName, IndexWorkCall.Operation.EXECUTE, work, executionFuture ) )
 					.forEach( callQueue::expect );
 			return BackendMock.this;
 		}
@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.rule;
 
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubSearchWork;
 import org.hibernate.search.engine.search.SearchResult;
@@ -76,6 +77,21 @@ public List<T> getHits() {
 			return hits;
 		}
 
+		@Override
+		public Map<Object, Long> getAggregation(String name) {
+			throw new UnsupportedOperationException( "Aggregations are not supported by the stub backend" );
+		}
+
+		@Override
+		public boolean isHitCountExact() {
+			return true;
+		}
+
+		@Override
+		public boolean isTimedOut() {
+			return false;
+		}
+
 		@Override
 		public String toString() {
 			return getClass().getSimpleName() + "{" +
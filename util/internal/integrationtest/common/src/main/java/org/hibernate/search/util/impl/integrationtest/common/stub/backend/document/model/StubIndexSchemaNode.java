@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.impl.integrationtest.common.stub.StubTreeNode;
 
@@ -118,6 +119,11 @@ public Builder sortable(Sortable sortable) {
 			return this;
 		}
 
+		public Builder indexSort(SortOrder order) {
+			attribute( "indexSort", order );
+			return this;
+		}
+
 		@Override
 		public StubIndexSchemaNode build() {
 			return new StubIndexSchemaNode( this );
@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.StandardIndexSchemaFieldTypedContext;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.engine.backend.document.spi.IndexSchemaFieldDefinitionHelper;
+import org.hibernate.search.engine.search.dsl.sort.SortOrder;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.model.StubIndexSchemaNode;
 
 abstract class StubStandardIndexSchemaFieldTypedContext<S extends StubStandardIndexSchemaFieldTypedContext<? extends S, F>, F>
@@ -55,6 +56,12 @@ public S sortable(Sortable sortable) {
 		return thisAsS();
 	}
 
+	@Override
+	public S indexSort(SortOrder order) {
+		builder.indexSort( order );
+		return thisAsS();
+	}
+
 	@Override
 	public IndexFieldAccessor<F> createAccessor() {
 		IndexFieldAccessor<F> accessor = helper.createAccessor();
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.impl.StubDocumentElement;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubIndexWork;
+
+class StubIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<StubDocumentElement> {
+	private final StubIndexManager indexManager;
+	private final SessionContext sessionContext;
+
+	StubIndexDocumentWorkExecutor(StubIndexManager indexManager, SessionContext sessionContext) {
+		this.sessionContext = sessionContext;
+		this.indexManager = indexManager;
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<StubDocumentElement> documentContributor) {
+		StubIndexWork.Builder builder = StubIndexWork.builder( StubIndexWork.Type.UPDATE );
+		builder.tenantIdentifier( sessionContext.getTenantIdentifier() );
+		builder.identifier( documentReferenceProvider.getIdentifier() );
+		builder.routingKey( documentReferenceProvider.getRoutingKey() );
+		StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
+		StubDocumentElement documentElement = new StubDocumentElement( documentBuilder );
+		documentContributor.contribute( documentElement );
+		builder.document( documentBuilder.build() );
+		return indexManager.execute( Collections.singletonList( builder.build() ) );
+	}
+}
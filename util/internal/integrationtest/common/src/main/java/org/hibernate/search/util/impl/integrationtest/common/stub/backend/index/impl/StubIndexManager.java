@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -37,6 +39,11 @@ public class StubIndexManager implements IndexManagerImplementor<StubDocumentEle
 		backend.getBehavior().pushSchema( name, rootSchemaNode );
 	}
 
+	@Override
+	public CompletableFuture<?> start() {
+		return CompletableFuture.completedFuture( null );
+	}
+
 	@Override
 	public void close() {
 
@@ -61,6 +68,28 @@ public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContext context)
 		return new StubIndexWorkPlan( this, context );
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<StubDocumentElement> createDocumentWorkExecutor(SessionContext context) {
+		return new StubIndexDocumentWorkExecutor( this, context );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> finishBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> purge(SessionContext context) {
+		StubIndexWork.Builder builder = StubIndexWork.builder( StubIndexWork.Type.PURGE );
+		builder.tenantIdentifier( context.getTenantIdentifier() );
+		return execute( Collections.singletonList( builder.build() ) );
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new StubIndexSearchTarget.Builder( backend, name );
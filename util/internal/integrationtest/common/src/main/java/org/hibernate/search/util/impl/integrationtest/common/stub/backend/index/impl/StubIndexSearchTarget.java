@@ -21,17 +21,20 @@
 import org.hibernate.search.engine.search.dsl.query.spi.SearchQueryResultDefinitionContextImpl;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation.StubSearchAggregationFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl.StubSearchPredicateFactory;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.sort.StubSearchSortFactory;
 
 class StubIndexSearchTarget extends IndexSearchTargetBase implements SearchTargetContext<StubQueryElementCollector> {
 	private final StubSearchPredicateFactory predicateFactory;
 	private final StubSearchSortFactory sortFactory;
+	private final StubSearchAggregationFactory aggregationFactory;
 	private final StubSearchQueryFactory queryFactory;
 
 	private StubIndexSearchTarget(Builder builder) {
 		this.predicateFactory = new StubSearchPredicateFactory();
 		this.sortFactory = new StubSearchSortFactory();
+		this.aggregationFactory = new StubSearchAggregationFactory();
 		List<String> immutableIndexNames = Collections.unmodifiableList( new ArrayList<>( builder.indexNames ) );
 		this.queryFactory = new StubSearchQueryFactory( builder.backend, immutableIndexNames );
 	}
@@ -53,6 +56,11 @@ public StubSearchSortFactory getSearchSortFactory() {
 		return sortFactory;
 	}
 
+	@Override
+	public StubSearchAggregationFactory getSearchAggregationFactory() {
+		return aggregationFactory;
+	}
+
 	@Override
 	public StubSearchQueryFactory getSearchQueryFactory() {
 		return queryFactory;
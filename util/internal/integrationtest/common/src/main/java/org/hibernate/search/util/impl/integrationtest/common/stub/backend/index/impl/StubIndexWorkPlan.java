@@ -62,6 +62,22 @@ public void delete(DocumentReferenceProvider documentReferenceProvider) {
 		addWork( builder.build() );
 	}
 
+	@Override
+	public void drainTo(IndexWorkPlan<StubDocumentElement> target) {
+		StubIndexWorkPlan stubTarget = (StubIndexWorkPlan) target;
+		if ( stubTarget.preparedIndex == stubTarget.works.size() ) {
+			// Works prepared in this plan must not be prepared again in the target
+			stubTarget.preparedIndex += preparedIndex;
+		}
+		else {
+			// Some works of the target are not prepared yet: prepare ours along with them
+			stubTarget.prepare();
+		}
+		stubTarget.works.addAll( works );
+		works.clear();
+		preparedIndex = 0;
+	}
+
 	@Override
 	public void prepare() {
 		indexManager.prepare( works.subList( preparedIndex, works.size() ) );
@@ -6,11 +6,17 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
 
 final class StubSearchQuery<T> implements SearchQuery<T> {
@@ -48,4 +54,40 @@ public SearchResult<T> execute() {
 		return backend.getBehavior().executeSearchWork( indexNames, workBuilder.build(), hitAggregator );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync() {
+		return executeAsync( Runnable::run );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		return CompletableFuture.supplyAsync( this::execute, loadingExecutor );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		List<T> hits = execute().getHits();
+		List<List<T>> chunks = new ArrayList<>();
+		for ( int i = 0; i < hits.size(); i += chunkSize ) {
+			chunks.add( hits.subList( i, Math.min( i + chunkSize, hits.size() ) ) );
+		}
+		Iterator<List<T>> iterator = chunks.iterator();
+		return new SearchScroll<T>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+				// Nothing to do
+			}
+		};
+	}
+
 }
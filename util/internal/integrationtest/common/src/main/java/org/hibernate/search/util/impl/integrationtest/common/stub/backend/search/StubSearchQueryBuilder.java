@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
@@ -39,6 +40,16 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		// Timeouts are not simulated by the stub backend
+	}
+
+	@Override
+	public void setHitCountThreshold(long threshold) {
+		// Hit counts are provided by tests, and always considered exact
+	}
+
 	@Override
 	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
 		StubSearchQuery<T> searchQuery = new StubSearchQuery<>( backend, indexNames, workBuilder, hitAggregator );
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.aggregation;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.aggregation.spi.AggregationRange;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationFactory;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
+
+public class StubSearchAggregationFactory implements SearchAggregationFactory<StubQueryElementCollector, StubAggregation> {
+
+	@Override
+	public void contribute(StubQueryElementCollector collector, List<StubAggregation> aggregations) {
+		collector.simulateCollectCall();
+	}
+
+	@Override
+	public StubAggregation terms(String name, String absoluteFieldPath, int maxTermCount) {
+		return new StubAggregation( name );
+	}
+
+	@Override
+	public StubAggregation range(String name, String absoluteFieldPath, List<AggregationRange> ranges) {
+		return new StubAggregation( name );
+	}
+}